@@ -2,6 +2,8 @@ package org.lwjgl;
 
 import org.lwjgl.opengl.GL11;
 import org.lwjgl.glfw.GLFW;
+import org.lwjgl.system.Configuration;
+import org.lwjgl.system.LWJGLXHelper;
 
 import java.awt.Desktop;
 import java.net.URI;
@@ -17,14 +19,38 @@ public class Sys {
     private Sys() {
     }
 
+	/** The thread that initialized GLFW, the only one allowed to create and destroy windows on every platform */
+	private static Thread initThread;
+
     /** Returns the LWJGL version. */
     public static String getVersion() {
         return org.lwjgl.Version.getVersion();
     }
     
-	public static void initialize() {
+	public static synchronized void initialize() {
+		if (LWJGLXHelper.headless) {
+			// No display server, windows are only backed by an OSMesa context
+			GLFW.glfwInitHint(GLFW.GLFW_PLATFORM, GLFW.GLFW_PLATFORM_NULL);
+			// The GL functions must come from the library of the contexts, mapped to libOSMesa.so or OSMesa.dll
+			if (Configuration.OPENGL_LIBRARY_NAME.get() == null) {
+				Configuration.OPENGL_LIBRARY_NAME.set("OSMesa");
+			}
+		}
 		if (!GLFW.glfwInit())
 			throw new IllegalStateException("Unable to initialize GLFW");
+		if (initThread == null) {
+			initThread = Thread.currentThread();
+		}
+	}
+
+	/**
+	 * LWJGLX: GLFW windows, including the hidden windows of the shared contexts, can only be created
+	 * and destroyed on this thread.
+	 *
+	 * @return the thread that initialized GLFW
+	 */
+	public static synchronized Thread lwjglxGetInitThread() {
+		return initThread;
 	}
 
 	/**
@@ -93,6 +93,21 @@ class ControllerEvent {
      * @param yaxisValue The value on a specified axis, if this event was caused by the y-axis
      */
     ControllerEvent(Controller source,long timeStamp, int type,int index,boolean buttonState,boolean xaxis,boolean yaxis,float xaxisValue,float yaxisValue) {
+        set(source, timeStamp, type, index, buttonState, xaxis, yaxis, xaxisValue, yaxisValue);
+    }
+
+    /**
+     * Create an empty event, to be filled with {@link #set} when reused from a pool
+     */
+    ControllerEvent() {
+    }
+
+    /**
+     * Overwrite this event, allowing event instances to be reused
+     *
+     * @see #ControllerEvent(Controller, long, int, int, boolean, boolean, boolean, float, float)
+     */
+    void set(Controller source,long timeStamp, int type,int index,boolean buttonState,boolean xaxis,boolean yaxis,float xaxisValue,float yaxisValue) {
         this.source = source;
         this.timeStamp = timeStamp;
         this.type = type;
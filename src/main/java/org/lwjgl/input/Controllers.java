@@ -31,9 +31,8 @@
  */
 package org.lwjgl.input;
 
-import java.util.ArrayList;
-
 import org.lwjgl.LWJGLException;
+import org.lwjgl.system.LWJGLXHelper;
 
 /**
  * The collection of controllers currently connected.
@@ -41,8 +40,10 @@ import org.lwjgl.LWJGLException;
  * @author Kevin Glass
  */
 public class Controllers {
-    /** The current list of events */
-    private static ArrayList<ControllerEvent> events = new ArrayList<ControllerEvent>();
+    /** The queue of pending events, the event objects are pooled and reused */
+    private static final EventQueue queue = new EventQueue(LWJGLXHelper.inputQueueSize,
+            LWJGLXHelper.inputQueueMaxSize, LWJGLXHelper.inputQueueGrow, Controllers::resizeEvents);
+    private static ControllerEvent[] events = newEvents(new ControllerEvent[queue.getMaxEvents()]);
     /** The current event */
     private static ControllerEvent event;
 
@@ -50,6 +51,7 @@ public class Controllers {
     private static boolean created;
 
     private static boolean lwjglxHasJInput;
+    private static boolean lwjglxHasGLFW;
 
     /**
      * Initialise the controllers collection
@@ -57,10 +59,15 @@ public class Controllers {
      * @throws LWJGLException Indicates a failure to initialise the controller library.
      */
     public static void create() throws LWJGLException {
-        if (created && !lwjglxHasJInput) {
+        if (created && !lwjglxHasJInput && !lwjglxHasGLFW) {
             return;
         }
         created = true;
+        if ("glfw".equalsIgnoreCase(LWJGLXHelper.controllerBackend)) {
+            lwjglxHasGLFW = true;
+            ControllersGLFW.create();
+            return;
+        }
         try {
             ControllersJInput.create();
             lwjglxHasJInput = true;
@@ -79,6 +86,9 @@ public class Controllers {
      * @return The controller requested
      */
     public static Controller getController(int index) {
+        if (lwjglxHasGLFW) {
+            return ControllersGLFW.getController(index);
+        }
         if (lwjglxHasJInput) {
             return ControllersJInput.getController(index);
         }
@@ -91,6 +101,9 @@ public class Controllers {
      * @return The number of controllers available
      */
     public static int getControllerCount() {
+        if (lwjglxHasGLFW) {
+            return ControllersGLFW.getControllerCount();
+        }
         if (lwjglxHasJInput) {
             return ControllersJInput.getControllerCount();
         }
@@ -102,7 +115,9 @@ public class Controllers {
      * and generate events that must be cleared.
      */
     public static void poll() {
-        if (lwjglxHasJInput) {
+        if (lwjglxHasGLFW) {
+            ControllersGLFW.poll();
+        } else if (lwjglxHasJInput) {
             ControllersJInput.poll();
         }
     }
@@ -111,7 +126,7 @@ public class Controllers {
      * Clear any events stored for the controllers in this set
      */
     public static void clearEvents() {
-        events.clear();
+        queue.skip(queue.getQueuedEventCount());
     }
 
     /**
@@ -120,20 +135,23 @@ public class Controllers {
      * @return True if there is still an event to process
      */
     public static boolean next() {
-        if (events.isEmpty()) {
+        if (!queue.next()) {
             event = null;
             return false;
         }
 
-        event = events.remove(0);
+        event = events[queue.getCurrentPos()];
 
-        return event != null;
+        return true;
     }
 
     /**
      * @return True if Controllers has been created
      */
     public static boolean isCreated() {
+        if (lwjglxHasGLFW) {
+            return ControllersGLFW.isCreated();
+        }
         return lwjglxHasJInput ? ControllersJInput.isCreated() : created;
     }
 
@@ -141,7 +159,9 @@ public class Controllers {
      * Destroys any resources used by the controllers
      */
     public static void destroy() {
-        if (lwjglxHasJInput) {
+        if (lwjglxHasGLFW) {
+            ControllersGLFW.destroy();
+        } else if (lwjglxHasJInput) {
             ControllersJInput.destroy();
         }
     }
@@ -255,13 +275,53 @@ public class Controllers {
     }
 
     /**
-     * Add an event to the stack of events that have been caused
+     * @return The number of controller events dropped because the event queue was full
+     */
+    public static long lwjglxGetDroppedEventCount() {
+        return queue.getDroppedEventCount();
+    }
+
+    public static void lwjglxResetDroppedEventCount() {
+        queue.resetDroppedEventCount();
+    }
+
+    /**
+     * @return The current capacity of the controller event queue
+     */
+    public static int lwjglxGetEventQueueCapacity() {
+        return queue.getMaxEvents();
+    }
+
+    /**
+     * Add an event to the stack of events that have been caused, reusing a pooled event object
      *
-     * @param event The event to add to the list
+     * @see ControllerEvent#ControllerEvent(Controller, long, int, int, boolean, boolean, boolean, float, float)
+     */
+    static void addEvent(Controller source, long timeStamp, int type, int index, boolean buttonState,
+                         boolean xaxis, boolean yaxis, float xaxisValue, float yaxisValue) {
+        if (InputJournal.recording) {
+            InputJournal.recordControllerEvent(source, timeStamp, type, index, buttonState,
+                    xaxis, yaxis, xaxisValue, yaxisValue);
+        }
+        if (!queue.reserve()) return;
+        events[queue.getNextPos()].set(source, timeStamp, type, index, buttonState,
+                xaxis, yaxis, xaxisValue, yaxisValue);
+        queue.add();
+    }
+
+    private static void resizeEvents(EventQueue queue, int newMaxEvents) {
+        events = newEvents(queue.resize(events, newMaxEvents));
+    }
+
+    /**
+     * Fill the empty slots of the pool, so no event is allocated once the queue stopped growing
      */
-    static void addEvent(ControllerEvent event) {
-        if (event != null) {
-            events.add(event);
+    private static ControllerEvent[] newEvents(ControllerEvent[] events) {
+        for (int i = 0; i < events.length; i++) {
+            if (events[i] == null) {
+                events[i] = new ControllerEvent();
+            }
         }
+        return events;
     }
 }
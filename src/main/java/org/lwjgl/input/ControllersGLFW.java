@@ -0,0 +1,138 @@
+package org.lwjgl.input;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.lwjgl.LWJGLException;
+import org.lwjgl.Sys;
+import org.lwjgl.glfw.GLFWJoystickCallback;
+
+/**
+ * The collection of controllers currently connected, read through the GLFW joystick API.
+ * <p>
+ * Unlike JInput, GLFW only reports joysticks and gamepads, and polling them is a
+ * plain read of the state GLFW keeps updated, so every pad is read in a single pass.
+ * Pads connected after {@link #create()} get the next free controller index, and a pad
+ * reconnected with the same GLFW joystick id keeps its controller, whose layout is read
+ * again since GLFW may have given the id to another device.
+ */
+class ControllersGLFW {
+    /** The controllers available */
+    private static final ArrayList<GLFWController> controllers = new ArrayList<GLFWController>();
+    /** The controller of each GLFW joystick id, or null if it never was connected */
+    private static final GLFWController[] joysticks = new GLFWController[GLFW_JOYSTICK_LAST + 1];
+
+    /** A bit for each GLFW joystick id connected since the last poll, set from the GLFW thread */
+    private static final AtomicInteger connectedJoysticks = new AtomicInteger();
+    private static GLFWJoystickCallback joystickCallback;
+
+    /** Whether controllers were created */
+    private static boolean created;
+
+    /**
+     * Initialise the controllers collection
+     *
+     * @throws LWJGLException Indicates a failure to initialise the controller library.
+     */
+    static void create() throws LWJGLException {
+        if (created) return;
+
+        try {
+            Sys.initialize();
+        } catch (IllegalStateException e) {
+            throw new LWJGLException("Failed to initialise controllers", e);
+        }
+        joystickCallback = GLFWJoystickCallback.create((jid, event) -> {
+            if (event == GLFW_CONNECTED) {
+                connectedJoysticks.getAndUpdate(mask -> mask | 1 << jid);
+            }
+        });
+        glfwSetJoystickCallback(joystickCallback);
+        for (int jid = GLFW_JOYSTICK_1; jid <= GLFW_JOYSTICK_LAST; jid++) {
+            if (glfwJoystickPresent(jid)) {
+                addController(jid);
+            }
+        }
+
+        created = true;
+    }
+
+    private static void addController(int jid) {
+        GLFWController controller = new GLFWController(controllers.size(), jid);
+        controllers.add(controller);
+        joysticks[jid] = controller;
+    }
+
+    /**
+     * Get a controller from the collection
+     *
+     * @param index The index of the controller to retrieve
+     * @return The controller requested
+     */
+    public static Controller getController(int index) {
+        return controllers.get(index);
+    }
+
+    /**
+     * Retrieve a count of the number of controllers
+     *
+     * @return The number of controllers available
+     */
+    public static int getControllerCount() {
+        return controllers.size();
+    }
+
+    /**
+     * Poll the controllers available. This will both update their state
+     * and generate events that must be cleared.
+     */
+    public static void poll() {
+        long nanos = Sys.getNanoTime();
+        int connected = connectedJoysticks.getAndSet(0);
+        for (int jid = GLFW_JOYSTICK_1; jid <= GLFW_JOYSTICK_LAST; jid++) {
+            GLFWController controller = joysticks[jid];
+            if (controller != null) {
+                boolean present = glfwJoystickPresent(jid);
+                // A disconnect and reconnect between two polls is only seen through the callback
+                if (present && ((connected & 1 << jid) != 0 || !controller.isConnected())) {
+                    controller.connect(nanos);
+                }
+                if (present || controller.isConnected()) {
+                    controller.update(nanos);
+                }
+            } else if (glfwJoystickPresent(jid)) {
+                addController(jid);
+                joysticks[jid].update(nanos);
+            }
+        }
+    }
+
+    /**
+     * @return True if Controllers has been created
+     */
+    public static boolean isCreated() {
+        return created;
+    }
+
+    /**
+     * Destroys any resources used by the controllers
+     */
+    public static void destroy() {
+        if (joystickCallback != null) {
+            glfwSetJoystickCallback(null);
+            joystickCallback.free();
+            joystickCallback = null;
+        }
+        connectedJoysticks.set(0);
+        for (GLFWController controller : controllers) {
+            controller.destroy();
+        }
+        controllers.clear();
+        for (int jid = 0; jid < joysticks.length; jid++) {
+            joysticks[jid] = null;
+        }
+        created = false;
+    }
+}
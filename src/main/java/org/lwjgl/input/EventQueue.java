@@ -1,52 +1,120 @@
 package org.lwjgl.input;
 
+import java.lang.reflect.Array;
+
 /**
- * Internal utility class to keep track of event positions in an array. When the
- * array is full the position will wrap to the beginning.
+ * Internal utility class to keep track of event positions in an array.
+ * <p>
+ * The queue is a single-producer/single-consumer ring: the producer (the GLFW
+ * callbacks) only writes {@code tail} and the consumer ({@code next()}) only
+ * writes {@code head}, so neither side needs a lock. Slot contents are stored
+ * by the owner in parallel arrays indexed by {@link #getNextPos()} and
+ * {@link #getCurrentPos()}.
+ * <p>
+ * When the ring is full it either grows (calling the {@link Storage} of the owner
+ * so it can resize its arrays) up to {@code maxCapacity}, or drops the new event
+ * and counts it in {@link #getDroppedEventCount()}. Growing happens on the producer
+ * thread, so it must only be enabled while the producer and the consumer run on the
+ * same thread, which is the case when events are pumped through {@code Display.update()}.
+ * Otherwise the queue must be switched to {@link #setConcurrent(boolean) concurrent} mode,
+ * where it grows to its maximum capacity at once and never resizes afterwards.
  */
 class EventQueue {
 
-	private int maxEvents = 32;
-	private int currentEventPos = -1;
-	private int nextEventPos = 0;
-	private int queuedEventCount = 0;
+	/**
+	 * Callback used to resize the per-event arrays of the queue owner.
+	 */
+	interface Storage {
+		void resize(EventQueue queue, int newMaxEvents);
+	}
+
+	private final Storage storage;
+	private final int maxCapacity;
+	private final boolean growable;
+	private boolean concurrent;
+
+	private int maxEvents;
+	private int mask;
+	// Sequence numbers, may overflow, only their difference matter.
+	private volatile int head = 0;
+	private volatile int tail = 0;
+	private volatile long droppedEventCount = 0;
 
 	EventQueue(int maxEvents) {
-		this.maxEvents = maxEvents;
+		this(maxEvents, maxEvents, false, null);
+	}
+
+	EventQueue(int maxEvents, int maxCapacity, boolean growable, Storage storage) {
+		this.maxEvents = roundCapacity(maxEvents);
+		this.mask = this.maxEvents - 1;
+		this.maxCapacity = Math.max(this.maxEvents, roundCapacity(maxCapacity));
+		this.growable = growable && storage != null;
+		this.storage = storage;
+	}
+
+	private static int roundCapacity(int capacity) {
+		if (capacity <= 2) return 2;
+		if (capacity >= (1 << 30)) return 1 << 30;
+		return Integer.highestOneBit(capacity - 1) << 1;
 	}
 
 	/**
-	 * add event to the queue
+	 * Make sure a slot is available at {@link #getNextPos()}, growing the queue if allowed.
+	 *
+	 * @return false if the queue is full and the event must be dropped
 	 */
-	void add() {
-		nextEventPos++; // increment next event position
-		queuedEventCount++;
-		if (nextEventPos == maxEvents)
-			nextEventPos = 0; // wrap next event position
-
-		if (nextEventPos == currentEventPos) {
-			currentEventPos++; // skip oldest event is queue full
-			if (currentEventPos == maxEvents)
-				currentEventPos = 0; // wrap current event position
+	boolean reserve() {
+		// One slot stays reserved for the current event so the consumer can still read it.
+		if (tail - head < maxEvents - 1)
+			return true;
+		if (growable && !concurrent && maxEvents < maxCapacity) {
+			grow();
+			return true;
 		}
+		droppedEventCount++;
+		return false;
+	}
+
+	private void grow() {
+		storage.resize(this, maxEvents << 1);
+		maxEvents <<= 1;
+		mask = maxEvents - 1;
+	}
+
+	/**
+	 * Allow the producer and the consumer to run on different threads. Entering concurrent mode
+	 * grows the queue to its maximum capacity, it must be called while neither side is running.
+	 */
+	void setConcurrent(boolean concurrent) {
+		if (concurrent && growable) {
+			while (maxEvents < maxCapacity)
+				grow();
+		}
+		this.concurrent = concurrent;
+	}
+
+	boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * add event to the queue, {@link #reserve()} must have returned true before
+	 */
+	void add() {
+		tail++;
 	}
 
 	/**
 	 * Increment the event queue
-	 * 
+	 *
 	 * @return - true if there is an event available
 	 */
 	boolean next() {
-		if (currentEventPos == nextEventPos - 1)
-			return false;
-		if (nextEventPos == 0 && currentEventPos == maxEvents - 1)
+		int head = this.head;
+		if (head == tail)
 			return false;
 
-		queuedEventCount--;
-		currentEventPos++; // increment current event position
-		if (currentEventPos == maxEvents)
-			currentEventPos = 0; // wrap current event position
-
+		this.head = head + 1;
 		return true;
 	}
 
@@ -55,14 +123,90 @@ class EventQueue {
 	}
 
 	int getCurrentPos() {
-		return currentEventPos;
+		return (head - 1) & mask;
 	}
 
 	int getNextPos() {
-		return nextEventPos;
+		return tail & mask;
+	}
+
+	/**
+	 * @return the position of the last added event
+	 */
+	int getLastPos() {
+		return (tail - 1) & mask;
+	}
+
+	/**
+	 * @return the position of the {@code index}-th pending event
+	 */
+	int getPendingPos(int index) {
+		return (head + index) & mask;
+	}
+
+	/**
+	 * Consume {@code count} pending events at once, the last one becomes the current event.
+	 */
+	void skip(int count) {
+		head += count;
 	}
 
 	int getQueuedEventCount() {
-		return queuedEventCount;
+		return tail - head;
+	}
+
+	long getDroppedEventCount() {
+		return droppedEventCount;
+	}
+
+	void resetDroppedEventCount() {
+		droppedEventCount = 0;
+	}
+
+	/**
+	 * Copy the live events of {@code array} to a new array of {@code newMaxEvents} elements,
+	 * keeping each event at the position it will have once the queue is resized.
+	 */
+	int[] resize(int[] array, int newMaxEvents) {
+		int[] resized = new int[newMaxEvents];
+		for (int seq = head - 1; seq != tail; seq++)
+			resized[seq & (newMaxEvents - 1)] = array[seq & mask];
+		return resized;
+	}
+
+	long[] resize(long[] array, int newMaxEvents) {
+		long[] resized = new long[newMaxEvents];
+		for (int seq = head - 1; seq != tail; seq++)
+			resized[seq & (newMaxEvents - 1)] = array[seq & mask];
+		return resized;
+	}
+
+	float[] resize(float[] array, int newMaxEvents) {
+		float[] resized = new float[newMaxEvents];
+		for (int seq = head - 1; seq != tail; seq++)
+			resized[seq & (newMaxEvents - 1)] = array[seq & mask];
+		return resized;
+	}
+
+	byte[] resize(byte[] array, int newMaxEvents) {
+		byte[] resized = new byte[newMaxEvents];
+		for (int seq = head - 1; seq != tail; seq++)
+			resized[seq & (newMaxEvents - 1)] = array[seq & mask];
+		return resized;
+	}
+
+	boolean[] resize(boolean[] array, int newMaxEvents) {
+		boolean[] resized = new boolean[newMaxEvents];
+		for (int seq = head - 1; seq != tail; seq++)
+			resized[seq & (newMaxEvents - 1)] = array[seq & mask];
+		return resized;
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> T[] resize(T[] array, int newMaxEvents) {
+		T[] resized = (T[]) Array.newInstance(array.getClass().getComponentType(), newMaxEvents);
+		for (int seq = head - 1; seq != tail; seq++)
+			resized[seq & (newMaxEvents - 1)] = array[seq & mask];
+		return resized;
 	}
 }
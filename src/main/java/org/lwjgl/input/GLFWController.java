@@ -0,0 +1,468 @@
+package org.lwjgl.input;
+
+import static org.lwjgl.glfw.GLFW.*;
+import static org.lwjgl.system.MemoryStack.stackGet;
+import static org.lwjgl.system.MemoryUtil.*;
+
+import org.lwjgl.Sys;
+import org.lwjgl.glfw.GLFWGamepadState;
+import org.lwjgl.system.MemoryStack;
+
+/**
+ * A controller backed by the GLFW joystick API. Joysticks with a gamepad mapping
+ * are exposed with the standard GLFW gamepad layout, other joysticks with their raw
+ * axes, buttons and first hat.
+ */
+class GLFWController implements Controller {
+    private static final String[] GAMEPAD_BUTTON_NAMES = {
+            "A", "B", "X", "Y", "Left Bumper", "Right Bumper", "Back", "Start", "Guide",
+            "Left Thumb", "Right Thumb", "DPad Up", "DPad Right", "DPad Down", "DPad Left"
+    };
+    private static final String[] GAMEPAD_AXIS_NAMES = {
+            "Left X", "Left Y", "Right X", "Right Y", "Left Trigger", "Right Trigger"
+    };
+
+    /** The GLFW joystick id */
+    private final int jid;
+    /** The index that has been assigned to this controller */
+    private final int index;
+    /** True if the joystick has a gamepad mapping */
+    private boolean gamepad;
+    private String name;
+    /** The gamepad state, filled by GLFW */
+    private GLFWGamepadState gamepadState;
+
+    /** The state of the buttons last check */
+    private boolean[] buttonState;
+    /** The state of the buttons read this check */
+    private boolean[] polledButtons;
+    /** The values read from the axes this check, dead zones applied */
+    private float[] polledAxes;
+    /** The values that were read from the axes last check */
+    private float[] axesValue;
+    /** The dead zones for each axis */
+    private float[] deadZones;
+    private float povX;
+    private float povY;
+    private boolean connected = true;
+
+    private int xaxis = -1;
+    private int yaxis = -1;
+    private int zaxis = -1;
+    private int rxaxis = -1;
+    private int ryaxis = -1;
+    private int rzaxis = -1;
+
+    GLFWController(int index, int jid) {
+        this.index = index;
+        this.jid = jid;
+        connect(0);
+    }
+
+    /**
+     * Create a controller with the given layout, without reading it from GLFW
+     */
+    GLFWController(int index, int jid, boolean gamepad, String name, int buttonCount, int axisCount) {
+        this.index = index;
+        this.jid = jid;
+        configure(gamepad, name, buttonCount, axisCount, 0);
+    }
+
+    /**
+     * Read the layout of the joystick connected with the id of this controller, which may be
+     * another device than the one it had before.
+     *
+     * @param nanos The time stamp given to the release events of the previous device
+     */
+    void connect(long nanos) {
+        boolean gamepad = glfwJoystickIsGamepad(jid);
+        String name;
+        int buttonCount;
+        int axisCount;
+        if (gamepad) {
+            name = glfwGetGamepadName(jid);
+            buttonCount = GLFW_GAMEPAD_BUTTON_LAST + 1;
+            axisCount = GLFW_GAMEPAD_AXIS_LAST + 1;
+        } else {
+            name = glfwGetJoystickName(jid);
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                long count = stack.nmalloc(4, 4);
+                nglfwGetJoystickButtons(jid, count);
+                buttonCount = memGetInt(count);
+                nglfwGetJoystickAxes(jid, count);
+                axisCount = memGetInt(count);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
+        }
+        configure(gamepad, name, buttonCount, axisCount, nanos);
+    }
+
+    /**
+     * Switch to a new layout, after releasing the buttons, axes and POV of the previous one
+     */
+    void configure(boolean gamepad, String name, int buttonCount, int axisCount, long nanos) {
+        if (buttonState != null) {
+            update(nanos, new boolean[buttonState.length], new float[polledAxes.length], GLFW_HAT_CENTERED);
+        }
+        this.gamepad = gamepad;
+        this.name = name;
+        if (gamepad) {
+            xaxis = GLFW_GAMEPAD_AXIS_LEFT_X;
+            yaxis = GLFW_GAMEPAD_AXIS_LEFT_Y;
+            rxaxis = GLFW_GAMEPAD_AXIS_RIGHT_X;
+            ryaxis = GLFW_GAMEPAD_AXIS_RIGHT_Y;
+            zaxis = GLFW_GAMEPAD_AXIS_LEFT_TRIGGER;
+            rzaxis = GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER;
+        } else {
+            // Raw joysticks usually report X, Y, Z, RX, RY, RZ in that order
+            xaxis = axisCount > 0 ? 0 : -1;
+            yaxis = axisCount > 1 ? 1 : -1;
+            zaxis = axisCount > 2 ? 2 : -1;
+            rxaxis = axisCount > 3 ? 3 : -1;
+            ryaxis = axisCount > 4 ? 4 : -1;
+            rzaxis = axisCount > 5 ? 5 : -1;
+        }
+
+        buttonState = new boolean[buttonCount];
+        polledButtons = new boolean[buttonCount];
+        polledAxes = new float[axisCount];
+        axesValue = new float[axisCount];
+        deadZones = new float[axisCount];
+        for (int i = 0; i < deadZones.length; i++) {
+            deadZones[i] = 0.05f;
+        }
+        connected = true;
+    }
+
+    int getJoystickId() {
+        return jid;
+    }
+
+    boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Read the whole state of the joystick, then fire events for the buttons, axes and POV that changed.
+     *
+     * @param nanos The time stamp given to the events
+     */
+    void update(long nanos) {
+        connected = glfwJoystickPresent(jid);
+        int hat = GLFW_HAT_CENTERED;
+
+        if (!connected) {
+            // Release everything so the game doesn't see a stuck button or stick
+            for (int i = 0; i < polledButtons.length; i++) {
+                polledButtons[i] = false;
+            }
+            for (int i = 0; i < polledAxes.length; i++) {
+                polledAxes[i] = 0;
+            }
+        } else if (gamepad) {
+            if (gamepadState == null) {
+                gamepadState = GLFWGamepadState.malloc();
+            }
+            if (!glfwGetGamepadState(jid, gamepadState)) {
+                return;
+            }
+            for (int i = 0; i < polledButtons.length; i++) {
+                polledButtons[i] = gamepadState.buttons(i) == GLFW_PRESS;
+            }
+            for (int i = 0; i < polledAxes.length; i++) {
+                polledAxes[i] = gamepadState.axes(i);
+            }
+        } else {
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                long count = stack.nmalloc(4, 4);
+
+                long buttons = nglfwGetJoystickButtons(jid, count);
+                int buttonCount = buttons == NULL ? 0 : Math.min(memGetInt(count), polledButtons.length);
+                for (int i = 0; i < buttonCount; i++) {
+                    polledButtons[i] = memGetByte(buttons + i) == GLFW_PRESS;
+                }
+
+                long axes = nglfwGetJoystickAxes(jid, count);
+                int axisCount = axes == NULL ? 0 : Math.min(memGetInt(count), polledAxes.length);
+                for (int i = 0; i < axisCount; i++) {
+                    polledAxes[i] = memGetFloat(axes + 4L * i);
+                }
+
+                long hats = nglfwGetJoystickHats(jid, count);
+                if (hats != NULL && memGetInt(count) > 0) {
+                    hat = memGetByte(hats);
+                }
+            } finally {
+                stack.setPointer(stackPointer);
+            }
+        }
+
+        firePolledEvents(nanos, hat);
+    }
+
+    /**
+     * Fire events for a state read by the caller instead of GLFW
+     *
+     * @param hat The GLFW hat state of a joystick, the POV of a gamepad is its DPad
+     */
+    void update(long nanos, boolean[] buttons, float[] axes, int hat) {
+        System.arraycopy(buttons, 0, polledButtons, 0, Math.min(buttons.length, polledButtons.length));
+        System.arraycopy(axes, 0, polledAxes, 0, Math.min(axes.length, polledAxes.length));
+        firePolledEvents(nanos, hat);
+    }
+
+    private void firePolledEvents(long nanos, int hat) {
+        for (int i = 0; i < polledButtons.length; i++) {
+            updateButton(i, polledButtons[i], nanos);
+        }
+
+        float newPovX;
+        float newPovY;
+        if (gamepad) {
+            newPovX = (buttonState[GLFW_GAMEPAD_BUTTON_DPAD_LEFT] ? -1 : 0) +
+                    (buttonState[GLFW_GAMEPAD_BUTTON_DPAD_RIGHT] ? 1 : 0);
+            newPovY = (buttonState[GLFW_GAMEPAD_BUTTON_DPAD_UP] ? -1 : 0) +
+                    (buttonState[GLFW_GAMEPAD_BUTTON_DPAD_DOWN] ? 1 : 0);
+        } else {
+            newPovX = ((hat & GLFW_HAT_LEFT) != 0 ? -1 : 0) + ((hat & GLFW_HAT_RIGHT) != 0 ? 1 : 0);
+            newPovY = ((hat & GLFW_HAT_UP) != 0 ? -1 : 0) + ((hat & GLFW_HAT_DOWN) != 0 ? 1 : 0);
+        }
+
+        // Apply the dead zones to every axis before looking for changes
+        for (int i = 0; i < polledAxes.length; i++) {
+            if (Math.abs(polledAxes[i]) < deadZones[i]) {
+                polledAxes[i] = 0;
+            }
+        }
+        for (int i = 0; i < polledAxes.length; i++) {
+            float value = polledAxes[i];
+            if (value != axesValue[i]) {
+                axesValue[i] = value;
+                Controllers.addEvent(this, nanos, ControllerEvent.AXIS, i, false, i == xaxis, i == yaxis,
+                        i == xaxis ? value : 0, i == yaxis ? value : 0);
+            }
+        }
+
+        if (newPovX != povX) {
+            povX = newPovX;
+            Controllers.addEvent(this, nanos, ControllerEvent.POVX, 0, false, false, false, 0, 0);
+        }
+        if (newPovY != povY) {
+            povY = newPovY;
+            Controllers.addEvent(this, nanos, ControllerEvent.POVY, 0, false, false, false, 0, 0);
+        }
+    }
+
+    private void updateButton(int button, boolean pressed, long nanos) {
+        if (buttonState[button] != pressed) {
+            buttonState[button] = pressed;
+            Controllers.addEvent(this, nanos, ControllerEvent.BUTTON, button, pressed, false, false, 0, 0);
+        }
+    }
+
+    void destroy() {
+        if (gamepadState != null) {
+            gamepadState.free();
+            gamepadState = null;
+        }
+    }
+
+    /*
+     * @see org.lwjgl.input.Controller#getName()
+     */
+    public String getName() {
+        return name;
+    }
+
+    /*
+     * @see org.lwjgl.input.Controller#getIndex()
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /*
+     * @see org.lwjgl.input.Controller#getButtonCount()
+     */
+    public int getButtonCount() {
+        return buttonState.length;
+    }
+
+    /*
+     * @see org.lwjgl.input.Controller#getButtonName(int)
+     */
+    public String getButtonName(int index) {
+        return gamepad ? GAMEPAD_BUTTON_NAMES[index] : "Button " + index;
+    }
+
+    /*
+     * @see org.lwjgl.input.Controller#isButtonPressed(int)
+     */
+    public boolean isButtonPressed(int index) {
+        return buttonState[index];
+    }
+
+    /*
+     * @see org.lwjgl.input.Controller#poll()
+     */
+    public void poll() {
+        update(Sys.getNanoTime());
+    }
+
+    /*
+     * @see org.lwjgl.input.Controller#getPovX()
+     */
+    public float getPovX() {
+        return povX;
+    }
+
+    /*
+     * @see org.lwjgl.input.Controller#getPovY()
+     */
+    public float getPovY() {
+        return povY;
+    }
+
+    /*
+     * @see org.lwjgl.input.Controller#getDeadZone(int)
+     */
+    public float getDeadZone(int index) {
+        return deadZones[index];
+    }
+
+    /*
+     * @see org.lwjgl.input.Controller#setDeadZone(int, float)
+     */
+    public void setDeadZone(int index, float zone) {
+        deadZones[index] = zone;
+    }
+
+    /*
+     * @see org.lwjgl.input.Controller#getAxisCount()
+     */
+    public int getAxisCount() {
+        return axesValue.length;
+    }
+
+    /*
+     * @see org.lwjgl.input.Controller#getAxisName(int)
+     */
+    public String getAxisName(int index) {
+        return gamepad ? GAMEPAD_AXIS_NAMES[index] : "Axis " + index;
+    }
+
+    /*
+     * @see org.lwjgl.input.Controller#getAxisValue(int)
+     */
+    public float getAxisValue(int index) {
+        return axesValue[index];
+    }
+
+    private float getAxisValueOrZero(int index) {
+        return index == -1 ? 0 : axesValue[index];
+    }
+
+    private float getDeadZoneOrZero(int index) {
+        return index == -1 ? 0 : deadZones[index];
+    }
+
+    private void setDeadZoneIfPresent(int index, float zone) {
+        if (index != -1) {
+            deadZones[index] = zone;
+        }
+    }
+
+    public float getXAxisValue() {
+        return getAxisValueOrZero(xaxis);
+    }
+
+    public float getXAxisDeadZone() {
+        return getDeadZoneOrZero(xaxis);
+    }
+
+    public void setXAxisDeadZone(float zone) {
+        setDeadZoneIfPresent(xaxis, zone);
+    }
+
+    public float getYAxisValue() {
+        return getAxisValueOrZero(yaxis);
+    }
+
+    public float getYAxisDeadZone() {
+        return getDeadZoneOrZero(yaxis);
+    }
+
+    public void setYAxisDeadZone(float zone) {
+        setDeadZoneIfPresent(yaxis, zone);
+    }
+
+    public float getZAxisValue() {
+        return getAxisValueOrZero(zaxis);
+    }
+
+    public float getZAxisDeadZone() {
+        return getDeadZoneOrZero(zaxis);
+    }
+
+    public void setZAxisDeadZone(float zone) {
+        setDeadZoneIfPresent(zaxis, zone);
+    }
+
+    public float getRXAxisValue() {
+        return getAxisValueOrZero(rxaxis);
+    }
+
+    public float getRXAxisDeadZone() {
+        return getDeadZoneOrZero(rxaxis);
+    }
+
+    public void setRXAxisDeadZone(float zone) {
+        setDeadZoneIfPresent(rxaxis, zone);
+    }
+
+    public float getRYAxisValue() {
+        return getAxisValueOrZero(ryaxis);
+    }
+
+    public float getRYAxisDeadZone() {
+        return getDeadZoneOrZero(ryaxis);
+    }
+
+    public void setRYAxisDeadZone(float zone) {
+        setDeadZoneIfPresent(ryaxis, zone);
+    }
+
+    public float getRZAxisValue() {
+        return getAxisValueOrZero(rzaxis);
+    }
+
+    public float getRZAxisDeadZone() {
+        return getDeadZoneOrZero(rzaxis);
+    }
+
+    public void setRZAxisDeadZone(float zone) {
+        setDeadZoneIfPresent(rzaxis, zone);
+    }
+
+    /*
+     * GLFW doesn't expose rumble
+     */
+    public int getRumblerCount() {
+        return 0;
+    }
+
+    public String getRumblerName(int index) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: 0");
+    }
+
+    public void setRumblerStrength(int index, float strength) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: 0");
+    }
+
+    public String toString() {
+        return name;
+    }
+}
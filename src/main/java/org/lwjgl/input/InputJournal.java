@@ -0,0 +1,307 @@
+package org.lwjgl.input;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.lwjgl.LWJGLUtil;
+import org.lwjgl.Sys;
+
+/**
+ * Records the raw input events received by {@link Keyboard}, {@link Mouse} and {@link Controllers}
+ * to a compact binary journal written through a {@link MappedByteBuffer}, and replays them
+ * through the same entry points with a {@link Player}.
+ * <p>
+ * A frame marker is recorded each time {@code Display} processes messages, so a journal
+ * can be replayed frame by frame, as fast as the caller wants and without any window.
+ */
+public class InputJournal {
+	private static final int MAGIC = 0x4C4A584A; // LJXJ
+	private static final int VERSION = 1;
+	// magic, version, length, reserved, start time
+	private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8;
+	private static final int LENGTH_OFFSET = 8;
+	private static final int MAX_RECORD_SIZE = 64;
+	private static final int CHUNK_SIZE = 1 << 20;
+
+	private static final byte RECORD_FRAME = 1;
+	private static final byte RECORD_KEY = 2;
+	private static final byte RECORD_CHAR = 3;
+	private static final byte RECORD_MOVE = 4;
+	private static final byte RECORD_BUTTON = 5;
+	private static final byte RECORD_WHEEL = 6;
+	private static final byte RECORD_CONTROLLER = 7;
+
+	/** Checked by the input classes before calling the record methods */
+	static volatile boolean recording;
+
+	private static RandomAccessFile file;
+	private static FileChannel channel;
+	private static MappedByteBuffer buffer;
+	private static long bufferOffset;
+	private static long startNanos;
+
+	private InputJournal() {
+	}
+
+	/**
+	 * Start recording input events to {@code journal}, replacing its content.
+	 */
+	public static synchronized void startRecording(File journal) throws IOException {
+		if (recording) {
+			stopRecording();
+		}
+		file = new RandomAccessFile(journal, "rw");
+		file.setLength(0);
+		channel = file.getChannel();
+		bufferOffset = 0;
+		buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, CHUNK_SIZE);
+		startNanos = Sys.getNanoTime();
+
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putLong(0); // length, written when recording stops
+		buffer.putLong(0);
+		buffer.putLong(startNanos);
+		recording = true;
+	}
+
+	/**
+	 * Stop recording, writing the final journal length.
+	 */
+	public static synchronized void stopRecording() {
+		if (!recording) {
+			return;
+		}
+		recording = false;
+		long length = bufferOffset + buffer.position();
+		try {
+			MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+			header.putLong(LENGTH_OFFSET, length);
+			header.force();
+			buffer.force();
+			try {
+				channel.truncate(length);
+			} catch (IOException e) {
+				// Some platforms can't truncate a mapped file, the header length is enough
+			}
+			file.close();
+		} catch (IOException e) {
+			LWJGLUtil.log("Failed to finish input journal: " + e);
+		}
+		buffer = null;
+		channel = null;
+		file = null;
+	}
+
+	public static boolean isRecording() {
+		return recording;
+	}
+
+	/**
+	 * Mark the end of the events of the current frame, along with the display size used
+	 * to clip the mouse position.
+	 */
+	public static synchronized void recordFrame(int displayWidth, int displayHeight) {
+		if (!begin(RECORD_FRAME, Sys.getNanoTime())) return;
+		buffer.putInt(displayWidth);
+		buffer.putInt(displayHeight);
+	}
+
+	static synchronized void recordKeyEvent(int key, int status, long nanos) {
+		if (!begin(RECORD_KEY, nanos)) return;
+		buffer.putInt(key);
+		buffer.put((byte) status);
+	}
+
+	static synchronized void recordCharEvent(int key, char c, long nanos) {
+		if (!begin(RECORD_CHAR, nanos)) return;
+		buffer.putInt(key);
+		buffer.putChar(c);
+	}
+
+	static synchronized void recordMoveEvent(double mouseX, double mouseY, int displayHeight, long nanos) {
+		if (!begin(RECORD_MOVE, nanos)) return;
+		buffer.putDouble(mouseX);
+		buffer.putDouble(mouseY);
+		buffer.putInt(displayHeight);
+	}
+
+	static synchronized void recordButtonEvent(int button, boolean pressed, long nanos) {
+		if (!begin(RECORD_BUTTON, nanos)) return;
+		buffer.putInt(button);
+		buffer.put((byte) (pressed ? 1 : 0));
+	}
+
+	static synchronized void recordWheelEvent(int wheel, long nanos) {
+		if (!begin(RECORD_WHEEL, nanos)) return;
+		buffer.putInt(wheel);
+	}
+
+	static synchronized void recordControllerEvent(Controller source, long nanos, int type, int index, boolean buttonState,
+	                                               boolean xaxis, boolean yaxis, float xaxisValue, float yaxisValue) {
+		if (!begin(RECORD_CONTROLLER, nanos)) return;
+		buffer.putInt(source != null ? source.getIndex() : -1);
+		buffer.put((byte) type);
+		buffer.putInt(index);
+		buffer.put((byte) ((buttonState ? 1 : 0) | (xaxis ? 2 : 0) | (yaxis ? 4 : 0)));
+		buffer.putFloat(xaxisValue);
+		buffer.putFloat(yaxisValue);
+	}
+
+	/**
+	 * Write the header of a record
+	 *
+	 * @return false if recording stopped since the caller checked {@link #recording}
+	 */
+	private static boolean begin(byte type, long nanos) {
+		if (!recording) return false;
+		if (buffer.remaining() < MAX_RECORD_SIZE) {
+			// Map the next chunk right after the last record
+			bufferOffset += buffer.position();
+			try {
+				buffer = channel.map(FileChannel.MapMode.READ_WRITE, bufferOffset, CHUNK_SIZE);
+			} catch (IOException e) {
+				throw new RuntimeException("Failed to grow input journal", e);
+			}
+		}
+		buffer.put(type);
+		buffer.putLong(nanos - startNanos);
+		return true;
+	}
+
+	/**
+	 * Replays a journal through the {@link Keyboard}, {@link Mouse} and {@link Controllers}
+	 * entry points. Replayed events keep their recorded spacing, relative to the time the player was opened.
+	 */
+	public static class Player implements Closeable {
+		private final RandomAccessFile file;
+		private final MappedByteBuffer buffer;
+		private final long baseNanos;
+		private int frame;
+
+		public Player(File journal) throws IOException {
+			this(journal, Sys.getNanoTime());
+		}
+
+		/**
+		 * @param baseNanos timestamp given to events recorded when the recording started
+		 */
+		public Player(File journal, long baseNanos) throws IOException {
+			this.file = new RandomAccessFile(journal, "r");
+			this.baseNanos = baseNanos;
+			FileChannel channel = file.getChannel();
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+				file.close();
+				throw new IOException("Not an input journal: " + journal);
+			}
+			int version = buffer.getInt();
+			if (version != VERSION) {
+				file.close();
+				throw new IOException("Unsupported input journal version: " + version);
+			}
+			long length = buffer.getLong();
+			if (length == 0 || length > channel.size()) {
+				// Recording was not stopped properly, read as much as we can
+				length = channel.size();
+			}
+			buffer.position(HEADER_SIZE);
+			buffer.limit((int) length);
+			this.buffer = buffer;
+		}
+
+		/**
+		 * Inject the events of the next recorded frame, then poll {@link Keyboard} and {@link Mouse}
+		 * as {@code Display.processMessages()} would.
+		 *
+		 * @return false if the end of the journal was reached
+		 */
+		public boolean nextFrame() {
+			while (buffer.remaining() > 0) {
+				byte type = buffer.get();
+				if (type == 0) {
+					// Unused space of a journal that was not stopped properly
+					buffer.position(buffer.limit());
+					break;
+				}
+				long nanos = baseNanos + buffer.getLong();
+				switch (type) {
+					case RECORD_FRAME:
+						int displayWidth = buffer.getInt();
+						int displayHeight = buffer.getInt();
+						Keyboard.poll();
+						Mouse.poll(displayWidth, displayHeight);
+						frame++;
+						return true;
+					case RECORD_KEY:
+						Keyboard.addKeyEvent(buffer.getInt(), buffer.get(), nanos);
+						break;
+					case RECORD_CHAR:
+						Keyboard.addCharEvent(buffer.getInt(), buffer.getChar());
+						break;
+					case RECORD_MOVE:
+						Mouse.addMoveEvent(buffer.getDouble(), buffer.getDouble(), buffer.getInt(), nanos);
+						break;
+					case RECORD_BUTTON:
+						Mouse.addButtonEvent(buffer.getInt(), buffer.get() != 0, nanos);
+						break;
+					case RECORD_WHEEL:
+						Mouse.addWheelEvent(buffer.getInt(), nanos);
+						break;
+					case RECORD_CONTROLLER:
+						replayControllerEvent(nanos);
+						break;
+					default:
+						throw new IllegalStateException("Corrupted input journal, record type " + type);
+				}
+			}
+			return false;
+		}
+
+		private void replayControllerEvent(long nanos) {
+			int controllerIndex = buffer.getInt();
+			int type = buffer.get();
+			int index = buffer.getInt();
+			int flags = buffer.get();
+			float xaxisValue = buffer.getFloat();
+			float yaxisValue = buffer.getFloat();
+			Controller source = controllerIndex >= 0 && controllerIndex < Controllers.getControllerCount() ?
+					Controllers.getController(controllerIndex) : null;
+			Controllers.addEvent(source, nanos, type, index, (flags & 1) != 0,
+					(flags & 2) != 0, (flags & 4) != 0, xaxisValue, yaxisValue);
+		}
+
+		/**
+		 * Replay every remaining frame.
+		 *
+		 * @return the number of frames replayed
+		 */
+		public int replayAll() {
+			int frames = 0;
+			while (nextFrame()) {
+				frames++;
+			}
+			return frames;
+		}
+
+		public boolean hasRemaining() {
+			return buffer.hasRemaining();
+		}
+
+		/**
+		 * @return the number of frames replayed so far
+		 */
+		public int getFrame() {
+			return frame;
+		}
+
+		@Override
+		public void close() throws IOException {
+			file.close();
+		}
+	}
+}
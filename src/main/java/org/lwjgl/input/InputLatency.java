@@ -0,0 +1,106 @@
+package org.lwjgl.input;
+
+import java.util.Arrays;
+
+import org.lwjgl.Sys;
+import org.lwjgl.system.LWJGLXHelper;
+import org.lwjgl.util.LatencyHistogram;
+
+/**
+ * Opt-in measurement of the latency of keyboard and mouse events.
+ * <p>
+ * For every event read through {@link Keyboard#next()}, {@link Mouse#next()} or their
+ * bulk drain counterparts, two durations are recorded:
+ * <ul>
+ * <li>the queue latency, from the GLFW callback to the moment the game reads the event,</li>
+ * <li>the frame latency, from the moment the game reads the event to the next
+ * {@code Display.swapBuffers()}, which is when the frame it affected is presented.</li>
+ * </ul>
+ * Recording happens on the thread that reads the events and swaps the buffers, and
+ * doesn't allocate once the first frames went through.
+ */
+public class InputLatency {
+	static boolean enabled = LWJGLXHelper.inputLatency;
+
+	private static final LatencyHistogram queueLatency = new LatencyHistogram();
+	private static final LatencyHistogram frameLatency = new LatencyHistogram();
+	private static final LatencyHistogram totalLatency = new LatencyHistogram();
+
+	// Bound the pending reads when the game never swaps, e.g. without Display
+	private static final int MAX_PENDING_READS = 1 << 16;
+	// Read and callback times of the events read since the last swap
+	private static long[] readNanos = new long[64];
+	private static long[] eventNanos = new long[64];
+	private static int readCount;
+
+	private InputLatency() {
+	}
+
+	public static void setEnabled(boolean enabled) {
+		InputLatency.enabled = enabled;
+		readCount = 0;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return the histogram of the time between the event callbacks and their read by the game
+	 */
+	public static LatencyHistogram getQueueLatency() {
+		return queueLatency;
+	}
+
+	/**
+	 * @return the histogram of the time between the read of the events and the next buffer swap
+	 */
+	public static LatencyHistogram getFrameLatency() {
+		return frameLatency;
+	}
+
+	/**
+	 * @return the histogram of the time between the event callbacks and the swap of the frame they affected
+	 */
+	public static LatencyHistogram getTotalLatency() {
+		return totalLatency;
+	}
+
+	public static void reset() {
+		queueLatency.reset();
+		frameLatency.reset();
+		totalLatency.reset();
+		readCount = 0;
+	}
+
+	/**
+	 * Called when the game reads an event
+	 *
+	 * @param nanos The time stamp the event was given in its callback
+	 */
+	static void recordRead(long nanos) {
+		long now = Sys.getNanoTime();
+		queueLatency.record(now - nanos);
+		if (readCount == readNanos.length) {
+			if (readCount == MAX_PENDING_READS) return;
+			readNanos = Arrays.copyOf(readNanos, readCount << 1);
+			eventNanos = Arrays.copyOf(eventNanos, readCount << 1);
+		}
+		readNanos[readCount] = now;
+		eventNanos[readCount] = nanos;
+		readCount++;
+	}
+
+	/**
+	 * Called after the buffers were swapped, closing the frame of the events read so far.
+	 */
+	public static void recordSwap() {
+		if (!enabled) return;
+		long now = Sys.getNanoTime();
+		for (int i = 0; i < readCount; i++) {
+			frameLatency.record(now - readNanos[i]);
+			totalLatency.record(now - eventNanos[i]);
+		}
+		readCount = 0;
+	}
+}
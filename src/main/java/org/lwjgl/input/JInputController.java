@@ -81,6 +81,8 @@ class JInputController implements Controller {
     private int ryaxis = -1;
     /** The index of the RZ axis or -1 if no RZ axis is defined */
     private int rzaxis = -1;
+    /** The event read from the JInput queue, reused across polls */
+    private final Event event = new Event();
 
     /**
      * Create a new controller that wraps round a JInput controller and hopefully
@@ -197,42 +199,40 @@ class JInputController implements Controller {
     public void poll() {
         target.poll();
 
-        Event event = new Event();
         EventQueue queue = target.getEventQueue();
 
         while (queue.getNextEvent(event)) {
+            Component component = event.getComponent();
+
             // handle button event
-            if (buttons.contains(event.getComponent())) {
-                Component button = event.getComponent();
-                int buttonIndex = buttons.indexOf(button);
+            int buttonIndex = buttons.indexOf(component);
+            if (buttonIndex != -1) {
                 buttonState[buttonIndex] = event.getValue() != 0;
 
                 // fire button pressed event
-                Controllers.addEvent(new ControllerEvent(this,event.getNanos(),ControllerEvent.BUTTON,buttonIndex,
-                        buttonState[buttonIndex],false,false,0,0));
+                Controllers.addEvent(this,event.getNanos(),ControllerEvent.BUTTON,buttonIndex,
+                        buttonState[buttonIndex],false,false,0,0);
             }
 
             // handle pov events
-            if (pov.contains(event.getComponent())) {
-                Component povComponent = event.getComponent();
-                int povIndex = pov.indexOf(povComponent);
+            int povIndex = pov.indexOf(component);
+            if (povIndex != -1) {
                 float prevX = getPovX();
                 float prevY = getPovY();
                 povValues[povIndex] = event.getValue();
 
                 if (prevX != getPovX()) {
-                    Controllers.addEvent(new ControllerEvent(this,event.getNanos(),ControllerEvent.POVX,0,false,false));
+                    Controllers.addEvent(this,event.getNanos(),ControllerEvent.POVX,0,false,false,false,0,0);
                 }
                 if (prevY != getPovY()) {
-                    Controllers.addEvent(new ControllerEvent(this,event.getNanos(),ControllerEvent.POVY,0,false,false));
+                    Controllers.addEvent(this,event.getNanos(),ControllerEvent.POVY,0,false,false,false,0,0);
                 }
             }
 
             // handle axis updates
-            if (axes.contains(event.getComponent())) {
-                Component axis = event.getComponent();
-                int axisIndex = axes.indexOf(axis);
-                float value = axis.getPollData();
+            int axisIndex = axes.indexOf(component);
+            if (axisIndex != -1) {
+                float value = component.getPollData();
                 float xaxisValue = 0;
                 float yaxisValue = 0;
 
@@ -240,7 +240,7 @@ class JInputController implements Controller {
                 if (Math.abs(value) < deadZones[axisIndex]) {
                     value = 0;
                 }
-                if (Math.abs(value) < axis.getDeadZone()) {
+                if (Math.abs(value) < component.getDeadZone()) {
                     value = 0;
                 }
                 if (Math.abs(value) > axesMax[axisIndex]) {
@@ -258,8 +258,8 @@ class JInputController implements Controller {
                 }
 
                 // fire event
-                Controllers.addEvent(new ControllerEvent(this,event.getNanos(),ControllerEvent.AXIS,axisIndex,false,
-                        axisIndex == xaxis,axisIndex == yaxis,xaxisValue,yaxisValue));
+                Controllers.addEvent(this,event.getNanos(),ControllerEvent.AXIS,axisIndex,false,
+                        axisIndex == xaxis,axisIndex == yaxis,xaxisValue,yaxisValue);
                 axesValue[axisIndex] = value;
             }
         }
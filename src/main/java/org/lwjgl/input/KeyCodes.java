@@ -3,7 +3,32 @@ package org.lwjgl.input;
 import org.lwjgl.glfw.GLFW;
 
 public class KeyCodes {
+	// Lookup tables built from the switch mappings below, indexed by key code
+	private static final short[] glfwToLwjgl = new short[GLFW.GLFW_KEY_LAST + 1];
+	private static final short[] lwjglToGlfw = new short[Keyboard.KEYBOARD_SIZE];
+
+	static {
+		for (int glfwKeyCode = 0; glfwKeyCode < glfwToLwjgl.length; glfwKeyCode++) {
+			glfwToLwjgl[glfwKeyCode] = (short) toLwjglKeySwitch(glfwKeyCode);
+		}
+		for (int lwjglKeyCode = 0; lwjglKeyCode < lwjglToGlfw.length; lwjglKeyCode++) {
+			lwjglToGlfw[lwjglKeyCode] = (short) toGlfwKeySwitch(lwjglKeyCode);
+		}
+	}
+
 	public static int toLwjglKey(int glfwKeyCode) {
+		if (glfwKeyCode < 0 || glfwKeyCode >= glfwToLwjgl.length)
+			return Keyboard.KEY_NONE;
+		return glfwToLwjgl[glfwKeyCode];
+	}
+
+	public static int toGlfwKey(int lwjglKeyCode) {
+		if (lwjglKeyCode < 0 || lwjglKeyCode >= lwjglToGlfw.length)
+			return GLFW.GLFW_KEY_UNKNOWN;
+		return lwjglToGlfw[lwjglKeyCode];
+	}
+
+	static int toLwjglKeySwitch(int glfwKeyCode) {
 		
 		switch(glfwKeyCode) {
 		
@@ -158,7 +183,7 @@ public class KeyCodes {
 		}
 	}
 
-	public static int toGlfwKey(int lwjglKeyCode) {
+	static int toGlfwKeySwitch(int lwjglKeyCode) {
 		switch(lwjglKeyCode) {
 		
 		case Keyboard.KEY_ESCAPE	: return GLFW.GLFW_KEY_ESCAPE;
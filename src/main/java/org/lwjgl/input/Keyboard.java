@@ -2,6 +2,9 @@ package org.lwjgl.input;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -159,7 +162,8 @@ public class Keyboard {
 	public static final int KEY_POWER           = 0xDE;
 	public static final int KEY_SLEEP           = 0xDF;
 
-	private static EventQueue queue = new EventQueue(32);
+	private static EventQueue queue = new EventQueue(LWJGLXHelper.inputQueueSize,
+			LWJGLXHelper.inputQueueMaxSize, LWJGLXHelper.inputQueueGrow, Keyboard::resizeEvents);
 	// private static int maxEvents = 32;
 
 	// private static int eventCount = 0;
@@ -181,11 +185,21 @@ public class Keyboard {
 	private static boolean lwjglxKeyboardTranslateInitialized = false;
 	private static int keyCount;
 
+	// Down state of every key, maintained from the GLFW key callback
+	private static final long[] keyDownStates = new long[KEYBOARD_SIZE / 64];
+
 	public static int getKeyCount() {
 		return keyCount;
 	}
 
 	public static void addKeyEvent(int key, int status) {
+		long nanos = Sys.getNanoTime();
+		if (InputJournal.recording)
+			InputJournal.recordKeyEvent(key, status, nanos);
+		addKeyEvent(key, status, nanos);
+	}
+
+	static void addKeyEvent(int key, int status, long nanos) {
 		// eventCount++;
 		// if (eventCount > maxEvents) eventCount = maxEvents;
 
@@ -195,10 +209,17 @@ public class Keyboard {
 				break;
 		case GLFW.GLFW_RELEASE:
 		case GLFW.GLFW_PRESS:
-			keyEvents[queue.getNextPos()] = KeyCodes.toLwjglKeyWarn(key);
-			keyEventStates[queue.getNextPos()] = (byte) status;
+			int lwjglKey = KeyCodes.toLwjglKeyWarn(key);
+			if (status != GLFW.GLFW_REPEAT)
+				setKeyDown(lwjglKey, status == GLFW.GLFW_PRESS);
 
-			nanoTimeEvents[queue.getNextPos()] = Sys.getNanoTime();
+			if (!queue.reserve())
+				break;
+			int pos = queue.getNextPos();
+			keyEvents[pos] = lwjglKey;
+			keyEventStates[pos] = (byte) status;
+
+			nanoTimeEvents[pos] = nanos;
 
 			queue.add();
 		}
@@ -210,7 +231,32 @@ public class Keyboard {
 		 */
 	}
 
+	private static void resizeEvents(EventQueue queue, int newMaxEvents) {
+		keyEvents = queue.resize(keyEvents, newMaxEvents);
+		keyEventStates = queue.resize(keyEventStates, newMaxEvents);
+		nanoTimeEvents = queue.resize(nanoTimeEvents, newMaxEvents);
+	}
+
+	private static void setKeyDown(int key, boolean down) {
+		if (key == KEY_NONE)
+			return;
+		if (down) {
+			keyDownStates[key >>> 6] |= 1L << key;
+		} else {
+			keyDownStates[key >>> 6] &= ~(1L << key);
+		}
+	}
+
+	/**
+	 * Forget the tracked key states, used when the window receiving key events changes.
+	 */
+	public static void lwjglxResetKeyStates() {
+		Arrays.fill(keyDownStates, 0L);
+	}
+
 	public static void addCharEvent(int key, char c) {
+		if (InputJournal.recording)
+			InputJournal.recordCharEvent(key, c, Sys.getNanoTime());
 		int index = KeyCodes.toLwjglKeyWarn(key);
 		keyEventChars[index] = c;
 	}
@@ -220,6 +266,10 @@ public class Keyboard {
 	}
 
 	public static boolean isKeyDown(int key) {
+		if (LWJGLXHelper.cachedKeyState) {
+			return key > KEY_NONE && key < KEYBOARD_SIZE &&
+					(keyDownStates[key >>> 6] & (1L << key)) != 0;
+		}
 		int glfwKeyCode = KeyCodes.toGlfwKeyWarn(key);
 		if (glfwKeyCode == GLFW.GLFW_KEY_UNKNOWN) return false;
 		int k = GLFW.glfwGetKey(Display.getWindow(), glfwKeyCode);
@@ -242,7 +292,11 @@ public class Keyboard {
 	}
 
 	public static boolean next() {
-		return queue.next();
+		if (!queue.next())
+			return false;
+		if (InputLatency.enabled)
+			InputLatency.recordRead(nanoTimeEvents[queue.getCurrentPos()]);
+		return true;
 		/*
 		 * if (eventCount == 0) return false;
 		 * 
@@ -283,10 +337,109 @@ public class Keyboard {
 			return ret;
 	}
 
+	/**
+	 * Copy every pending event to {@code events} in a single call, consuming them as {@link #next()} would.
+	 * Each event is packed in one int (see {@link #lwjglxGetPackedKey(int)},
+	 * {@link #lwjglxGetPackedKeyState(int)}, {@link #lwjglxIsPackedRepeatEvent(int)}
+	 * and {@link #lwjglxGetPackedCharacter(int)}) and its timestamp is written at the same index of {@code nanos}.
+	 *
+	 * @param events array receiving the packed events
+	 * @param nanos array receiving the event timestamps, may be null
+	 * @return the number of events copied, limited by the length of the arrays
+	 */
+	public static int lwjglxDrainEvents(int[] events, long[] nanos) {
+		int count = Math.min(queue.getQueuedEventCount(), events.length);
+		if (nanos != null)
+			count = Math.min(count, nanos.length);
+		for (int i = 0; i < count; i++) {
+			int pos = queue.getPendingPos(i);
+			events[i] = packEvent(pos);
+			if (nanos != null)
+				nanos[i] = nanoTimeEvents[pos];
+		}
+		if (InputLatency.enabled)
+			recordLatency(count);
+		queue.skip(count);
+		return count;
+	}
+
+	/**
+	 * Same as {@link #lwjglxDrainEvents(int[], long[])} but writes to the buffers from their
+	 * current position, advancing it by the number of events copied.
+	 */
+	public static int lwjglxDrainEvents(IntBuffer events, LongBuffer nanos) {
+		int count = Math.min(queue.getQueuedEventCount(), events.remaining());
+		if (nanos != null)
+			count = Math.min(count, nanos.remaining());
+		for (int i = 0; i < count; i++) {
+			int pos = queue.getPendingPos(i);
+			events.put(packEvent(pos));
+			if (nanos != null)
+				nanos.put(nanoTimeEvents[pos]);
+		}
+		if (InputLatency.enabled)
+			recordLatency(count);
+		queue.skip(count);
+		return count;
+	}
+
+	private static void recordLatency(int count) {
+		for (int i = 0; i < count; i++)
+			InputLatency.recordRead(nanoTimeEvents[queue.getPendingPos(i)]);
+	}
+
+	private static int packEvent(int pos) {
+		int key = keyEvents[pos];
+		return (key & 0xFF) | (keyEventStates[pos] & 0xFF) << 8 | keyEventChars[key] << 16;
+	}
+
+	public static int lwjglxGetPackedKey(int packedEvent) {
+		return packedEvent & 0xFF;
+	}
+
+	public static boolean lwjglxGetPackedKeyState(int packedEvent) {
+		return ((packedEvent >>> 8) & 0xFF) != GLFW.GLFW_RELEASE;
+	}
+
+	public static boolean lwjglxIsPackedRepeatEvent(int packedEvent) {
+		return ((packedEvent >>> 8) & 0xFF) == GLFW.GLFW_REPEAT;
+	}
+
+	public static char lwjglxGetPackedCharacter(int packedEvent) {
+		return (char) (packedEvent >>> 16);
+	}
+
 	public static int getNumKeyboardEvents() {
 		return queue.getQueuedEventCount();
 	}
 
+	/**
+	 * @return the number of keyboard events dropped because the event queue was full
+	 */
+	public static long lwjglxGetDroppedEventCount() {
+		return queue.getDroppedEventCount();
+	}
+
+	public static void lwjglxResetDroppedEventCount() {
+		queue.resetDroppedEventCount();
+	}
+
+	/**
+	 * @return the current capacity of the keyboard event queue
+	 */
+	public static int lwjglxGetEventQueueCapacity() {
+		return queue.getMaxEvents();
+	}
+
+	/**
+	 * Allow events to be added and read from different threads, as done by
+	 * {@code Display.lwjglxRunWithRenderThread}. The event queue is grown to
+	 * its maximum size first, so it must not be called while events are being read.
+	 */
+	public static void lwjglxSetConcurrentEvents(boolean concurrent) {
+		queue.setConcurrent(concurrent);
+	}
+
 	public static boolean isCreated() {
 		return Display.isCreated();
 	}
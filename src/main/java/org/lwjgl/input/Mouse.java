@@ -1,27 +1,58 @@
 package org.lwjgl.input;
 
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
 import org.lwjgl.glfw.GLFW;
 import org.lwjgl.system.MemoryUtil;
 import org.lwjgl.LWJGLException;
 import org.lwjgl.Sys;
 import org.lwjgl.opengl.Display;
+import org.lwjgl.system.LWJGLXHelper;
 
 public class Mouse {
 
+	/** Number of ints written per event by {@link #lwjglxDrainEvents(int[], long[])} */
+	public static final int LWJGLX_EVENT_SIZE = 7;
+	/** Offsets of the event fields written by {@link #lwjglxDrainEvents(int[], long[])} */
+	public static final int LWJGLX_EVENT_X = 0;
+	public static final int LWJGLX_EVENT_Y = 1;
+	public static final int LWJGLX_EVENT_DX = 2;
+	public static final int LWJGLX_EVENT_DY = 3;
+	public static final int LWJGLX_EVENT_DWHEEL = 4;
+	public static final int LWJGLX_EVENT_BUTTON = 5;
+	public static final int LWJGLX_EVENT_BUTTON_STATE = 6;
+
 	private static boolean grabbed = false;
 
 	private static int lastX = 0;
 	private static int lastY = 0;
 
+	// Latest position reported by GLFW, written by the thread adding the events under positionLock
+	private static final Object positionLock = new Object();
 	private static int latestX = 0;
 	private static int latestY = 0;
 
 	private static int x = 0;
 	private static int y = 0;
 
+	// Sub-pixel positions, not truncated to int
+	private static double lastXf = 0;
+	private static double lastYf = 0;
+
+	private static double latestXf = 0;
+	private static double latestYf = 0;
+
+	private static double xf = 0;
+	private static double yf = 0;
+
+	// Down state of every mouse button, maintained from the GLFW mouse button callback
+	private static int buttonDownStates = 0;
+
 	private static int lastDWheel = 0;
 
-	private static EventQueue queue = new EventQueue(32);
+	private static EventQueue queue = new EventQueue(LWJGLXHelper.inputQueueSize,
+			LWJGLXHelper.inputQueueMaxSize, LWJGLXHelper.inputQueueGrow, Mouse::resizeEvents);
 
 	private static int[] buttonEvents = new int[queue.getMaxEvents()];
 	private static int[] wheelEvents = new int[queue.getMaxEvents()];
@@ -31,6 +62,18 @@ public class Mouse {
 	private static int[] lastxEvents = new int[queue.getMaxEvents()];
 	private static int[] lastyEvents = new int[queue.getMaxEvents()];
 	private static long[] nanoTimeEvents = new long[queue.getMaxEvents()];
+	private static float[] dxfEvents = new float[queue.getMaxEvents()];
+	private static float[] dyfEvents = new float[queue.getMaxEvents()];
+	private static int[] mergedEvents = new int[queue.getMaxEvents()];
+
+	// Position of the last queued event, used to compute event deltas
+	private static int lastEventX = 0;
+	private static int lastEventY = 0;
+	private static double lastEventXf = 0;
+	private static double lastEventYf = 0;
+
+	private static boolean coalesceMoveEvents = LWJGLXHelper.coalesceMouseMoves;
+	private static long mergedEventCount = 0;
 
 	private static boolean clipPostionToDisplay = true;
 
@@ -39,81 +82,150 @@ public class Mouse {
 	private static Cursor currentCursor = null;
 
 	public static void addMoveEvent(double mouseX, double mouseY) {
-		latestX = (int) mouseX;
-		latestY = Display.getHeight() - (int) mouseY;
-
-		lastxEvents[queue.getNextPos()] = xEvents[queue.getNextPos()];
-		lastyEvents[queue.getNextPos()] = yEvents[queue.getNextPos()];
-
-		xEvents[queue.getNextPos()] = latestX;
-		yEvents[queue.getNextPos()] = latestY;
-
-		buttonEvents[queue.getNextPos()] = -1;
-		buttonEventStates[queue.getNextPos()] = false;
+		long nanos = Sys.getNanoTime();
+		int displayHeight = Display.getHeight();
+		if (InputJournal.recording)
+			InputJournal.recordMoveEvent(mouseX, mouseY, displayHeight, nanos);
+		addMoveEvent(mouseX, mouseY, displayHeight, nanos);
+	}
 
-		wheelEvents[queue.getNextPos()] = 0;
+	static void addMoveEvent(double mouseX, double mouseY, int displayHeight, long nanos) {
+		synchronized (positionLock) {
+			latestX = (int) mouseX;
+			latestY = displayHeight - (int) mouseY;
+			latestXf = mouseX;
+			latestYf = displayHeight - mouseY;
+		}
 
-		nanoTimeEvents[queue.getNextPos()] = Sys.getNanoTime();
+		// The pending event can't be modified while another thread may be reading it
+		if (coalesceMoveEvents && !queue.isConcurrent() && queue.getQueuedEventCount() > 0) {
+			// Merge with the last event if it is a pending move event
+			int pos = queue.getLastPos();
+			if (buttonEvents[pos] == -1 && wheelEvents[pos] == 0) {
+				xEvents[pos] = lastEventX = latestX;
+				yEvents[pos] = lastEventY = latestY;
+
+				dxfEvents[pos] += (float) (latestXf - lastEventXf);
+				dyfEvents[pos] += (float) (latestYf - lastEventYf);
+				lastEventXf = latestXf;
+				lastEventYf = latestYf;
+
+				nanoTimeEvents[pos] = nanos;
+				mergedEvents[pos]++;
+				mergedEventCount++;
+				return;
+			}
+		}
 
-		queue.add();
+		addEvent(-1, false, 0, nanos);
 	}
 
 	public static void addButtonEvent(int button, boolean pressed) {
-		lastxEvents[queue.getNextPos()] = xEvents[queue.getNextPos()];
-		lastyEvents[queue.getNextPos()] = yEvents[queue.getNextPos()];
-
-		xEvents[queue.getNextPos()] = latestX;
-		yEvents[queue.getNextPos()] = latestY;
+		long nanos = Sys.getNanoTime();
+		if (InputJournal.recording)
+			InputJournal.recordButtonEvent(button, pressed, nanos);
+		addButtonEvent(button, pressed, nanos);
+	}
 
-		buttonEvents[queue.getNextPos()] = button;
-		buttonEventStates[queue.getNextPos()] = pressed;
+	static void addButtonEvent(int button, boolean pressed, long nanos) {
+		if (button >= 0 && button < 32) {
+			if (pressed) {
+				buttonDownStates |= 1 << button;
+			} else {
+				buttonDownStates &= ~(1 << button);
+			}
+		}
+		addEvent(button, pressed, 0, nanos);
+	}
 
-		wheelEvents[queue.getNextPos()] = 0;
+	public static void addWheelEvent(int wheel) {
+		long nanos = Sys.getNanoTime();
+		if (InputJournal.recording)
+			InputJournal.recordWheelEvent(wheel, nanos);
+		addWheelEvent(wheel, nanos);
+	}
 
-		nanoTimeEvents[queue.getNextPos()] = Sys.getNanoTime();
+	static void addWheelEvent(int wheel, long nanos) {
+		lastDWheel = wheel;
 
-		queue.add();
+		addEvent(-1, false, wheel, nanos);
 	}
 
-	public static void addWheelEvent(int wheel) {
-		lastxEvents[queue.getNextPos()] = xEvents[queue.getNextPos()];
-		lastyEvents[queue.getNextPos()] = yEvents[queue.getNextPos()];
+	private static void addEvent(int button, boolean pressed, int wheel, long nanos) {
+		if (!queue.reserve())
+			return;
+		int pos = queue.getNextPos();
 
-		xEvents[queue.getNextPos()] = latestX;
-		yEvents[queue.getNextPos()] = latestY;
+		lastxEvents[pos] = lastEventX;
+		lastyEvents[pos] = lastEventY;
 
-		buttonEvents[queue.getNextPos()] = -1;
-		buttonEventStates[queue.getNextPos()] = false;
+		xEvents[pos] = lastEventX = latestX;
+		yEvents[pos] = lastEventY = latestY;
 
-		wheelEvents[queue.getNextPos()] = wheel;
-		lastDWheel = wheel;
+		dxfEvents[pos] = (float) (latestXf - lastEventXf);
+		dyfEvents[pos] = (float) (latestYf - lastEventYf);
+		lastEventXf = latestXf;
+		lastEventYf = latestYf;
+
+		buttonEvents[pos] = button;
+		buttonEventStates[pos] = pressed;
+
+		wheelEvents[pos] = wheel;
 
-		nanoTimeEvents[queue.getNextPos()] = Sys.getNanoTime();
+		nanoTimeEvents[pos] = nanos;
+		mergedEvents[pos] = 1;
 
 		queue.add();
 	}
 
+	private static void resizeEvents(EventQueue queue, int newMaxEvents) {
+		buttonEvents = queue.resize(buttonEvents, newMaxEvents);
+		wheelEvents = queue.resize(wheelEvents, newMaxEvents);
+		buttonEventStates = queue.resize(buttonEventStates, newMaxEvents);
+		xEvents = queue.resize(xEvents, newMaxEvents);
+		yEvents = queue.resize(yEvents, newMaxEvents);
+		lastxEvents = queue.resize(lastxEvents, newMaxEvents);
+		lastyEvents = queue.resize(lastyEvents, newMaxEvents);
+		nanoTimeEvents = queue.resize(nanoTimeEvents, newMaxEvents);
+		dxfEvents = queue.resize(dxfEvents, newMaxEvents);
+		dyfEvents = queue.resize(dyfEvents, newMaxEvents);
+		mergedEvents = queue.resize(mergedEvents, newMaxEvents);
+	}
+
 	public static void setMouseInsideWindow(boolean mouseInsideWindow) {
 		isMouseInsideWindow = mouseInsideWindow;
 	}
 
 	public static void poll() {
+		poll(Display.getWidth(), Display.getHeight());
+	}
+
+	static void poll(int displayWidth, int displayHeight) {
 		lastX = x;
 		lastY = y;
+		lastXf = xf;
+		lastYf = yf;
+
+		int newX, newY;
+		double newXf, newYf;
+		synchronized (positionLock) {
+			newX = latestX;
+			newY = latestY;
+			newXf = latestXf;
+			newYf = latestYf;
+		}
 
 		if (!grabbed && clipPostionToDisplay) {
-			if (latestX < 0)
-				latestX = 0;
-			if (latestY < 0)
-				latestY = 0;
-			if (latestX > Display.getWidth() - 1)
-				latestX = Display.getWidth() - 1;
-			if (latestY > Display.getHeight() - 1)
-				latestY = Display.getHeight() - 1;
+			newX = Math.max(0, Math.min(newX, displayWidth - 1));
+			newY = Math.max(0, Math.min(newY, displayHeight - 1));
+			newXf = Math.max(0, Math.min(newXf, displayWidth - 1));
+			newYf = Math.max(0, Math.min(newYf, displayHeight - 1));
 		}
 
-		x = latestX;
-		y = latestY;
+		x = newX;
+		y = newY;
+		xf = newXf;
+		yf = newYf;
 	}
 
 	public static void create() throws LWJGLException {
@@ -135,11 +247,18 @@ public class Mouse {
 	}
 
 	public static boolean isButtonDown(int button) {
+		if (LWJGLXHelper.cachedButtonState) {
+			return button >= 0 && button < 32 && (buttonDownStates & (1 << button)) != 0;
+		}
 		return GLFW.glfwGetMouseButton(Display.getWindow(), button) == GLFW.GLFW_PRESS;
 	}
 
 	public static boolean next() {
-		return queue.next();
+		if (!queue.next())
+			return false;
+		if (InputLatency.enabled)
+			InputLatency.recordRead(nanoTimeEvents[queue.getCurrentPos()]);
+		return true;
 	}
 
 	public static int getEventX() {
@@ -158,6 +277,46 @@ public class Mouse {
 		return yEvents[queue.getCurrentPos()] - lastyEvents[queue.getCurrentPos()];
 	}
 
+	/**
+	 * @return the sub-pixel horizontal movement of the current event
+	 */
+	public static float lwjglxGetEventDXf() {
+		return dxfEvents[queue.getCurrentPos()];
+	}
+
+	/**
+	 * @return the sub-pixel vertical movement of the current event
+	 */
+	public static float lwjglxGetEventDYf() {
+		return dyfEvents[queue.getCurrentPos()];
+	}
+
+	/**
+	 * @return the number of raw GLFW events merged in the current event, 1 unless move events are coalesced
+	 */
+	public static int lwjglxGetEventMergedCount() {
+		return mergedEvents[queue.getCurrentPos()];
+	}
+
+	/**
+	 * When enabled, consecutive move events that were not read yet are merged in a single event
+	 * carrying the latest position and the summed movement. Button and wheel events are never merged.
+	 */
+	public static void lwjglxSetCoalesceMoveEvents(boolean coalesce) {
+		coalesceMoveEvents = coalesce;
+	}
+
+	public static boolean lwjglxIsCoalesceMoveEvents() {
+		return coalesceMoveEvents;
+	}
+
+	/**
+	 * @return the total number of raw move events merged into a previous event
+	 */
+	public static long lwjglxGetMergedEventCount() {
+		return mergedEventCount;
+	}
+
 	public static long getEventNanoseconds() {
 		return nanoTimeEvents[queue.getCurrentPos()];
 	}
@@ -174,6 +333,69 @@ public class Mouse {
 		return wheelEvents[queue.getCurrentPos()];
 	}
 
+	/**
+	 * Copy every pending event to {@code events} in a single call, consuming them as {@link #next()} would.
+	 * Each event takes {@link #LWJGLX_EVENT_SIZE} ints laid out as described by the {@code LWJGLX_EVENT_*}
+	 * offsets, the button state being 1 when pressed, and its timestamp is written to {@code nanos}.
+	 *
+	 * @param events array receiving the events
+	 * @param nanos array receiving the event timestamps, may be null
+	 * @return the number of events copied, limited by the length of the arrays
+	 */
+	public static int lwjglxDrainEvents(int[] events, long[] nanos) {
+		int count = Math.min(queue.getQueuedEventCount(), events.length / LWJGLX_EVENT_SIZE);
+		if (nanos != null)
+			count = Math.min(count, nanos.length);
+		for (int i = 0; i < count; i++) {
+			int pos = queue.getPendingPos(i);
+			int offset = i * LWJGLX_EVENT_SIZE;
+			events[offset + LWJGLX_EVENT_X] = xEvents[pos];
+			events[offset + LWJGLX_EVENT_Y] = yEvents[pos];
+			events[offset + LWJGLX_EVENT_DX] = xEvents[pos] - lastxEvents[pos];
+			events[offset + LWJGLX_EVENT_DY] = yEvents[pos] - lastyEvents[pos];
+			events[offset + LWJGLX_EVENT_DWHEEL] = wheelEvents[pos];
+			events[offset + LWJGLX_EVENT_BUTTON] = buttonEvents[pos];
+			events[offset + LWJGLX_EVENT_BUTTON_STATE] = buttonEventStates[pos] ? 1 : 0;
+			if (nanos != null)
+				nanos[i] = nanoTimeEvents[pos];
+		}
+		if (InputLatency.enabled)
+			recordLatency(count);
+		queue.skip(count);
+		return count;
+	}
+
+	/**
+	 * Same as {@link #lwjglxDrainEvents(int[], long[])} but writes to the buffers from their
+	 * current position, advancing it by the number of values copied.
+	 */
+	public static int lwjglxDrainEvents(IntBuffer events, LongBuffer nanos) {
+		int count = Math.min(queue.getQueuedEventCount(), events.remaining() / LWJGLX_EVENT_SIZE);
+		if (nanos != null)
+			count = Math.min(count, nanos.remaining());
+		for (int i = 0; i < count; i++) {
+			int pos = queue.getPendingPos(i);
+			events.put(xEvents[pos]);
+			events.put(yEvents[pos]);
+			events.put(xEvents[pos] - lastxEvents[pos]);
+			events.put(yEvents[pos] - lastyEvents[pos]);
+			events.put(wheelEvents[pos]);
+			events.put(buttonEvents[pos]);
+			events.put(buttonEventStates[pos] ? 1 : 0);
+			if (nanos != null)
+				nanos.put(nanoTimeEvents[pos]);
+		}
+		if (InputLatency.enabled)
+			recordLatency(count);
+		queue.skip(count);
+		return count;
+	}
+
+	private static void recordLatency(int count) {
+		for (int i = 0; i < count; i++)
+			InputLatency.recordRead(nanoTimeEvents[queue.getPendingPos(i)]);
+	}
+
 	public static int getX() {
 		return x;
 	}
@@ -190,12 +412,70 @@ public class Mouse {
 		return y - lastY;
 	}
 
+	public static float lwjglxGetXf() {
+		return (float) xf;
+	}
+
+	public static float lwjglxGetYf() {
+		return (float) yf;
+	}
+
+	/**
+	 * Same as {@link #getDX()} but keeps the sub-pixel part of the movement,
+	 * so slow movements don't get lost when the cursor position isn't an integer.
+	 */
+	public static float lwjglxGetDXf() {
+		return (float) (xf - lastXf);
+	}
+
+	/**
+	 * Same as {@link #getDY()} but keeps the sub-pixel part of the movement.
+	 */
+	public static float lwjglxGetDYf() {
+		return (float) (yf - lastYf);
+	}
+
+	/**
+	 * Forget the tracked button states, used when the window receiving mouse events changes.
+	 */
+	public static void lwjglxResetButtonStates() {
+		buttonDownStates = 0;
+	}
+
 	public static int getDWheel() {
 		int dwheel = lastDWheel;
 		lastDWheel = 0;
 		return dwheel;
 	}
 
+	/**
+	 * @return the number of mouse events dropped because the event queue was full
+	 */
+	public static long lwjglxGetDroppedEventCount() {
+		return queue.getDroppedEventCount();
+	}
+
+	public static void lwjglxResetDroppedEventCount() {
+		queue.resetDroppedEventCount();
+	}
+
+	/**
+	 * @return the current capacity of the mouse event queue
+	 */
+	public static int lwjglxGetEventQueueCapacity() {
+		return queue.getMaxEvents();
+	}
+
+	/**
+	 * Allow events to be added and read from different threads, as done by
+	 * {@code Display.lwjglxRunWithRenderThread}. The event queue is grown to
+	 * its maximum size first and move events are no longer coalesced, so it
+	 * must not be called while events are being read.
+	 */
+	public static void lwjglxSetConcurrentEvents(boolean concurrent) {
+		queue.setConcurrent(concurrent);
+	}
+
 	public static int getButtonCount() {
 		return 8; // max mouse buttons supported by GLFW
 	}
@@ -2,6 +2,7 @@
  * Copyright LWJGL. All rights reserved.
  * License terms: https://www.lwjgl.org/license
  * MACHINE GENERATED FILE, DO NOT EDIT
+ * Instrumented by tools/InstrumentGL.java, see tools/gl-hooks.txt
  */
 package org.lwjgl.opengl;
 
@@ -106,9 +107,14 @@ public class ARBShaderObjects {
 
     // -- Begin LWJGL2 part --
     public static void glShaderSourceARB(int shader, java.nio.ByteBuffer string) {
-        byte[] b = new byte[string.remaining()];
-        string.get(b);
-        org.lwjgl.opengl.ARBShaderObjects.glShaderSourceARB(shader, new String(b));
+        long start = GLHooks.enter();
+        try {
+            byte[] b = new byte[string.remaining()];
+            string.get(b);
+            org.lwjgl.opengl.ARBShaderObjects.glShaderSourceARB(shader, new String(b));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glShaderSourceARB", start);
+        }
     }
 
     public static void glUniform1ARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
@@ -189,7 +195,18 @@ public class ARBShaderObjects {
      *
      * @param obj the shader object to delete
      */
-    public static native void glDeleteObjectARB(@NativeType("GLhandleARB") int obj);
+    public static void glDeleteObjectARB(@NativeType("GLhandleARB") int obj) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glDeleteObjectARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(obj, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteObjectARB", start);
+        }
+    }
 
     // --- [ glGetHandleARB ] ---
 
@@ -209,7 +226,18 @@ public class ARBShaderObjects {
      * @param containerObj the container object
      * @param attachedObj  the object to detach
      */
-    public static native void glDetachObjectARB(@NativeType("GLhandleARB") int containerObj, @NativeType("GLhandleARB") int attachedObj);
+    public static void glDetachObjectARB(@NativeType("GLhandleARB") int containerObj, @NativeType("GLhandleARB") int attachedObj) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glDetachObjectARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(containerObj, attachedObj, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDetachObjectARB", start);
+        }
+    }
 
     // --- [ glCreateShaderObjectARB ] ---
 
@@ -219,7 +247,18 @@ public class ARBShaderObjects {
      * @param shaderType the type of the shader object to be created. One of:<br><table><tr><td>{@link ARBVertexShader#GL_VERTEX_SHADER_ARB VERTEX_SHADER_ARB}</td><td>{@link ARBFragmentShader#GL_FRAGMENT_SHADER_ARB FRAGMENT_SHADER_ARB}</td></tr></table>
      */
     @NativeType("GLhandleARB")
-    public static native int glCreateShaderObjectARB(@NativeType("GLenum") int shaderType);
+    public static int glCreateShaderObjectARB(@NativeType("GLenum") int shaderType) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glCreateShaderObjectARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            return callI(shaderType, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCreateShaderObjectARB", start);
+        }
+    }
 
     // --- [ glShaderSourceARB ] ---
 
@@ -228,7 +267,18 @@ public class ARBShaderObjects {
      *
      * @param count the number of strings in the array
      */
-    public static native void nglShaderSourceARB(int shaderObj, int count, long string, long length);
+    public static void nglShaderSourceARB(int shaderObj, int count, long string, long length) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glShaderSourceARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPPV(shaderObj, count, string, length, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glShaderSourceARB", start);
+        }
+    }
 
     /**
      * Sets the source code for the specified shader object {@code shaderObj} to the text strings in the {@code string} array. If the object previously had
@@ -244,10 +294,15 @@ public class ARBShaderObjects {
      *                  considered null terminated.
      */
     public static void glShaderSourceARB(@NativeType("GLhandleARB") int shaderObj, @NativeType("GLcharARB const **") PointerBuffer string, @Nullable @NativeType("GLint const *") IntBuffer length) {
-        if (CHECKS) {
-            checkSafe(length, string.remaining());
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                checkSafe(length, string.remaining());
+            }
+            nglShaderSourceARB(shaderObj, string.remaining(), memAddress(string), memAddressSafe(length));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glShaderSourceARB", start);
         }
-        nglShaderSourceARB(shaderObj, string.remaining(), memAddress(string), memAddressSafe(length));
     }
 
     /**
@@ -261,13 +316,18 @@ public class ARBShaderObjects {
      * @param string    an array of pointers to one or more, optionally null terminated, character strings that make up the source code
      */
     public static void glShaderSourceARB(@NativeType("GLhandleARB") int shaderObj, @NativeType("GLcharARB const **") CharSequence... string) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        long start = GLHooks.enter();
         try {
-            long stringAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, string);
-            nglShaderSourceARB(shaderObj, string.length, stringAddress, stringAddress - (string.length << 2));
-            org.lwjgl.system.APIUtil.apiArrayFree(stringAddress, string.length);
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                long stringAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, string);
+                nglShaderSourceARB(shaderObj, string.length, stringAddress, stringAddress - (string.length << 2));
+                org.lwjgl.system.APIUtil.apiArrayFree(stringAddress, string.length);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            if (start != GLHooks.DISABLED) GLHooks.exit("glShaderSourceARB", start);
         }
     }
 
@@ -282,13 +342,18 @@ public class ARBShaderObjects {
      * @param string    an array of pointers to one or more, optionally null terminated, character strings that make up the source code
      */
     public static void glShaderSourceARB(@NativeType("GLhandleARB") int shaderObj, @NativeType("GLcharARB const **") CharSequence string) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        long start = GLHooks.enter();
         try {
-            long stringAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, string);
-            nglShaderSourceARB(shaderObj, 1, stringAddress, stringAddress - 4);
-            org.lwjgl.system.APIUtil.apiArrayFree(stringAddress, 1);
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                long stringAddress = org.lwjgl.system.APIUtil.apiArrayi(stack, MemoryUtil::memUTF8, string);
+                nglShaderSourceARB(shaderObj, 1, stringAddress, stringAddress - 4);
+                org.lwjgl.system.APIUtil.apiArrayFree(stringAddress, 1);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            if (start != GLHooks.DISABLED) GLHooks.exit("glShaderSourceARB", start);
         }
     }
 
@@ -308,7 +373,18 @@ public class ARBShaderObjects {
      *
      * @param shaderObj the shader object to compile
      */
-    public static native void glCompileShaderARB(@NativeType("GLhandleARB") int shaderObj);
+    public static void glCompileShaderARB(@NativeType("GLhandleARB") int shaderObj) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glCompileShaderARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(shaderObj, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCompileShaderARB", start);
+        }
+    }
 
     // --- [ glCreateProgramObjectARB ] ---
 
@@ -321,7 +397,18 @@ public class ARBShaderObjects {
      * one program object.</p>
      */
     @NativeType("GLhandleARB")
-    public static native int glCreateProgramObjectARB();
+    public static int glCreateProgramObjectARB() {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glCreateProgramObjectARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            return callI(__functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCreateProgramObjectARB", start);
+        }
+    }
 
     // --- [ glAttachObjectARB ] ---
 
@@ -331,7 +418,18 @@ public class ARBShaderObjects {
      * @param containerObj the container object
      * @param obj          the object to attach
      */
-    public static native void glAttachObjectARB(@NativeType("GLhandleARB") int containerObj, @NativeType("GLhandleARB") int obj);
+    public static void glAttachObjectARB(@NativeType("GLhandleARB") int containerObj, @NativeType("GLhandleARB") int obj) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glAttachObjectARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(containerObj, obj, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glAttachObjectARB", start);
+        }
+    }
 
     // --- [ glLinkProgramARB ] ---
 
@@ -350,7 +448,18 @@ public class ARBShaderObjects {
      *
      * @param programObj the program object to link
      */
-    public static native void glLinkProgramARB(@NativeType("GLhandleARB") int programObj);
+    public static void glLinkProgramARB(@NativeType("GLhandleARB") int programObj) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLinkProgramARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(programObj, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLinkProgramARB", start);
+        }
+    }
 
     // --- [ glUseProgramObjectARB ] ---
 
@@ -370,7 +479,18 @@ public class ARBShaderObjects {
      *
      * @param programObj the program object to use
      */
-    public static native void glUseProgramObjectARB(@NativeType("GLhandleARB") int programObj);
+    public static void glUseProgramObjectARB(@NativeType("GLhandleARB") int programObj) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUseProgramObjectARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(programObj, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUseProgramObjectARB", start);
+        }
+    }
 
     // --- [ glValidateProgramARB ] ---
 
@@ -391,7 +511,18 @@ public class ARBShaderObjects {
      *
      * @param programObj the program object to validate
      */
-    public static native void glValidateProgramARB(@NativeType("GLhandleARB") int programObj);
+    public static void glValidateProgramARB(@NativeType("GLhandleARB") int programObj) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glValidateProgramARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(programObj, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glValidateProgramARB", start);
+        }
+    }
 
     // --- [ glUniform1fARB ] ---
 
@@ -401,7 +532,18 @@ public class ARBShaderObjects {
      * @param location the uniform variable location
      * @param v0       the uniform x value
      */
-    public static native void glUniform1fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0);
+    public static void glUniform1fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform1fARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1fARB", start);
+        }
+    }
 
     // --- [ glUniform2fARB ] ---
 
@@ -412,7 +554,18 @@ public class ARBShaderObjects {
      * @param v0       the uniform x value
      * @param v1       the uniform y value
      */
-    public static native void glUniform2fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1);
+    public static void glUniform2fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform2fARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, v1, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2fARB", start);
+        }
+    }
 
     // --- [ glUniform3fARB ] ---
 
@@ -424,7 +577,18 @@ public class ARBShaderObjects {
      * @param v1       the uniform y value
      * @param v2       the uniform z value
      */
-    public static native void glUniform3fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2);
+    public static void glUniform3fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform3fARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, v1, v2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3fARB", start);
+        }
+    }
 
     // --- [ glUniform4fARB ] ---
 
@@ -437,7 +601,18 @@ public class ARBShaderObjects {
      * @param v2       the uniform z value
      * @param v3       the uniform w value
      */
-    public static native void glUniform4fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2, @NativeType("GLfloat") float v3);
+    public static void glUniform4fARB(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2, @NativeType("GLfloat") float v3) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform4fARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, v1, v2, v3, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4fARB", start);
+        }
+    }
 
     // --- [ glUniform1iARB ] ---
 
@@ -447,7 +622,18 @@ public class ARBShaderObjects {
      * @param location the uniform variable location
      * @param v0       the uniform x value
      */
-    public static native void glUniform1iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0);
+    public static void glUniform1iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform1iARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1iARB", start);
+        }
+    }
 
     // --- [ glUniform2iARB ] ---
 
@@ -458,7 +644,18 @@ public class ARBShaderObjects {
      * @param v0       the uniform x value
      * @param v1       the uniform y value
      */
-    public static native void glUniform2iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1);
+    public static void glUniform2iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform2iARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, v1, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2iARB", start);
+        }
+    }
 
     // --- [ glUniform3iARB ] ---
 
@@ -470,7 +667,18 @@ public class ARBShaderObjects {
      * @param v1       the uniform y value
      * @param v2       the uniform z value
      */
-    public static native void glUniform3iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1, @NativeType("GLint") int v2);
+    public static void glUniform3iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1, @NativeType("GLint") int v2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform3iARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, v1, v2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3iARB", start);
+        }
+    }
 
     // --- [ glUniform4iARB ] ---
 
@@ -483,7 +691,18 @@ public class ARBShaderObjects {
      * @param v2       the uniform z value
      * @param v3       the uniform w value
      */
-    public static native void glUniform4iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1, @NativeType("GLint") int v2, @NativeType("GLint") int v3);
+    public static void glUniform4iARB(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1, @NativeType("GLint") int v2, @NativeType("GLint") int v3) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform4iARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(location, v0, v1, v2, v3, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4iARB", start);
+        }
+    }
 
     // --- [ glUniform1fvARB ] ---
 
@@ -492,7 +711,18 @@ public class ARBShaderObjects {
      *
      * @param count the number of float values to load
      */
-    public static native void nglUniform1fvARB(int location, int count, long value);
+    public static void nglUniform1fvARB(int location, int count, long value) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform1fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1fvARB", start);
+        }
+    }
 
     /**
      * Loads floating-point values {@code count} times into a uniform location defined as an array of float values.
@@ -501,7 +731,12 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform1fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniform1fvARB(location, value.remaining(), memAddress(value));
+        long start = GLHooks.enter();
+        try {
+            nglUniform1fvARB(location, value.remaining(), memAddress(value));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1fvARB", start);
+        }
     }
 
     // --- [ glUniform2fvARB ] ---
@@ -511,7 +746,18 @@ public class ARBShaderObjects {
      *
      * @param count the number of vec2 vectors to load
      */
-    public static native void nglUniform2fvARB(int location, int count, long value);
+    public static void nglUniform2fvARB(int location, int count, long value) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform2fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2fvARB", start);
+        }
+    }
 
     /**
      * Loads floating-point values {@code count} times into a uniform location defined as an array of vec2 vectors.
@@ -520,7 +766,12 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform2fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniform2fvARB(location, value.remaining() >> 1, memAddress(value));
+        long start = GLHooks.enter();
+        try {
+            nglUniform2fvARB(location, value.remaining() >> 1, memAddress(value));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2fvARB", start);
+        }
     }
 
     // --- [ glUniform3fvARB ] ---
@@ -530,7 +781,18 @@ public class ARBShaderObjects {
      *
      * @param count the number of vec3 vectors to load
      */
-    public static native void nglUniform3fvARB(int location, int count, long value);
+    public static void nglUniform3fvARB(int location, int count, long value) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform3fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3fvARB", start);
+        }
+    }
 
     /**
      * Loads floating-point values {@code count} times into a uniform location defined as an array of vec3 vectors.
@@ -539,7 +801,12 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform3fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniform3fvARB(location, value.remaining() / 3, memAddress(value));
+        long start = GLHooks.enter();
+        try {
+            nglUniform3fvARB(location, value.remaining() / 3, memAddress(value));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3fvARB", start);
+        }
     }
 
     // --- [ glUniform4fvARB ] ---
@@ -549,7 +816,18 @@ public class ARBShaderObjects {
      *
      * @param count the number of vec4 vectors to load
      */
-    public static native void nglUniform4fvARB(int location, int count, long value);
+    public static void nglUniform4fvARB(int location, int count, long value) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform4fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4fvARB", start);
+        }
+    }
 
     /**
      * Loads floating-point values {@code count} times into a uniform location defined as an array of vec4 vectors.
@@ -558,7 +836,12 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform4fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniform4fvARB(location, value.remaining() >> 2, memAddress(value));
+        long start = GLHooks.enter();
+        try {
+            nglUniform4fvARB(location, value.remaining() >> 2, memAddress(value));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4fvARB", start);
+        }
     }
 
     // --- [ glUniform1ivARB ] ---
@@ -568,7 +851,18 @@ public class ARBShaderObjects {
      *
      * @param count the number of integer values to load
      */
-    public static native void nglUniform1ivARB(int location, int count, long value);
+    public static void nglUniform1ivARB(int location, int count, long value) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform1ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1ivARB", start);
+        }
+    }
 
     /**
      * Loads integer values {@code count} times into a uniform location defined as an array of integer values.
@@ -577,7 +871,12 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform1ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
-        nglUniform1ivARB(location, value.remaining(), memAddress(value));
+        long start = GLHooks.enter();
+        try {
+            nglUniform1ivARB(location, value.remaining(), memAddress(value));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1ivARB", start);
+        }
     }
 
     // --- [ glUniform2ivARB ] ---
@@ -587,7 +886,18 @@ public class ARBShaderObjects {
      *
      * @param count the number of ivec2 vectors to load
      */
-    public static native void nglUniform2ivARB(int location, int count, long value);
+    public static void nglUniform2ivARB(int location, int count, long value) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform2ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2ivARB", start);
+        }
+    }
 
     /**
      * Loads integer values {@code count} times into a uniform location defined as an array of ivec2 vectors.
@@ -596,7 +906,12 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform2ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
-        nglUniform2ivARB(location, value.remaining() >> 1, memAddress(value));
+        long start = GLHooks.enter();
+        try {
+            nglUniform2ivARB(location, value.remaining() >> 1, memAddress(value));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2ivARB", start);
+        }
     }
 
     // --- [ glUniform3ivARB ] ---
@@ -606,7 +921,18 @@ public class ARBShaderObjects {
      *
      * @param count the number of ivec3 vectors to load
      */
-    public static native void nglUniform3ivARB(int location, int count, long value);
+    public static void nglUniform3ivARB(int location, int count, long value) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform3ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3ivARB", start);
+        }
+    }
 
     /**
      * Loads integer values {@code count} times into a uniform location defined as an array of ivec3 vectors.
@@ -615,7 +941,12 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform3ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
-        nglUniform3ivARB(location, value.remaining() / 3, memAddress(value));
+        long start = GLHooks.enter();
+        try {
+            nglUniform3ivARB(location, value.remaining() / 3, memAddress(value));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3ivARB", start);
+        }
     }
 
     // --- [ glUniform4ivARB ] ---
@@ -625,7 +956,18 @@ public class ARBShaderObjects {
      *
      * @param count the number of ivec4 vectors to load
      */
-    public static native void nglUniform4ivARB(int location, int count, long value);
+    public static void nglUniform4ivARB(int location, int count, long value) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform4ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4ivARB", start);
+        }
+    }
 
     /**
      * Loads integer values {@code count} times into a uniform location defined as an array of ivec4 vectors.
@@ -634,7 +976,12 @@ public class ARBShaderObjects {
      * @param value    the values to load
      */
     public static void glUniform4ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
-        nglUniform4ivARB(location, value.remaining() >> 2, memAddress(value));
+        long start = GLHooks.enter();
+        try {
+            nglUniform4ivARB(location, value.remaining() >> 2, memAddress(value));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4ivARB", start);
+        }
     }
 
     // --- [ glUniformMatrix2fvARB ] ---
@@ -644,7 +991,18 @@ public class ARBShaderObjects {
      *
      * @param count the number of 2x2 matrices to load
      */
-    public static native void nglUniformMatrix2fvARB(int location, int count, boolean transpose, long value);
+    public static void nglUniformMatrix2fvARB(int location, int count, boolean transpose, long value) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniformMatrix2fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, transpose, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix2fvARB", start);
+        }
+    }
 
     /**
      * Loads a 2x2 matrix of floating-point values {@code count} times into a uniform location defined as a matrix or an array of matrices.
@@ -654,7 +1012,12 @@ public class ARBShaderObjects {
      * @param value     the matrix values to load
      */
     public static void glUniformMatrix2fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniformMatrix2fvARB(location, value.remaining() >> 2, transpose, memAddress(value));
+        long start = GLHooks.enter();
+        try {
+            nglUniformMatrix2fvARB(location, value.remaining() >> 2, transpose, memAddress(value));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix2fvARB", start);
+        }
     }
 
     // --- [ glUniformMatrix3fvARB ] ---
@@ -664,7 +1027,18 @@ public class ARBShaderObjects {
      *
      * @param count the number of 3x3 matrices to load
      */
-    public static native void nglUniformMatrix3fvARB(int location, int count, boolean transpose, long value);
+    public static void nglUniformMatrix3fvARB(int location, int count, boolean transpose, long value) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniformMatrix3fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, transpose, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix3fvARB", start);
+        }
+    }
 
     /**
      * Loads a 3x3 matrix of floating-point values {@code count} times into a uniform location defined as a matrix or an array of matrices.
@@ -674,7 +1048,12 @@ public class ARBShaderObjects {
      * @param value     the matrix values to load
      */
     public static void glUniformMatrix3fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniformMatrix3fvARB(location, value.remaining() / 9, transpose, memAddress(value));
+        long start = GLHooks.enter();
+        try {
+            nglUniformMatrix3fvARB(location, value.remaining() / 9, transpose, memAddress(value));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix3fvARB", start);
+        }
     }
 
     // --- [ glUniformMatrix4fvARB ] ---
@@ -684,7 +1063,18 @@ public class ARBShaderObjects {
      *
      * @param count the number of 4x4 matrices to load
      */
-    public static native void nglUniformMatrix4fvARB(int location, int count, boolean transpose, long value);
+    public static void nglUniformMatrix4fvARB(int location, int count, boolean transpose, long value) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniformMatrix4fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, count, transpose, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix4fvARB", start);
+        }
+    }
 
     /**
      * Loads a 4x4 matrix of floating-point values {@code count} times into a uniform location defined as a matrix or an array of matrices.
@@ -694,7 +1084,12 @@ public class ARBShaderObjects {
      * @param value     the matrix values to load
      */
     public static void glUniformMatrix4fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
-        nglUniformMatrix4fvARB(location, value.remaining() >> 4, transpose, memAddress(value));
+        long start = GLHooks.enter();
+        try {
+            nglUniformMatrix4fvARB(location, value.remaining() >> 4, transpose, memAddress(value));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix4fvARB", start);
+        }
     }
 
     // --- [ glGetObjectParameterfvARB ] ---
@@ -1080,13 +1475,18 @@ public class ARBShaderObjects {
      */
     @NativeType("void")
     public static float glGetUniformfARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLint") int location) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        long start = GLHooks.enter();
         try {
-            FloatBuffer params = stack.callocFloat(1);
-            nglGetUniformfvARB(programObj, location, memAddress(params));
-            return params.get(0);
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                FloatBuffer params = stack.callocFloat(1);
+                nglGetUniformfvARB(programObj, location, memAddress(params));
+                return params.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetUniformfARB", start);
         }
     }
 
@@ -1117,13 +1517,18 @@ public class ARBShaderObjects {
      */
     @NativeType("void")
     public static int glGetUniformiARB(@NativeType("GLhandleARB") int programObj, @NativeType("GLint") int location) {
-        MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+        long start = GLHooks.enter();
         try {
-            IntBuffer params = stack.callocInt(1);
-            nglGetUniformivARB(programObj, location, memAddress(params));
-            return params.get(0);
+            MemoryStack stack = stackGet(); int stackPointer = stack.getPointer();
+            try {
+                IntBuffer params = stack.callocInt(1);
+                nglGetUniformivARB(programObj, location, memAddress(params));
+                return params.get(0);
+            } finally {
+                stack.setPointer(stackPointer);
+            }
         } finally {
-            stack.setPointer(stackPointer);
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetUniformiARB", start);
         }
     }
 
@@ -1195,111 +1600,171 @@ public class ARBShaderObjects {
 
     /** Array version of: {@link #glShaderSourceARB ShaderSourceARB} */
     public static void glShaderSourceARB(@NativeType("GLhandleARB") int shaderObj, @NativeType("GLcharARB const **") PointerBuffer string, @Nullable @NativeType("GLint const *") int[] length) {
-        long __functionAddress = GL.getICD().glShaderSourceARB;
-        if (CHECKS) {
-            check(__functionAddress);
-            checkSafe(length, string.remaining());
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glShaderSourceARB;
+            if (CHECKS) {
+                check(__functionAddress);
+                checkSafe(length, string.remaining());
+            }
+            callPPV(shaderObj, string.remaining(), memAddress(string), length, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glShaderSourceARB", start);
         }
-        callPPV(shaderObj, string.remaining(), memAddress(string), length, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform1fvARB Uniform1fvARB} */
     public static void glUniform1fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniform1fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform1fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1fvARB", start);
         }
-        callPV(location, value.length, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform2fvARB Uniform2fvARB} */
     public static void glUniform2fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniform2fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform2fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length >> 1, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2fvARB", start);
         }
-        callPV(location, value.length >> 1, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform3fvARB Uniform3fvARB} */
     public static void glUniform3fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniform3fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform3fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length / 3, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3fvARB", start);
         }
-        callPV(location, value.length / 3, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform4fvARB Uniform4fvARB} */
     public static void glUniform4fvARB(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniform4fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform4fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length >> 2, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4fvARB", start);
         }
-        callPV(location, value.length >> 2, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform1ivARB Uniform1ivARB} */
     public static void glUniform1ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
-        long __functionAddress = GL.getICD().glUniform1ivARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform1ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1ivARB", start);
         }
-        callPV(location, value.length, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform2ivARB Uniform2ivARB} */
     public static void glUniform2ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
-        long __functionAddress = GL.getICD().glUniform2ivARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform2ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length >> 1, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2ivARB", start);
         }
-        callPV(location, value.length >> 1, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform3ivARB Uniform3ivARB} */
     public static void glUniform3ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
-        long __functionAddress = GL.getICD().glUniform3ivARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform3ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length / 3, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3ivARB", start);
         }
-        callPV(location, value.length / 3, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniform4ivARB Uniform4ivARB} */
     public static void glUniform4ivARB(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
-        long __functionAddress = GL.getICD().glUniform4ivARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniform4ivARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length >> 2, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4ivARB", start);
         }
-        callPV(location, value.length >> 2, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniformMatrix2fvARB UniformMatrix2fvARB} */
     public static void glUniformMatrix2fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniformMatrix2fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniformMatrix2fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length >> 2, transpose, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix2fvARB", start);
         }
-        callPV(location, value.length >> 2, transpose, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniformMatrix3fvARB UniformMatrix3fvARB} */
     public static void glUniformMatrix3fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniformMatrix3fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniformMatrix3fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length / 9, transpose, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix3fvARB", start);
         }
-        callPV(location, value.length / 9, transpose, value, __functionAddress);
     }
 
     /** Array version of: {@link #glUniformMatrix4fvARB UniformMatrix4fvARB} */
     public static void glUniformMatrix4fvARB(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") float[] value) {
-        long __functionAddress = GL.getICD().glUniformMatrix4fvARB;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glUniformMatrix4fvARB;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(location, value.length >> 4, transpose, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix4fvARB", start);
         }
-        callPV(location, value.length >> 4, transpose, value, __functionAddress);
     }
 
     /** Array version of: {@link #glGetObjectParameterfvARB GetObjectParameterfvARB} */
@@ -32,7 +32,9 @@
 package org.lwjgl.opengl;
 
 import org.lwjgl.LWJGLException;
+import org.lwjgl.LWJGLUtil;
 import org.lwjgl.PointerBuffer;
+import org.lwjgl.Sys;
 import org.lwjgl.system.LWJGLXHelper;
 
 import java.awt.*;
@@ -40,14 +42,55 @@ import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
 import java.awt.event.HierarchyEvent;
 import java.awt.event.HierarchyListener;
-
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * When {@code LWJGLXHelper.awtCanvasOffscreen} is enabled, the canvas renders to a framebuffer object
+ * in a context of its own, sharing with the Display or the given drawable if any, instead of creating
+ * the Display. {@link #swapBuffers()} reads the frame back through a ring of pixel buffer objects and
+ * the last completed frame is drawn through a reused {@code BufferedImage}, so the readback never waits
+ * for the GPU to finish the frame. This requires OpenGL 3.0 or ARB_framebuffer_object, and the canvas
+ * should be painted from the event dispatch thread.
+ * <p>
+ * The context lives in a hidden GLFW window, which can only be created on the thread that initialized
+ * GLFW ({@link org.lwjgl.Sys#lwjglxGetInitThread()}). When the canvas is first painted on another thread,
+ * the context is created by that thread the next time the Display processes messages, and the canvas is
+ * painted again once it exists. Without a Display processing messages, call {@link #makeCurrent()} and
+ * {@link #releaseContext()} once on that thread before the canvas is painted. A context destroyed from
+ * another thread has its window destroyed by the Display thread the next time it processes messages.
+ */
 public class AWTGLCanvas extends Canvas implements Drawable, ComponentListener, HierarchyListener {
 
 	private static final long serialVersionUID = 1L;
 
-    private ContextGL mContextGL;
+	/** Number of frames read back the GPU may still be working on */
+	private static final int READBACK_FRAMES = 3;
+	/** Nanoseconds the deferred present waits for a frame */
+	private static final long PRESENT_WAIT = 1000000L;
+
+    private volatile ContextGL mContextGL;
     private PixelFormatLWJGL mPixelFormat;
     private ContextAttribs mCtxAttrs;
+
+	private final boolean offscreen = LWJGLXHelper.awtCanvasOffscreen;
+	private Drawable shareDrawable;
+	private int framebuffer;
+	private int colorBuffer;
+	private int depthBuffer;
+	private int framebufferWidth;
+	private int framebufferHeight;
+	private PixelReadback readback;
+	private boolean initialized;
+	/** Set once the creation of the context was handed to the thread that initialized GLFW */
+	private volatile boolean contextQueued;
+	private BufferedImage image;
+	private int[] imagePixels;
+	private final Object imageLock = new Object();
+	private boolean presentQueued;
+	private final Runnable presentTask = this::present;
     
 	public void setPixelFormat(final PixelFormatLWJGL pf) throws LWJGLException {
 		mPixelFormat = pf;
@@ -67,6 +110,10 @@ public class AWTGLCanvas extends Canvas implements Drawable, ComponentListener,
 	}
 
 	public ContextGL createSharedContext() throws LWJGLException {
+		if (offscreen) {
+			createContext();
+			return ContextGL.createShared(mCtxAttrs, mContextGL);
+		}
         mContextGL = new ContextGL(getContext().getPeerInfo(), mCtxAttrs, null);
 		return mContextGL;
 	}
@@ -80,13 +127,15 @@ public class AWTGLCanvas extends Canvas implements Drawable, ComponentListener,
 	}
 
 	public AWTGLCanvas() throws LWJGLException {
-		if (!LWJGLXHelper.awtCanvasNoCreate) {
+		if (!LWJGLXHelper.awtCanvasNoCreate && !offscreen) {
 			Display.create();
 		}
 	}
 
 	public AWTGLCanvas(PixelFormat pixel_format) throws LWJGLException {
-		Display.create(pixel_format);
+		if (!offscreen) {
+			Display.create(pixel_format);
+		}
 	}
 
 	public AWTGLCanvas(GraphicsDevice device, PixelFormat pixel_format) throws LWJGLException {
@@ -95,45 +144,77 @@ public class AWTGLCanvas extends Canvas implements Drawable, ComponentListener,
 
 	public AWTGLCanvas(GraphicsDevice device, PixelFormat pixel_format, Drawable drawable) throws LWJGLException {
 		this(pixel_format);
+		shareDrawable = drawable;
 	}
 
 	public AWTGLCanvas(GraphicsDevice device, PixelFormat pixel_format, Drawable drawable, ContextAttribs attribs) throws LWJGLException {
-		this(pixel_format);
+		this(device, pixel_format, drawable);
+		if (offscreen) {
+			mCtxAttrs = attribs;
+		}
 	}
 
 	public void addNotify() {
-		
+		if (offscreen) {
+			super.addNotify();
+		}
 	}
 
 	public void removeNotify() {
-		
+		if (offscreen) {
+			destroyOffscreen();
+			super.removeNotify();
+		}
 	}
 
 	public void setSwapInterval(int swap_interval) {
+		if (offscreen) return;
 		mContextGL.setSwapInterval(swap_interval);
 	}
 
 	public void setVSyncEnabled(boolean enabled) {
+		if (offscreen) return;
 		mContextGL.setSwapInterval(enabled ? 1 : 0);
 	}
 
 	public void swapBuffers() throws LWJGLException {
+		if (offscreen) {
+			readFramebuffer();
+			return;
+		}
 		mContextGL.swapBuffers();
 	}
 
 	public boolean isCurrent() throws LWJGLException {
+		if (offscreen && mContextGL == null) return false;
 		return mContextGL.isCurrent();
 	}
 
 	public void makeCurrent() throws LWJGLException {
+		if (offscreen) {
+			createContext();
+			mContextGL.makeCurrent();
+			if (framebuffer != 0) {
+				GL30.glBindFramebuffer(GL30.GL_FRAMEBUFFER, framebuffer);
+			}
+			return;
+		}
 		mContextGL.makeCurrent();
 	}
 
 	public void releaseContext() throws LWJGLException {
+		if (offscreen) {
+			if (mContextGL == null || !mContextGL.isCurrent()) return;
+			GL30.glBindFramebuffer(GL30.GL_FRAMEBUFFER, 0);
+		}
 		mContextGL.releaseCurrent();
 	}
 
 	public final void destroy() {
+		if (offscreen) {
+			destroyOffscreen();
+			return;
+		}
                 try {
 		    mContextGL.destroy();
                 } catch (LWJGLException e) {throw new RuntimeException(e);}
@@ -152,15 +233,40 @@ public class AWTGLCanvas extends Canvas implements Drawable, ComponentListener,
 	}
 
 	public final void paint(Graphics g) {
-		
+		if (!offscreen) return;
+		int width = getWidth();
+		int height = getHeight();
+		if (width <= 0 || height <= 0) return;
+		if (mContextGL == null && !isInitThread()) {
+			queueCreateContext();
+			return;
+		}
+		try {
+			makeCurrent();
+			try {
+				resizeFramebuffer(width, height);
+				if (!initialized) {
+					initialized = true;
+					initGL();
+				}
+				paintGL();
+			} finally {
+				releaseContext();
+			}
+		} catch (LWJGLException e) {
+			exceptionOccurred(e);
+		}
+		drawImage(g);
 	}
 
 	protected void exceptionOccurred(LWJGLException exception) {
-		
+		LWJGLUtil.log("Exception occurred while painting AWTGLCanvas: " + exception);
 	}
 
 	public void update(Graphics g) {
-		
+		if (offscreen) {
+			paint(g);
+		}
 	}
 
 	public void componentShown(ComponentEvent e) {
@@ -203,4 +309,201 @@ public class AWTGLCanvas extends Canvas implements Drawable, ComponentListener,
 		
 	}
 
+	private void createContext() throws LWJGLException {
+		if (mContextGL != null) return;
+		ContextGL share = null;
+		if (shareDrawable instanceof DrawableGL) {
+			share = ((DrawableGL) shareDrawable).getContext();
+		} else if (shareDrawable instanceof AWTGLCanvas) {
+			AWTGLCanvas canvas = (AWTGLCanvas) shareDrawable;
+			if (canvas.offscreen) canvas.createContext();
+			share = canvas.getContext();
+		}
+		if (share != null) {
+			mContextGL = ContextGL.createShared(mCtxAttrs, share);
+		} else if (Display.isCreated()) {
+			mContextGL = ContextGL.createShared(mCtxAttrs, null);
+		} else {
+			mContextGL = ContextGL.createStandalone(mCtxAttrs);
+		}
+	}
+
+	private static boolean isInitThread() {
+		Thread initThread = Sys.lwjglxGetInitThread();
+		// Creating the context initializes GLFW on this thread otherwise
+		return initThread == null || initThread == Thread.currentThread();
+	}
+
+	/**
+	 * Create the context on the thread that initialized GLFW the next time the Display processes
+	 * messages, then paint the canvas again
+	 */
+	private void queueCreateContext() {
+		if (contextQueued) return;
+		contextQueued = true;
+		Display.queueMainThreadTask(() -> {
+			if (!contextQueued || !isDisplayable()) return;
+			try {
+				createContext();
+			} catch (LWJGLException e) {
+				exceptionOccurred(e);
+				return;
+			}
+			repaint();
+		});
+	}
+
+	/**
+	 * (Re)create the framebuffer object if the canvas size changed, with the context current
+	 */
+	private void resizeFramebuffer(int width, int height) throws LWJGLException {
+		if (framebuffer != 0 && width == framebufferWidth && height == framebufferHeight) return;
+		if (framebuffer == 0) {
+			GLCapabilities caps = GL.getCapabilities();
+			if (!(caps.OpenGL30 || caps.GL_ARB_framebuffer_object) || !(caps.OpenGL21 || caps.GL_ARB_pixel_buffer_object)) {
+				throw new LWJGLException("Offscreen AWTGLCanvas requires framebuffer and pixel buffer objects");
+			}
+			framebuffer = GL30.glGenFramebuffers();
+			colorBuffer = GL30.glGenRenderbuffers();
+			depthBuffer = GL30.glGenRenderbuffers();
+			readback = new PixelReadback(READBACK_FRAMES, GL12.GL_BGRA, GL12.GL_UNSIGNED_INT_8_8_8_8_REV, 4);
+		}
+		GL30.glBindRenderbuffer(GL30.GL_RENDERBUFFER, colorBuffer);
+		GL30.glRenderbufferStorage(GL30.GL_RENDERBUFFER, GL11.GL_RGBA8, width, height);
+		GL30.glBindRenderbuffer(GL30.GL_RENDERBUFFER, depthBuffer);
+		GL30.glRenderbufferStorage(GL30.GL_RENDERBUFFER, GL30.GL_DEPTH24_STENCIL8, width, height);
+		GL30.glBindRenderbuffer(GL30.GL_RENDERBUFFER, 0);
+		GL30.glBindFramebuffer(GL30.GL_FRAMEBUFFER, framebuffer);
+		GL30.glFramebufferRenderbuffer(GL30.GL_FRAMEBUFFER, GL30.GL_COLOR_ATTACHMENT0, GL30.GL_RENDERBUFFER, colorBuffer);
+		GL30.glFramebufferRenderbuffer(GL30.GL_FRAMEBUFFER, GL30.GL_DEPTH_STENCIL_ATTACHMENT, GL30.GL_RENDERBUFFER, depthBuffer);
+		int status = GL30.glCheckFramebufferStatus(GL30.GL_FRAMEBUFFER);
+		if (status != GL30.GL_FRAMEBUFFER_COMPLETE) {
+			throw new LWJGLException("Incomplete framebuffer: 0x" + Integer.toHexString(status));
+		}
+		GL11.glViewport(0, 0, width, height);
+		framebufferWidth = width;
+		framebufferHeight = height;
+	}
+
+	/**
+	 * Start reading back the frame just rendered and copy the frames the GPU finished to the image
+	 */
+	private void readFramebuffer() {
+		if (readback == null) return;
+		if (readback.isFull()) {
+			// The GPU is more than READBACK_FRAMES behind, drop the oldest frame rather than wait for it
+			readback.skip();
+		}
+		readback.read(framebuffer, GL30.GL_COLOR_ATTACHMENT0, 0, 0, framebufferWidth, framebufferHeight);
+		copyCompleted(0);
+		if (readback.getPending() > 0) {
+			queuePresent();
+		}
+	}
+
+	/**
+	 * @param timeout nanoseconds to wait for the oldest pending frame
+	 * @return true if the image was updated
+	 */
+	private boolean copyCompleted(long timeout) {
+		boolean copied = false;
+		while (readback.isComplete(copied ? 0 : timeout)) {
+			int width = readback.getWidth();
+			int height = readback.getHeight();
+			IntBuffer pixels = readback.map().order(ByteOrder.nativeOrder()).asIntBuffer();
+			synchronized (imageLock) {
+				if (image == null || image.getWidth() != width || image.getHeight() != height) {
+					image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+					imagePixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+				}
+				// GL rows go from the bottom to the top
+				for (int y = 0; y < height; y++) {
+					pixels.position((height - 1 - y) * width);
+					pixels.get(imagePixels, y * width, width);
+				}
+			}
+			readback.unmap();
+			copied = true;
+		}
+		return copied;
+	}
+
+	private void queuePresent() {
+		if (presentQueued) return;
+		presentQueued = true;
+		EventQueue.invokeLater(presentTask);
+	}
+
+	/**
+	 * Draw the frames still being read back once they complete, when no new frame is painted
+	 */
+	private void present() {
+		presentQueued = false;
+		if (mContextGL == null || readback == null) return;
+		boolean copied;
+		try {
+			mContextGL.makeCurrent();
+			try {
+				copied = copyCompleted(PRESENT_WAIT);
+				if (readback.getPending() > 0) {
+					queuePresent();
+				}
+			} finally {
+				mContextGL.releaseCurrent();
+			}
+		} catch (LWJGLException e) {
+			exceptionOccurred(e);
+			return;
+		}
+		if (copied) {
+			Graphics g = getGraphics();
+			if (g != null) {
+				try {
+					drawImage(g);
+				} finally {
+					g.dispose();
+				}
+			}
+		}
+	}
+
+	private void drawImage(Graphics g) {
+		synchronized (imageLock) {
+			if (image != null) {
+				g.drawImage(image, 0, 0, null);
+			}
+		}
+	}
+
+	private void destroyOffscreen() {
+		// A creation still queued is dropped
+		contextQueued = false;
+		if (mContextGL == null) return;
+		try {
+			mContextGL.makeCurrent();
+			if (readback != null) {
+				readback.destroy();
+				readback = null;
+			}
+			if (framebuffer != 0) {
+				GL30.glBindFramebuffer(GL30.GL_FRAMEBUFFER, 0);
+				GL30.glDeleteFramebuffers(framebuffer);
+				GL30.glDeleteRenderbuffers(colorBuffer);
+				GL30.glDeleteRenderbuffers(depthBuffer);
+				framebuffer = colorBuffer = depthBuffer = 0;
+			}
+			mContextGL.releaseCurrent();
+			mContextGL.destroy();
+		} catch (LWJGLException e) {
+			throw new RuntimeException(e);
+		} finally {
+			mContextGL = null;
+			initialized = false;
+			synchronized (imageLock) {
+				image = null;
+				imagePixels = null;
+			}
+		}
+	}
+
 }
@@ -3,28 +3,29 @@ package org.lwjgl.opengl;
 import org.lwjgl.system.LWJGLXHelper;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * The capabilities of the Display context, created on the first {@link GLContext#getCapabilities()}
+ * with the context current.
+ */
 public class ContextCapabilities {
-	
-	org.lwjgl.opengl.GLCapabilities cap = org.lwjgl.opengl.GL.createCapabilities();
-	
-	public ContextCapabilities() {
-
-		Field[] fields = org.lwjgl.opengl.GLCapabilities.class.getFields();
-
-		for (Field field : fields) {
 
-			String name = field.getName();
+	/** Pairs of GLCapabilities and ContextCapabilities fields with the same name, looked up once */
+	@javax.annotation.Nullable
+	private static Field[] mirroredFields;
 
-			if (name.startsWith("GL_") || name.startsWith("OpenGL")) {
+	final org.lwjgl.opengl.GLCapabilities cap;
 
-				try {
-					boolean value = field.getBoolean(cap);
+	public ContextCapabilities() {
+		cap = org.lwjgl.opengl.GL.createCapabilities();
 
-					Field f = this.getClass().getField(name);
-					f.setBoolean(this, value);
-				} catch (Exception ignored) {}
-			}
+		Field[] fields = getMirroredFields();
+		for (int i = 0; i < fields.length; i += 2) {
+			try {
+				fields[i + 1].setBoolean(this, fields[i].getBoolean(cap));
+			} catch (IllegalAccessException ignored) {}
 		}
 
 		if (LWJGLXHelper.assumeGlExtensions) {
@@ -401,6 +402,24 @@ public class ContextCapabilities {
 	public boolean GL_SGIS_texture_lod;
 	public boolean GL_SUN_slice_accum;
 
+	private static synchronized Field[] getMirroredFields() {
+		if (mirroredFields == null) {
+			List<Field> fields = new ArrayList<>();
+			for (Field field : ContextCapabilities.class.getFields()) {
+				String name = field.getName();
+				if (field.getType() != boolean.class || !(name.startsWith("GL_") || name.startsWith("OpenGL"))) {
+					continue;
+				}
+				try {
+					fields.add(org.lwjgl.opengl.GLCapabilities.class.getField(name));
+					fields.add(field);
+				} catch (NoSuchFieldException ignored) {}
+			}
+			mirroredFields = fields.toArray(new Field[0]);
+		}
+		return mirroredFields;
+	}
+
 	public static void main(String[] arg) {
 		System.out.println("START!");
 		new ContextCapabilities();
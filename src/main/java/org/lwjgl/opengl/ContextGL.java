@@ -42,7 +42,9 @@ import javax.annotation.Nullable;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
 
+import static org.lwjgl.glfw.GLFW.*;
 import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.system.MemoryUtil.NULL;
 
 /**
  * <p/>
@@ -80,6 +82,14 @@ final class ContextGL implements Context {
 
     private boolean isCurrent;
 
+    /** The hidden window of a context of its own, or NULL if the context renders to the Display window */
+    private final long window;
+    /** The thread that created the hidden window, GLFW only allows it to destroy the window */
+    private final Thread windowOwner;
+    /** The capabilities of the hidden window context, loaded when it is first made current */
+    @Nullable
+    private GLCapabilities capabilities;
+
     static {
         Sys.initialize();
         // implementation = createImplementation();
@@ -99,6 +109,12 @@ final class ContextGL implements Context {
 
     /** Create a context with the specified peer info and shared context */
     ContextGL(PeerInfo peer_info,@Nullable ContextAttribs attribs,@Nullable ContextGL shared_context) throws LWJGLException {
+        this(peer_info, attribs, shared_context, NULL);
+    }
+
+    private ContextGL(PeerInfo peer_info,@Nullable ContextAttribs attribs,@Nullable ContextGL shared_context, long window) throws LWJGLException {
+        this.window = window;
+        this.windowOwner = Thread.currentThread();
         final ContextGL context_lock = shared_context != null ? shared_context : this;
         // If shared_context is not null, synchronize on it to make sure it is not deleted
         // while this context is created. Otherwise, simply synchronize on ourself to avoid NPE
@@ -120,15 +136,96 @@ final class ContextGL implements Context {
         }
     }
 
+    /**
+     * Create a GL context of its own, in a hidden window, sharing its objects with {@code shared_context}
+     * or the Display context. The context can be made current on another thread than the Display one,
+     * to upload resources in parallel with rendering.
+     * <p>
+     * GLFW only allows this from the thread that initialized it, see {@link Sys#lwjglxGetInitThread()}.
+     */
+    static ContextGL createShared(@Nullable ContextAttribs attribs, @Nullable ContextGL shared_context) throws LWJGLException {
+        return createShared(null, attribs, shared_context);
+    }
+
+    /**
+     * Create a shared context like {@link #createShared(ContextAttribs, ContextGL)}, for {@code peer_info}.
+     * The framebuffer of a {@link PbufferPeerInfo} is created in the new context.
+     */
+    static ContextGL createShared(@Nullable PeerInfo peer_info, @Nullable ContextAttribs attribs, @Nullable ContextGL shared_context) throws LWJGLException {
+        long share = shared_context != null && shared_context.window != NULL ? shared_context.window : Display.Window.handle;
+        if (share == NULL)
+            throw new LWJGLException("Display must be created before shared contexts");
+        ContextGL context = createWindowContext(peer_info, attribs, shared_context, share);
+        if (peer_info instanceof PbufferPeerInfo) {
+            try {
+                ((PbufferPeerInfo) peer_info).create(context);
+            } catch (LWJGLException | RuntimeException e) {
+                context.destroy();
+                throw e;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Create a GL context in a hidden window sharing with nothing, with the version and profile of {@code attribs}
+     */
+    static ContextGL createStandalone(@Nullable ContextAttribs attribs) throws LWJGLException {
+        return createWindowContext(null, attribs, null, NULL);
+    }
+
+    private static ContextGL createWindowContext(@Nullable PeerInfo peer_info, @Nullable ContextAttribs attribs, @Nullable ContextGL shared_context, long share) throws LWJGLException {
+        if (Thread.currentThread() != Sys.lwjglxGetInitThread())
+            throw new LWJGLException("From thread " + Thread.currentThread() + ": contexts of their own can only be created on " + Sys.lwjglxGetInitThread());
+        glfwDefaultWindowHints();
+        glfwWindowHint(GLFW_VISIBLE, GLFW_FALSE);
+        if (share != NULL) {
+            // Request the same kind of context as the one we share with
+            int major = glfwGetWindowAttrib(share, GLFW_CONTEXT_VERSION_MAJOR);
+            int minor = glfwGetWindowAttrib(share, GLFW_CONTEXT_VERSION_MINOR);
+            glfwWindowHint(GLFW_CLIENT_API, glfwGetWindowAttrib(share, GLFW_CLIENT_API));
+            glfwWindowHint(GLFW_CONTEXT_CREATION_API, glfwGetWindowAttrib(share, GLFW_CONTEXT_CREATION_API));
+            glfwWindowHint(GLFW_CONTEXT_VERSION_MAJOR, major);
+            glfwWindowHint(GLFW_CONTEXT_VERSION_MINOR, minor);
+            if (major > 3 || (major == 3 && minor >= 2)) {
+                glfwWindowHint(GLFW_OPENGL_PROFILE, glfwGetWindowAttrib(share, GLFW_OPENGL_PROFILE));
+                glfwWindowHint(GLFW_OPENGL_FORWARD_COMPAT, glfwGetWindowAttrib(share, GLFW_OPENGL_FORWARD_COMPAT));
+            }
+            glfwWindowHint(GLFW_OPENGL_DEBUG_CONTEXT, glfwGetWindowAttrib(share, GLFW_OPENGL_DEBUG_CONTEXT));
+        } else if (attribs != null) {
+            if (attribs.getMajorVersion() != 1 || attribs.getMinorVersion() != 0) {
+                glfwWindowHint(GLFW_CONTEXT_VERSION_MAJOR, attribs.getMajorVersion());
+                glfwWindowHint(GLFW_CONTEXT_VERSION_MINOR, attribs.getMinorVersion());
+            }
+            if (attribs.isProfileCore()) {
+                glfwWindowHint(GLFW_OPENGL_PROFILE, GLFW_OPENGL_CORE_PROFILE);
+            } else if (attribs.isProfileCompatibility()) {
+                glfwWindowHint(GLFW_OPENGL_PROFILE, GLFW_OPENGL_COMPAT_PROFILE);
+            }
+            if (attribs.isForwardCompatible()) {
+                glfwWindowHint(GLFW_OPENGL_FORWARD_COMPAT, GLFW_TRUE);
+            }
+            glfwWindowHint(GLFW_OPENGL_DEBUG_CONTEXT, attribs.isDebug() ? GLFW_TRUE : GLFW_FALSE);
+        }
+        long window = glfwCreateWindow(1, 1, "LWJGLX Shared Context", NULL, share);
+        glfwDefaultWindowHints();
+        if (window == NULL)
+            throw new LWJGLException("Failed to create shared context");
+        return new ContextGL(peer_info, attribs, shared_context, window);
+    }
+
     /** Release the current context (if any). After this call, no context is current. */
     public void releaseCurrent() throws LWJGLException {
         ContextGL current_context = getCurrentContext();
         if (current_context != null) {
+            current_context.flushPbuffer();
             GLFW.glfwMakeContextCurrent(0L);
+            GLStateCache.invalidate();
             isCurrent = false;
             GLContext.useContext(null);
             current_context_local.set(null);
             synchronized ( current_context ) {
+                current_context.isCurrent = false;
                 current_context.thread = null;
                 current_context.checkDestroy();
             }
@@ -174,12 +271,40 @@ final class ContextGL implements Context {
         if ( destroyed )
             throw new IllegalStateException("Context is destroyed");
         thread = Thread.currentThread();
+        ContextGL previous = current_context_local.get();
+        if (previous != null && previous != this) {
+            previous.flushPbuffer();
+            synchronized ( previous ) {
+                previous.isCurrent = false;
+                previous.thread = null;
+            }
+        }
         current_context_local.set(this);
-        GLFW.glfwMakeContextCurrent(Display.Window.handle);
+        if (window != NULL) {
+            GLFW.glfwMakeContextCurrent(window);
+            if (capabilities == null) {
+                capabilities = GL.createCapabilities();
+            } else {
+                GL.setCapabilities(capabilities);
+            }
+        } else {
+            GLFW.glfwMakeContextCurrent(Display.Window.handle);
+            GL.setCapabilities(GLContext.getCapabilities().cap);
+        }
         isCurrent = true;
+        GLStateCache.invalidate();
         GLContext.useContext(this, this.forwardCompatible);
     }
 
+    /**
+     * Let the rendering to a Pbuffer reach its textures before another context samples them,
+     * called before this context stops being current on this thread
+     */
+    private void flushPbuffer() {
+        if (peer_info instanceof PbufferPeerInfo && glfwGetCurrentContext() == window)
+            glFlush();
+    }
+
     ByteBuffer getHandle() {
         return handle;
     }
@@ -200,14 +325,33 @@ final class ContextGL implements Context {
                 destroyed = true;
                 thread = null;
                 // GLContext.unloadOpenGLLibrary();
-                
-                Display.destroy();
+
+                if (window != NULL) {
+                    capabilities = null;
+                    destroyWindow();
+                } else {
+                    Display.destroy();
+                }
             } catch (LWJGLException e) {
                 LWJGLUtil.log("Exception occurred while destroying context: " + e);
             }
         }
     }
 
+    private void destroyWindow() {
+        if (Thread.currentThread() == windowOwner) {
+            glfwDestroyWindow(window);
+        } else {
+            // The context was released by a loader thread, let the Display thread destroy the window
+            final long window = this.window;
+            Display.queueMainThreadTask(new Runnable() {
+                public void run() {
+                    glfwDestroyWindow(window);
+                }
+            });
+        }
+    }
+
     /**
      * Set the buffer swap interval. This call is a best-attempt at changing
      * the monitor swap interval, which is the minimum periodicity of color buffer swaps,
@@ -14,9 +14,12 @@ import org.lwjgl.glfw.*;
 import org.lwjgl.system.LWJGLXHelper;
 import org.lwjgl.system.MemoryUtil;
 import org.lwjgl.input.Cursor;
+import org.lwjgl.input.InputJournal;
+import org.lwjgl.input.InputLatency;
 import org.lwjgl.input.Keyboard;
 import org.lwjgl.input.Mouse;
 import org.lwjgl.system.Pointer;
+import org.lwjgl.util.LatencyHistogram;
 
 import javax.annotation.Nullable;
 
@@ -45,13 +48,20 @@ public class Display {
     private static int displayFramebufferWidth = 0;
     private static int displayFramebufferHeight = 0;
 
-    private static boolean latestResized = false;
-    private static int latestWidth = 0;
-    private static int latestHeight = 0;
+    // Written by the window size callback, which runs on the main thread while a render thread reads them.
+    // The size is written before latestResized, and read after it is cleared.
+    private static volatile boolean latestResized = false;
+    private static volatile int latestWidth = 0;
+    private static volatile int latestHeight = 0;
 
     private static boolean vsyncEnabled = false;
-    private static boolean displayFullscreen = true;
-    private static float fps;
+    private static boolean displayFullscreen = false;
+
+    /** Position and size of the window before it went fullscreen, restored when going back to windowed */
+    private static int windowedX = -1;
+    private static int windowedY = -1;
+    private static int windowedWidth = 0;
+    private static int windowedHeight = 0;
     
     private static boolean window_created;
 
@@ -70,20 +80,14 @@ public class Display {
 
     private static int swap_interval;
 
+    /** True while a render thread started by lwjglxRunWithRenderThread owns the context */
+    private static volatile boolean renderThreadRunning;
+    private static final java.util.concurrent.ConcurrentLinkedQueue<Runnable> mainThreadTasks =
+            new java.util.concurrent.ConcurrentLinkedQueue<>();
+
     static {
         Sys.initialize(); // init using dummy sys method
 
-        long monitor = glfwGetPrimaryMonitor();
-        GLFWVidMode vidmode = glfwGetVideoMode(monitor);
-
-        int monitorWidth = displayWidth = displayFramebufferWidth = vidmode.width();
-        int monitorHeight = displayHeight = displayFramebufferHeight = vidmode.height();
-        int monitorBitPerPixel = vidmode.redBits() + vidmode.greenBits() + vidmode.blueBits();
-        int monitorRefreshRate = vidmode.refreshRate();
-
-        mode = desktopDisplayMode = new DisplayMode(monitorWidth, monitorHeight, monitorBitPerPixel, monitorRefreshRate);
-        LWJGLUtil.log("Initial mode: " + desktopDisplayMode);
-
         if (LWJGLXHelper.earlyDisplayCreate) {
             // additional code workaround not called yet!
             LWJGLUtil.log("Calling Display.create()");
@@ -95,6 +99,18 @@ public class Display {
         }
     }
     
+    /**
+     * Query the monitor for the initial mode on first use rather than when the class is loaded,
+     * so tools that never open a window don't pay for it.
+     */
+    private static void initDisplayMode() {
+        if (mode != null) return;
+        mode = desktopDisplayMode = getDesktopDisplayMode();
+        displayWidth = displayFramebufferWidth = mode.getWidth();
+        displayHeight = displayFramebufferHeight = mode.getHeight();
+        LWJGLUtil.log("Initial mode: " + desktopDisplayMode);
+    }
+
     public static void setSwapInterval(int value) {
         synchronized ( GlobalLock.lock ) {
             swap_interval = value;
@@ -301,30 +317,36 @@ public class Display {
         lwjglxCreate();
     }
 
+    /**
+     * Set the hints shared by the windows of the Display
+     */
+    private static void setWindowHints(boolean visible) {
+        glfwWindowHint(GLFW_VISIBLE, visible ? GL_TRUE : GL_FALSE);
+        glfwWindowHint(GLFW_RESIZABLE, displayResizable ? GL_TRUE : GL_FALSE);
+        glfwWindowHint(GLFW_OPENGL_DEBUG_CONTEXT, GL_TRUE);
+        if (LWJGLXHelper.headless) {
+            glfwWindowHint(GLFW_CONTEXT_CREATION_API, GLFW_OSMESA_CONTEXT_API);
+        }
+    }
+
     private static void lwjglxCreate() throws LWJGLException {
+        initDisplayMode();
         if (isCreated) return;
         else isCreated = true;
 
         if (Window.handle != MemoryUtil.NULL)
             glfwDestroyWindow(Window.handle);
 
-        long monitor = glfwGetPrimaryMonitor();
-        GLFWVidMode vidmode = glfwGetVideoMode(monitor);
-
-        int monitorWidth = vidmode.width();
-        int monitorHeight = vidmode.height();
-        int monitorBitPerPixel = vidmode.redBits() + vidmode.greenBits() + vidmode.blueBits();
-        int monitorRefreshRate = vidmode.refreshRate();
+        desktopDisplayMode = getDesktopDisplayMode();
+        int monitorWidth = desktopDisplayMode.getWidth();
+        int monitorHeight = desktopDisplayMode.getHeight();
 
-        desktopDisplayMode = new DisplayMode(monitorWidth, monitorHeight, monitorBitPerPixel, monitorRefreshRate);
-
-        glfwWindowHint(GLFW_VISIBLE, GL_FALSE);
-        glfwWindowHint(GLFW_RESIZABLE, displayResizable ? GL_TRUE : GL_FALSE);
-        glfwWindowHint(GLFW_OPENGL_DEBUG_CONTEXT, GL_TRUE);
+        setWindowHints(false);
 
         Window.handle = glfwCreateWindow(mode.getWidth(), mode.getHeight(), windowTitle, NULL, NULL);
         if (Window.handle == NULL)
-            throw new LWJGLException("Failed to create Display window");
+            throw new LWJGLException(LWJGLXHelper.headless ?
+                    "Failed to create headless Display, is OSMesa installed?" : "Failed to create Display window");
 
         Window.keyCallback = new GLFWKeyCallback() {
             @Override
@@ -385,9 +407,9 @@ public class Display {
         Window.windowSizeCallback = new GLFWWindowSizeCallback() {
             @Override
             public void invoke(long window, int width, int height) {
-                latestResized = true;
                 latestWidth = width;
                 latestHeight = height;
+                latestResized = true;
 
                 if(parent != null) parent.setSize(width, height);
             }
@@ -445,8 +467,13 @@ public class Display {
         }
 
         glfwMakeContextCurrent(Window.handle);
+        GLStateCache.invalidate();
         Objects.requireNonNull(org.lwjgl.opengl.GLContext.getCapabilities());
 
+        if (displayFullscreen && mode.isFullscreenCapable()) {
+            lwjglxSwitchWindow(mode, true, false);
+        }
+
         glfwShowWindow(Window.handle);
         if(parent != null) parent.setSize(displayWidth, displayHeight);
 
@@ -610,8 +637,7 @@ public class Display {
 
             @Override
             public void setPbufferAttrib(PeerInfo handle, int attrib, int value) {
-                // TODO Auto-generated method stub
-
+                ((PbufferPeerInfo) handle).setAttrib(attrib, value);
             }
 
             @Override
@@ -637,6 +663,7 @@ public class Display {
 
             @Override
             public void resetDisplayMode() {
+                initDisplayMode();
                 try {
                     Display.setDisplayMode(desktopDisplayMode);
                 } catch (LWJGLException e) {
@@ -645,8 +672,7 @@ public class Display {
 
             @Override
             public void releaseTexImageFromPbuffer(PeerInfo handle, int buffer) {
-                // TODO Auto-generated method stub
-
+                ((PbufferPeerInfo) handle).releaseTexImage(buffer);
             }
 
             @Override
@@ -669,7 +695,7 @@ public class Display {
 
             @Override
             public boolean isBufferLost(PeerInfo handle) {
-                return false;
+                return ((PbufferPeerInfo) handle).isBufferLost();
             }
 
             @Override
@@ -679,6 +705,7 @@ public class Display {
 
             @Override
             public DisplayMode init() {
+                initDisplayMode();
                 return desktopDisplayMode;
             }
 
@@ -709,7 +736,7 @@ public class Display {
 
             @Override
             public int getPbufferCapabilities() {
-                return 0;
+                return PbufferPeerInfo.getCapabilities();
             }
 
             @Override
@@ -753,19 +780,24 @@ public class Display {
             @Override
             public PeerInfo createPbuffer(int width, int height, PixelFormat pixel_format, ContextAttribs attribs,
                                           IntBuffer pixelFormatCaps, IntBuffer pBufferAttribs) throws LWJGLException {
-                // TODO Auto-generated method stub
-                return null;
+                return new PbufferPeerInfo(width, height, pixel_format, pBufferAttribs);
             }
 
             @Override
             public void bindTexImageToPbuffer(PeerInfo handle, int buffer) {
-                // TODO Auto-generated method stub
-
+                ((PbufferPeerInfo) handle).bindTexImage(buffer);
             }
         };
 
         displayCreated = true;
 
+        if (LWJGLXHelper.inputJournal != null) {
+            try {
+                InputJournal.startRecording(new java.io.File(LWJGLXHelper.inputJournal));
+            } catch (java.io.IOException e) {
+                LWJGLUtil.log("Failed to start input journal: " + e);
+            }
+        }
     }
 
     public static boolean isCreated() {
@@ -803,8 +835,16 @@ public class Display {
     }
 
     public static void update(boolean processMessages) {
+        if (GLProfiler.enabled) GLProfiler.endFrame();
         try {
-            swapBuffers();
+            if (FrameTimings.enabled) {
+                long start = Sys.getNanoTime();
+                FrameTimings.beginFrame(start);
+                swapBuffers();
+                FrameTimings.record(FrameTimings.SWAP_BUFFERS, start);
+            } else {
+                swapBuffers();
+            }
             displayDirty = false;
 
         } catch (LWJGLException e) {
@@ -816,9 +856,23 @@ public class Display {
     }
 
     public static void processMessages() {
-        glfwPollEvents();
+        long start = FrameTimings.enabled ? Sys.getNanoTime() : 0;
+        // With a render thread, the main thread pumps the events
+        if (!renderThreadRunning) {
+            glfwPollEvents();
+            runMainThreadTasks();
+        }
+        if (FrameTimings.enabled) {
+            start = FrameTimings.record(FrameTimings.POLL_EVENTS, start);
+        }
+        if (InputJournal.isRecording()) {
+            InputJournal.recordFrame(getWidth(), getHeight());
+        }
         Keyboard.poll();
         Mouse.poll();
+        if (FrameTimings.enabled) {
+            FrameTimings.record(FrameTimings.INPUT_POLL, start);
+        }
 
         if (latestResized) {
             latestResized = false;
@@ -830,6 +884,120 @@ public class Display {
         }
     }
     
+    /**
+     * Run {@code renderLoop} on a dedicated render thread owning the GL context, while the calling
+     * thread, which must be the one that created the Display, keeps pumping window events until
+     * {@code renderLoop} returns.
+     * <p>
+     * Input callbacks then run as soon as the events arrive instead of after the buffer swap,
+     * and are handed to the render thread through the {@link Keyboard} and {@link Mouse} event
+     * queues. On the render thread, {@link #update()} swaps the buffers and polls the keyboard
+     * and mouse without polling window events. Calls that must run on the main thread, such as
+     * window management, can be scheduled with {@link #lwjglxRunOnMainThread(Runnable)}.
+     *
+     * @throws LWJGLException wrapping any checked exception thrown by {@code renderLoop}
+     */
+    public static void lwjglxRunWithRenderThread(final Runnable renderLoop) throws LWJGLException {
+        if (!isCreated())
+            throw new IllegalStateException("Display must be created");
+        if (renderThreadRunning)
+            throw new IllegalStateException("A render thread is already running");
+
+        final long window = Window.handle;
+        final GLCapabilities capabilities = GLContext.getCapabilities().cap;
+        final Throwable[] failure = new Throwable[1];
+
+        Keyboard.lwjglxSetConcurrentEvents(true);
+        Mouse.lwjglxSetConcurrentEvents(true);
+        glfwMakeContextCurrent(NULL);
+        renderThreadRunning = true;
+
+        Thread renderThread = new Thread(() -> {
+            glfwMakeContextCurrent(window);
+            GL.setCapabilities(capabilities);
+            GLStateCache.invalidate();
+            try {
+                renderLoop.run();
+            } catch (Throwable t) {
+                failure[0] = t;
+            } finally {
+                glfwMakeContextCurrent(NULL);
+                GL.setCapabilities(null);
+                renderThreadRunning = false;
+                glfwPostEmptyEvent();
+            }
+        }, "LWJGLX Render Thread");
+        renderThread.start();
+
+        try {
+            while (renderThreadRunning) {
+                // Wakes up on window events, scheduled tasks and render thread exit
+                glfwWaitEventsTimeout(0.1);
+                runMainThreadTasks();
+            }
+            renderThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LWJGLException("Interrupted while waiting for the render thread", e);
+        } finally {
+            glfwMakeContextCurrent(window);
+            GL.setCapabilities(capabilities);
+            GLStateCache.invalidate();
+            Keyboard.lwjglxSetConcurrentEvents(false);
+            Mouse.lwjglxSetConcurrentEvents(false);
+            runMainThreadTasks();
+        }
+
+        Throwable t = failure[0];
+        if (t instanceof RuntimeException)
+            throw (RuntimeException) t;
+        if (t instanceof Error)
+            throw (Error) t;
+        if (t != null)
+            throw new LWJGLException("Render thread failed", t);
+    }
+
+    /**
+     * Run {@code task} on the main thread, immediately if no render thread is running, otherwise
+     * the next time the main thread wakes up to process events.
+     */
+    public static void lwjglxRunOnMainThread(Runnable task) {
+        if (!renderThreadRunning) {
+            task.run();
+            return;
+        }
+        mainThreadTasks.add(task);
+        glfwPostEmptyEvent();
+    }
+
+    /**
+     * @return true while a render thread started by {@link #lwjglxRunWithRenderThread(Runnable)} owns the context
+     */
+    public static boolean lwjglxIsRenderThreadRunning() {
+        return renderThreadRunning;
+    }
+
+    /**
+     * Run {@code task} on the main thread the next time it processes messages, even without a render thread
+     */
+    static void queueMainThreadTask(Runnable task) {
+        mainThreadTasks.add(task);
+        if (renderThreadRunning) {
+            glfwPostEmptyEvent();
+        }
+    }
+
+    private static void runMainThreadTasks() {
+        Runnable task;
+        while ((task = mainThreadTasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LWJGLUtil.log("Exception in main thread task: " + e);
+            }
+        }
+    }
+
     /** Return the last parent set with setParent(). */
     @Nullable
     public static Canvas getParent() {
@@ -871,10 +1039,17 @@ public class Display {
 	}
     
     public static void swapBuffers() throws LWJGLException {
+        if (FrameCapture.active) FrameCapture.capture(getFramebufferWidth(), getFramebufferHeight());
         glfwSwapBuffers(Window.handle);
+        InputLatency.recordSwap();
     }
 
     public static void destroy() {
+        InputJournal.stopRecording();
+        FrameCapture.destroy();
+        GLProfiler.destroy();
+        DisplayLists.destroy();
+        ImmediateMode.destroy();
         Window.releaseCallbacks();
         glfwDestroyWindow(Window.handle);
 
@@ -882,25 +1057,22 @@ public class Display {
     }
 
     public static void setDisplayMode(DisplayMode dm) throws LWJGLException {
+        initDisplayMode();
         if (dm.equals(mode)) return;
         boolean attrChange = dm.lwjglxAttrChange(mode);
         mode = dm;
         if (Window.handle == NULL) return; // LWJGLX - Allow setDisplayMode even when display is not yet created.
-        boolean fullscreen = displayFullscreen && dm.isFullscreenCapable();
-        if (LWJGLXHelper.resizeRecreateDisplay || (attrChange && LWJGLXHelper.attrRecreateDisplay)) {
-            newCurrentWindow(GLFW.glfwCreateWindow(dm.getWidth(), dm.getHeight(), windowTitle,
-                    fullscreen ? glfwGetPrimaryMonitor() : NULL, NULL));
-            displayFullscreen = fullscreen;
-        } else {
-            GLFW.glfwSetWindowSize(Window.handle, dm.getWidth(), dm.getHeight());
-        }
+        lwjglxSwitchWindow(dm, displayFullscreen && dm.isFullscreenCapable(), attrChange);
     }
 
     public static DisplayMode getDisplayMode() {
+        initDisplayMode();
         return mode;
     }
 
     public static DisplayMode[] getAvailableDisplayModes() throws LWJGLException {
+        if (LWJGLXHelper.headless) return new DisplayMode[] { getDesktopDisplayMode() };
+
         GLFWVidMode.Buffer modes = GLFW.glfwGetVideoModes(GLFW.glfwGetPrimaryMonitor());
 
         DisplayMode[] displayModes = new DisplayMode[modes.capacity()];
@@ -920,6 +1092,10 @@ public class Display {
     }
 
     public static DisplayMode getDesktopDisplayMode() {
+        if (LWJGLXHelper.headless) {
+            // The fake monitor of the headless backend
+            return DisplayMode.lwjglxParse(LWJGLXHelper.headlessDisplayMode);
+        }
         long mon = GLFW.glfwGetPrimaryMonitor();
         GLFWVidMode mode = GLFW.glfwGetVideoMode(mon);
         return new DisplayMode(mode.width(), mode.height(), mode.redBits() + mode.greenBits() + mode.blueBits(),
@@ -939,18 +1115,22 @@ public class Display {
     }
 
     public static int getWidth() {
+        initDisplayMode();
         return displayWidth;
     }
 
     public static int getHeight() {
+        initDisplayMode();
         return displayHeight;
     }
 
     public static int getFramebufferWidth() {
+        initDisplayMode();
         return displayFramebufferWidth;
     }
 
     public static int getFramebufferHeight() {
+        initDisplayMode();
         return displayFramebufferHeight;
     }
 
@@ -1004,9 +1184,7 @@ public class Display {
                 height.rewind();
 
                 GLFW.glfwDefaultWindowHints();
-                glfwWindowHint(GLFW_VISIBLE, displayVisible ? GL_TRUE : GL_FALSE);
-                glfwWindowHint(GLFW_RESIZABLE, displayResizable ? GL_TRUE : GL_FALSE);
-                glfwWindowHint(GLFW_OPENGL_DEBUG_CONTEXT, GL_TRUE);
+                setWindowHints(displayVisible);
 
                 if (LWJGLXHelper.attrRecreateDisplay) {
                     newCurrentWindow(GLFW.glfwCreateWindow(width.get(), height.get(), windowTitle,
@@ -1024,48 +1202,84 @@ public class Display {
     }
 
     public static void setDisplayModeAndFullscreen(DisplayMode dm) throws LWJGLException {
+        initDisplayMode();
         boolean fullScreenChange = (dm.isFullscreenCapable() != displayFullscreen);
         if (dm.equals(mode) && !fullScreenChange) return;
-        boolean attrChange = dm.lwjglxAttrChange(mode) || fullScreenChange;
+        boolean attrChange = dm.lwjglxAttrChange(mode);
         mode = dm;
-        if (LWJGLXHelper.resizeRecreateDisplay || (attrChange && LWJGLXHelper.attrRecreateDisplay)) {
-            newCurrentWindow(glfwCreateWindow(dm.getWidth(), dm.getHeight(), windowTitle,
-                    dm.isFullscreenCapable() ? glfwGetPrimaryMonitor() : NULL, NULL));
-            displayFullscreen = dm.isFullscreenCapable();
-        } else {
-            GLFW.glfwSetWindowSize(Window.handle, dm.getWidth(), dm.getHeight());
-        }
+        displayFullscreen = dm.isFullscreenCapable();
+        if (Window.handle == NULL) return;
+        lwjglxSwitchWindow(dm, displayFullscreen, attrChange);
     }
 
     public static void setFullscreen(boolean fullscreen) throws LWJGLException {
         System.out.println("LWJGLX: switch fullscreen to " + fullscreen);
+        initDisplayMode();
         if (isFullscreen() ^ fullscreen) {
             if (fullscreen && (!mode.isFullscreenCapable()))
                 throw new LWJGLException("Display mode is not fullscreen capable");
-            if (Window.handle != 0) {
-                IntBuffer width = BufferUtils.createIntBuffer(1);
-                IntBuffer height = BufferUtils.createIntBuffer(1);
-                glfwGetWindowSize(Window.handle, width, height);
-                width.rewind();
-                height.rewind();
+            if (Window.handle != NULL) {
+                lwjglxSwitchWindow(mode, fullscreen, false);
+            }
+        }
+        displayFullscreen = fullscreen;
+    }
 
-                glfwDefaultWindowHints();
-                glfwWindowHint(GLFW_VISIBLE, displayVisible ? GL_TRUE : GL_FALSE);
-                glfwWindowHint(GLFW_RESIZABLE, displayResizable ? GL_TRUE : GL_FALSE);
-                glfwWindowHint(GLFW_OPENGL_DEBUG_CONTEXT, GL_TRUE);
-
-                if (LWJGLXHelper.resizeRecreateDisplay || LWJGLXHelper.attrRecreateDisplay) {
-                    if (fullscreen)
-                        newCurrentWindow(glfwCreateWindow(width.get(), height.get(), windowTitle,
-                                glfwGetPrimaryMonitor(), NULL));
-                    else
-                        newCurrentWindow(glfwCreateWindow(width.get(), height.get(), windowTitle, NULL, NULL));
-                } else {
-                    GLFW.glfwSetWindowSize(Window.handle, width.get(), height.get());
+    /**
+     * Move the window to the primary monitor or back to the desktop, and resize it to {@code dm}.
+     * <p>
+     * Switching is done in place with {@code glfwSetWindowMonitor} so the GL context and all its
+     * objects survive. The window is only recreated when fullscreen-recreate-display or
+     * resize-recreate-display ask for it, or when the platform refused the in place switch and
+     * attr-recreate-display allows recreating it as a fallback.
+     */
+    private static void lwjglxSwitchWindow(DisplayMode dm, boolean fullscreen, boolean attrChange) {
+        long monitor = glfwGetWindowMonitor(Window.handle);
+        boolean fullscreenChange = fullscreen != (monitor != NULL);
+        boolean recreate = LWJGLXHelper.resizeRecreateDisplay
+                || ((fullscreenChange || attrChange) && LWJGLXHelper.fullscreenRecreateDisplay);
+
+        if (!recreate) {
+            if (fullscreen) {
+                if (monitor == NULL) {
+                    IntBuffer width = BufferUtils.createIntBuffer(1);
+                    IntBuffer height = BufferUtils.createIntBuffer(1);
+                    glfwGetWindowSize(Window.handle, width, height);
+                    windowedX = displayX;
+                    windowedY = displayY;
+                    windowedWidth = width.get(0);
+                    windowedHeight = height.get(0);
+                }
+                long primary = glfwGetPrimaryMonitor();
+                glfwSetWindowMonitor(Window.handle, primary, 0, 0, dm.getWidth(), dm.getHeight(),
+                        dm.getFrequency() > 0 ? dm.getFrequency() : GLFW_DONT_CARE);
+                recreate = glfwGetWindowMonitor(Window.handle) != primary;
+            } else if (fullscreenChange) {
+                // Restore the position the window had, centered if it went fullscreen at creation
+                int x = windowedX, y = windowedY;
+                if (x == -1 || y == -1 || windowedWidth != dm.getWidth() || windowedHeight != dm.getHeight()) {
+                    x = (desktopDisplayMode.getWidth() - dm.getWidth()) / 2;
+                    y = (desktopDisplayMode.getHeight() - dm.getHeight()) / 2;
                 }
+                glfwSetWindowMonitor(Window.handle, NULL, x, y, dm.getWidth(), dm.getHeight(), GLFW_DONT_CARE);
+                recreate = glfwGetWindowMonitor(Window.handle) != NULL;
+            } else {
+                GLFW.glfwSetWindowSize(Window.handle, dm.getWidth(), dm.getHeight());
+            }
+            if (recreate && !LWJGLXHelper.attrRecreateDisplay) {
+                LWJGLUtil.log("Failed to switch the display mode in place, keeping the window");
+                recreate = false;
+            } else if (recreate) {
+                LWJGLUtil.log("Failed to switch the display mode in place, recreating the window");
             }
         }
-        displayFullscreen = fullscreen;
+
+        if (recreate) {
+            glfwDefaultWindowHints();
+            setWindowHints(displayVisible);
+            newCurrentWindow(glfwCreateWindow(dm.getWidth(), dm.getHeight(), windowTitle,
+                    fullscreen ? glfwGetPrimaryMonitor() : NULL, NULL));
+        }
     }
 
     public static boolean isFullscreen() {
@@ -1074,6 +1288,7 @@ public class Display {
 
     public static void releaseContext() throws LWJGLException {
         glfwMakeContextCurrent(0);
+        GLStateCache.invalidate();
     }
 
     public static boolean isCurrent() throws LWJGLException {
@@ -1104,8 +1319,54 @@ public class Display {
      *            - the desired frame rate, in frames per second
      */
     public static void sync(int fps) {
-        if (vsyncEnabled)
-            Sync.sync(fps);
+        lwjglxSync(fps);
+    }
+
+    /**
+     * Same as {@link #sync(int)}, accepting fractional frame rates such as 143.9
+     */
+    public static void lwjglxSync(double fps) {
+        if (vsyncEnabled) {
+            if (FrameTimings.enabled) {
+                long start = Sys.getNanoTime();
+                Sync.sync(fps);
+                FrameTimings.record(FrameTimings.SYNC, start);
+            } else {
+                Sync.sync(fps);
+            }
+        }
+    }
+
+    /**
+     * @return the histogram of the frame times measured by {@link #sync(int)}, in nanoseconds
+     */
+    public static LatencyHistogram lwjglxGetFrameTimes() {
+        return Sync.getFrameTimes();
+    }
+
+    /**
+     * @return the mean frame time measured by {@link #sync(int)}, in nanoseconds
+     */
+    public static double lwjglxGetFrameTimeMean() {
+        return Sync.getFrameTimeMean();
+    }
+
+    /**
+     * @return the standard deviation of the frame times measured by {@link #sync(int)}, in nanoseconds
+     */
+    public static double lwjglxGetFrameTimeJitter() {
+        return Sync.getFrameTimeJitter();
+    }
+
+    /**
+     * @return the 99th percentile of the frame times measured by {@link #sync(int)}, in nanoseconds
+     */
+    public static long lwjglxGetFrameTimeP99() {
+        return Sync.getFrameTimes().getP99();
+    }
+
+    public static void lwjglxResetFrameTimes() {
+        Sync.resetStatistics();
     }
 
     public static Drawable getDrawable() {
@@ -1120,6 +1381,8 @@ public class Display {
         if (Window.handle != MemoryUtil.NULL)
             glfwDestroyWindow(Window.handle);
         Window.handle = newWindow;
+        Keyboard.lwjglxResetKeyStates();
+        Mouse.lwjglxResetButtonStates();
         try {
             Mouse.setNativeCursor(Mouse.getCurrentCursor());
         } catch (LWJGLException e) {
@@ -1130,6 +1393,10 @@ public class Display {
         Window.setCallbacks();
 
         // glfwMakeContextCurrent(Window.handle);
+        GLStateCache.invalidate();
+        DisplayLists.contextLost();
+        MatrixStacks.contextLost();
+        ImmediateMode.contextLost();
         Objects.requireNonNull(org.lwjgl.opengl.GLContext.getCapabilities());
 
         glfwSwapInterval(0);
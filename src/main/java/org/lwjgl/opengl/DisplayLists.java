@@ -0,0 +1,582 @@
+package org.lwjgl.opengl;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+import org.lwjgl.system.LWJGLXHelper;
+
+/**
+ * Emulation of the {@link GL11} display lists: while enabled, a list compiled by {@code GL11.glNewList} is also
+ * compiled into an immutable vertex buffer object, replayed by {@code GL11.glCallList} and {@code glCallLists} with a
+ * few {@code glDrawArrays}.
+ * <p>
+ * A list is emulated when it only contains {@code GL11} immediate mode primitives, recorded by {@link ImmediateMode},
+ * matrix functions, applied by {@link MatrixStacks}, {@code glEnable}, {@code glDisable}, {@code glBindTexture} and
+ * calls of other lists. Every command is also compiled into the native list, which is kept instead when the list
+ * can't be emulated: a call of any other {@link GL11}, {@link GL15}, {@link GL20} or {@link ARBShaderObjects}
+ * wrapper keeps it, the commands of other classes must be preceded by {@link #compileNatively()}.
+ * Consecutive primitives of the same kind are drawn together. The unsafe {@code GL11.nglCallLists} and
+ * {@code glCallLists} with a type call the native lists.
+ * <p>
+ * List names still come from {@code GL11.glGenLists}. The drawing uses the fixed function vertex
+ * arrays, it needs a compatibility context. Not thread-safe, use it from the thread rendering with the
+ * Display context.
+ */
+public final class DisplayLists {
+    // Commands of an emulated list, each followed by its arguments
+    static final int DRAW = 0; // kind, first, count, attributes
+    static final int ENABLE = 1; // cap
+    static final int DISABLE = 2; // cap
+    static final int BIND_TEXTURE = 3; // target, texture
+    static final int CALL = 4; // list
+    static final int MATRIX_MODE = 5; // mode
+    static final int ACTIVE_TEXTURE = 6; // texture
+    static final int PUSH_MATRIX = 7;
+    static final int POP_MATRIX = 8;
+    static final int LOAD_IDENTITY = 9;
+    static final int LOAD_MATRIX = 10; // 16 float bits
+    static final int MULT_MATRIX = 11; // 16 float bits
+
+    private static final int MAX_NESTING = 64;
+
+    static boolean enabled = LWJGLXHelper.displayListEmulation;
+
+    /** The names of the emulated lists, 0 for a free slot, and the lists at the same index */
+    private static int[] names = new int[64];
+    private static CompiledList[] compiled = new CompiledList[64];
+    private static int listCount;
+    @Nullable
+    static Recording compiling;
+    /** The list ended by {@code GL11.glEndList}, before GL ended it */
+    @Nullable
+    private static Recording ended;
+    private static int nesting;
+    /** The {@code GL_LIST_BASE} set by {@code GL11.glListBase}, -1 when it must be queried */
+    static int listBase = -1;
+
+    private DisplayLists() {
+    }
+
+    public static void setEnabled(boolean enabled) {
+        if (compiling != null) throw new IllegalStateException("Display list compilation in progress");
+        DisplayLists.enabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return whether {@code list} is replayed from a vertex buffer object rather than by GL
+     */
+    public static boolean isEmulated(int list) {
+        return get(list) != null;
+    }
+
+    /**
+     * Keep the native list being compiled, to issue GL commands that can't be emulated
+     */
+    public static void compileNatively() {
+        if (compiling != null) compiling.unsupported = true;
+    }
+
+    /**
+     * Called by {@code GL11.glNewList} while enabled, after GL started the list
+     */
+    static void newList(int list, int mode) {
+        if (compiling != null) throw new IllegalStateException("glNewList inside glNewList");
+        compiling = new Recording(list, mode);
+        ImmediateMode.recording = compiling;
+        // The calls of the application to the GL wrappers can't be emulated
+        GLHooks.update();
+    }
+
+    /**
+     * Called by {@code GL11.glEndList} before its wrapper, the list is baked by {@link #endList()}
+     */
+    static void stopCompiling() {
+        if (ended != null) ended.free();
+        ended = compiling;
+        ImmediateMode.recording = null;
+        compiling = null;
+        GLHooks.update();
+    }
+
+    /**
+     * Called by {@code GL11.glEndList} after GL ended the list
+     */
+    static void endList() {
+        Recording recording = ended;
+        if (recording == null) return;
+        ended = null;
+        try {
+            // The tracked state doesn't know the commands compiled were not executed
+            GLStateCache.invalidate();
+
+            CompiledList previous = remove(recording.list);
+            if (previous != null) previous.destroy();
+            if (recording.unsupported || recording.commandCount == 0) return;
+
+            // The native list is kept for the native lists calling it
+            put(recording.list, recording.bake());
+        } finally {
+            recording.free();
+        }
+    }
+
+    /**
+     * Called by {@code GL11.glCallList} while compiling, or for an emulated list
+     */
+    static void callList(int list) {
+        if (compiling != null) {
+            compiling.addCommand(CALL, list);
+            GL11Direct.glCallList(list);
+            return;
+        }
+        ImmediateMode.flush();
+        call(list);
+    }
+
+    /**
+     * Called by {@code GL11.glCallLists} while enabled and not compiling
+     */
+    static void callLists(ByteBuffer lists) {
+        ImmediateMode.flush();
+        int base = listBase();
+        for (int i = lists.position(); i < lists.limit(); i++) {
+            call(base + (lists.get(i) & 0xFF));
+        }
+    }
+
+    static void callLists(ShortBuffer lists) {
+        ImmediateMode.flush();
+        int base = listBase();
+        for (int i = lists.position(); i < lists.limit(); i++) {
+            call(base + (lists.get(i) & 0xFFFF));
+        }
+    }
+
+    static void callLists(IntBuffer lists) {
+        ImmediateMode.flush();
+        int base = listBase();
+        for (int i = lists.position(); i < lists.limit(); i++) {
+            call(base + lists.get(i));
+        }
+    }
+
+    /**
+     * Called by {@code GL11.glDeleteLists}
+     */
+    static void deleteLists(int list, int range) {
+        if (listCount == 0) return;
+        if (range <= names.length) {
+            for (int i = 0; i < range; i++) {
+                CompiledList removed = remove(list + i);
+                if (removed != null) removed.destroy();
+            }
+            return;
+        }
+        for (int slot = 0; slot < names.length;) {
+            int name = names[slot];
+            if (name != 0 && name >= list && name - list < range) {
+                // The slot is filled again by a name moved back, or freed
+                remove(name).destroy();
+            } else {
+                slot++;
+            }
+        }
+    }
+
+    // Called by GL11.glEnable, glDisable and glBindTexture while compiling
+
+    static void enable(int cap) {
+        compiling.addCommand(ENABLE, cap);
+        // Bypass the GLStateCache, nothing is executed
+        GL11C.glEnable(cap);
+    }
+
+    static void disable(int cap) {
+        compiling.addCommand(DISABLE, cap);
+        GL11C.glDisable(cap);
+    }
+
+    static void bindTexture(int target, int texture) {
+        compiling.addCommand(BIND_TEXTURE, target, texture);
+        GL11C.glBindTexture(target, texture);
+    }
+
+    /**
+     * Delete the emulated lists while the Display context is still current
+     */
+    static void destroy() {
+        for (CompiledList list : compiled) {
+            if (list != null) list.destroy();
+        }
+        contextLost();
+    }
+
+    /**
+     * Forget the lists of a destroyed context
+     */
+    static void contextLost() {
+        Arrays.fill(names, 0);
+        Arrays.fill(compiled, null);
+        listCount = 0;
+        if (ended != null) {
+            ended.free();
+            ended = null;
+        }
+        if (compiling != null) {
+            compiling.free();
+            compiling = null;
+            ImmediateMode.recording = null;
+            GLHooks.update();
+        }
+        nesting = 0;
+        listBase = -1;
+    }
+
+    private static int listBase() {
+        if (listBase == -1) listBase = GL11C.glGetInteger(GL11.GL_LIST_BASE);
+        return listBase;
+    }
+
+    private static void call(int list) {
+        CompiledList emulated = get(list);
+        if (emulated == null) {
+            GL11.glCallList(list);
+            return;
+        }
+        // GL ignores the calls nested deeper than GL_MAX_LIST_NESTING
+        if (nesting == MAX_NESTING) return;
+        nesting++;
+        try {
+            emulated.execute();
+        } finally {
+            nesting--;
+        }
+    }
+
+    // The emulated lists are in an open addressing table, list names are never 0
+
+    @Nullable
+    static CompiledList get(int name) {
+        int mask = names.length - 1;
+        for (int slot = name & mask; names[slot] != 0; slot = (slot + 1) & mask) {
+            if (names[slot] == name) return compiled[slot];
+        }
+        return null;
+    }
+
+    static void put(int name, CompiledList list) {
+        if ((listCount + 1) * 2 > names.length) {
+            int[] oldNames = names;
+            CompiledList[] oldCompiled = compiled;
+            names = new int[oldNames.length * 2];
+            compiled = new CompiledList[oldNames.length * 2];
+            listCount = 0;
+            for (int i = 0; i < oldNames.length; i++) {
+                if (oldNames[i] != 0) put(oldNames[i], oldCompiled[i]);
+            }
+        }
+        int mask = names.length - 1;
+        int slot = name & mask;
+        while (names[slot] != 0 && names[slot] != name) {
+            slot = (slot + 1) & mask;
+        }
+        if (names[slot] == 0) listCount++;
+        names[slot] = name;
+        compiled[slot] = list;
+    }
+
+    /**
+     * @return the list removed, or null
+     */
+    @Nullable
+    static CompiledList remove(int name) {
+        int mask = names.length - 1;
+        int slot = name & mask;
+        while (names[slot] != name) {
+            if (names[slot] == 0) return null;
+            slot = (slot + 1) & mask;
+        }
+        CompiledList removed = compiled[slot];
+        // Move back the names after it that could not be found past a free slot
+        for (int next = (slot + 1) & mask; names[next] != 0; next = (next + 1) & mask) {
+            int home = names[next] & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                names[slot] = names[next];
+                compiled[slot] = compiled[next];
+                slot = next;
+            }
+        }
+        names[slot] = 0;
+        compiled[slot] = null;
+        listCount--;
+        return removed;
+    }
+
+    /**
+     * The commands and vertices of the list being compiled
+     */
+    static final class Recording {
+        final int list;
+        /** Whether GL executes the commands while compiling them */
+        final boolean execute;
+        /** Set when a command that can't be emulated was compiled */
+        boolean unsupported;
+
+        int[] commands = new int[16];
+        int commandCount;
+        /** The index of the last command if it is a DRAW that can be extended, or -1 */
+        private int lastDraw = -1;
+        /** The attributes given so far, the vertices before take the current ones when executed */
+        int attributes;
+
+        long vertices;
+        int vertexCount;
+        private int vertexCapacity;
+
+        Recording(int list, int mode) {
+            this.list = list;
+            this.execute = mode == GL11.GL_COMPILE_AND_EXECUTE;
+        }
+
+        /**
+         * @param partial whether vertices of the current primitive were given without the attribute
+         */
+        void use(int attribute, boolean partial) {
+            if ((attributes & attribute) != 0) return;
+            attributes |= attribute;
+            // The start of the primitive would need the current value when executed
+            if (partial) unsupported = true;
+        }
+
+        void addPrimitive(int kind, long primitive, int[] indices, int count) {
+            if (count == 0) return;
+            if (vertexCount + count > vertexCapacity) {
+                vertexCapacity = Math.max(vertexCount + count, Math.max(256, vertexCapacity * 2));
+                vertices = nmemRealloc(vertices, (long) vertexCapacity * ImmediateMode.VERTEX_SIZE);
+                if (vertices == NULL) throw new OutOfMemoryError();
+            }
+            for (int i = 0; i < count; i++) {
+                memCopy(primitive + (long) indices[i] * ImmediateMode.VERTEX_SIZE,
+                        vertices + (long) (vertexCount + i) * ImmediateMode.VERTEX_SIZE, ImmediateMode.VERTEX_SIZE);
+            }
+            addDraw(kind, count);
+        }
+
+        void addDraw(int kind, int count) {
+            if (lastDraw != -1 && commands[lastDraw + 1] == kind && commands[lastDraw + 4] == attributes) {
+                commands[lastDraw + 3] += count;
+            } else {
+                lastDraw = commandCount;
+                add(DRAW, kind, vertexCount, count, attributes);
+            }
+            vertexCount += count;
+        }
+
+        void addCommand(int command, int... arguments) {
+            lastDraw = -1;
+            add(command, arguments);
+        }
+
+        private void add(int command, int... arguments) {
+            if (commandCount + 1 + arguments.length > commands.length) {
+                int[] grown = new int[Math.max(commandCount + 1 + arguments.length, commands.length * 2)];
+                System.arraycopy(commands, 0, grown, 0, commandCount);
+                commands = grown;
+            }
+            commands[commandCount++] = command;
+            for (int argument : arguments) {
+                commands[commandCount++] = argument;
+            }
+        }
+
+        CompiledList bake() {
+            float[] current = new float[11];
+            ImmediateMode.getCurrent(current);
+            int[] baked = new int[commandCount];
+            System.arraycopy(commands, 0, baked, 0, commandCount);
+            if (vertexCount == 0) {
+                return new CompiledList(baked, attributes, current, 0, 0);
+            }
+
+            GLCapabilities caps = GL.getCapabilities();
+            long size = (long) vertexCount * ImmediateMode.VERTEX_SIZE;
+            int vbo = GL15C.glGenBuffers();
+            int vao = 0;
+            GL11.glPushClientAttrib(GL11.GL_CLIENT_VERTEX_ARRAY_BIT);
+            if (caps.OpenGL30 || caps.GL_ARB_vertex_array_object) {
+                vao = GL30C.glGenVertexArrays();
+                GL30C.glBindVertexArray(vao);
+            }
+            GL15C.glBindBuffer(GL15.GL_ARRAY_BUFFER, vbo);
+            if (caps.OpenGL44 || caps.GL_ARB_buffer_storage) {
+                GL44C.nglBufferStorage(GL15.GL_ARRAY_BUFFER, size, vertices, 0);
+            } else {
+                GL15C.nglBufferData(GL15.GL_ARRAY_BUFFER, size, vertices, GL15.GL_STATIC_DRAW);
+            }
+            if (vao != 0) {
+                CompiledList.setPointers();
+            }
+            GL11.glPopClientAttrib();
+            return new CompiledList(baked, attributes, current, vbo, vao);
+        }
+
+        void free() {
+            nmemFree(vertices);
+            vertices = NULL;
+        }
+    }
+
+    /**
+     * An emulated list, its vertices are in {@code vbo} and the fixed function arrays pointing at them
+     * in {@code vao}, when supported
+     */
+    static final class CompiledList {
+        final int[] commands;
+        /** The attributes given in the list, they are left current after it */
+        final int attributes;
+        final float[] current;
+        final int vbo;
+        final int vao;
+        /** The optional arrays enabled */
+        private int arrays;
+
+        CompiledList(int[] commands, int attributes, float[] current, int vbo, int vao) {
+            this.commands = commands;
+            this.attributes = attributes;
+            this.current = current;
+            this.vbo = vbo;
+            this.vao = vao;
+        }
+
+        void execute() {
+            boolean bound = false;
+            for (int i = 0; i < commands.length;) {
+                switch (commands[i]) {
+                    case DRAW:
+                        if (!bound) {
+                            bind();
+                            bound = true;
+                        }
+                        setArrays(commands[i + 4]);
+                        GL11.glDrawArrays(commands[i + 1], commands[i + 2], commands[i + 3]);
+                        i += 5;
+                        break;
+                    case ENABLE:
+                        GL11.glEnable(commands[i + 1]);
+                        i += 2;
+                        break;
+                    case DISABLE:
+                        GL11.glDisable(commands[i + 1]);
+                        i += 2;
+                        break;
+                    case BIND_TEXTURE:
+                        GL11.glBindTexture(commands[i + 1], commands[i + 2]);
+                        i += 3;
+                        break;
+                    case CALL:
+                        if (bound) {
+                            GL11.glPopClientAttrib();
+                            bound = false;
+                        }
+                        call(commands[i + 1]);
+                        i += 2;
+                        break;
+                    case MATRIX_MODE:
+                        MatrixStacks.glMatrixMode(commands[i + 1]);
+                        i += 2;
+                        break;
+                    case ACTIVE_TEXTURE:
+                        MatrixStacks.glActiveTexture(commands[i + 1]);
+                        i += 2;
+                        break;
+                    case PUSH_MATRIX:
+                        MatrixStacks.glPushMatrix();
+                        i++;
+                        break;
+                    case POP_MATRIX:
+                        MatrixStacks.glPopMatrix();
+                        i++;
+                        break;
+                    case LOAD_IDENTITY:
+                        MatrixStacks.glLoadIdentity();
+                        i++;
+                        break;
+                    case LOAD_MATRIX:
+                    case MULT_MATRIX:
+                        MatrixStacks.replay(commands, i + 1, commands[i] == MULT_MATRIX);
+                        i += 17;
+                        break;
+                    default:
+                        throw new IllegalStateException("Invalid display list command: " + commands[i]);
+                }
+            }
+            if (bound) {
+                GL11.glPopClientAttrib();
+            }
+            // The current values of the attributes drawn from arrays are undefined after the draw
+            if ((attributes & ImmediateMode.NORMAL) != 0) GL11.glNormal3f(current[0], current[1], current[2]);
+            if ((attributes & ImmediateMode.TEXCOORD) != 0) GL11.glTexCoord4f(current[3], current[4], current[5], current[6]);
+            if ((attributes & ImmediateMode.COLOR) != 0) GL11.glColor4f(current[7], current[8], current[9], current[10]);
+        }
+
+        private void bind() {
+            // Also saves the array buffer and vertex array object bindings
+            GL11.glPushClientAttrib(GL11.GL_CLIENT_VERTEX_ARRAY_BIT);
+            if (vao != 0) {
+                GL30C.glBindVertexArray(vao);
+                return;
+            }
+            GL15C.glBindBuffer(GL15.GL_ARRAY_BUFFER, vbo);
+            setPointers();
+            // The arrays enabled by the application were saved
+            GL11.glDisableClientState(GL11.GL_NORMAL_ARRAY);
+            GL11.glDisableClientState(GL11.GL_TEXTURE_COORD_ARRAY);
+            GL11.glDisableClientState(GL11.GL_COLOR_ARRAY);
+            arrays = 0;
+        }
+
+        private void setArrays(int attributes) {
+            int changed = arrays ^ attributes;
+            if (changed == 0) return;
+            if ((changed & ImmediateMode.NORMAL) != 0) setArray(GL11.GL_NORMAL_ARRAY, attributes & ImmediateMode.NORMAL);
+            if ((changed & ImmediateMode.TEXCOORD) != 0) setArray(GL11.GL_TEXTURE_COORD_ARRAY, attributes & ImmediateMode.TEXCOORD);
+            if ((changed & ImmediateMode.COLOR) != 0) setArray(GL11.GL_COLOR_ARRAY, attributes & ImmediateMode.COLOR);
+            arrays = attributes;
+        }
+
+        private static void setArray(int array, int enable) {
+            if (enable != 0) {
+                GL11.glEnableClientState(array);
+            } else {
+                GL11.glDisableClientState(array);
+            }
+        }
+
+        /**
+         * Point the fixed function arrays at the vertices in the bound buffer, the optional ones disabled
+         */
+        static void setPointers() {
+            int stride = ImmediateMode.VERTEX_SIZE;
+            GL11.glEnableClientState(GL11.GL_VERTEX_ARRAY);
+            GL11.glVertexPointer(4, GL11.GL_FLOAT, stride, ImmediateMode.POSITION_OFFSET);
+            GL11.glNormalPointer(GL11.GL_FLOAT, stride, ImmediateMode.NORMAL_OFFSET);
+            GL11.glTexCoordPointer(4, GL11.GL_FLOAT, stride, ImmediateMode.TEXCOORD_OFFSET);
+            GL11.glColorPointer(4, GL11.GL_UNSIGNED_BYTE, stride, ImmediateMode.COLOR_OFFSET);
+        }
+
+        void destroy() {
+            if (vao != 0) GL30C.glDeleteVertexArrays(vao);
+            if (vbo != 0) GL15C.glDeleteBuffers(vbo);
+        }
+    }
+}
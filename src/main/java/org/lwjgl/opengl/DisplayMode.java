@@ -140,8 +140,32 @@ public final class DisplayMode {
 		return sb.toString();
 	}
 
+	/**
+	 * Parse a fullscreen capable mode from {@code WIDTHxHEIGHT[xBPP][@FREQ]}, the format of
+	 * {@link #toString()} is accepted too.
+	 *
+	 * @throws IllegalArgumentException if {@code mode} isn't in this format
+	 */
+	static DisplayMode lwjglxParse(String mode) {
+		String spec = mode.replace(" ", "").toLowerCase(java.util.Locale.ROOT);
+		if (spec.endsWith("hz")) spec = spec.substring(0, spec.length() - 2);
+		int at = spec.indexOf('@');
+		String[] size = (at == -1 ? spec : spec.substring(0, at)).split("x");
+		try {
+			if (size.length < 2 || size.length > 3) throw new NumberFormatException();
+			int width = Integer.parseInt(size[0]);
+			int height = Integer.parseInt(size[1]);
+			int bpp = size.length == 3 ? Integer.parseInt(size[2]) : 24;
+			int freq = at == -1 ? 60 : Integer.parseInt(spec.substring(at + 1));
+			if (width <= 0 || height <= 0) throw new NumberFormatException();
+			return new DisplayMode(width, height, bpp, freq);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid display mode: " + mode);
+		}
+	}
+
 	boolean lwjglxAttrChange(DisplayMode obj) {
 		return obj.fullscreen != this.fullscreen ||
-				obj.freq != this.freq || obj.bpp != this.freq;
+				obj.freq != this.freq || obj.bpp != this.bpp;
 	}
 }
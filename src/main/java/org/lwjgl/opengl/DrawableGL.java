@@ -74,8 +74,7 @@ abstract class DrawableGL implements DrawableLWJGL {
 	public ContextGL createSharedContext() throws LWJGLException {
 		synchronized ( GlobalLock.lock ) {
 			checkDestroyed();
-			return new ContextGL(peer_info, context.getContextAttribs(), context);
-			// return null;
+			return ContextGL.createShared(context.getContextAttribs(), context);
 		}
 	}
 
@@ -128,13 +127,14 @@ abstract class DrawableGL implements DrawableLWJGL {
 			try {
 				releaseContext();
 
-				context.forceDestroy();
-				context = null;
-
+				// A Pbuffer deletes its objects in its context, before the context is destroyed
 				if ( peer_info != null ) {
 					peer_info.destroy();
 					peer_info = null;
 				}
+
+				context.forceDestroy();
+				context = null;
 			} catch (LWJGLException e) {
 				LWJGLUtil.log("Exception occurred while destroying Drawable: " + e);
 			}
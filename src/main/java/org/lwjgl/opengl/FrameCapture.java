@@ -0,0 +1,289 @@
+package org.lwjgl.opengl;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.imageio.ImageIO;
+
+import org.lwjgl.LWJGLUtil;
+
+/**
+ * Asynchronous capture of the frames presented by {@link Display#swapBuffers()}.
+ * <p>
+ * Before each swap, the back buffer is read into a ring of pixel buffer objects without waiting for
+ * the GPU, and the reads are mapped a frame or two later once they completed. Completed frames are
+ * copied to one of {@link #MAX_QUEUED_FRAMES} pooled buffers and written by a background encoder
+ * thread, as raw RGBA or PNG. When the GPU is {@link #READBACK_FRAMES} frames behind, or the encoder
+ * falls behind and every buffer is queued, frames are dropped instead of stalling the game, so the
+ * memory used stays bounded. Screenshots wait for a free read and a non-empty framebuffer instead.
+ * <p>
+ * Raw frames are written top row first, 4 bytes per pixel, with the size in the file name.
+ */
+public final class FrameCapture {
+    public enum Format {
+        RGBA("rgba"),
+        PNG("png");
+
+        final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    /** Number of frames the GPU may still be reading */
+    public static final int READBACK_FRAMES = 3;
+    /** Number of frames waiting for the encoder, at most */
+    public static final int MAX_QUEUED_FRAMES = 4;
+
+    /** Checked before each swap, true while a capture is running or reads are pending */
+    static volatile boolean active;
+
+    private static volatile File directory;
+    private static volatile Format format;
+    private static final ConcurrentLinkedQueue<Target> screenshots = new ConcurrentLinkedQueue<>();
+
+    // Only touched by the thread swapping the buffers
+    private static PixelReadback readback;
+    private static final ArrayDeque<Target> reads = new ArrayDeque<>();
+    private static long frameIndex;
+
+    private static final BlockingQueue<Frame> encodeQueue = new ArrayBlockingQueue<>(MAX_QUEUED_FRAMES);
+    private static final BlockingQueue<Frame> freeFrames = new ArrayBlockingQueue<>(MAX_QUEUED_FRAMES);
+    private static int allocatedFrames;
+    private static Thread encoder;
+
+    private static volatile long capturedCount;
+    private static volatile long droppedCount;
+    private static volatile long failedCount;
+
+    private FrameCapture() {
+    }
+
+    /**
+     * Capture every frame to {@code directory}, until {@link #stop()}
+     */
+    public static void start(File directory, Format format) {
+        if (!directory.isDirectory() && !directory.mkdirs())
+            throw new IllegalArgumentException("Not a directory: " + directory);
+        FrameCapture.format = format;
+        FrameCapture.directory = directory;
+        active = true;
+    }
+
+    /**
+     * Stop capturing every frame, the reads in flight are still written
+     */
+    public static void stop() {
+        directory = null;
+    }
+
+    public static boolean isCapturing() {
+        return directory != null;
+    }
+
+    /**
+     * Capture the next frame to {@code file}
+     */
+    public static void screenshot(File file, Format format) {
+        screenshots.add(new Target(file, format));
+        active = true;
+    }
+
+    /**
+     * @return the number of frames written
+     */
+    public static long getCapturedCount() {
+        return capturedCount;
+    }
+
+    /**
+     * @return the number of frames dropped because the GPU or the encoder was behind
+     */
+    public static long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * @return the number of frames that couldn't be written
+     */
+    public static long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Called before the buffers are swapped, with the Display context current
+     */
+    static void capture(int width, int height) {
+        if (readback == null) {
+            readback = new PixelReadback(READBACK_FRAMES, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, 4);
+        }
+
+        // Nothing can be read from a minimized window, screenshots wait until it is restored
+        if (width > 0 && height > 0) {
+            File dir = directory;
+            if (readback.isFull()) {
+                // The GPU is a whole ring behind, drop the frame rather than wait for it. Screenshots
+                // wait for a free read.
+                if (dir != null) {
+                    frameIndex++;
+                    droppedCount++;
+                }
+            } else {
+                Target target = screenshots.poll();
+                if (target == null && dir != null) {
+                    Format f = format;
+                    target = new Target(new File(dir, String.format("frame-%06d-%dx%d.%s", frameIndex++, width, height, f.extension)), f);
+                }
+                if (target != null) {
+                    readback.read(0, GL11.GL_BACK, 0, 0, width, height);
+                    reads.add(target);
+                }
+            }
+        }
+
+        while (readback.isComplete(0)) {
+            complete();
+        }
+
+        if (readback.getPending() == 0 && directory == null && screenshots.isEmpty()) {
+            active = false;
+            // start() and screenshot() set active after their request, check again for one made meanwhile
+            if (directory != null || !screenshots.isEmpty()) {
+                active = true;
+            } else {
+                readback.destroy();
+                readback = null;
+            }
+        }
+    }
+
+    /**
+     * Write the reads in flight and free the buffer objects, with the Display context current
+     */
+    static void destroy() {
+        if (readback == null) return;
+        while (readback.getPending() > 0) {
+            complete();
+        }
+        readback.destroy();
+        readback = null;
+        active = directory != null || !screenshots.isEmpty();
+    }
+
+    /**
+     * Map the oldest read and queue it for encoding
+     */
+    private static void complete() {
+        Target target = reads.remove();
+        int width = readback.getWidth();
+        int height = readback.getHeight();
+        Frame frame = freeFrames.poll();
+        if (frame == null && allocatedFrames < MAX_QUEUED_FRAMES) {
+            allocatedFrames++;
+            frame = new Frame();
+        }
+        if (frame == null) {
+            readback.skip();
+            droppedCount++;
+            return;
+        }
+
+        ByteBuffer pixels = readback.map();
+        int size = width * height * 4;
+        if (frame.pixels == null || frame.pixels.length != size) {
+            frame.pixels = new byte[size];
+        }
+        pixels.get(frame.pixels, 0, size);
+        readback.unmap();
+
+        frame.width = width;
+        frame.height = height;
+        frame.target = target;
+        startEncoder();
+        encodeQueue.add(frame);
+    }
+
+    private static void startEncoder() {
+        if (encoder != null) return;
+        encoder = new Thread(FrameCapture::encodeLoop, "LWJGLX Frame Capture");
+        encoder.setDaemon(true);
+        encoder.start();
+    }
+
+    private static void encodeLoop() {
+        while (true) {
+            Frame frame;
+            try {
+                frame = encodeQueue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                encode(frame);
+                capturedCount++;
+            } catch (IOException e) {
+                failedCount++;
+                LWJGLUtil.log("Failed to write captured frame " + frame.target.file + ": " + e);
+            } finally {
+                freeFrames.add(frame);
+            }
+        }
+    }
+
+    private static void encode(Frame frame) throws IOException {
+        if (frame.target.format == Format.PNG) {
+            ImageIO.write(toImage(frame.pixels, frame.width, frame.height), "png", frame.target.file);
+            return;
+        }
+        int stride = frame.width * 4;
+        try (OutputStream out = new FileOutputStream(frame.target.file)) {
+            // GL rows go from the bottom to the top
+            for (int y = frame.height - 1; y >= 0; y--) {
+                out.write(frame.pixels, y * stride, stride);
+            }
+        }
+    }
+
+    /**
+     * @param rgba the pixels as read by {@code glReadPixels}, bottom row first
+     */
+    static BufferedImage toImage(byte[] rgba, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        for (int y = 0; y < height; y++) {
+            int src = (height - 1 - y) * width * 4;
+            int dst = y * width;
+            for (int x = 0; x < width; x++, src += 4) {
+                pixels[dst + x] = (rgba[src] & 0xFF) << 16 | (rgba[src + 1] & 0xFF) << 8 | (rgba[src + 2] & 0xFF);
+            }
+        }
+        return image;
+    }
+
+    private static final class Target {
+        final File file;
+        final Format format;
+
+        Target(File file, Format format) {
+            this.file = file;
+            this.format = format;
+        }
+    }
+
+    private static final class Frame {
+        byte[] pixels;
+        int width;
+        int height;
+        Target target;
+    }
+}
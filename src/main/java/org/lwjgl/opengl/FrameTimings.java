@@ -0,0 +1,171 @@
+package org.lwjgl.opengl;
+
+import java.util.Arrays;
+
+import org.lwjgl.Sys;
+import org.lwjgl.system.LWJGLXHelper;
+
+/**
+ * Per-frame timing breakdown of {@link Display}, recorded in a fixed ring of primitive samples.
+ * <p>
+ * A frame goes from one {@link Display#update()} to the next, and the time spent in
+ * {@link Display#swapBuffers()}, {@code glfwPollEvents()}, the keyboard and mouse polls
+ * and {@link Display#sync(int)} during it is recorded next to the total frame time.
+ * When disabled, the only cost is a static boolean check per phase.
+ * <p>
+ * Samples are written by the thread calling {@code Display.update()}, a {@link Snapshot}
+ * taken from another thread may contain a partially written frame.
+ */
+public class FrameTimings {
+    /** Time between the start of two consecutive {@code Display.update()} */
+    public static final int FRAME = 0;
+    public static final int SWAP_BUFFERS = 1;
+    public static final int POLL_EVENTS = 2;
+    /** Time spent in {@code Keyboard.poll()} and {@code Mouse.poll()} */
+    public static final int INPUT_POLL = 3;
+    public static final int SYNC = 4;
+    public static final int PHASE_COUNT = 5;
+
+    /** Number of frames kept in the ring */
+    public static final int CAPACITY = 1024;
+
+    static boolean enabled = LWJGLXHelper.frameTimings;
+
+    private static final long[] samples = new long[CAPACITY * PHASE_COUNT];
+    /** The phases of the frame in progress */
+    private static final long[] current = new long[PHASE_COUNT];
+    private static long frameStart;
+    private static volatile long frameCount;
+
+    private FrameTimings() {
+    }
+
+    public static void setEnabled(boolean enabled) {
+        FrameTimings.enabled = enabled;
+        frameStart = 0;
+        Arrays.fill(current, 0);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the number of frames recorded since the start, only the last {@link #CAPACITY} are kept
+     */
+    public static long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Close the frame in progress, called at the start of {@code Display.update()}
+     */
+    static void beginFrame(long now) {
+        if (frameStart != 0) {
+            current[FRAME] = now - frameStart;
+            long frame = frameCount;
+            System.arraycopy(current, 0, samples, (int) (frame % CAPACITY) * PHASE_COUNT, PHASE_COUNT);
+            frameCount = frame + 1;
+        }
+        Arrays.fill(current, 0);
+        frameStart = now;
+    }
+
+    /**
+     * Add the time elapsed since {@code start} to {@code phase} of the frame in progress
+     *
+     * @return the current time
+     */
+    static long record(int phase, long start) {
+        long now = Sys.getNanoTime();
+        current[phase] += now - start;
+        return now;
+    }
+
+    public static Snapshot snapshot() {
+        return snapshot(CAPACITY);
+    }
+
+    /**
+     * Copy the timings of the last {@code frames} frames
+     */
+    public static Snapshot snapshot(int frames) {
+        long count = frameCount;
+        int size = (int) Math.min(Math.min(frames, CAPACITY), count);
+        long[] copy = new long[size * PHASE_COUNT];
+        for (int i = 0; i < size; i++) {
+            int frame = (int) ((count - size + i) % CAPACITY);
+            System.arraycopy(samples, frame * PHASE_COUNT, copy, i * PHASE_COUNT, PHASE_COUNT);
+        }
+        return new Snapshot(copy, size);
+    }
+
+    /**
+     * The timings of consecutive frames, oldest first, in nanoseconds.
+     */
+    public static class Snapshot {
+        private final long[] samples;
+        private final int frames;
+        private final long[][] sorted = new long[PHASE_COUNT][];
+
+        Snapshot(long[] samples, int frames) {
+            this.samples = samples;
+            this.frames = frames;
+        }
+
+        public int getFrameCount() {
+            return frames;
+        }
+
+        /**
+         * @param frame index of the frame, 0 being the oldest
+         * @param phase one of {@link #FRAME}, {@link #SWAP_BUFFERS}, {@link #POLL_EVENTS},
+         *              {@link #INPUT_POLL} or {@link #SYNC}
+         */
+        public long getSample(int frame, int phase) {
+            if (frame < 0 || frame >= frames)
+                throw new IndexOutOfBoundsException("Frame: " + frame + ", Size: " + frames);
+            return samples[frame * PHASE_COUNT + phase];
+        }
+
+        /**
+         * @param percentile between 0 and 100
+         * @return the value {@code percentile} percent of the frames are lower or equal to for {@code phase}
+         */
+        public long getPercentile(int phase, double percentile) {
+            if (frames == 0) return 0;
+            long[] values = sorted[phase];
+            if (values == null) {
+                values = new long[frames];
+                for (int i = 0; i < frames; i++) {
+                    values[i] = samples[i * PHASE_COUNT + phase];
+                }
+                Arrays.sort(values);
+                sorted[phase] = values;
+            }
+            int rank = (int) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * frames);
+            return values[Math.max(rank, 1) - 1];
+        }
+
+        public double getMean(int phase) {
+            if (frames == 0) return 0;
+            long total = 0;
+            for (int i = 0; i < frames; i++) {
+                total += samples[i * PHASE_COUNT + phase];
+            }
+            return (double) total / frames;
+        }
+
+        public long getMax(int phase) {
+            return getPercentile(phase, 100);
+        }
+
+        /**
+         * @return the average frame rate over the snapshot
+         */
+        public double getFps() {
+            double mean = getMean(FRAME);
+            return mean == 0 ? 0 : 1e9 / mean;
+        }
+    }
+}
@@ -2,6 +2,7 @@
  * Copyright LWJGL. All rights reserved.
  * License terms: https://www.lwjgl.org/license
  * MACHINE GENERATED FILE, DO NOT EDIT
+ * Instrumented by tools/InstrumentGL.java, see tools/gl-hooks.txt
  */
 package org.lwjgl.opengl;
 
@@ -997,7 +998,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glEnable">Reference Page</a>
      */
     public static void glEnable(@NativeType("GLenum") int target) {
-        GL11C.glEnable(target);
+        if (DisplayLists.compiling != null) {
+            DisplayLists.enable(target);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            if (GLStateCache.enabled && !GLStateCache.setCapability(target, true)) return;
+            GL11C.glEnable(target);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEnable", start);
+        }
     }
 
     // --- [ glDisable ] ---
@@ -1010,7 +1021,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDisable">Reference Page</a>
      */
     public static void glDisable(@NativeType("GLenum") int target) {
-        GL11C.glDisable(target);
+        if (DisplayLists.compiling != null) {
+            DisplayLists.disable(target);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            if (GLStateCache.enabled && !GLStateCache.setCapability(target, false)) return;
+            GL11C.glDisable(target);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDisable", start);
+        }
     }
 
     // --- [ glAccum ] ---
@@ -1024,7 +1045,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glAccum">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glAccum(@NativeType("GLenum") int op, @NativeType("GLfloat") float value);
+    public static void glAccum(@NativeType("GLenum") int op, @NativeType("GLfloat") float value) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glAccum;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(op, value, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glAccum", start);
+        }
+    }
 
     // --- [ glAlphaFunc ] ---
 
@@ -1038,7 +1070,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glAlphaFunc">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glAlphaFunc(@NativeType("GLenum") int func, @NativeType("GLfloat") float ref);
+    public static void glAlphaFunc(@NativeType("GLenum") int func, @NativeType("GLfloat") float ref) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glAlphaFunc;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(func, ref, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glAlphaFunc", start);
+        }
+    }
 
     // --- [ glAreTexturesResident ] ---
 
@@ -1099,7 +1142,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glArrayElement">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glArrayElement(@NativeType("GLint") int i);
+    public static void glArrayElement(@NativeType("GLint") int i) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glArrayElement;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(i, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glArrayElement", start);
+        }
+    }
 
     // --- [ glBegin ] ---
 
@@ -1110,7 +1164,23 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glBegin">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glBegin(@NativeType("GLenum") int mode);
+    public static void glBegin(@NativeType("GLenum") int mode) {
+        if (ImmediateMode.capturesBegin()) {
+            ImmediateMode.begin(mode);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glBegin;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(mode, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBegin", start);
+        }
+    }
 
     // --- [ glBindTexture ] ---
 
@@ -1127,13 +1197,33 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBindTexture">Reference Page</a>
      */
     public static void glBindTexture(@NativeType("GLenum") int target, @NativeType("GLuint") int texture) {
-        GL11C.glBindTexture(target, texture);
+        if (DisplayLists.compiling != null) {
+            DisplayLists.bindTexture(target, texture);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            GL11C.glBindTexture(target, texture);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBindTexture", start);
+        }
     }
 
     // --- [ glBitmap ] ---
 
     /** Unsafe version of: {@link #glBitmap Bitmap} */
-    public static native void nglBitmap(int w, int h, float xOrig, float yOrig, float xInc, float yInc, long data);
+    public static void nglBitmap(int w, int h, float xOrig, float yOrig, float xInc, float yInc, long data) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glBitmap;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(w, h, xOrig, yOrig, xInc, yInc, data, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBitmap", start);
+        }
+    }
 
     /**
      * Sents a bitmap to the GL. Bitmaps are rectangles of zeros and ones specifying a particular pattern of fragments to be produced. Each of these fragments
@@ -1150,10 +1240,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glBitmap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glBitmap(@NativeType("GLsizei") int w, @NativeType("GLsizei") int h, @NativeType("GLfloat") float xOrig, @NativeType("GLfloat") float yOrig, @NativeType("GLfloat") float xInc, @NativeType("GLfloat") float yInc, @Nullable @NativeType("GLubyte const *") ByteBuffer data) {
-        if (CHECKS) {
-            checkSafe(data, ((w + 7) >> 3) * h);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                checkSafe(data, ((w + 7) >> 3) * h);
+            }
+            nglBitmap(w, h, xOrig, yOrig, xInc, yInc, memAddressSafe(data));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBitmap", start);
         }
-        nglBitmap(w, h, xOrig, yOrig, xInc, yInc, memAddressSafe(data));
     }
 
     /**
@@ -1171,7 +1266,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glBitmap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glBitmap(@NativeType("GLsizei") int w, @NativeType("GLsizei") int h, @NativeType("GLfloat") float xOrig, @NativeType("GLfloat") float yOrig, @NativeType("GLfloat") float xInc, @NativeType("GLfloat") float yInc, @Nullable @NativeType("GLubyte const *") long data) {
-        nglBitmap(w, h, xOrig, yOrig, xInc, yInc, data);
+        long start = GLHooks.enter();
+        try {
+            nglBitmap(w, h, xOrig, yOrig, xInc, yInc, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBitmap", start);
+        }
     }
 
     // --- [ glBlendFunc ] ---
@@ -1185,7 +1285,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBlendFunc">Reference Page</a>
      */
     public static void glBlendFunc(@NativeType("GLenum") int sfactor, @NativeType("GLenum") int dfactor) {
-        GL11C.glBlendFunc(sfactor, dfactor);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glBlendFunc(sfactor, dfactor);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBlendFunc", start);
+        }
     }
 
     // --- [ glCallList ] ---
@@ -1197,7 +1302,26 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glCallList">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glCallList(@NativeType("GLuint") int list);
+    public static void glCallList(@NativeType("GLuint") int list) {
+        if (DisplayLists.compiling != null || DisplayLists.enabled && DisplayLists.isEmulated(list)) {
+            DisplayLists.callList(list);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glCallList;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(list, __functionAddress);
+            // The list may change tracked state
+            GLStateCache.invalidate();
+            DisplayLists.listBase = -1;
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCallList", start);
+        }
+    }
 
     // --- [ glCallLists ] ---
 
@@ -1207,7 +1331,19 @@ public class GL11 {
      * @param n    the number of display lists to be called
      * @param type the data type of each element in {@code lists}. One of:<br><table><tr><td>{@link #GL_BYTE BYTE}</td><td>{@link #GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link #GL_SHORT SHORT}</td><td>{@link #GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link #GL_INT INT}</td><td>{@link #GL_UNSIGNED_INT UNSIGNED_INT}</td><td>{@link #GL_FLOAT FLOAT}</td><td>{@link #GL_2_BYTES 2_BYTES}</td><td>{@link #GL_3_BYTES 3_BYTES}</td><td>{@link #GL_4_BYTES 4_BYTES}</td></tr></table>
      */
-    public static native void nglCallLists(int n, int type, long lists);
+    public static void nglCallLists(int n, int type, long lists) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glCallLists;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(n, type, lists, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCallLists", start);
+        }
+    }
 
     /**
      * Provides an efficient means for executing a number of display lists.
@@ -1218,7 +1354,14 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glCallLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glCallLists(@NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer lists) {
-        nglCallLists(lists.remaining() / GLChecks.typeToBytes(type), type, memAddress(lists));
+        long start = GLHooks.enter();
+        try {
+            nglCallLists(lists.remaining() / GLChecks.typeToBytes(type), type, memAddress(lists));
+            GLStateCache.invalidate();
+            DisplayLists.listBase = -1;
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCallLists", start);
+        }
     }
 
     /**
@@ -1229,7 +1372,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glCallLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glCallLists(@NativeType("void const *") ByteBuffer lists) {
-        nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(lists));
+        if (DisplayLists.enabled && DisplayLists.compiling == null) {
+            DisplayLists.callLists(lists);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_BYTE, memAddress(lists));
+            GLStateCache.invalidate();
+            DisplayLists.listBase = -1;
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCallLists", start);
+        }
     }
 
     /**
@@ -1240,7 +1394,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glCallLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glCallLists(@NativeType("void const *") ShortBuffer lists) {
-        nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(lists));
+        if (DisplayLists.enabled && DisplayLists.compiling == null) {
+            DisplayLists.callLists(lists);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_SHORT, memAddress(lists));
+            GLStateCache.invalidate();
+            DisplayLists.listBase = -1;
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCallLists", start);
+        }
     }
 
     /**
@@ -1251,7 +1416,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glCallLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glCallLists(@NativeType("void const *") IntBuffer lists) {
-        nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_INT, memAddress(lists));
+        if (DisplayLists.enabled && DisplayLists.compiling == null) {
+            DisplayLists.callLists(lists);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            nglCallLists(lists.remaining(), GL11.GL_UNSIGNED_INT, memAddress(lists));
+            GLStateCache.invalidate();
+            DisplayLists.listBase = -1;
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCallLists", start);
+        }
     }
 
     // --- [ glClear ] ---
@@ -1265,7 +1441,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClear">Reference Page</a>
      */
     public static void glClear(@NativeType("GLbitfield") int mask) {
-        GL11C.glClear(mask);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glClear(mask);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glClear", start);
+        }
     }
 
     // --- [ glClearAccum ] ---
@@ -1280,7 +1461,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glClearAccum">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glClearAccum(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue, @NativeType("GLfloat") float alpha);
+    public static void glClearAccum(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue, @NativeType("GLfloat") float alpha) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glClearAccum;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glClearAccum", start);
+        }
+    }
 
     // --- [ glClearColor ] ---
 
@@ -1295,7 +1487,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearColor">Reference Page</a>
      */
     public static void glClearColor(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue, @NativeType("GLfloat") float alpha) {
-        GL11C.glClearColor(red, green, blue, alpha);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glClearColor(red, green, blue, alpha);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glClearColor", start);
+        }
     }
 
     // --- [ glClearDepth ] ---
@@ -1309,7 +1506,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearDepth">Reference Page</a>
      */
     public static void glClearDepth(@NativeType("GLdouble") double depth) {
-        GL11C.glClearDepth(depth);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glClearDepth(depth);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glClearDepth", start);
+        }
     }
 
     // --- [ glClearIndex ] ---
@@ -1323,7 +1525,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glClearIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glClearIndex(@NativeType("GLfloat") float index);
+    public static void glClearIndex(@NativeType("GLfloat") float index) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glClearIndex;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glClearIndex", start);
+        }
+    }
 
     // --- [ glClearStencil ] ---
 
@@ -1335,13 +1548,31 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glClearStencil">Reference Page</a>
      */
     public static void glClearStencil(@NativeType("GLint") int s) {
-        GL11C.glClearStencil(s);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glClearStencil(s);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glClearStencil", start);
+        }
     }
 
     // --- [ glClipPlane ] ---
 
     /** Unsafe version of: {@link #glClipPlane ClipPlane} */
-    public static native void nglClipPlane(int plane, long equation);
+    public static void nglClipPlane(int plane, long equation) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glClipPlane;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(plane, equation, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glClipPlane", start);
+        }
+    }
 
     /**
      * Specifies a client-defined clip plane.
@@ -1356,10 +1587,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glClipPlane">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glClipPlane(@NativeType("GLenum") int plane, @NativeType("GLdouble const *") DoubleBuffer equation) {
-        if (CHECKS) {
-            check(equation, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(equation, 4);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglClipPlane(plane, memAddress(equation));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glClipPlane", start);
         }
-        nglClipPlane(plane, memAddress(equation));
     }
 
     // --- [ glColor3b ] ---
@@ -1373,7 +1611,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3b(@NativeType("GLbyte") byte red, @NativeType("GLbyte") byte green, @NativeType("GLbyte") byte blue);
+    public static void glColor3b(@NativeType("GLbyte") byte red, @NativeType("GLbyte") byte green, @NativeType("GLbyte") byte blue) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(ImmediateMode.signed(red), ImmediateMode.signed(green), ImmediateMode.signed(blue), 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3b;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3b", start);
+        }
+    }
 
     // --- [ glColor3s ] ---
 
@@ -1386,7 +1639,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3s(@NativeType("GLshort") short red, @NativeType("GLshort") short green, @NativeType("GLshort") short blue);
+    public static void glColor3s(@NativeType("GLshort") short red, @NativeType("GLshort") short green, @NativeType("GLshort") short blue) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(ImmediateMode.signed(red), ImmediateMode.signed(green), ImmediateMode.signed(blue), 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3s", start);
+        }
+    }
 
     // --- [ glColor3i ] ---
 
@@ -1399,7 +1667,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3i(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue);
+    public static void glColor3i(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(ImmediateMode.signed(red), ImmediateMode.signed(green), ImmediateMode.signed(blue), 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3i", start);
+        }
+    }
 
     // --- [ glColor3f ] ---
 
@@ -1412,7 +1695,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3f(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue);
+    public static void glColor3f(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(red, green, blue, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3f", start);
+        }
+    }
 
     // --- [ glColor3d ] ---
 
@@ -1425,7 +1723,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3d(@NativeType("GLdouble") double red, @NativeType("GLdouble") double green, @NativeType("GLdouble") double blue);
+    public static void glColor3d(@NativeType("GLdouble") double red, @NativeType("GLdouble") double green, @NativeType("GLdouble") double blue) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(red, green, blue, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3d", start);
+        }
+    }
 
     // --- [ glColor3ub ] ---
 
@@ -1438,7 +1751,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3ub(@NativeType("GLubyte") byte red, @NativeType("GLubyte") byte green, @NativeType("GLubyte") byte blue);
+    public static void glColor3ub(@NativeType("GLubyte") byte red, @NativeType("GLubyte") byte green, @NativeType("GLubyte") byte blue) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(ImmediateMode.unsigned(red), ImmediateMode.unsigned(green), ImmediateMode.unsigned(blue), 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3ub;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3ub", start);
+        }
+    }
 
     // --- [ glColor3us ] ---
 
@@ -1451,7 +1779,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3us(@NativeType("GLushort") short red, @NativeType("GLushort") short green, @NativeType("GLushort") short blue);
+    public static void glColor3us(@NativeType("GLushort") short red, @NativeType("GLushort") short green, @NativeType("GLushort") short blue) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(ImmediateMode.unsigned(red), ImmediateMode.unsigned(green), ImmediateMode.unsigned(blue), 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3us;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3us", start);
+        }
+    }
 
     // --- [ glColor3ui ] ---
 
@@ -1464,12 +1807,38 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor3ui(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue);
+    public static void glColor3ui(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(ImmediateMode.unsigned(red), ImmediateMode.unsigned(green), ImmediateMode.unsigned(blue), 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3ui;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3ui", start);
+        }
+    }
 
     // --- [ glColor3bv ] ---
 
     /** Unsafe version of: {@link #glColor3bv Color3bv} */
-    public static native void nglColor3bv(long v);
+    public static void nglColor3bv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3bv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3bv", start);
+        }
+    }
 
     /**
      * Byte pointer version of {@link #glColor3b Color3b}.
@@ -1479,16 +1848,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3bv(@NativeType("GLbyte const *") ByteBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3bv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3bv", start);
         }
-        nglColor3bv(memAddress(v));
     }
 
     // --- [ glColor3sv ] ---
 
     /** Unsafe version of: {@link #glColor3sv Color3sv} */
-    public static native void nglColor3sv(long v);
+    public static void nglColor3sv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3sv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3s Color3s}.
@@ -1498,16 +1883,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3sv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3sv", start);
         }
-        nglColor3sv(memAddress(v));
     }
 
     // --- [ glColor3iv ] ---
 
     /** Unsafe version of: {@link #glColor3iv Color3iv} */
-    public static native void nglColor3iv(long v);
+    public static void nglColor3iv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3iv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3i Color3i}.
@@ -1517,16 +1918,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3iv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3iv", start);
         }
-        nglColor3iv(memAddress(v));
     }
 
     // --- [ glColor3fv ] ---
 
     /** Unsafe version of: {@link #glColor3fv Color3fv} */
-    public static native void nglColor3fv(long v);
+    public static void nglColor3fv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3f Color3f}.
@@ -1536,16 +1953,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3fv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3fv", start);
         }
-        nglColor3fv(memAddress(v));
     }
 
     // --- [ glColor3dv ] ---
 
     /** Unsafe version of: {@link #glColor3dv Color3dv} */
-    public static native void nglColor3dv(long v);
+    public static void nglColor3dv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3d Color3d}.
@@ -1555,16 +1988,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3dv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3dv", start);
         }
-        nglColor3dv(memAddress(v));
     }
 
     // --- [ glColor3ubv ] ---
 
     /** Unsafe version of: {@link #glColor3ubv Color3ubv} */
-    public static native void nglColor3ubv(long v);
+    public static void nglColor3ubv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3ubv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3ubv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3ub Color3ub}.
@@ -1574,16 +2023,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3ubv(@NativeType("GLubyte const *") ByteBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3ubv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3ubv", start);
         }
-        nglColor3ubv(memAddress(v));
     }
 
     // --- [ glColor3usv ] ---
 
     /** Unsafe version of: {@link #glColor3usv Color3usv} */
-    public static native void nglColor3usv(long v);
+    public static void nglColor3usv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3usv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3usv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3us Color3us}.
@@ -1593,16 +2058,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3usv(@NativeType("GLushort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3usv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3usv", start);
         }
-        nglColor3usv(memAddress(v));
     }
 
     // --- [ glColor3uiv ] ---
 
     /** Unsafe version of: {@link #glColor3uiv Color3uiv} */
-    public static native void nglColor3uiv(long v);
+    public static void nglColor3uiv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3uiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3uiv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor3ui Color3ui}.
@@ -1612,10 +2093,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3uiv(@NativeType("GLuint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglColor3uiv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3uiv", start);
         }
-        nglColor3uiv(memAddress(v));
     }
 
     // --- [ glColor4b ] ---
@@ -1630,7 +2116,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4b(@NativeType("GLbyte") byte red, @NativeType("GLbyte") byte green, @NativeType("GLbyte") byte blue, @NativeType("GLbyte") byte alpha);
+    public static void glColor4b(@NativeType("GLbyte") byte red, @NativeType("GLbyte") byte green, @NativeType("GLbyte") byte blue, @NativeType("GLbyte") byte alpha) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(ImmediateMode.signed(red), ImmediateMode.signed(green), ImmediateMode.signed(blue), ImmediateMode.signed(alpha));
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4b;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4b", start);
+        }
+    }
 
     // --- [ glColor4s ] ---
 
@@ -1644,7 +2145,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4s(@NativeType("GLshort") short red, @NativeType("GLshort") short green, @NativeType("GLshort") short blue, @NativeType("GLshort") short alpha);
+    public static void glColor4s(@NativeType("GLshort") short red, @NativeType("GLshort") short green, @NativeType("GLshort") short blue, @NativeType("GLshort") short alpha) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(ImmediateMode.signed(red), ImmediateMode.signed(green), ImmediateMode.signed(blue), ImmediateMode.signed(alpha));
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4s", start);
+        }
+    }
 
     // --- [ glColor4i ] ---
 
@@ -1658,7 +2174,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4i(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue, @NativeType("GLint") int alpha);
+    public static void glColor4i(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue, @NativeType("GLint") int alpha) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(ImmediateMode.signed(red), ImmediateMode.signed(green), ImmediateMode.signed(blue), ImmediateMode.signed(alpha));
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4i", start);
+        }
+    }
 
     // --- [ glColor4f ] ---
 
@@ -1672,7 +2203,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4f(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue, @NativeType("GLfloat") float alpha);
+    public static void glColor4f(@NativeType("GLfloat") float red, @NativeType("GLfloat") float green, @NativeType("GLfloat") float blue, @NativeType("GLfloat") float alpha) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(red, green, blue, alpha);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4f", start);
+        }
+    }
 
     // --- [ glColor4d ] ---
 
@@ -1686,7 +2232,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4d(@NativeType("GLdouble") double red, @NativeType("GLdouble") double green, @NativeType("GLdouble") double blue, @NativeType("GLdouble") double alpha);
+    public static void glColor4d(@NativeType("GLdouble") double red, @NativeType("GLdouble") double green, @NativeType("GLdouble") double blue, @NativeType("GLdouble") double alpha) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(red, green, blue, alpha);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4d", start);
+        }
+    }
 
     // --- [ glColor4ub ] ---
 
@@ -1700,7 +2261,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4ub(@NativeType("GLubyte") byte red, @NativeType("GLubyte") byte green, @NativeType("GLubyte") byte blue, @NativeType("GLubyte") byte alpha);
+    public static void glColor4ub(@NativeType("GLubyte") byte red, @NativeType("GLubyte") byte green, @NativeType("GLubyte") byte blue, @NativeType("GLubyte") byte alpha) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(ImmediateMode.unsigned(red), ImmediateMode.unsigned(green), ImmediateMode.unsigned(blue), ImmediateMode.unsigned(alpha));
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4ub;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4ub", start);
+        }
+    }
 
     // --- [ glColor4us ] ---
 
@@ -1714,7 +2290,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4us(@NativeType("GLushort") short red, @NativeType("GLushort") short green, @NativeType("GLushort") short blue, @NativeType("GLushort") short alpha);
+    public static void glColor4us(@NativeType("GLushort") short red, @NativeType("GLushort") short green, @NativeType("GLushort") short blue, @NativeType("GLushort") short alpha) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(ImmediateMode.unsigned(red), ImmediateMode.unsigned(green), ImmediateMode.unsigned(blue), ImmediateMode.unsigned(alpha));
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4us;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4us", start);
+        }
+    }
 
     // --- [ glColor4ui ] ---
 
@@ -1728,12 +2319,38 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColor4ui(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue, @NativeType("GLint") int alpha);
+    public static void glColor4ui(@NativeType("GLint") int red, @NativeType("GLint") int green, @NativeType("GLint") int blue, @NativeType("GLint") int alpha) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.color(ImmediateMode.unsigned(red), ImmediateMode.unsigned(green), ImmediateMode.unsigned(blue), ImmediateMode.unsigned(alpha));
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4ui;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(red, green, blue, alpha, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4ui", start);
+        }
+    }
 
     // --- [ glColor4bv ] ---
 
     /** Unsafe version of: {@link #glColor4bv Color4bv} */
-    public static native void nglColor4bv(long v);
+    public static void nglColor4bv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4bv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4bv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4b Color4b}.
@@ -1743,16 +2360,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4bv(@NativeType("GLbyte const *") ByteBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4bv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4bv", start);
         }
-        nglColor4bv(memAddress(v));
     }
 
     // --- [ glColor4sv ] ---
 
     /** Unsafe version of: {@link #glColor4sv Color4sv} */
-    public static native void nglColor4sv(long v);
+    public static void nglColor4sv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4sv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4s Color4s}.
@@ -1762,16 +2395,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4sv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4sv", start);
         }
-        nglColor4sv(memAddress(v));
     }
 
     // --- [ glColor4iv ] ---
 
     /** Unsafe version of: {@link #glColor4iv Color4iv} */
-    public static native void nglColor4iv(long v);
+    public static void nglColor4iv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4iv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4i Color4i}.
@@ -1781,16 +2430,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4iv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4iv", start);
         }
-        nglColor4iv(memAddress(v));
     }
 
     // --- [ glColor4fv ] ---
 
     /** Unsafe version of: {@link #glColor4fv Color4fv} */
-    public static native void nglColor4fv(long v);
+    public static void nglColor4fv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4f Color4f}.
@@ -1800,16 +2465,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4fv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4fv", start);
         }
-        nglColor4fv(memAddress(v));
     }
 
     // --- [ glColor4dv ] ---
 
     /** Unsafe version of: {@link #glColor4dv Color4dv} */
-    public static native void nglColor4dv(long v);
+    public static void nglColor4dv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4d Color4d}.
@@ -1819,16 +2500,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4dv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4dv", start);
         }
-        nglColor4dv(memAddress(v));
     }
 
     // --- [ glColor4ubv ] ---
 
     /** Unsafe version of: {@link #glColor4ubv Color4ubv} */
-    public static native void nglColor4ubv(long v);
+    public static void nglColor4ubv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4ubv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4ubv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4ub Color4ub}.
@@ -1838,16 +2535,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4ubv(@NativeType("GLubyte const *") ByteBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4ubv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4ubv", start);
         }
-        nglColor4ubv(memAddress(v));
     }
 
     // --- [ glColor4usv ] ---
 
     /** Unsafe version of: {@link #glColor4usv Color4usv} */
-    public static native void nglColor4usv(long v);
+    public static void nglColor4usv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4usv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4usv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4us Color4us}.
@@ -1857,16 +2570,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4usv(@NativeType("GLushort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4usv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4usv", start);
         }
-        nglColor4usv(memAddress(v));
     }
 
     // --- [ glColor4uiv ] ---
 
     /** Unsafe version of: {@link #glColor4uiv Color4uiv} */
-    public static native void nglColor4uiv(long v);
+    public static void nglColor4uiv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4uiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4uiv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glColor4ui Color4ui}.
@@ -1876,10 +2605,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4uiv(@NativeType("GLuint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglColor4uiv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4uiv", start);
         }
-        nglColor4uiv(memAddress(v));
     }
 
     // --- [ glColorMask ] ---
@@ -1895,7 +2629,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glColorMask">Reference Page</a>
      */
     public static void glColorMask(@NativeType("GLboolean") boolean red, @NativeType("GLboolean") boolean green, @NativeType("GLboolean") boolean blue, @NativeType("GLboolean") boolean alpha) {
-        GL11C.glColorMask(red, green, blue, alpha);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glColorMask(red, green, blue, alpha);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColorMask", start);
+        }
     }
 
     // --- [ glColorMaterial ] ---
@@ -1910,7 +2649,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glColorMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glColorMaterial(@NativeType("GLenum") int face, @NativeType("GLenum") int mode);
+    public static void glColorMaterial(@NativeType("GLenum") int face, @NativeType("GLenum") int mode) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColorMaterial;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(face, mode, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColorMaterial", start);
+        }
+    }
 
     // --- [ glColorPointer ] ---
 
@@ -2000,7 +2750,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glCopyPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glCopyPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int type);
+    public static void glCopyPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int type) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glCopyPixels;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, width, height, type, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCopyPixels", start);
+        }
+    }
 
     // --- [ glCullFace ] ---
 
@@ -2014,7 +2775,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCullFace">Reference Page</a>
      */
     public static void glCullFace(@NativeType("GLenum") int mode) {
-        GL11C.glCullFace(mode);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glCullFace(mode);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCullFace", start);
+        }
     }
 
     // --- [ glDeleteLists ] ---
@@ -2028,7 +2794,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glDeleteLists">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glDeleteLists(@NativeType("GLuint") int list, @NativeType("GLsizei") int range);
+    public static void glDeleteLists(@NativeType("GLuint") int list, @NativeType("GLsizei") int range) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glDeleteLists;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            DisplayLists.deleteLists(list, range);
+            callV(list, range, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteLists", start);
+        }
+    }
 
     // --- [ glDepthFunc ] ---
 
@@ -2040,7 +2818,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDepthFunc">Reference Page</a>
      */
     public static void glDepthFunc(@NativeType("GLenum") int func) {
-        GL11C.glDepthFunc(func);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glDepthFunc(func);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDepthFunc", start);
+        }
     }
 
     // --- [ glDepthMask ] ---
@@ -2053,7 +2836,13 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDepthMask">Reference Page</a>
      */
     public static void glDepthMask(@NativeType("GLboolean") boolean flag) {
-        GL11C.glDepthMask(flag);
+        long start = GLHooks.enter();
+        try {
+            if (GLStateCache.enabled && !GLStateCache.setDepthMask(flag)) return;
+            GL11C.glDepthMask(flag);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDepthMask", start);
+        }
     }
 
     // --- [ glDepthRange ] ---
@@ -2067,7 +2856,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDepthRange">Reference Page</a>
      */
     public static void glDepthRange(@NativeType("GLdouble") double zNear, @NativeType("GLdouble") double zFar) {
-        GL11C.glDepthRange(zNear, zFar);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glDepthRange(zNear, zFar);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDepthRange", start);
+        }
     }
 
     // --- [ glDisableClientState ] ---
@@ -2099,7 +2893,13 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawArrays">Reference Page</a>
      */
     public static void glDrawArrays(@NativeType("GLenum") int mode, @NativeType("GLint") int first, @NativeType("GLsizei") int count) {
-        GL11C.glDrawArrays(mode, first, count);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            GL11C.glDrawArrays(mode, first, count);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawArrays", start);
+        }
     }
 
     // --- [ glDrawBuffer ] ---
@@ -2115,7 +2915,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawBuffer">Reference Page</a>
      */
     public static void glDrawBuffer(@NativeType("GLenum") int buf) {
-        GL11C.glDrawBuffer(buf);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glDrawBuffer(buf);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawBuffer", start);
+        }
     }
 
     // --- [ glDrawElements ] ---
@@ -2127,7 +2932,13 @@ public class GL11 {
      * @param type  indicates the type of index values in {@code indices}. One of:<br><table><tr><td>{@link #GL_UNSIGNED_BYTE UNSIGNED_BYTE}</td><td>{@link #GL_UNSIGNED_SHORT UNSIGNED_SHORT}</td><td>{@link #GL_UNSIGNED_INT UNSIGNED_INT}</td></tr></table>
      */
     public static void nglDrawElements(int mode, int count, int type, long indices) {
-        GL11C.nglDrawElements(mode, count, type, indices);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            GL11C.nglDrawElements(mode, count, type, indices);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawElements", start);
+        }
     }
 
     /**
@@ -2143,7 +2954,13 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("GLsizei") int count, @NativeType("GLenum") int type, @NativeType("void const *") long indices) {
-        GL11C.glDrawElements(mode, count, type, indices);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            GL11C.glDrawElements(mode, count, type, indices);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawElements", start);
+        }
     }
 
     /**
@@ -2158,7 +2975,13 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer indices) {
-        GL11C.glDrawElements(mode, type, indices);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            GL11C.glDrawElements(mode, type, indices);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawElements", start);
+        }
     }
 
     /**
@@ -2172,7 +2995,13 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("void const *") ByteBuffer indices) {
-        GL11C.glDrawElements(mode, indices);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            GL11C.glDrawElements(mode, indices);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawElements", start);
+        }
     }
 
     /**
@@ -2186,7 +3015,13 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("void const *") ShortBuffer indices) {
-        GL11C.glDrawElements(mode, indices);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            GL11C.glDrawElements(mode, indices);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawElements", start);
+        }
     }
 
     /**
@@ -2200,13 +3035,30 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawElements">Reference Page</a>
      */
     public static void glDrawElements(@NativeType("GLenum") int mode, @NativeType("void const *") IntBuffer indices) {
-        GL11C.glDrawElements(mode, indices);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            GL11C.glDrawElements(mode, indices);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawElements", start);
+        }
     }
 
     // --- [ glDrawPixels ] ---
 
     /** Unsafe version of: {@link #glDrawPixels DrawPixels} */
-    public static native void nglDrawPixels(int width, int height, int format, int type, long pixels);
+    public static void nglDrawPixels(int width, int height, int format, int type, long pixels) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glDrawPixels;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(width, height, format, type, pixels, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawPixels", start);
+        }
+    }
 
     /**
      * Draws a pixel rectangle to the active draw buffers.
@@ -2220,7 +3072,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
-        nglDrawPixels(width, height, format, type, memAddress(pixels));
+        long start = GLHooks.enter();
+        try {
+            nglDrawPixels(width, height, format, type, memAddress(pixels));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawPixels", start);
+        }
     }
 
     /**
@@ -2235,7 +3092,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
-        nglDrawPixels(width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            nglDrawPixels(width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawPixels", start);
+        }
     }
 
     /**
@@ -2250,7 +3112,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
-        nglDrawPixels(width, height, format, type, memAddress(pixels));
+        long start = GLHooks.enter();
+        try {
+            nglDrawPixels(width, height, format, type, memAddress(pixels));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawPixels", start);
+        }
     }
 
     /**
@@ -2265,7 +3132,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
-        nglDrawPixels(width, height, format, type, memAddress(pixels));
+        long start = GLHooks.enter();
+        try {
+            nglDrawPixels(width, height, format, type, memAddress(pixels));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawPixels", start);
+        }
     }
 
     /**
@@ -2280,7 +3152,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
-        nglDrawPixels(width, height, format, type, memAddress(pixels));
+        long start = GLHooks.enter();
+        try {
+            nglDrawPixels(width, height, format, type, memAddress(pixels));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawPixels", start);
+        }
     }
 
     // --- [ glEdgeFlag ] ---
@@ -2298,12 +3175,34 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glEdgeFlag">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEdgeFlag(@NativeType("GLboolean") boolean flag);
+    public static void glEdgeFlag(@NativeType("GLboolean") boolean flag) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEdgeFlag;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(flag, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEdgeFlag", start);
+        }
+    }
 
     // --- [ glEdgeFlagv ] ---
 
     /** Unsafe version of: {@link #glEdgeFlagv EdgeFlagv} */
-    public static native void nglEdgeFlagv(long flag);
+    public static void nglEdgeFlagv(long flag) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEdgeFlagv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(flag, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEdgeFlagv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glEdgeFlag EdgeFlag}.
@@ -2313,10 +3212,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glEdgeFlagv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEdgeFlagv(@NativeType("GLboolean const *") ByteBuffer flag) {
-        if (CHECKS) {
-            check(flag, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(flag, 1);
+            }
+            nglEdgeFlagv(memAddress(flag));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEdgeFlagv", start);
         }
-        nglEdgeFlagv(memAddress(flag));
     }
 
     // --- [ glEdgeFlagPointer ] ---
@@ -2368,7 +3272,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glEnd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEnd();
+    public static void glEnd() {
+        if (ImmediateMode.primitiveMode != -1) {
+            ImmediateMode.end();
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEnd;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEnd", start);
+        }
+    }
 
     // --- [ glEvalCoord1f ] ---
 
@@ -2379,12 +3298,34 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalCoord1f(@NativeType("GLfloat") float u);
+    public static void glEvalCoord1f(@NativeType("GLfloat") float u) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalCoord1f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(u, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord1f", start);
+        }
+    }
 
     // --- [ glEvalCoord1fv ] ---
 
     /** Unsafe version of: {@link #glEvalCoord1fv EvalCoord1fv} */
-    public static native void nglEvalCoord1fv(long u);
+    public static void nglEvalCoord1fv(long u) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalCoord1fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord1fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glEvalCoord1f EvalCoord1f}.
@@ -2394,10 +3335,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord1fv(@NativeType("GLfloat const *") FloatBuffer u) {
-        if (CHECKS) {
-            check(u, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(u, 1);
+            }
+            nglEvalCoord1fv(memAddress(u));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord1fv", start);
         }
-        nglEvalCoord1fv(memAddress(u));
     }
 
     // --- [ glEvalCoord1d ] ---
@@ -2409,12 +3355,34 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalCoord1d(@NativeType("GLdouble") double u);
+    public static void glEvalCoord1d(@NativeType("GLdouble") double u) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalCoord1d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(u, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord1d", start);
+        }
+    }
 
     // --- [ glEvalCoord1dv ] ---
 
     /** Unsafe version of: {@link #glEvalCoord1dv EvalCoord1dv} */
-    public static native void nglEvalCoord1dv(long u);
+    public static void nglEvalCoord1dv(long u) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalCoord1dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord1dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glEvalCoord1d EvalCoord1d}.
@@ -2424,10 +3392,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord1dv(@NativeType("GLdouble const *") DoubleBuffer u) {
-        if (CHECKS) {
-            check(u, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(u, 1);
+            }
+            nglEvalCoord1dv(memAddress(u));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord1dv", start);
         }
-        nglEvalCoord1dv(memAddress(u));
     }
 
     // --- [ glEvalCoord2f ] ---
@@ -2440,12 +3413,34 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalCoord2f(@NativeType("GLfloat") float u, @NativeType("GLfloat") float v);
+    public static void glEvalCoord2f(@NativeType("GLfloat") float u, @NativeType("GLfloat") float v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalCoord2f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(u, v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord2f", start);
+        }
+    }
 
     // --- [ glEvalCoord2fv ] ---
 
     /** Unsafe version of: {@link #glEvalCoord2fv EvalCoord2fv} */
-    public static native void nglEvalCoord2fv(long u);
+    public static void nglEvalCoord2fv(long u) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalCoord2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord2fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glEvalCoord2f EvalCoord2f}.
@@ -2455,10 +3450,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord2fv(@NativeType("GLfloat const *") FloatBuffer u) {
-        if (CHECKS) {
-            check(u, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(u, 2);
+            }
+            nglEvalCoord2fv(memAddress(u));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord2fv", start);
         }
-        nglEvalCoord2fv(memAddress(u));
     }
 
     // --- [ glEvalCoord2d ] ---
@@ -2471,12 +3471,34 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalCoord2d(@NativeType("GLdouble") double u, @NativeType("GLdouble") double v);
+    public static void glEvalCoord2d(@NativeType("GLdouble") double u, @NativeType("GLdouble") double v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalCoord2d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(u, v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord2d", start);
+        }
+    }
 
     // --- [ glEvalCoord2dv ] ---
 
     /** Unsafe version of: {@link #glEvalCoord2dv EvalCoord2dv} */
-    public static native void nglEvalCoord2dv(long u);
+    public static void nglEvalCoord2dv(long u) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalCoord2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord2dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glEvalCoord2d EvalCoord2d}.
@@ -2486,10 +3508,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord2dv(@NativeType("GLdouble const *") DoubleBuffer u) {
-        if (CHECKS) {
-            check(u, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(u, 2);
+            }
+            nglEvalCoord2dv(memAddress(u));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord2dv", start);
         }
-        nglEvalCoord2dv(memAddress(u));
     }
 
     // --- [ glEvalMesh1 ] ---
@@ -2503,7 +3530,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalMesh1">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalMesh1(@NativeType("GLenum") int mode, @NativeType("GLint") int i1, @NativeType("GLint") int i2);
+    public static void glEvalMesh1(@NativeType("GLenum") int mode, @NativeType("GLint") int i1, @NativeType("GLint") int i2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalMesh1;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(mode, i1, i2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalMesh1", start);
+        }
+    }
 
     // --- [ glEvalMesh2 ] ---
 
@@ -2518,7 +3557,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalMesh2">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalMesh2(@NativeType("GLenum") int mode, @NativeType("GLint") int i1, @NativeType("GLint") int i2, @NativeType("GLint") int j1, @NativeType("GLint") int j2);
+    public static void glEvalMesh2(@NativeType("GLenum") int mode, @NativeType("GLint") int i1, @NativeType("GLint") int i2, @NativeType("GLint") int j1, @NativeType("GLint") int j2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalMesh2;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(mode, i1, i2, j1, j2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalMesh2", start);
+        }
+    }
 
     // --- [ glEvalPoint1 ] ---
 
@@ -2529,7 +3580,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalPoint1">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalPoint1(@NativeType("GLint") int i);
+    public static void glEvalPoint1(@NativeType("GLint") int i) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalPoint1;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(i, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalPoint1", start);
+        }
+    }
 
     // --- [ glEvalPoint2 ] ---
 
@@ -2541,7 +3603,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalPoint2">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEvalPoint2(@NativeType("GLint") int i, @NativeType("GLint") int j);
+    public static void glEvalPoint2(@NativeType("GLint") int i, @NativeType("GLint") int j) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalPoint2;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(i, j, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalPoint2", start);
+        }
+    }
 
     // --- [ glFeedbackBuffer ] ---
 
@@ -2573,7 +3646,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glFinish">Reference Page</a>
      */
     public static void glFinish() {
-        GL11C.glFinish();
+        long start = GLHooks.enter();
+        try {
+            GL11C.glFinish();
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glFinish", start);
+        }
     }
 
     // --- [ glFlush ] ---
@@ -2584,7 +3662,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glFlush">Reference Page</a>
      */
     public static void glFlush() {
-        GL11C.glFlush();
+        long start = GLHooks.enter();
+        try {
+            GL11C.glFlush();
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glFlush", start);
+        }
     }
 
     // --- [ glFogi ] ---
@@ -2597,12 +3680,34 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glFogi">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glFogi(@NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glFogi(@NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glFogi;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glFogi", start);
+        }
+    }
 
     // --- [ glFogiv ] ---
 
     /** Unsafe version of: {@link #glFogiv Fogiv} */
-    public static native void nglFogiv(int pname, long params);
+    public static void nglFogiv(int pname, long params) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glFogiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glFogiv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glFogi Fogi}.
@@ -2613,10 +3718,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glFog">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFogiv(@NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(params, 1);
+            }
+            nglFogiv(pname, memAddress(params));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glFogiv", start);
         }
-        nglFogiv(pname, memAddress(params));
     }
 
     // --- [ glFogf ] ---
@@ -2629,12 +3739,34 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glFogf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glFogf(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glFogf(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glFogf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glFogf", start);
+        }
+    }
 
     // --- [ glFogfv ] ---
 
     /** Unsafe version of: {@link #glFogfv Fogfv} */
-    public static native void nglFogfv(int pname, long params);
+    public static void nglFogfv(int pname, long params) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glFogfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glFogfv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glFogf Fogf}.
@@ -2645,10 +3777,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glFog">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFogfv(@NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(params, 1);
+            }
+            nglFogfv(pname, memAddress(params));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glFogfv", start);
         }
-        nglFogfv(pname, memAddress(params));
     }
 
     // --- [ glFrontFace ] ---
@@ -2663,7 +3800,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glFrontFace">Reference Page</a>
      */
     public static void glFrontFace(@NativeType("GLenum") int dir) {
-        GL11C.glFrontFace(dir);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glFrontFace(dir);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glFrontFace", start);
+        }
     }
 
     // --- [ glGenLists ] ---
@@ -2689,7 +3831,12 @@ public class GL11 {
      * @param n the number of textures to create
      */
     public static void nglGenTextures(int n, long textures) {
-        GL11C.nglGenTextures(n, textures);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglGenTextures(n, textures);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGenTextures", start);
+        }
     }
 
     /**
@@ -2701,7 +3848,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenTextures">Reference Page</a>
      */
     public static void glGenTextures(@NativeType("GLuint *") IntBuffer textures) {
-        GL11C.glGenTextures(textures);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGenTextures(textures);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGenTextures", start);
+        }
     }
 
     /**
@@ -2712,7 +3864,12 @@ public class GL11 {
      */
     @NativeType("void")
     public static int glGenTextures() {
-        return GL11C.glGenTextures();
+        long start = GLHooks.enter();
+        try {
+            return GL11C.glGenTextures();
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGenTextures", start);
+        }
     }
 
     // --- [ glDeleteTextures ] ---
@@ -2723,7 +3880,12 @@ public class GL11 {
      * @param n the number of texture names in the {@code textures} parameter
      */
     public static void nglDeleteTextures(int n, long textures) {
-        GL11C.nglDeleteTextures(n, textures);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglDeleteTextures(n, textures);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteTextures", start);
+        }
     }
 
     /**
@@ -2740,7 +3902,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteTextures">Reference Page</a>
      */
     public static void glDeleteTextures(@NativeType("GLuint const *") IntBuffer textures) {
-        GL11C.glDeleteTextures(textures);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glDeleteTextures(textures);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteTextures", start);
+        }
     }
 
     /**
@@ -2755,7 +3922,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteTextures">Reference Page</a>
      */
     public static void glDeleteTextures(@NativeType("GLuint const *") int texture) {
-        GL11C.glDeleteTextures(texture);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glDeleteTextures(texture);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteTextures", start);
+        }
     }
 
     // --- [ glGetClipPlane ] ---
@@ -2783,7 +3955,12 @@ public class GL11 {
 
     /** Unsafe version of: {@link #glGetBooleanv GetBooleanv} */
     public static void nglGetBooleanv(int pname, long params) {
-        GL11C.nglGetBooleanv(pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglGetBooleanv(pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBooleanv", start);
+        }
     }
 
     /**
@@ -2799,7 +3976,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBooleanv">Reference Page</a>
      */
     public static void glGetBooleanv(@NativeType("GLenum") int pname, @NativeType("GLboolean *") ByteBuffer params) {
-        GL11C.glGetBooleanv(pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetBooleanv(pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBooleanv", start);
+        }
     }
 
     /**
@@ -2815,14 +3997,24 @@ public class GL11 {
      */
     @NativeType("void")
     public static boolean glGetBoolean(@NativeType("GLenum") int pname) {
-        return GL11C.glGetBoolean(pname);
+        long start = GLHooks.enter();
+        try {
+            return GL11C.glGetBoolean(pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBoolean", start);
+        }
     }
 
     // --- [ glGetFloatv ] ---
 
     /** Unsafe version of: {@link #glGetFloatv GetFloatv} */
     public static void nglGetFloatv(int pname, long params) {
-        GL11C.nglGetFloatv(pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglGetFloatv(pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetFloatv", start);
+        }
     }
 
     /**
@@ -2838,7 +4030,13 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetFloatv">Reference Page</a>
      */
     public static void glGetFloatv(@NativeType("GLenum") int pname, @NativeType("GLfloat *") FloatBuffer params) {
-        GL11C.glGetFloatv(pname, params);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.enabled && MatrixStacks.get(pname, params)) return;
+            GL11C.glGetFloatv(pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetFloatv", start);
+        }
     }
 
     /**
@@ -2854,14 +4052,25 @@ public class GL11 {
      */
     @NativeType("void")
     public static float glGetFloat(@NativeType("GLenum") int pname) {
-        return GL11C.glGetFloat(pname);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.enabled && MatrixStacks.get(pname)) return MatrixStacks.getValue();
+            return GL11C.glGetFloat(pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetFloat", start);
+        }
     }
 
     // --- [ glGetIntegerv ] ---
 
     /** Unsafe version of: {@link #glGetIntegerv GetIntegerv} */
     public static void nglGetIntegerv(int pname, long params) {
-        GL11C.nglGetIntegerv(pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglGetIntegerv(pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetIntegerv", start);
+        }
     }
 
     /**
@@ -2877,7 +4086,13 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetIntegerv">Reference Page</a>
      */
     public static void glGetIntegerv(@NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
-        GL11C.glGetIntegerv(pname, params);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.enabled && MatrixStacks.get(pname, params)) return;
+            GL11C.glGetIntegerv(pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetIntegerv", start);
+        }
     }
 
     /**
@@ -2893,14 +4108,25 @@ public class GL11 {
      */
     @NativeType("void")
     public static int glGetInteger(@NativeType("GLenum") int pname) {
-        return GL11C.glGetInteger(pname);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.enabled && MatrixStacks.get(pname)) return Math.round(MatrixStacks.getValue());
+            return GL11C.glGetInteger(pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetInteger", start);
+        }
     }
 
     // --- [ glGetDoublev ] ---
 
     /** Unsafe version of: {@link #glGetDoublev GetDoublev} */
     public static void nglGetDoublev(int pname, long params) {
-        GL11C.nglGetDoublev(pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglGetDoublev(pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetDoublev", start);
+        }
     }
 
     /**
@@ -2916,8 +4142,14 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetDoublev">Reference Page</a>
      */
     public static void glGetDoublev(@NativeType("GLenum") int pname, @NativeType("GLdouble *") DoubleBuffer params) {
-        GL11C.glGetDoublev(pname, params);
-    }
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.enabled && MatrixStacks.get(pname, params)) return;
+            GL11C.glGetDoublev(pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetDoublev", start);
+        }
+    }
 
     /**
      * Returns the current double value of the specified state variable.
@@ -2932,7 +4164,13 @@ public class GL11 {
      */
     @NativeType("void")
     public static double glGetDouble(@NativeType("GLenum") int pname) {
-        return GL11C.glGetDouble(pname);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.enabled && MatrixStacks.get(pname)) return MatrixStacks.getValue();
+            return GL11C.glGetDouble(pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetDouble", start);
+        }
     }
 
     // --- [ glGetError ] ---
@@ -2949,7 +4187,12 @@ public class GL11 {
      */
     @NativeType("GLenum")
     public static int glGetError() {
-        return GL11C.glGetError();
+        long start = GLHooks.enter();
+        try {
+            return GL11C.glGetError();
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetError", start);
+        }
     }
 
     // --- [ glGetLightiv ] ---
@@ -3299,7 +4542,12 @@ public class GL11 {
 
     /** Unsafe version of: {@link #glGetPointerv GetPointerv} */
     public static void nglGetPointerv(int pname, long params) {
-        GL11C.nglGetPointerv(pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglGetPointerv(pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetPointerv", start);
+        }
     }
 
     /**
@@ -3311,7 +4559,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetPointerv">Reference Page</a>
      */
     public static void glGetPointerv(@NativeType("GLenum") int pname, @NativeType("void **") PointerBuffer params) {
-        GL11C.glGetPointerv(pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetPointerv(pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetPointerv", start);
+        }
     }
 
     /**
@@ -3323,7 +4576,12 @@ public class GL11 {
      */
     @NativeType("void")
     public static long glGetPointer(@NativeType("GLenum") int pname) {
-        return GL11C.glGetPointer(pname);
+        long start = GLHooks.enter();
+        try {
+            return GL11C.glGetPointer(pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetPointer", start);
+        }
     }
 
     // --- [ glGetPolygonStipple ] ---
@@ -3360,7 +4618,12 @@ public class GL11 {
 
     /** Unsafe version of: {@link #glGetString GetString} */
     public static long nglGetString(int name) {
-        return GL11C.nglGetString(name);
+        long start = GLHooks.enter();
+        try {
+            return GL11C.nglGetString(name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetString", start);
+        }
     }
 
     /**
@@ -3373,7 +4636,12 @@ public class GL11 {
     @Nullable
     @NativeType("GLubyte const *")
     public static String glGetString(@NativeType("GLenum") int name) {
-        return GL11C.glGetString(name);
+        long start = GLHooks.enter();
+        try {
+            return GL11C.glGetString(name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetString", start);
+        }
     }
 
     // --- [ glGetTexEnviv ] ---
@@ -3585,7 +4853,12 @@ public class GL11 {
 
     /** Unsafe version of: {@link #glGetTexImage GetTexImage} */
     public static void nglGetTexImage(int tex, int level, int format, int type, long pixels) {
-        GL11C.nglGetTexImage(tex, level, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexImage", start);
+        }
     }
 
     /**
@@ -3600,7 +4873,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexImage", start);
+        }
     }
 
     /**
@@ -3615,7 +4893,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexImage", start);
+        }
     }
 
     /**
@@ -3630,7 +4913,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexImage", start);
+        }
     }
 
     /**
@@ -3645,7 +4933,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexImage", start);
+        }
     }
 
     /**
@@ -3660,7 +4953,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexImage", start);
+        }
     }
 
     /**
@@ -3675,14 +4973,24 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") DoubleBuffer pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexImage", start);
+        }
     }
 
     // --- [ glGetTexLevelParameteriv ] ---
 
     /** Unsafe version of: {@link #glGetTexLevelParameteriv GetTexLevelParameteriv} */
     public static void nglGetTexLevelParameteriv(int target, int level, int pname, long params) {
-        GL11C.nglGetTexLevelParameteriv(target, level, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglGetTexLevelParameteriv(target, level, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexLevelParameteriv", start);
+        }
     }
 
     /**
@@ -3696,7 +5004,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexLevelParameter">Reference Page</a>
      */
     public static void glGetTexLevelParameteriv(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
-        GL11C.glGetTexLevelParameteriv(target, level, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexLevelParameteriv(target, level, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexLevelParameteriv", start);
+        }
     }
 
     /**
@@ -3710,14 +5023,24 @@ public class GL11 {
      */
     @NativeType("void")
     public static int glGetTexLevelParameteri(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int pname) {
-        return GL11C.glGetTexLevelParameteri(target, level, pname);
+        long start = GLHooks.enter();
+        try {
+            return GL11C.glGetTexLevelParameteri(target, level, pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexLevelParameteri", start);
+        }
     }
 
     // --- [ glGetTexLevelParameterfv ] ---
 
     /** Unsafe version of: {@link #glGetTexLevelParameterfv GetTexLevelParameterfv} */
     public static void nglGetTexLevelParameterfv(int target, int level, int pname, long params) {
-        GL11C.nglGetTexLevelParameterfv(target, level, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglGetTexLevelParameterfv(target, level, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexLevelParameterfv", start);
+        }
     }
 
     /**
@@ -3731,7 +5054,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexLevelParameter">Reference Page</a>
      */
     public static void glGetTexLevelParameterfv(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int pname, @NativeType("GLfloat *") FloatBuffer params) {
-        GL11C.glGetTexLevelParameterfv(target, level, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexLevelParameterfv(target, level, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexLevelParameterfv", start);
+        }
     }
 
     /**
@@ -3745,14 +5073,24 @@ public class GL11 {
      */
     @NativeType("void")
     public static float glGetTexLevelParameterf(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int pname) {
-        return GL11C.glGetTexLevelParameterf(target, level, pname);
+        long start = GLHooks.enter();
+        try {
+            return GL11C.glGetTexLevelParameterf(target, level, pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexLevelParameterf", start);
+        }
     }
 
     // --- [ glGetTexParameteriv ] ---
 
     /** Unsafe version of: {@link #glGetTexParameteriv GetTexParameteriv} */
     public static void nglGetTexParameteriv(int target, int pname, long params) {
-        GL11C.nglGetTexParameteriv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglGetTexParameteriv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexParameteriv", start);
+        }
     }
 
     /**
@@ -3765,7 +5103,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexParameter">Reference Page</a>
      */
     public static void glGetTexParameteriv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
-        GL11C.glGetTexParameteriv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexParameteriv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexParameteriv", start);
+        }
     }
 
     /**
@@ -3778,14 +5121,24 @@ public class GL11 {
      */
     @NativeType("void")
     public static int glGetTexParameteri(@NativeType("GLenum") int target, @NativeType("GLenum") int pname) {
-        return GL11C.glGetTexParameteri(target, pname);
+        long start = GLHooks.enter();
+        try {
+            return GL11C.glGetTexParameteri(target, pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexParameteri", start);
+        }
     }
 
     // --- [ glGetTexParameterfv ] ---
 
     /** Unsafe version of: {@link #glGetTexParameterfv GetTexParameterfv} */
     public static void nglGetTexParameterfv(int target, int pname, long params) {
-        GL11C.nglGetTexParameterfv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglGetTexParameterfv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexParameterfv", start);
+        }
     }
 
     /**
@@ -3798,7 +5151,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexParameter">Reference Page</a>
      */
     public static void glGetTexParameterfv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat *") FloatBuffer params) {
-        GL11C.glGetTexParameterfv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexParameterfv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexParameterfv", start);
+        }
     }
 
     /**
@@ -3811,7 +5169,12 @@ public class GL11 {
      */
     @NativeType("void")
     public static float glGetTexParameterf(@NativeType("GLenum") int target, @NativeType("GLenum") int pname) {
-        return GL11C.glGetTexParameterf(target, pname);
+        long start = GLHooks.enter();
+        try {
+            return GL11C.glGetTexParameterf(target, pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexParameterf", start);
+        }
     }
 
     // --- [ glHint ] ---
@@ -3826,7 +5189,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glHint">Reference Page</a>
      */
     public static void glHint(@NativeType("GLenum") int target, @NativeType("GLenum") int hint) {
-        GL11C.glHint(target, hint);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glHint(target, hint);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glHint", start);
+        }
     }
 
     // --- [ glIndexi ] ---
@@ -3838,7 +5206,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndexi">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glIndexi(@NativeType("GLint") int index);
+    public static void glIndexi(@NativeType("GLint") int index) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexi;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexi", start);
+        }
+    }
 
     // --- [ glIndexub ] ---
 
@@ -3849,7 +5228,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndexub">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glIndexub(@NativeType("GLubyte") byte index);
+    public static void glIndexub(@NativeType("GLubyte") byte index) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexub;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexub", start);
+        }
+    }
 
     // --- [ glIndexs ] ---
 
@@ -3860,7 +5250,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndexs">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glIndexs(@NativeType("GLshort") short index);
+    public static void glIndexs(@NativeType("GLshort") short index) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexs;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexs", start);
+        }
+    }
 
     // --- [ glIndexf ] ---
 
@@ -3871,7 +5272,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndexf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glIndexf(@NativeType("GLfloat") float index);
+    public static void glIndexf(@NativeType("GLfloat") float index) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexf", start);
+        }
+    }
 
     // --- [ glIndexd ] ---
 
@@ -3882,12 +5294,34 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndexd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glIndexd(@NativeType("GLdouble") double index);
+    public static void glIndexd(@NativeType("GLdouble") double index) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexd;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexd", start);
+        }
+    }
 
     // --- [ glIndexiv ] ---
 
     /** Unsafe version of: {@link #glIndexiv Indexiv} */
-    public static native void nglIndexiv(long index);
+    public static void nglIndexiv(long index) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexiv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glIndexi Indexi}
@@ -3897,16 +5331,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexiv(@NativeType("GLint const *") IntBuffer index) {
-        if (CHECKS) {
-            check(index, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(index, 1);
+            }
+            nglIndexiv(memAddress(index));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexiv", start);
         }
-        nglIndexiv(memAddress(index));
     }
 
     // --- [ glIndexubv ] ---
 
     /** Unsafe version of: {@link #glIndexubv Indexubv} */
-    public static native void nglIndexubv(long index);
+    public static void nglIndexubv(long index) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexubv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexubv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glIndexub Indexub}.
@@ -3916,16 +5366,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexubv(@NativeType("GLubyte const *") ByteBuffer index) {
-        if (CHECKS) {
-            check(index, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(index, 1);
+            }
+            nglIndexubv(memAddress(index));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexubv", start);
         }
-        nglIndexubv(memAddress(index));
     }
 
     // --- [ glIndexsv ] ---
 
     /** Unsafe version of: {@link #glIndexsv Indexsv} */
-    public static native void nglIndexsv(long index);
+    public static void nglIndexsv(long index) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexsv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexsv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glIndexs Indexs}.
@@ -3935,16 +5401,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexsv(@NativeType("GLshort const *") ShortBuffer index) {
-        if (CHECKS) {
-            check(index, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(index, 1);
+            }
+            nglIndexsv(memAddress(index));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexsv", start);
         }
-        nglIndexsv(memAddress(index));
     }
 
     // --- [ glIndexfv ] ---
 
     /** Unsafe version of: {@link #glIndexfv Indexfv} */
-    public static native void nglIndexfv(long index);
+    public static void nglIndexfv(long index) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexfv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glIndexf Indexf}.
@@ -3954,16 +5436,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexfv(@NativeType("GLfloat const *") FloatBuffer index) {
-        if (CHECKS) {
-            check(index, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(index, 1);
+            }
+            nglIndexfv(memAddress(index));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexfv", start);
         }
-        nglIndexfv(memAddress(index));
     }
 
     // --- [ glIndexdv ] ---
 
     /** Unsafe version of: {@link #glIndexdv Indexdv} */
-    public static native void nglIndexdv(long index);
+    public static void nglIndexdv(long index) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexdv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexdv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glIndexd Indexd}.
@@ -3973,10 +5471,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexdv(@NativeType("GLdouble const *") DoubleBuffer index) {
-        if (CHECKS) {
-            check(index, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(index, 1);
+            }
+            nglIndexdv(memAddress(index));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexdv", start);
         }
-        nglIndexdv(memAddress(index));
     }
 
     // --- [ glIndexMask ] ---
@@ -3990,7 +5493,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndexMask">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glIndexMask(@NativeType("GLuint") int mask);
+    public static void glIndexMask(@NativeType("GLuint") int mask) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexMask;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(mask, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexMask", start);
+        }
+    }
 
     // --- [ glIndexPointer ] ---
 
@@ -4070,7 +5584,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glInitNames">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glInitNames();
+    public static void glInitNames() {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glInitNames;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glInitNames", start);
+        }
+    }
 
     // --- [ glInterleavedArrays ] ---
 
@@ -4166,7 +5691,12 @@ public class GL11 {
      */
     @NativeType("GLboolean")
     public static boolean glIsEnabled(@NativeType("GLenum") int cap) {
-        return GL11C.glIsEnabled(cap);
+        long start = GLHooks.enter();
+        try {
+            return GL11C.glIsEnabled(cap);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIsEnabled", start);
+        }
     }
 
     // --- [ glIsList ] ---
@@ -4192,7 +5722,12 @@ public class GL11 {
      */
     @NativeType("GLboolean")
     public static boolean glIsTexture(@NativeType("GLuint") int texture) {
-        return GL11C.glIsTexture(texture);
+        long start = GLHooks.enter();
+        try {
+            return GL11C.glIsTexture(texture);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIsTexture", start);
+        }
     }
 
     // --- [ glLightModeli ] ---
@@ -4205,7 +5740,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glLightModeli">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLightModeli(@NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glLightModeli(@NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLightModeli;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightModeli", start);
+        }
+    }
 
     // --- [ glLightModelf ] ---
 
@@ -4217,12 +5763,34 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glLightModelf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLightModelf(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glLightModelf(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLightModelf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightModelf", start);
+        }
+    }
 
     // --- [ glLightModeliv ] ---
 
     /** Unsafe version of: {@link #glLightModeliv LightModeliv} */
-    public static native void nglLightModeliv(int pname, long params);
+    public static void nglLightModeliv(int pname, long params) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLightModeliv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightModeliv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glLightModeli LightModeli}.
@@ -4233,16 +5801,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glLightModel">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightModeliv(@NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglLightModeliv(pname, memAddress(params));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightModeliv", start);
         }
-        nglLightModeliv(pname, memAddress(params));
     }
 
     // --- [ glLightModelfv ] ---
 
     /** Unsafe version of: {@link #glLightModelfv LightModelfv} */
-    public static native void nglLightModelfv(int pname, long params);
+    public static void nglLightModelfv(int pname, long params) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLightModelfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightModelfv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glLightModelf LightModelf}.
@@ -4253,10 +5837,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glLightModel">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightModelfv(@NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglLightModelfv(pname, memAddress(params));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightModelfv", start);
         }
-        nglLightModelfv(pname, memAddress(params));
     }
 
     // --- [ glLighti ] ---
@@ -4270,7 +5859,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glLighti">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLighti(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glLighti(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLighti;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(light, pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLighti", start);
+        }
+    }
 
     // --- [ glLightf ] ---
 
@@ -4283,12 +5883,36 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glLightf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLightf(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glLightf(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLightf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(light, pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightf", start);
+        }
+    }
 
     // --- [ glLightiv ] ---
 
     /** Unsafe version of: {@link #glLightiv Lightiv} */
-    public static native void nglLightiv(int light, int pname, long params);
+    public static void nglLightiv(int light, int pname, long params) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLightiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(light, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightiv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glLighti Lighti}.
@@ -4300,16 +5924,36 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glLight">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightiv(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(params, 4);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglLightiv(light, pname, memAddress(params));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightiv", start);
         }
-        nglLightiv(light, pname, memAddress(params));
     }
 
     // --- [ glLightfv ] ---
 
     /** Unsafe version of: {@link #glLightfv Lightfv} */
-    public static native void nglLightfv(int light, int pname, long params);
+    public static void nglLightfv(int light, int pname, long params) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLightfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(light, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightfv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glLightf Lightf}.
@@ -4321,10 +5965,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glLight">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightfv(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(params, 4);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglLightfv(light, pname, memAddress(params));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightfv", start);
         }
-        nglLightfv(light, pname, memAddress(params));
     }
 
     // --- [ glLineStipple ] ---
@@ -4339,7 +5990,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glLineStipple">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLineStipple(@NativeType("GLint") int factor, @NativeType("GLushort") short pattern);
+    public static void glLineStipple(@NativeType("GLint") int factor, @NativeType("GLushort") short pattern) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLineStipple;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(factor, pattern, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLineStipple", start);
+        }
+    }
 
     // --- [ glLineWidth ] ---
 
@@ -4351,7 +6013,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glLineWidth">Reference Page</a>
      */
     public static void glLineWidth(@NativeType("GLfloat") float width) {
-        GL11C.glLineWidth(width);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glLineWidth(width);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLineWidth", start);
+        }
     }
 
     // --- [ glListBase ] ---
@@ -4363,12 +6030,35 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glListBase">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glListBase(@NativeType("GLuint") int base);
+    public static void glListBase(@NativeType("GLuint") int base) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glListBase;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(base, __functionAddress);
+            DisplayLists.listBase = base;
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glListBase", start);
+        }
+    }
 
     // --- [ glLoadMatrixf ] ---
 
     /** Unsafe version of: {@link #glLoadMatrixf LoadMatrixf} */
-    public static native void nglLoadMatrixf(long m);
+    public static void nglLoadMatrixf(long m) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLoadMatrixf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLoadMatrixf", start);
+        }
+    }
 
     /**
      * Sets the current matrix to a 4 &times; 4 matrix in column-major order.
@@ -4390,16 +6080,37 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glLoadMatrixf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLoadMatrixf(@NativeType("GLfloat const *") FloatBuffer m) {
-        if (CHECKS) {
-            check(m, 16);
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glLoadMatrixf(m);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(m, 16);
+            }
+            nglLoadMatrixf(memAddress(m));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLoadMatrixf", start);
         }
-        nglLoadMatrixf(memAddress(m));
     }
 
     // --- [ glLoadMatrixd ] ---
 
     /** Unsafe version of: {@link #glLoadMatrixd LoadMatrixd} */
-    public static native void nglLoadMatrixd(long m);
+    public static void nglLoadMatrixd(long m) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLoadMatrixd;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLoadMatrixd", start);
+        }
+    }
 
     /**
      * Double version of {@link #glLoadMatrixf LoadMatrixf}.
@@ -4409,10 +6120,20 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glLoadMatrixd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLoadMatrixd(@NativeType("GLdouble const *") DoubleBuffer m) {
-        if (CHECKS) {
-            check(m, 16);
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glLoadMatrixd(m);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(m, 16);
+            }
+            nglLoadMatrixd(memAddress(m));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLoadMatrixd", start);
         }
-        nglLoadMatrixd(memAddress(m));
     }
 
     // --- [ glLoadIdentity ] ---
@@ -4431,7 +6152,23 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glLoadIdentity">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLoadIdentity();
+    public static void glLoadIdentity() {
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glLoadIdentity();
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLoadIdentity;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLoadIdentity", start);
+        }
+    }
 
     // --- [ glLoadName ] ---
 
@@ -4442,7 +6179,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glLoadName">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glLoadName(@NativeType("GLuint") int name);
+    public static void glLoadName(@NativeType("GLuint") int name) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLoadName;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(name, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLoadName", start);
+        }
+    }
 
     // --- [ glLogicOp ] ---
 
@@ -4454,13 +6202,29 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glLogicOp">Reference Page</a>
      */
     public static void glLogicOp(@NativeType("GLenum") int op) {
-        GL11C.glLogicOp(op);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glLogicOp(op);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLogicOp", start);
+        }
     }
 
     // --- [ glMap1f ] ---
 
     /** Unsafe version of: {@link #glMap1f Map1f} */
-    public static native void nglMap1f(int target, float u1, float u2, int stride, int order, long points);
+    public static void nglMap1f(int target, float u1, float u2, int stride, int order, long points) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMap1f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, u1, u2, stride, order, points, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMap1f", start);
+        }
+    }
 
     /**
      * Defines a polynomial or rational polynomial mapping to produce vertex, normal, texture coordinates and colors. The values so produced are sent on to
@@ -4476,16 +6240,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap1f(@NativeType("GLenum") int target, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2, @NativeType("GLint") int stride, @NativeType("GLint") int order, @NativeType("GLfloat const *") FloatBuffer points) {
-        if (CHECKS) {
-            check(points, order * stride);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(points, order * stride);
+            }
+            nglMap1f(target, u1, u2, stride, order, memAddress(points));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMap1f", start);
         }
-        nglMap1f(target, u1, u2, stride, order, memAddress(points));
     }
 
     // --- [ glMap1d ] ---
 
     /** Unsafe version of: {@link #glMap1d Map1d} */
-    public static native void nglMap1d(int target, double u1, double u2, int stride, int order, long points);
+    public static void nglMap1d(int target, double u1, double u2, int stride, int order, long points) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMap1d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, u1, u2, stride, order, points, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMap1d", start);
+        }
+    }
 
     /**
      * Double version of {@link #glMap1f Map1f}.
@@ -4500,16 +6280,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap1d(@NativeType("GLenum") int target, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2, @NativeType("GLint") int stride, @NativeType("GLint") int order, @NativeType("GLdouble const *") DoubleBuffer points) {
-        if (CHECKS) {
-            check(points, stride * order);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(points, stride * order);
+            }
+            nglMap1d(target, u1, u2, stride, order, memAddress(points));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMap1d", start);
         }
-        nglMap1d(target, u1, u2, stride, order, memAddress(points));
     }
 
     // --- [ glMap2f ] ---
 
     /** Unsafe version of: {@link #glMap2f Map2f} */
-    public static native void nglMap2f(int target, float u1, float u2, int ustride, int uorder, float v1, float v2, int vstride, int vorder, long points);
+    public static void nglMap2f(int target, float u1, float u2, int ustride, int uorder, float v1, float v2, int vstride, int vorder, long points) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMap2f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMap2f", start);
+        }
+    }
 
     /**
      * Bivariate version of {@link #glMap1f Map1f}.
@@ -4528,16 +6324,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap2f(@NativeType("GLenum") int target, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2, @NativeType("GLint") int ustride, @NativeType("GLint") int uorder, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2, @NativeType("GLint") int vstride, @NativeType("GLint") int vorder, @NativeType("GLfloat const *") FloatBuffer points) {
-        if (CHECKS) {
-            check(points, ustride * uorder * vstride * vorder);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(points, ustride * uorder * vstride * vorder);
+            }
+            nglMap2f(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, memAddress(points));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMap2f", start);
         }
-        nglMap2f(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, memAddress(points));
     }
 
     // --- [ glMap2d ] ---
 
     /** Unsafe version of: {@link #glMap2d Map2d} */
-    public static native void nglMap2d(int target, double u1, double u2, int ustride, int uorder, double v1, double v2, int vstride, int vorder, long points);
+    public static void nglMap2d(int target, double u1, double u2, int ustride, int uorder, double v1, double v2, int vstride, int vorder, long points) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMap2d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMap2d", start);
+        }
+    }
 
     /**
      * Double version of {@link #glMap2f Map2f}.
@@ -4556,10 +6368,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap2d(@NativeType("GLenum") int target, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2, @NativeType("GLint") int ustride, @NativeType("GLint") int uorder, @NativeType("GLdouble") double v1, @NativeType("GLdouble") double v2, @NativeType("GLint") int vstride, @NativeType("GLint") int vorder, @NativeType("GLdouble const *") DoubleBuffer points) {
-        if (CHECKS) {
-            check(points, ustride * uorder * vstride * vorder);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(points, ustride * uorder * vstride * vorder);
+            }
+            nglMap2d(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, memAddress(points));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMap2d", start);
         }
-        nglMap2d(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, memAddress(points));
     }
 
     // --- [ glMapGrid1f ] ---
@@ -4573,7 +6390,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glMapGrid">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMapGrid1f(@NativeType("GLint") int n, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2);
+    public static void glMapGrid1f(@NativeType("GLint") int n, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMapGrid1f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(n, u1, u2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMapGrid1f", start);
+        }
+    }
 
     // --- [ glMapGrid1d ] ---
 
@@ -4586,7 +6414,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glMapGrid">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMapGrid1d(@NativeType("GLint") int n, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2);
+    public static void glMapGrid1d(@NativeType("GLint") int n, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMapGrid1d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(n, u1, u2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMapGrid1d", start);
+        }
+    }
 
     // --- [ glMapGrid2f ] ---
 
@@ -4602,7 +6441,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glMapGrid">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMapGrid2f(@NativeType("GLint") int un, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2, @NativeType("GLint") int vn, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2);
+    public static void glMapGrid2f(@NativeType("GLint") int un, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2, @NativeType("GLint") int vn, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMapGrid2f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(un, u1, u2, vn, v1, v2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMapGrid2f", start);
+        }
+    }
 
     // --- [ glMapGrid2d ] ---
 
@@ -4618,7 +6468,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glMapGrid">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMapGrid2d(@NativeType("GLint") int un, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2, @NativeType("GLint") int vn, @NativeType("GLdouble") double v1, @NativeType("GLdouble") double v2);
+    public static void glMapGrid2d(@NativeType("GLint") int un, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2, @NativeType("GLint") int vn, @NativeType("GLdouble") double v1, @NativeType("GLdouble") double v2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMapGrid2d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(un, u1, u2, vn, v1, v2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMapGrid2d", start);
+        }
+    }
 
     // --- [ glMateriali ] ---
 
@@ -4631,7 +6492,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glMateriali">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMateriali(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glMateriali(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMateriali;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(face, pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMateriali", start);
+        }
+    }
 
     // --- [ glMaterialf ] ---
 
@@ -4644,12 +6516,34 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glMaterialf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMaterialf(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glMaterialf(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMaterialf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(face, pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMaterialf", start);
+        }
+    }
 
     // --- [ glMaterialiv ] ---
 
     /** Unsafe version of: {@link #glMaterialiv Materialiv} */
-    public static native void nglMaterialiv(int face, int pname, long params);
+    public static void nglMaterialiv(int face, int pname, long params) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMaterialiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(face, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMaterialiv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glMateriali Materiali}.
@@ -4661,16 +6555,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMaterialiv(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglMaterialiv(face, pname, memAddress(params));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMaterialiv", start);
         }
-        nglMaterialiv(face, pname, memAddress(params));
     }
 
     // --- [ glMaterialfv ] ---
 
     /** Unsafe version of: {@link #glMaterialfv Materialfv} */
-    public static native void nglMaterialfv(int face, int pname, long params);
+    public static void nglMaterialfv(int face, int pname, long params) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMaterialfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(face, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMaterialfv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glMaterialf Materialf}.
@@ -4682,10 +6592,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMaterialfv(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglMaterialfv(face, pname, memAddress(params));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMaterialfv", start);
         }
-        nglMaterialfv(face, pname, memAddress(params));
     }
 
     // --- [ glMatrixMode ] ---
@@ -4697,12 +6612,39 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glMatrixMode">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glMatrixMode(@NativeType("GLenum") int mode);
+    public static void glMatrixMode(@NativeType("GLenum") int mode) {
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glMatrixMode(mode);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMatrixMode;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(mode, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMatrixMode", start);
+        }
+    }
 
     // --- [ glMultMatrixf ] ---
 
     /** Unsafe version of: {@link #glMultMatrixf MultMatrixf} */
-    public static native void nglMultMatrixf(long m);
+    public static void nglMultMatrixf(long m) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMultMatrixf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMultMatrixf", start);
+        }
+    }
 
     /**
      * Multiplies the current matrix with a 4 &times; 4 matrix in column-major order. See {@link #glLoadMatrixf LoadMatrixf} for details.
@@ -4712,16 +6654,37 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMultMatrixf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMultMatrixf(@NativeType("GLfloat const *") FloatBuffer m) {
-        if (CHECKS) {
-            check(m, 16);
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glMultMatrixf(m);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(m, 16);
+            }
+            nglMultMatrixf(memAddress(m));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMultMatrixf", start);
         }
-        nglMultMatrixf(memAddress(m));
     }
 
     // --- [ glMultMatrixd ] ---
 
     /** Unsafe version of: {@link #glMultMatrixd MultMatrixd} */
-    public static native void nglMultMatrixd(long m);
+    public static void nglMultMatrixd(long m) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMultMatrixd;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMultMatrixd", start);
+        }
+    }
 
     /**
      * Double version of {@link #glMultMatrixf MultMatrixf}.
@@ -4731,10 +6694,20 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMultMatrixd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMultMatrixd(@NativeType("GLdouble const *") DoubleBuffer m) {
-        if (CHECKS) {
-            check(m, 16);
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glMultMatrixd(m);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(m, 16);
+            }
+            nglMultMatrixd(memAddress(m));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMultMatrixd", start);
         }
-        nglMultMatrixd(memAddress(m));
     }
 
     // --- [ glFrustum ] ---
@@ -4763,7 +6736,23 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glFrustum">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glFrustum(@NativeType("GLdouble") double l, @NativeType("GLdouble") double r, @NativeType("GLdouble") double b, @NativeType("GLdouble") double t, @NativeType("GLdouble") double n, @NativeType("GLdouble") double f);
+    public static void glFrustum(@NativeType("GLdouble") double l, @NativeType("GLdouble") double r, @NativeType("GLdouble") double b, @NativeType("GLdouble") double t, @NativeType("GLdouble") double n, @NativeType("GLdouble") double f) {
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glFrustum(l, r, b, t, n, f);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glFrustum;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(l, r, b, t, n, f, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glFrustum", start);
+        }
+    }
 
     // --- [ glNewList ] ---
 
@@ -4775,7 +6764,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glNewList">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glNewList(@NativeType("GLuint") int n, @NativeType("GLenum") int mode);
+    public static void glNewList(@NativeType("GLuint") int n, @NativeType("GLenum") int mode) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNewList;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (GLStateCache.enabled) GLStateCache.newList(mode);
+            // What GL executes while compiling must see the Java matrices
+            if (DisplayLists.enabled && MatrixStacks.dirty) MatrixStacks.upload();
+            callV(n, mode, __functionAddress);
+            if (DisplayLists.enabled) DisplayLists.newList(n, mode);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNewList", start);
+        }
+    }
 
     // --- [ glEndList ] ---
 
@@ -4785,7 +6789,23 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glEndList">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glEndList();
+    public static void glEndList() {
+        if (DisplayLists.compiling != null) DisplayLists.stopCompiling();
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEndList;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+            if (GLStateCache.enabled) GLStateCache.endList();
+            // A glListBase compiled might not have been executed
+            DisplayLists.listBase = -1;
+            DisplayLists.endList();
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEndList", start);
+        }
+    }
 
     // --- [ glNormal3f ] ---
 
@@ -4798,7 +6818,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glNormal3f(@NativeType("GLfloat") float nx, @NativeType("GLfloat") float ny, @NativeType("GLfloat") float nz);
+    public static void glNormal3f(@NativeType("GLfloat") float nx, @NativeType("GLfloat") float ny, @NativeType("GLfloat") float nz) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.normal(nx, ny, nz);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(nx, ny, nz, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3f", start);
+        }
+    }
 
     // --- [ glNormal3b ] ---
 
@@ -4811,7 +6846,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glNormal3b(@NativeType("GLbyte") byte nx, @NativeType("GLbyte") byte ny, @NativeType("GLbyte") byte nz);
+    public static void glNormal3b(@NativeType("GLbyte") byte nx, @NativeType("GLbyte") byte ny, @NativeType("GLbyte") byte nz) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.normal(ImmediateMode.signed(nx), ImmediateMode.signed(ny), ImmediateMode.signed(nz));
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3b;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(nx, ny, nz, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3b", start);
+        }
+    }
 
     // --- [ glNormal3s ] ---
 
@@ -4824,7 +6874,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glNormal3s(@NativeType("GLshort") short nx, @NativeType("GLshort") short ny, @NativeType("GLshort") short nz);
+    public static void glNormal3s(@NativeType("GLshort") short nx, @NativeType("GLshort") short ny, @NativeType("GLshort") short nz) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.normal(ImmediateMode.signed(nx), ImmediateMode.signed(ny), ImmediateMode.signed(nz));
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(nx, ny, nz, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3s", start);
+        }
+    }
 
     // --- [ glNormal3i ] ---
 
@@ -4837,7 +6902,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glNormal3i(@NativeType("GLint") int nx, @NativeType("GLint") int ny, @NativeType("GLint") int nz);
+    public static void glNormal3i(@NativeType("GLint") int nx, @NativeType("GLint") int ny, @NativeType("GLint") int nz) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.normal(ImmediateMode.signed(nx), ImmediateMode.signed(ny), ImmediateMode.signed(nz));
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(nx, ny, nz, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3i", start);
+        }
+    }
 
     // --- [ glNormal3d ] ---
 
@@ -4850,12 +6930,38 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glNormal3d(@NativeType("GLdouble") double nx, @NativeType("GLdouble") double ny, @NativeType("GLdouble") double nz);
+    public static void glNormal3d(@NativeType("GLdouble") double nx, @NativeType("GLdouble") double ny, @NativeType("GLdouble") double nz) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.normal(nx, ny, nz);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(nx, ny, nz, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3d", start);
+        }
+    }
 
     // --- [ glNormal3fv ] ---
 
     /** Unsafe version of: {@link #glNormal3fv Normal3fv} */
-    public static native void nglNormal3fv(long v);
+    public static void nglNormal3fv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glNormal3f Normal3f}.
@@ -4865,16 +6971,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglNormal3fv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3fv", start);
         }
-        nglNormal3fv(memAddress(v));
     }
 
     // --- [ glNormal3bv ] ---
 
     /** Unsafe version of: {@link #glNormal3bv Normal3bv} */
-    public static native void nglNormal3bv(long v);
+    public static void nglNormal3bv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3bv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3bv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glNormal3b Normal3b}.
@@ -4884,16 +7006,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3bv(@NativeType("GLbyte const *") ByteBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglNormal3bv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3bv", start);
         }
-        nglNormal3bv(memAddress(v));
     }
 
     // --- [ glNormal3sv ] ---
 
     /** Unsafe version of: {@link #glNormal3sv Normal3sv} */
-    public static native void nglNormal3sv(long v);
+    public static void nglNormal3sv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3sv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glNormal3s Normal3s}.
@@ -4903,16 +7041,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglNormal3sv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3sv", start);
         }
-        nglNormal3sv(memAddress(v));
     }
 
     // --- [ glNormal3iv ] ---
 
     /** Unsafe version of: {@link #glNormal3iv Normal3iv} */
-    public static native void nglNormal3iv(long v);
+    public static void nglNormal3iv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3iv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glNormal3i Normal3i}.
@@ -4922,16 +7076,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglNormal3iv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3iv", start);
         }
-        nglNormal3iv(memAddress(v));
     }
 
     // --- [ glNormal3dv ] ---
 
     /** Unsafe version of: {@link #glNormal3dv Normal3dv} */
-    public static native void nglNormal3dv(long v);
+    public static void nglNormal3dv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glNormal3d Normal3d}.
@@ -4941,10 +7111,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglNormal3dv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3dv", start);
         }
-        nglNormal3dv(memAddress(v));
     }
 
     // --- [ glNormalPointer ] ---
@@ -5043,7 +7218,23 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glOrtho">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glOrtho(@NativeType("GLdouble") double l, @NativeType("GLdouble") double r, @NativeType("GLdouble") double b, @NativeType("GLdouble") double t, @NativeType("GLdouble") double n, @NativeType("GLdouble") double f);
+    public static void glOrtho(@NativeType("GLdouble") double l, @NativeType("GLdouble") double r, @NativeType("GLdouble") double b, @NativeType("GLdouble") double t, @NativeType("GLdouble") double n, @NativeType("GLdouble") double f) {
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glOrtho(l, r, b, t, n, f);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glOrtho;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(l, r, b, t, n, f, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glOrtho", start);
+        }
+    }
 
     // --- [ glPassThrough ] ---
 
@@ -5056,7 +7247,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glPassThrough">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPassThrough(@NativeType("GLfloat") float token);
+    public static void glPassThrough(@NativeType("GLfloat") float token) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPassThrough;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(token, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPassThrough", start);
+        }
+    }
 
     // --- [ glPixelMapfv ] ---
 
@@ -5065,7 +7267,18 @@ public class GL11 {
      *
      * @param size the map size
      */
-    public static native void nglPixelMapfv(int map, int size, long values);
+    public static void nglPixelMapfv(int map, int size, long values) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPixelMapfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, size, values, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelMapfv", start);
+        }
+    }
 
     /**
      * Sets a pixel map lookup table.
@@ -5077,7 +7290,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapfv(@NativeType("GLenum") int map, @NativeType("GLsizei") int size, @NativeType("GLfloat const *") long values) {
-        nglPixelMapfv(map, size, values);
+        long start = GLHooks.enter();
+        try {
+            nglPixelMapfv(map, size, values);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelMapfv", start);
+        }
     }
 
     /**
@@ -5089,7 +7307,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapfv(@NativeType("GLenum") int map, @NativeType("GLfloat const *") FloatBuffer values) {
-        nglPixelMapfv(map, values.remaining(), memAddress(values));
+        long start = GLHooks.enter();
+        try {
+            nglPixelMapfv(map, values.remaining(), memAddress(values));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelMapfv", start);
+        }
     }
 
     // --- [ glPixelMapusv ] ---
@@ -5099,7 +7322,18 @@ public class GL11 {
      *
      * @param size the map size
      */
-    public static native void nglPixelMapusv(int map, int size, long values);
+    public static void nglPixelMapusv(int map, int size, long values) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPixelMapusv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, size, values, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelMapusv", start);
+        }
+    }
 
     /**
      * Unsigned short version of {@link #glPixelMapfv PixelMapfv}.
@@ -5111,7 +7345,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapusv(@NativeType("GLenum") int map, @NativeType("GLsizei") int size, @NativeType("GLushort const *") long values) {
-        nglPixelMapusv(map, size, values);
+        long start = GLHooks.enter();
+        try {
+            nglPixelMapusv(map, size, values);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelMapusv", start);
+        }
     }
 
     /**
@@ -5123,7 +7362,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapusv(@NativeType("GLenum") int map, @NativeType("GLushort const *") ShortBuffer values) {
-        nglPixelMapusv(map, values.remaining(), memAddress(values));
+        long start = GLHooks.enter();
+        try {
+            nglPixelMapusv(map, values.remaining(), memAddress(values));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelMapusv", start);
+        }
     }
 
     // --- [ glPixelMapuiv ] ---
@@ -5133,7 +7377,18 @@ public class GL11 {
      *
      * @param size the map size
      */
-    public static native void nglPixelMapuiv(int map, int size, long values);
+    public static void nglPixelMapuiv(int map, int size, long values) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPixelMapuiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, size, values, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelMapuiv", start);
+        }
+    }
 
     /**
      * Unsigned integer version of {@link #glPixelMapfv PixelMapfv}.
@@ -5145,7 +7400,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapuiv(@NativeType("GLenum") int map, @NativeType("GLsizei") int size, @NativeType("GLuint const *") long values) {
-        nglPixelMapuiv(map, size, values);
+        long start = GLHooks.enter();
+        try {
+            nglPixelMapuiv(map, size, values);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelMapuiv", start);
+        }
     }
 
     /**
@@ -5157,7 +7417,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapuiv(@NativeType("GLenum") int map, @NativeType("GLuint const *") IntBuffer values) {
-        nglPixelMapuiv(map, values.remaining(), memAddress(values));
+        long start = GLHooks.enter();
+        try {
+            nglPixelMapuiv(map, values.remaining(), memAddress(values));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelMapuiv", start);
+        }
     }
 
     // --- [ glPixelStorei ] ---
@@ -5171,7 +7436,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glPixelStorei">Reference Page</a>
      */
     public static void glPixelStorei(@NativeType("GLenum") int pname, @NativeType("GLint") int param) {
-        GL11C.glPixelStorei(pname, param);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glPixelStorei(pname, param);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelStorei", start);
+        }
     }
 
     // --- [ glPixelStoref ] ---
@@ -5185,7 +7455,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glPixelStoref">Reference Page</a>
      */
     public static void glPixelStoref(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
-        GL11C.glPixelStoref(pname, param);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glPixelStoref(pname, param);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelStoref", start);
+        }
     }
 
     // --- [ glPixelTransferi ] ---
@@ -5198,7 +7473,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelTransferi">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPixelTransferi(@NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glPixelTransferi(@NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPixelTransferi;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelTransferi", start);
+        }
+    }
 
     // --- [ glPixelTransferf ] ---
 
@@ -5210,7 +7496,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelTransferf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPixelTransferf(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glPixelTransferf(@NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPixelTransferf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelTransferf", start);
+        }
+    }
 
     // --- [ glPixelZoom ] ---
 
@@ -5230,7 +7527,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelZoom">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPixelZoom(@NativeType("GLfloat") float xfactor, @NativeType("GLfloat") float yfactor);
+    public static void glPixelZoom(@NativeType("GLfloat") float xfactor, @NativeType("GLfloat") float yfactor) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPixelZoom;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(xfactor, yfactor, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelZoom", start);
+        }
+    }
 
     // --- [ glPointSize ] ---
 
@@ -5242,7 +7550,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glPointSize">Reference Page</a>
      */
     public static void glPointSize(@NativeType("GLfloat") float size) {
-        GL11C.glPointSize(size);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glPointSize(size);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPointSize", start);
+        }
     }
 
     // --- [ glPolygonMode ] ---
@@ -5260,7 +7573,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glPolygonMode">Reference Page</a>
      */
     public static void glPolygonMode(@NativeType("GLenum") int face, @NativeType("GLenum") int mode) {
-        GL11C.glPolygonMode(face, mode);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glPolygonMode(face, mode);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPolygonMode", start);
+        }
     }
 
     // --- [ glPolygonOffset ] ---
@@ -5278,13 +7596,29 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glPolygonOffset">Reference Page</a>
      */
     public static void glPolygonOffset(@NativeType("GLfloat") float factor, @NativeType("GLfloat") float units) {
-        GL11C.glPolygonOffset(factor, units);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glPolygonOffset(factor, units);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPolygonOffset", start);
+        }
     }
 
     // --- [ glPolygonStipple ] ---
 
     /** Unsafe version of: {@link #glPolygonStipple PolygonStipple} */
-    public static native void nglPolygonStipple(long pattern);
+    public static void nglPolygonStipple(long pattern) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPolygonStipple;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(pattern, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPolygonStipple", start);
+        }
+    }
 
     /**
      * Defines a polygon stipple. It works much the same way as {@link #glLineStipple LineStipple}, masking out certain fragments produced by rasterization so that they
@@ -5301,10 +7635,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPolygonStipple">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPolygonStipple(@NativeType("GLubyte const *") ByteBuffer pattern) {
-        if (CHECKS) {
-            check(pattern, 128);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(pattern, 128);
+            }
+            nglPolygonStipple(memAddress(pattern));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPolygonStipple", start);
         }
-        nglPolygonStipple(memAddress(pattern));
     }
 
     /**
@@ -5322,7 +7661,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPolygonStipple">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPolygonStipple(@NativeType("GLubyte const *") long pattern) {
-        nglPolygonStipple(pattern);
+        long start = GLHooks.enter();
+        try {
+            nglPolygonStipple(pattern);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPolygonStipple", start);
+        }
     }
 
     // --- [ glPushAttrib ] ---
@@ -5341,7 +7685,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glPushAttrib">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPushAttrib(@NativeType("GLbitfield") int mask);
+    public static void glPushAttrib(@NativeType("GLbitfield") int mask) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPushAttrib;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.enabled) MatrixStacks.pushAttrib(mask);
+            callV(mask, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPushAttrib", start);
+        }
+    }
 
     // --- [ glPushClientAttrib ] ---
 
@@ -5368,7 +7724,21 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glPopAttrib">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPopAttrib();
+    public static void glPopAttrib() {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPopAttrib;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+            // The attributes restored may include tracked state
+            GLStateCache.invalidate();
+            if (MatrixStacks.enabled) MatrixStacks.popAttrib();
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPopAttrib", start);
+        }
+    }
 
     // --- [ glPopClientAttrib ] ---
 
@@ -5386,7 +7756,23 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glPopMatrix">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPopMatrix();
+    public static void glPopMatrix() {
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glPopMatrix();
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPopMatrix;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPopMatrix", start);
+        }
+    }
 
     // --- [ glPopName ] ---
 
@@ -5395,7 +7781,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glPopName">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPopName();
+    public static void glPopName() {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPopName;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPopName", start);
+        }
+    }
 
     // --- [ glPrioritizeTextures ] ---
 
@@ -5404,7 +7801,18 @@ public class GL11 {
      *
      * @param n the number of texture object priorities to set
      */
-    public static native void nglPrioritizeTextures(int n, long textures, long priorities);
+    public static void nglPrioritizeTextures(int n, long textures, long priorities) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPrioritizeTextures;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPPV(n, textures, priorities, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPrioritizeTextures", start);
+        }
+    }
 
     /**
      * Sets the priority of texture objects. Each priority value is clamped to the range [0, 1] before it is assigned. Zero indicates the lowest priority, with
@@ -5416,10 +7824,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPrioritizeTextures">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPrioritizeTextures(@NativeType("GLuint const *") IntBuffer textures, @NativeType("GLfloat const *") FloatBuffer priorities) {
-        if (CHECKS) {
-            check(priorities, textures.remaining());
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(priorities, textures.remaining());
+            }
+            nglPrioritizeTextures(textures.remaining(), memAddress(textures), memAddress(priorities));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPrioritizeTextures", start);
         }
-        nglPrioritizeTextures(textures.remaining(), memAddress(textures), memAddress(priorities));
     }
 
     // --- [ glPushMatrix ] ---
@@ -5429,7 +7842,23 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glPushMatrix">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPushMatrix();
+    public static void glPushMatrix() {
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glPushMatrix();
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPushMatrix;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(__functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPushMatrix", start);
+        }
+    }
 
     // --- [ glPushName ] ---
 
@@ -5440,7 +7869,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glPushName">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glPushName(@NativeType("GLuint") int name);
+    public static void glPushName(@NativeType("GLuint") int name) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPushName;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(name, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPushName", start);
+        }
+    }
 
     // --- [ glRasterPos2i ] ---
 
@@ -5458,7 +7898,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos2i(@NativeType("GLint") int x, @NativeType("GLint") int y);
+    public static void glRasterPos2i(@NativeType("GLint") int x, @NativeType("GLint") int y) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos2i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x, y, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2i", start);
+        }
+    }
 
     // --- [ glRasterPos2s ] ---
 
@@ -5470,8 +7922,20 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos2s(@NativeType("GLshort") short x, @NativeType("GLshort") short y);
-
+    public static void glRasterPos2s(@NativeType("GLshort") short x, @NativeType("GLshort") short y) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos2s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x, y, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2s", start);
+        }
+    }
+
     // --- [ glRasterPos2f ] ---
 
     /**
@@ -5482,7 +7946,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos2f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y);
+    public static void glRasterPos2f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos2f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x, y, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2f", start);
+        }
+    }
 
     // --- [ glRasterPos2d ] ---
 
@@ -5494,12 +7970,36 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos2d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y);
+    public static void glRasterPos2d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos2d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x, y, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2d", start);
+        }
+    }
 
     // --- [ glRasterPos2iv ] ---
 
     /** Unsafe version of: {@link #glRasterPos2iv RasterPos2iv} */
-    public static native void nglRasterPos2iv(long coords);
+    public static void nglRasterPos2iv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos2iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2iv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos2i RasterPos2i}.
@@ -5509,16 +8009,34 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2iv(@NativeType("GLint const *") IntBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRasterPos2iv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2iv", start);
         }
-        nglRasterPos2iv(memAddress(coords));
     }
 
     // --- [ glRasterPos2sv ] ---
 
     /** Unsafe version of: {@link #glRasterPos2sv RasterPos2sv} */
-    public static native void nglRasterPos2sv(long coords);
+    public static void nglRasterPos2sv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos2sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2sv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos2s RasterPos2s}.
@@ -5528,16 +8046,34 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2sv(@NativeType("GLshort const *") ShortBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRasterPos2sv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2sv", start);
         }
-        nglRasterPos2sv(memAddress(coords));
     }
 
     // --- [ glRasterPos2fv ] ---
 
     /** Unsafe version of: {@link #glRasterPos2fv RasterPos2fv} */
-    public static native void nglRasterPos2fv(long coords);
+    public static void nglRasterPos2fv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos2f RasterPos2f}.
@@ -5547,16 +8083,34 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2fv(@NativeType("GLfloat const *") FloatBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRasterPos2fv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2fv", start);
         }
-        nglRasterPos2fv(memAddress(coords));
     }
 
     // --- [ glRasterPos2dv ] ---
 
     /** Unsafe version of: {@link #glRasterPos2dv RasterPos2dv} */
-    public static native void nglRasterPos2dv(long coords);
+    public static void nglRasterPos2dv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos2d RasterPos2d}.
@@ -5566,10 +8120,16 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2dv(@NativeType("GLdouble const *") DoubleBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRasterPos2dv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2dv", start);
         }
-        nglRasterPos2dv(memAddress(coords));
     }
 
     // --- [ glRasterPos3i ] ---
@@ -5583,7 +8143,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos3i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z);
+    public static void glRasterPos3i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos3i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3i", start);
+        }
+    }
 
     // --- [ glRasterPos3s ] ---
 
@@ -5596,7 +8168,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos3s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z);
+    public static void glRasterPos3s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos3s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3s", start);
+        }
+    }
 
     // --- [ glRasterPos3f ] ---
 
@@ -5609,7 +8193,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos3f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z);
+    public static void glRasterPos3f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos3f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3f", start);
+        }
+    }
 
     // --- [ glRasterPos3d ] ---
 
@@ -5622,12 +8218,36 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos3d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z);
+    public static void glRasterPos3d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos3d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3d", start);
+        }
+    }
 
     // --- [ glRasterPos3iv ] ---
 
     /** Unsafe version of: {@link #glRasterPos3iv RasterPos3iv} */
-    public static native void nglRasterPos3iv(long coords);
+    public static void nglRasterPos3iv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3iv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos3i RasterPos3i}.
@@ -5637,16 +8257,34 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3iv(@NativeType("GLint const *") IntBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRasterPos3iv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3iv", start);
         }
-        nglRasterPos3iv(memAddress(coords));
     }
 
     // --- [ glRasterPos3sv ] ---
 
     /** Unsafe version of: {@link #glRasterPos3sv RasterPos3sv} */
-    public static native void nglRasterPos3sv(long coords);
+    public static void nglRasterPos3sv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3sv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos3s RasterPos3s}.
@@ -5656,16 +8294,34 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3sv(@NativeType("GLshort const *") ShortBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRasterPos3sv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3sv", start);
         }
-        nglRasterPos3sv(memAddress(coords));
     }
 
     // --- [ glRasterPos3fv ] ---
 
     /** Unsafe version of: {@link #glRasterPos3fv RasterPos3fv} */
-    public static native void nglRasterPos3fv(long coords);
+    public static void nglRasterPos3fv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos3f RasterPos3f}.
@@ -5675,16 +8331,34 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3fv(@NativeType("GLfloat const *") FloatBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRasterPos3fv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3fv", start);
         }
-        nglRasterPos3fv(memAddress(coords));
     }
 
     // --- [ glRasterPos3dv ] ---
 
     /** Unsafe version of: {@link #glRasterPos3dv RasterPos3dv} */
-    public static native void nglRasterPos3dv(long coords);
+    public static void nglRasterPos3dv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos3d RasterPos3d}.
@@ -5694,10 +8368,16 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3dv(@NativeType("GLdouble const *") DoubleBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRasterPos3dv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3dv", start);
         }
-        nglRasterPos3dv(memAddress(coords));
     }
 
     // --- [ glRasterPos4i ] ---
@@ -5712,7 +8392,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos4i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z, @NativeType("GLint") int w);
+    public static void glRasterPos4i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z, @NativeType("GLint") int w) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos4i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4i", start);
+        }
+    }
 
     // --- [ glRasterPos4s ] ---
 
@@ -5726,7 +8418,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos4s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z, @NativeType("GLshort") short w);
+    public static void glRasterPos4s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z, @NativeType("GLshort") short w) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos4s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4s", start);
+        }
+    }
 
     // --- [ glRasterPos4f ] ---
 
@@ -5740,7 +8444,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos4f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z, @NativeType("GLfloat") float w);
+    public static void glRasterPos4f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z, @NativeType("GLfloat") float w) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos4f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4f", start);
+        }
+    }
 
     // --- [ glRasterPos4d ] ---
 
@@ -5754,12 +8470,36 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRasterPos4d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z, @NativeType("GLdouble") double w);
+    public static void glRasterPos4d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z, @NativeType("GLdouble") double w) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos4d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4d", start);
+        }
+    }
 
     // --- [ glRasterPos4iv ] ---
 
     /** Unsafe version of: {@link #glRasterPos4iv RasterPos4iv} */
-    public static native void nglRasterPos4iv(long coords);
+    public static void nglRasterPos4iv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4iv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos4i RasterPos4i}.
@@ -5769,16 +8509,34 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4iv(@NativeType("GLint const *") IntBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRasterPos4iv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4iv", start);
         }
-        nglRasterPos4iv(memAddress(coords));
     }
 
     // --- [ glRasterPos4sv ] ---
 
     /** Unsafe version of: {@link #glRasterPos4sv RasterPos4sv} */
-    public static native void nglRasterPos4sv(long coords);
+    public static void nglRasterPos4sv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4sv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos4s RasterPos4s}.
@@ -5788,16 +8546,34 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4sv(@NativeType("GLshort const *") ShortBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRasterPos4sv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4sv", start);
         }
-        nglRasterPos4sv(memAddress(coords));
     }
 
     // --- [ glRasterPos4fv ] ---
 
     /** Unsafe version of: {@link #glRasterPos4fv RasterPos4fv} */
-    public static native void nglRasterPos4fv(long coords);
+    public static void nglRasterPos4fv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos4f RasterPos4f}.
@@ -5807,16 +8583,34 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4fv(@NativeType("GLfloat const *") FloatBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRasterPos4fv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4fv", start);
         }
-        nglRasterPos4fv(memAddress(coords));
     }
 
     // --- [ glRasterPos4dv ] ---
 
     /** Unsafe version of: {@link #glRasterPos4dv RasterPos4dv} */
-    public static native void nglRasterPos4dv(long coords);
+    public static void nglRasterPos4dv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRasterPos4d RasterPos4d}.
@@ -5826,10 +8620,16 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4dv(@NativeType("GLdouble const *") DoubleBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRasterPos4dv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4dv", start);
         }
-        nglRasterPos4dv(memAddress(coords));
     }
 
     // --- [ glReadBuffer ] ---
@@ -5845,14 +8645,24 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadBuffer">Reference Page</a>
      */
     public static void glReadBuffer(@NativeType("GLenum") int src) {
-        GL11C.glReadBuffer(src);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glReadBuffer(src);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glReadBuffer", start);
+        }
     }
 
     // --- [ glReadPixels ] ---
 
     /** Unsafe version of: {@link #glReadPixels ReadPixels} */
     public static void nglReadPixels(int x, int y, int width, int height, int format, int type, long pixels) {
-        GL11C.nglReadPixels(x, y, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glReadPixels", start);
+        }
     }
 
     /**
@@ -5873,7 +8683,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ByteBuffer pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glReadPixels", start);
+        }
     }
 
     /**
@@ -5894,7 +8709,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") long pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glReadPixels", start);
+        }
     }
 
     /**
@@ -5915,7 +8735,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") ShortBuffer pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glReadPixels", start);
+        }
     }
 
     /**
@@ -5936,7 +8761,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") IntBuffer pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glReadPixels", start);
+        }
     }
 
     /**
@@ -5957,7 +8787,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") FloatBuffer pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glReadPixels", start);
+        }
     }
 
     // --- [ glRecti ] ---
@@ -5985,7 +8820,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRecti">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRecti(@NativeType("GLint") int x1, @NativeType("GLint") int y1, @NativeType("GLint") int x2, @NativeType("GLint") int y2);
+    public static void glRecti(@NativeType("GLint") int x1, @NativeType("GLint") int y1, @NativeType("GLint") int x2, @NativeType("GLint") int y2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRecti;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x1, y1, x2, y2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRecti", start);
+        }
+    }
 
     // --- [ glRects ] ---
 
@@ -5999,7 +8846,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRects">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRects(@NativeType("GLshort") short x1, @NativeType("GLshort") short y1, @NativeType("GLshort") short x2, @NativeType("GLshort") short y2);
+    public static void glRects(@NativeType("GLshort") short x1, @NativeType("GLshort") short y1, @NativeType("GLshort") short x2, @NativeType("GLshort") short y2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRects;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x1, y1, x2, y2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRects", start);
+        }
+    }
 
     // --- [ glRectf ] ---
 
@@ -6013,7 +8872,19 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRectf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRectf(@NativeType("GLfloat") float x1, @NativeType("GLfloat") float y1, @NativeType("GLfloat") float x2, @NativeType("GLfloat") float y2);
+    public static void glRectf(@NativeType("GLfloat") float x1, @NativeType("GLfloat") float y1, @NativeType("GLfloat") float x2, @NativeType("GLfloat") float y2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRectf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x1, y1, x2, y2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectf", start);
+        }
+    }
 
     // --- [ glRectd ] ---
 
@@ -6027,12 +8898,36 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRectd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRectd(@NativeType("GLdouble") double x1, @NativeType("GLdouble") double y1, @NativeType("GLdouble") double x2, @NativeType("GLdouble") double y2);
+    public static void glRectd(@NativeType("GLdouble") double x1, @NativeType("GLdouble") double y1, @NativeType("GLdouble") double x2, @NativeType("GLdouble") double y2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRectd;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callV(x1, y1, x2, y2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectd", start);
+        }
+    }
 
     // --- [ glRectiv ] ---
 
     /** Unsafe version of: {@link #glRectiv Rectiv} */
-    public static native void nglRectiv(long v1, long v2);
+    public static void nglRectiv(long v1, long v2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRectiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectiv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRecti Recti}.
@@ -6043,17 +8938,35 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectiv(@NativeType("GLint const *") IntBuffer v1, @NativeType("GLint const *") IntBuffer v2) {
-        if (CHECKS) {
-            check(v1, 2);
-            check(v2, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v1, 2);
+                check(v2, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRectiv(memAddress(v1), memAddress(v2));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectiv", start);
         }
-        nglRectiv(memAddress(v1), memAddress(v2));
     }
 
     // --- [ glRectsv ] ---
 
     /** Unsafe version of: {@link #glRectsv Rectsv} */
-    public static native void nglRectsv(long v1, long v2);
+    public static void nglRectsv(long v1, long v2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRectsv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectsv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRects Rects}.
@@ -6064,17 +8977,35 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectsv(@NativeType("GLshort const *") ShortBuffer v1, @NativeType("GLshort const *") ShortBuffer v2) {
-        if (CHECKS) {
-            check(v1, 2);
-            check(v2, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v1, 2);
+                check(v2, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRectsv(memAddress(v1), memAddress(v2));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectsv", start);
         }
-        nglRectsv(memAddress(v1), memAddress(v2));
     }
 
     // --- [ glRectfv ] ---
 
     /** Unsafe version of: {@link #glRectfv Rectfv} */
-    public static native void nglRectfv(long v1, long v2);
+    public static void nglRectfv(long v1, long v2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRectfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectfv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRectf Rectf}.
@@ -6085,17 +9016,35 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectfv(@NativeType("GLfloat const *") FloatBuffer v1, @NativeType("GLfloat const *") FloatBuffer v2) {
-        if (CHECKS) {
-            check(v1, 2);
-            check(v2, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v1, 2);
+                check(v2, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRectfv(memAddress(v1), memAddress(v2));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectfv", start);
         }
-        nglRectfv(memAddress(v1), memAddress(v2));
     }
 
     // --- [ glRectdv ] ---
 
     /** Unsafe version of: {@link #glRectdv Rectdv} */
-    public static native void nglRectdv(long v1, long v2);
+    public static void nglRectdv(long v1, long v2) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRectdv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectdv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glRectd Rectd}.
@@ -6106,11 +9055,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectdv(@NativeType("GLdouble const *") DoubleBuffer v1, @NativeType("GLdouble const *") DoubleBuffer v2) {
-        if (CHECKS) {
-            check(v1, 2);
-            check(v2, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v1, 2);
+                check(v2, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglRectdv(memAddress(v1), memAddress(v2));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectdv", start);
         }
-        nglRectdv(memAddress(v1), memAddress(v2));
     }
 
     // --- [ glRenderMode ] ---
@@ -6123,7 +9078,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRenderMode">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     @NativeType("GLint")
-    public static native int glRenderMode(@NativeType("GLenum") int mode);
+    public static int glRenderMode(@NativeType("GLenum") int mode) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRenderMode;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            return callI(mode, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRenderMode", start);
+        }
+    }
 
     // --- [ glRotatef ] ---
 
@@ -6158,7 +9124,23 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRotatef">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRotatef(@NativeType("GLfloat") float angle, @NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z);
+    public static void glRotatef(@NativeType("GLfloat") float angle, @NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z) {
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glRotatef(angle, x, y, z);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRotatef;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(angle, x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRotatef", start);
+        }
+    }
 
     // --- [ glRotated ] ---
 
@@ -6172,7 +9154,23 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glRotated">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glRotated(@NativeType("GLdouble") double angle, @NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z);
+    public static void glRotated(@NativeType("GLdouble") double angle, @NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z) {
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glRotatef((float) angle, (float) x, (float) y, (float) z);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRotated;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(angle, x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRotated", start);
+        }
+    }
 
     // --- [ glScalef ] ---
 
@@ -6194,7 +9192,23 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glScalef">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glScalef(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z);
+    public static void glScalef(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z) {
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glScalef(x, y, z);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glScalef;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glScalef", start);
+        }
+    }
 
     // --- [ glScaled ] ---
 
@@ -6207,7 +9221,23 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glScaled">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glScaled(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z);
+    public static void glScaled(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z) {
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glScalef((float) x, (float) y, (float) z);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glScaled;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glScaled", start);
+        }
+    }
 
     // --- [ glScissor ] ---
 
@@ -6225,7 +9255,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glScissor">Reference Page</a>
      */
     public static void glScissor(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height) {
-        GL11C.glScissor(x, y, width, height);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glScissor(x, y, width, height);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glScissor", start);
+        }
     }
 
     // --- [ glSelectBuffer ] ---
@@ -6261,7 +9296,18 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glShadeModel">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glShadeModel(@NativeType("GLenum") int mode);
+    public static void glShadeModel(@NativeType("GLenum") int mode) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glShadeModel;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(mode, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glShadeModel", start);
+        }
+    }
 
     // --- [ glStencilFunc ] ---
 
@@ -6280,7 +9326,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glStencilFunc">Reference Page</a>
      */
     public static void glStencilFunc(@NativeType("GLenum") int func, @NativeType("GLint") int ref, @NativeType("GLuint") int mask) {
-        GL11C.glStencilFunc(func, ref, mask);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glStencilFunc(func, ref, mask);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glStencilFunc", start);
+        }
     }
 
     // --- [ glStencilMask ] ---
@@ -6296,7 +9347,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glStencilMask">Reference Page</a>
      */
     public static void glStencilMask(@NativeType("GLuint") int mask) {
-        GL11C.glStencilMask(mask);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glStencilMask(mask);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glStencilMask", start);
+        }
     }
 
     // --- [ glStencilOp ] ---
@@ -6319,7 +9375,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glStencilOp">Reference Page</a>
      */
     public static void glStencilOp(@NativeType("GLenum") int sfail, @NativeType("GLenum") int dpfail, @NativeType("GLenum") int dppass) {
-        GL11C.glStencilOp(sfail, dpfail, dppass);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glStencilOp(sfail, dpfail, dppass);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glStencilOp", start);
+        }
     }
 
     // --- [ glTexCoord1f ] ---
@@ -6331,7 +9392,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord1f(@NativeType("GLfloat") float s);
+    public static void glTexCoord1f(@NativeType("GLfloat") float s) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, 0, 0, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord1f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1f", start);
+        }
+    }
 
     // --- [ glTexCoord1s ] ---
 
@@ -6342,7 +9418,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord1s(@NativeType("GLshort") short s);
+    public static void glTexCoord1s(@NativeType("GLshort") short s) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, 0, 0, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord1s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1s", start);
+        }
+    }
 
     // --- [ glTexCoord1i ] ---
 
@@ -6353,7 +9444,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord1i(@NativeType("GLint") int s);
+    public static void glTexCoord1i(@NativeType("GLint") int s) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, 0, 0, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord1i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1i", start);
+        }
+    }
 
     // --- [ glTexCoord1d ] ---
 
@@ -6364,14 +9470,40 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord1d(@NativeType("GLdouble") double s);
+    public static void glTexCoord1d(@NativeType("GLdouble") double s) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, 0, 0, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord1d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1d", start);
+        }
+    }
 
     // --- [ glTexCoord1fv ] ---
 
     /** Unsafe version of: {@link #glTexCoord1fv TexCoord1fv} */
-    public static native void nglTexCoord1fv(long v);
-
-    /**
+    public static void nglTexCoord1fv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord1fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1fv", start);
+        }
+    }
+
+    /**
      * Pointer version of {@link #glTexCoord1f TexCoord1f}.
      *
      * @param v the texture coordinate buffer
@@ -6379,16 +9511,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 1);
+            }
+            nglTexCoord1fv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1fv", start);
         }
-        nglTexCoord1fv(memAddress(v));
     }
 
     // --- [ glTexCoord1sv ] ---
 
     /** Unsafe version of: {@link #glTexCoord1sv TexCoord1sv} */
-    public static native void nglTexCoord1sv(long v);
+    public static void nglTexCoord1sv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord1sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1sv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord1s TexCoord1s}.
@@ -6398,16 +9546,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 1);
+            }
+            nglTexCoord1sv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1sv", start);
         }
-        nglTexCoord1sv(memAddress(v));
     }
 
     // --- [ glTexCoord1iv ] ---
 
     /** Unsafe version of: {@link #glTexCoord1iv TexCoord1iv} */
-    public static native void nglTexCoord1iv(long v);
+    public static void nglTexCoord1iv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord1iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1iv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord1i TexCoord1i}.
@@ -6417,16 +9581,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 1);
+            }
+            nglTexCoord1iv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1iv", start);
         }
-        nglTexCoord1iv(memAddress(v));
     }
 
     // --- [ glTexCoord1dv ] ---
 
     /** Unsafe version of: {@link #glTexCoord1dv TexCoord1dv} */
-    public static native void nglTexCoord1dv(long v);
+    public static void nglTexCoord1dv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord1dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord1d TexCoord1d}.
@@ -6436,10 +9616,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 1);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 1);
+            }
+            nglTexCoord1dv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1dv", start);
         }
-        nglTexCoord1dv(memAddress(v));
     }
 
     // --- [ glTexCoord2f ] ---
@@ -6452,7 +9637,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord2f(@NativeType("GLfloat") float s, @NativeType("GLfloat") float t);
+    public static void glTexCoord2f(@NativeType("GLfloat") float s, @NativeType("GLfloat") float t) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, t, 0, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord2f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2f", start);
+        }
+    }
 
     // --- [ glTexCoord2s ] ---
 
@@ -6464,7 +9664,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord2s(@NativeType("GLshort") short s, @NativeType("GLshort") short t);
+    public static void glTexCoord2s(@NativeType("GLshort") short s, @NativeType("GLshort") short t) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, t, 0, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord2s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2s", start);
+        }
+    }
 
     // --- [ glTexCoord2i ] ---
 
@@ -6476,7 +9691,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord2i(@NativeType("GLint") int s, @NativeType("GLint") int t);
+    public static void glTexCoord2i(@NativeType("GLint") int s, @NativeType("GLint") int t) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, t, 0, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord2i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2i", start);
+        }
+    }
 
     // --- [ glTexCoord2d ] ---
 
@@ -6488,12 +9718,38 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord2d(@NativeType("GLdouble") double s, @NativeType("GLdouble") double t);
+    public static void glTexCoord2d(@NativeType("GLdouble") double s, @NativeType("GLdouble") double t) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, t, 0, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord2d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2d", start);
+        }
+    }
 
     // --- [ glTexCoord2fv ] ---
 
     /** Unsafe version of: {@link #glTexCoord2fv TexCoord2fv} */
-    public static native void nglTexCoord2fv(long v);
+    public static void nglTexCoord2fv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord2f TexCoord2f}.
@@ -6503,16 +9759,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 2);
+            }
+            nglTexCoord2fv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2fv", start);
         }
-        nglTexCoord2fv(memAddress(v));
     }
 
     // --- [ glTexCoord2sv ] ---
 
     /** Unsafe version of: {@link #glTexCoord2sv TexCoord2sv} */
-    public static native void nglTexCoord2sv(long v);
+    public static void nglTexCoord2sv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord2sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2sv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord2s TexCoord2s}.
@@ -6522,16 +9794,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 2);
+            }
+            nglTexCoord2sv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2sv", start);
         }
-        nglTexCoord2sv(memAddress(v));
     }
 
     // --- [ glTexCoord2iv ] ---
 
     /** Unsafe version of: {@link #glTexCoord2iv TexCoord2iv} */
-    public static native void nglTexCoord2iv(long v);
+    public static void nglTexCoord2iv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord2iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2iv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord2i TexCoord2i}.
@@ -6541,16 +9829,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 2);
+            }
+            nglTexCoord2iv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2iv", start);
         }
-        nglTexCoord2iv(memAddress(v));
     }
 
     // --- [ glTexCoord2dv ] ---
 
     /** Unsafe version of: {@link #glTexCoord2dv TexCoord2dv} */
-    public static native void nglTexCoord2dv(long v);
+    public static void nglTexCoord2dv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord2d TexCoord2d}.
@@ -6560,10 +9864,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 2);
+            }
+            nglTexCoord2dv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2dv", start);
         }
-        nglTexCoord2dv(memAddress(v));
     }
 
     // --- [ glTexCoord3f ] ---
@@ -6577,7 +9886,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord3f(@NativeType("GLfloat") float s, @NativeType("GLfloat") float t, @NativeType("GLfloat") float r);
+    public static void glTexCoord3f(@NativeType("GLfloat") float s, @NativeType("GLfloat") float t, @NativeType("GLfloat") float r) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, t, r, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord3f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3f", start);
+        }
+    }
 
     // --- [ glTexCoord3s ] ---
 
@@ -6590,7 +9914,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord3s(@NativeType("GLshort") short s, @NativeType("GLshort") short t, @NativeType("GLshort") short r);
+    public static void glTexCoord3s(@NativeType("GLshort") short s, @NativeType("GLshort") short t, @NativeType("GLshort") short r) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, t, r, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord3s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3s", start);
+        }
+    }
 
     // --- [ glTexCoord3i ] ---
 
@@ -6603,7 +9942,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord3i(@NativeType("GLint") int s, @NativeType("GLint") int t, @NativeType("GLint") int r);
+    public static void glTexCoord3i(@NativeType("GLint") int s, @NativeType("GLint") int t, @NativeType("GLint") int r) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, t, r, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord3i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3i", start);
+        }
+    }
 
     // --- [ glTexCoord3d ] ---
 
@@ -6616,12 +9970,38 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord3d(@NativeType("GLdouble") double s, @NativeType("GLdouble") double t, @NativeType("GLdouble") double r);
+    public static void glTexCoord3d(@NativeType("GLdouble") double s, @NativeType("GLdouble") double t, @NativeType("GLdouble") double r) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, t, r, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord3d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3d", start);
+        }
+    }
 
     // --- [ glTexCoord3fv ] ---
 
     /** Unsafe version of: {@link #glTexCoord3fv TexCoord3fv} */
-    public static native void nglTexCoord3fv(long v);
+    public static void nglTexCoord3fv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord3f TexCoord3f}.
@@ -6631,16 +10011,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglTexCoord3fv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3fv", start);
         }
-        nglTexCoord3fv(memAddress(v));
     }
 
     // --- [ glTexCoord3sv ] ---
 
     /** Unsafe version of: {@link #glTexCoord3sv TexCoord3sv} */
-    public static native void nglTexCoord3sv(long v);
+    public static void nglTexCoord3sv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3sv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord3s TexCoord3s}.
@@ -6650,16 +10046,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglTexCoord3sv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3sv", start);
         }
-        nglTexCoord3sv(memAddress(v));
     }
 
     // --- [ glTexCoord3iv ] ---
 
     /** Unsafe version of: {@link #glTexCoord3iv TexCoord3iv} */
-    public static native void nglTexCoord3iv(long v);
+    public static void nglTexCoord3iv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3iv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord3i TexCoord3i}.
@@ -6669,16 +10081,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglTexCoord3iv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3iv", start);
         }
-        nglTexCoord3iv(memAddress(v));
     }
 
     // --- [ glTexCoord3dv ] ---
 
     /** Unsafe version of: {@link #glTexCoord3dv TexCoord3dv} */
-    public static native void nglTexCoord3dv(long v);
+    public static void nglTexCoord3dv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord3d TexCoord3d}.
@@ -6688,10 +10116,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 3);
+            }
+            nglTexCoord3dv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3dv", start);
         }
-        nglTexCoord3dv(memAddress(v));
     }
 
     // --- [ glTexCoord4f ] ---
@@ -6706,7 +10139,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord4f(@NativeType("GLfloat") float s, @NativeType("GLfloat") float t, @NativeType("GLfloat") float r, @NativeType("GLfloat") float q);
+    public static void glTexCoord4f(@NativeType("GLfloat") float s, @NativeType("GLfloat") float t, @NativeType("GLfloat") float r, @NativeType("GLfloat") float q) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, t, r, q);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord4f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, q, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4f", start);
+        }
+    }
 
     // --- [ glTexCoord4s ] ---
 
@@ -6720,7 +10168,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord4s(@NativeType("GLshort") short s, @NativeType("GLshort") short t, @NativeType("GLshort") short r, @NativeType("GLshort") short q);
+    public static void glTexCoord4s(@NativeType("GLshort") short s, @NativeType("GLshort") short t, @NativeType("GLshort") short r, @NativeType("GLshort") short q) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, t, r, q);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord4s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, q, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4s", start);
+        }
+    }
 
     // --- [ glTexCoord4i ] ---
 
@@ -6734,7 +10197,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord4i(@NativeType("GLint") int s, @NativeType("GLint") int t, @NativeType("GLint") int r, @NativeType("GLint") int q);
+    public static void glTexCoord4i(@NativeType("GLint") int s, @NativeType("GLint") int t, @NativeType("GLint") int r, @NativeType("GLint") int q) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, t, r, q);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord4i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, q, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4i", start);
+        }
+    }
 
     // --- [ glTexCoord4d ] ---
 
@@ -6748,12 +10226,38 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexCoord4d(@NativeType("GLdouble") double s, @NativeType("GLdouble") double t, @NativeType("GLdouble") double r, @NativeType("GLdouble") double q);
+    public static void glTexCoord4d(@NativeType("GLdouble") double s, @NativeType("GLdouble") double t, @NativeType("GLdouble") double r, @NativeType("GLdouble") double q) {
+        if (ImmediateMode.enabled || ImmediateMode.recording != null) {
+            ImmediateMode.texCoord(s, t, r, q);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord4d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(s, t, r, q, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4d", start);
+        }
+    }
 
     // --- [ glTexCoord4fv ] ---
 
     /** Unsafe version of: {@link #glTexCoord4fv TexCoord4fv} */
-    public static native void nglTexCoord4fv(long v);
+    public static void nglTexCoord4fv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord4f TexCoord4f}.
@@ -6763,16 +10267,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4fv(@NativeType("GLfloat const *") FloatBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglTexCoord4fv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4fv", start);
         }
-        nglTexCoord4fv(memAddress(v));
     }
 
     // --- [ glTexCoord4sv ] ---
 
     /** Unsafe version of: {@link #glTexCoord4sv TexCoord4sv} */
-    public static native void nglTexCoord4sv(long v);
+    public static void nglTexCoord4sv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4sv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord4s TexCoord4s}.
@@ -6782,16 +10302,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4sv(@NativeType("GLshort const *") ShortBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglTexCoord4sv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4sv", start);
         }
-        nglTexCoord4sv(memAddress(v));
     }
 
     // --- [ glTexCoord4iv ] ---
 
     /** Unsafe version of: {@link #glTexCoord4iv TexCoord4iv} */
-    public static native void nglTexCoord4iv(long v);
+    public static void nglTexCoord4iv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4iv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord4i TexCoord4i}.
@@ -6801,16 +10337,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4iv(@NativeType("GLint const *") IntBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglTexCoord4iv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4iv", start);
         }
-        nglTexCoord4iv(memAddress(v));
     }
 
     // --- [ glTexCoord4dv ] ---
 
     /** Unsafe version of: {@link #glTexCoord4dv TexCoord4dv} */
-    public static native void nglTexCoord4dv(long v);
+    public static void nglTexCoord4dv(long v) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexCoord4d TexCoord4d}.
@@ -6820,10 +10372,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4dv(@NativeType("GLdouble const *") DoubleBuffer v) {
-        if (CHECKS) {
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(v, 4);
+            }
+            nglTexCoord4dv(memAddress(v));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4dv", start);
         }
-        nglTexCoord4dv(memAddress(v));
     }
 
     // --- [ glTexCoordPointer ] ---
@@ -6913,12 +10470,34 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexEnvi">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexEnvi(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glTexEnvi(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexEnvi;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(target, pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexEnvi", start);
+        }
+    }
 
     // --- [ glTexEnviv ] ---
 
     /** Unsafe version of: {@link #glTexEnviv TexEnviv} */
-    public static native void nglTexEnviv(int target, int pname, long params);
+    public static void nglTexEnviv(int target, int pname, long params) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexEnviv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexEnviv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexEnvi TexEnvi}.
@@ -6930,10 +10509,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexEnv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexEnviv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglTexEnviv(target, pname, memAddress(params));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexEnviv", start);
         }
-        nglTexEnviv(target, pname, memAddress(params));
     }
 
     // --- [ glTexEnvf ] ---
@@ -6947,12 +10531,34 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexEnvf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexEnvf(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glTexEnvf(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexEnvf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(target, pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexEnvf", start);
+        }
+    }
 
     // --- [ glTexEnvfv ] ---
 
     /** Unsafe version of: {@link #glTexEnvfv TexEnvfv} */
-    public static native void nglTexEnvfv(int target, int pname, long params);
+    public static void nglTexEnvfv(int target, int pname, long params) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexEnvfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(target, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexEnvfv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexEnvf TexEnvf}.
@@ -6964,10 +10570,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexEnv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexEnvfv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(params, 4);
+            }
+            nglTexEnvfv(target, pname, memAddress(params));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexEnvfv", start);
         }
-        nglTexEnvfv(target, pname, memAddress(params));
     }
 
     // --- [ glTexGeni ] ---
@@ -6989,12 +10600,36 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexGeni">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexGeni(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLint") int param);
+    public static void glTexGeni(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLint") int param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexGeni;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(coord, pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexGeni", start);
+        }
+    }
 
     // --- [ glTexGeniv ] ---
 
     /** Unsafe version of: {@link #glTexGeniv TexGeniv} */
-    public static native void nglTexGeniv(int coord, int pname, long params);
+    public static void nglTexGeniv(int coord, int pname, long params) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexGeniv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coord, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexGeniv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexGeni TexGeni}.
@@ -7006,10 +10641,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexGeniv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(params, 4);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglTexGeniv(coord, pname, memAddress(params));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexGeniv", start);
         }
-        nglTexGeniv(coord, pname, memAddress(params));
     }
 
     // --- [ glTexGenf ] ---
@@ -7023,12 +10665,36 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexGenf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexGenf(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param);
+    public static void glTexGenf(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexGenf;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(coord, pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexGenf", start);
+        }
+    }
 
     // --- [ glTexGenfv ] ---
 
     /** Unsafe version of: {@link #glTexGenfv TexGenfv} */
-    public static native void nglTexGenfv(int coord, int pname, long params);
+    public static void nglTexGenfv(int coord, int pname, long params) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexGenfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coord, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexGenfv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexGenf TexGenf}.
@@ -7040,10 +10706,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexGenfv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(params, 4);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglTexGenfv(coord, pname, memAddress(params));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexGenfv", start);
         }
-        nglTexGenfv(coord, pname, memAddress(params));
     }
 
     // --- [ glTexGend ] ---
@@ -7057,12 +10730,36 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexGend">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTexGend(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLdouble") double param);
+    public static void glTexGend(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLdouble") double param) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexGend;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(coord, pname, param, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexGend", start);
+        }
+    }
 
     // --- [ glTexGendv ] ---
 
     /** Unsafe version of: {@link #glTexGendv TexGendv} */
-    public static native void nglTexGendv(int coord, int pname, long params);
+    public static void nglTexGendv(int coord, int pname, long params) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexGendv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coord, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexGendv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glTexGend TexGend}.
@@ -7074,17 +10771,29 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexGendv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLdouble const *") DoubleBuffer params) {
-        if (CHECKS) {
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(params, 4);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            nglTexGendv(coord, pname, memAddress(params));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexGendv", start);
         }
-        nglTexGendv(coord, pname, memAddress(params));
     }
 
     // --- [ glTexImage1D ] ---
 
     /** Unsafe version of: {@link #glTexImage1D TexImage1D} */
     public static void nglTexImage1D(int target, int level, int internalformat, int width, int border, int format, int type, long pixels) {
-        GL11C.nglTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage1D", start);
+        }
     }
 
     /**
@@ -7102,7 +10811,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage1D", start);
+        }
     }
 
     /**
@@ -7120,7 +10834,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") long pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage1D", start);
+        }
     }
 
     /**
@@ -7138,7 +10857,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage1D", start);
+        }
     }
 
     /**
@@ -7156,7 +10880,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage1D", start);
+        }
     }
 
     /**
@@ -7174,7 +10903,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage1D", start);
+        }
     }
 
     /**
@@ -7192,14 +10926,24 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") DoubleBuffer pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage1D", start);
+        }
     }
 
     // --- [ glTexImage2D ] ---
 
     /** Unsafe version of: {@link #glTexImage2D TexImage2D} */
     public static void nglTexImage2D(int target, int level, int internalformat, int width, int height, int border, int format, int type, long pixels) {
-        GL11C.nglTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage2D", start);
+        }
     }
 
     /**
@@ -7218,7 +10962,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ByteBuffer pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage2D", start);
+        }
     }
 
     /**
@@ -7237,7 +10986,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") long pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage2D", start);
+        }
     }
 
     /**
@@ -7256,7 +11010,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") ShortBuffer pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage2D", start);
+        }
     }
 
     /**
@@ -7275,7 +11034,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") IntBuffer pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage2D", start);
+        }
     }
 
     /**
@@ -7294,7 +11058,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") FloatBuffer pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage2D", start);
+        }
     }
 
     /**
@@ -7313,7 +11082,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") DoubleBuffer pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage2D", start);
+        }
     }
 
     // --- [ glCopyTexImage1D ] ---
@@ -7336,7 +11110,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCopyTexImage1D">Reference Page</a>
      */
     public static void glCopyTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalFormat, @NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLint") int border) {
-        GL11C.glCopyTexImage1D(target, level, internalFormat, x, y, width, border);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glCopyTexImage1D(target, level, internalFormat, x, y, width, border);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCopyTexImage1D", start);
+        }
     }
 
     // --- [ glCopyTexImage2D ] ---
@@ -7370,7 +11149,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCopyTexImage2D">Reference Page</a>
      */
     public static void glCopyTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int internalFormat, @NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border) {
-        GL11C.glCopyTexImage2D(target, level, internalFormat, x, y, width, height, border);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glCopyTexImage2D(target, level, internalFormat, x, y, width, height, border);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCopyTexImage2D", start);
+        }
     }
 
     // --- [ glCopyTexSubImage1D ] ---
@@ -7390,7 +11174,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCopyTexSubImage1D">Reference Page</a>
      */
     public static void glCopyTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width) {
-        GL11C.glCopyTexSubImage1D(target, level, xoffset, x, y, width);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glCopyTexSubImage1D(target, level, xoffset, x, y, width);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCopyTexSubImage1D", start);
+        }
     }
 
     // --- [ glCopyTexSubImage2D ] ---
@@ -7412,7 +11201,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCopyTexSubImage2D">Reference Page</a>
      */
     public static void glCopyTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height) {
-        GL11C.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCopyTexSubImage2D", start);
+        }
     }
 
     // --- [ glTexParameteri ] ---
@@ -7427,14 +11221,24 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexParameteri">Reference Page</a>
      */
     public static void glTexParameteri(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint") int param) {
-        GL11C.glTexParameteri(target, pname, param);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexParameteri(target, pname, param);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexParameteri", start);
+        }
     }
 
     // --- [ glTexParameteriv ] ---
 
     /** Unsafe version of: {@link #glTexParameteriv TexParameteriv} */
     public static void nglTexParameteriv(int target, int pname, long params) {
-        GL11C.nglTexParameteriv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglTexParameteriv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexParameteriv", start);
+        }
     }
 
     /**
@@ -7447,7 +11251,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexParameter">Reference Page</a>
      */
     public static void glTexParameteriv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint const *") IntBuffer params) {
-        GL11C.glTexParameteriv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexParameteriv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexParameteriv", start);
+        }
     }
 
     // --- [ glTexParameterf ] ---
@@ -7462,14 +11271,24 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexParameterf">Reference Page</a>
      */
     public static void glTexParameterf(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat") float param) {
-        GL11C.glTexParameterf(target, pname, param);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexParameterf(target, pname, param);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexParameterf", start);
+        }
     }
 
     // --- [ glTexParameterfv ] ---
 
     /** Unsafe version of: {@link #glTexParameterfv TexParameterfv} */
     public static void nglTexParameterfv(int target, int pname, long params) {
-        GL11C.nglTexParameterfv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglTexParameterfv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexParameterfv", start);
+        }
     }
 
     /**
@@ -7482,14 +11301,24 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexParameter">Reference Page</a>
      */
     public static void glTexParameterfv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") FloatBuffer params) {
-        GL11C.glTexParameterfv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexParameterfv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexParameterfv", start);
+        }
     }
 
     // --- [ glTexSubImage1D ] ---
 
     /** Unsafe version of: {@link #glTexSubImage1D TexSubImage1D} */
     public static void nglTexSubImage1D(int target, int level, int xoffset, int width, int format, int type, long pixels) {
-        GL11C.nglTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage1D", start);
+        }
     }
 
     /**
@@ -7506,7 +11335,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage1D", start);
+        }
     }
 
     /**
@@ -7523,7 +11357,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage1D", start);
+        }
     }
 
     /**
@@ -7540,7 +11379,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage1D", start);
+        }
     }
 
     /**
@@ -7557,7 +11401,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage1D", start);
+        }
     }
 
     /**
@@ -7574,7 +11423,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage1D", start);
+        }
     }
 
     /**
@@ -7591,14 +11445,24 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage1D", start);
+        }
     }
 
     // --- [ glTexSubImage2D ] ---
 
     /** Unsafe version of: {@link #glTexSubImage2D TexSubImage2D} */
     public static void nglTexSubImage2D(int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, long pixels) {
-        GL11C.nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.nglTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage2D", start);
+        }
     }
 
     /**
@@ -7618,7 +11482,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ByteBuffer pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage2D", start);
+        }
     }
 
     /**
@@ -7638,7 +11507,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") long pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage2D", start);
+        }
     }
 
     /**
@@ -7658,7 +11532,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") ShortBuffer pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage2D", start);
+        }
     }
 
     /**
@@ -7678,7 +11557,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") IntBuffer pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage2D", start);
+        }
     }
 
     /**
@@ -7698,7 +11582,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") FloatBuffer pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage2D", start);
+        }
     }
 
     /**
@@ -7718,7 +11607,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") DoubleBuffer pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage2D", start);
+        }
     }
 
     // --- [ glTranslatef ] ---
@@ -7741,7 +11635,23 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTranslatef">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTranslatef(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z);
+    public static void glTranslatef(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z) {
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glTranslatef(x, y, z);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTranslatef;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTranslatef", start);
+        }
+    }
 
     // --- [ glTranslated ] ---
 
@@ -7754,7 +11664,23 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glTranslated">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glTranslated(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z);
+    public static void glTranslated(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z) {
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glTranslatef((float) x, (float) y, (float) z);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTranslated;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTranslated", start);
+        }
+    }
 
     // --- [ glVertex2f ] ---
 
@@ -7767,7 +11693,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex2f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y);
+    public static void glVertex2f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y) {
+        if (ImmediateMode.primitiveMode != -1) {
+            ImmediateMode.vertex(x, y, 0, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex2f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2f", start);
+        }
+    }
 
     // --- [ glVertex2s ] ---
 
@@ -7779,7 +11720,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex2s(@NativeType("GLshort") short x, @NativeType("GLshort") short y);
+    public static void glVertex2s(@NativeType("GLshort") short x, @NativeType("GLshort") short y) {
+        if (ImmediateMode.primitiveMode != -1) {
+            ImmediateMode.vertex(x, y, 0, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex2s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2s", start);
+        }
+    }
 
     // --- [ glVertex2i ] ---
 
@@ -7791,7 +11747,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex2i(@NativeType("GLint") int x, @NativeType("GLint") int y);
+    public static void glVertex2i(@NativeType("GLint") int x, @NativeType("GLint") int y) {
+        if (ImmediateMode.primitiveMode != -1) {
+            ImmediateMode.vertex(x, y, 0, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex2i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2i", start);
+        }
+    }
 
     // --- [ glVertex2d ] ---
 
@@ -7803,12 +11774,38 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex2d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y);
+    public static void glVertex2d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y) {
+        if (ImmediateMode.primitiveMode != -1) {
+            ImmediateMode.vertex(x, y, 0, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex2d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2d", start);
+        }
+    }
 
     // --- [ glVertex2fv ] ---
 
     /** Unsafe version of: {@link #glVertex2fv Vertex2fv} */
-    public static native void nglVertex2fv(long coords);
+    public static void nglVertex2fv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex2f Vertex2f}.
@@ -7818,16 +11815,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2fv(@NativeType("GLfloat const *") FloatBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            nglVertex2fv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2fv", start);
         }
-        nglVertex2fv(memAddress(coords));
     }
 
     // --- [ glVertex2sv ] ---
 
     /** Unsafe version of: {@link #glVertex2sv Vertex2sv} */
-    public static native void nglVertex2sv(long coords);
+    public static void nglVertex2sv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex2sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2sv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex2s Vertex2s}.
@@ -7837,16 +11850,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2sv(@NativeType("GLshort const *") ShortBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            nglVertex2sv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2sv", start);
         }
-        nglVertex2sv(memAddress(coords));
     }
 
     // --- [ glVertex2iv ] ---
 
     /** Unsafe version of: {@link #glVertex2iv Vertex2iv} */
-    public static native void nglVertex2iv(long coords);
+    public static void nglVertex2iv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex2iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2iv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex2i Vertex2i}.
@@ -7856,16 +11885,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2iv(@NativeType("GLint const *") IntBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            nglVertex2iv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2iv", start);
         }
-        nglVertex2iv(memAddress(coords));
     }
 
     // --- [ glVertex2dv ] ---
 
     /** Unsafe version of: {@link #glVertex2dv Vertex2dv} */
-    public static native void nglVertex2dv(long coords);
+    public static void nglVertex2dv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex2d Vertex2d}.
@@ -7875,10 +11920,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2dv(@NativeType("GLdouble const *") DoubleBuffer coords) {
-        if (CHECKS) {
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 2);
+            }
+            nglVertex2dv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2dv", start);
         }
-        nglVertex2dv(memAddress(coords));
     }
 
     // --- [ glVertex3f ] ---
@@ -7893,7 +11943,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex3f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z);
+    public static void glVertex3f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z) {
+        if (ImmediateMode.primitiveMode != -1) {
+            ImmediateMode.vertex(x, y, z, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex3f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3f", start);
+        }
+    }
 
     // --- [ glVertex3s ] ---
 
@@ -7906,7 +11971,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex3s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z);
+    public static void glVertex3s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z) {
+        if (ImmediateMode.primitiveMode != -1) {
+            ImmediateMode.vertex(x, y, z, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex3s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3s", start);
+        }
+    }
 
     // --- [ glVertex3i ] ---
 
@@ -7919,7 +11999,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex3i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z);
+    public static void glVertex3i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z) {
+        if (ImmediateMode.primitiveMode != -1) {
+            ImmediateMode.vertex(x, y, z, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex3i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3i", start);
+        }
+    }
 
     // --- [ glVertex3d ] ---
 
@@ -7932,12 +12027,38 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex3d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z);
+    public static void glVertex3d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z) {
+        if (ImmediateMode.primitiveMode != -1) {
+            ImmediateMode.vertex(x, y, z, 1);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex3d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3d", start);
+        }
+    }
 
     // --- [ glVertex3fv ] ---
 
     /** Unsafe version of: {@link #glVertex3fv Vertex3fv} */
-    public static native void nglVertex3fv(long coords);
+    public static void nglVertex3fv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex3f Vertex3f}.
@@ -7947,16 +12068,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3fv(@NativeType("GLfloat const *") FloatBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            nglVertex3fv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3fv", start);
         }
-        nglVertex3fv(memAddress(coords));
     }
 
     // --- [ glVertex3sv ] ---
 
     /** Unsafe version of: {@link #glVertex3sv Vertex3sv} */
-    public static native void nglVertex3sv(long coords);
+    public static void nglVertex3sv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3sv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex3s Vertex3s}.
@@ -7966,16 +12103,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3sv(@NativeType("GLshort const *") ShortBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            nglVertex3sv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3sv", start);
         }
-        nglVertex3sv(memAddress(coords));
     }
 
     // --- [ glVertex3iv ] ---
 
     /** Unsafe version of: {@link #glVertex3iv Vertex3iv} */
-    public static native void nglVertex3iv(long coords);
+    public static void nglVertex3iv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3iv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex3i Vertex3i}.
@@ -7985,16 +12138,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3iv(@NativeType("GLint const *") IntBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            nglVertex3iv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3iv", start);
         }
-        nglVertex3iv(memAddress(coords));
     }
 
     // --- [ glVertex3dv ] ---
 
     /** Unsafe version of: {@link #glVertex3dv Vertex3dv} */
-    public static native void nglVertex3dv(long coords);
+    public static void nglVertex3dv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex3d Vertex3d}.
@@ -8004,10 +12173,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3dv(@NativeType("GLdouble const *") DoubleBuffer coords) {
-        if (CHECKS) {
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 3);
+            }
+            nglVertex3dv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3dv", start);
         }
-        nglVertex3dv(memAddress(coords));
     }
 
     // --- [ glVertex4f ] ---
@@ -8022,7 +12196,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex4f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z, @NativeType("GLfloat") float w);
+    public static void glVertex4f(@NativeType("GLfloat") float x, @NativeType("GLfloat") float y, @NativeType("GLfloat") float z, @NativeType("GLfloat") float w) {
+        if (ImmediateMode.primitiveMode != -1) {
+            ImmediateMode.vertex(x, y, z, w);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex4f;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4f", start);
+        }
+    }
 
     // --- [ glVertex4s ] ---
 
@@ -8036,7 +12225,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex4s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z, @NativeType("GLshort") short w);
+    public static void glVertex4s(@NativeType("GLshort") short x, @NativeType("GLshort") short y, @NativeType("GLshort") short z, @NativeType("GLshort") short w) {
+        if (ImmediateMode.primitiveMode != -1) {
+            ImmediateMode.vertex(x, y, z, w);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex4s;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4s", start);
+        }
+    }
 
     // --- [ glVertex4i ] ---
 
@@ -8050,7 +12254,22 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex4i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z, @NativeType("GLint") int w);
+    public static void glVertex4i(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLint") int z, @NativeType("GLint") int w) {
+        if (ImmediateMode.primitiveMode != -1) {
+            ImmediateMode.vertex(x, y, z, w);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex4i;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4i", start);
+        }
+    }
 
     // --- [ glVertex4d ] ---
 
@@ -8064,12 +12283,38 @@ public class GL11 {
      * 
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
-    public static native void glVertex4d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z, @NativeType("GLdouble") double w);
+    public static void glVertex4d(@NativeType("GLdouble") double x, @NativeType("GLdouble") double y, @NativeType("GLdouble") double z, @NativeType("GLdouble") double w) {
+        if (ImmediateMode.primitiveMode != -1) {
+            ImmediateMode.vertex(x, y, z, w);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex4d;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callV(x, y, z, w, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4d", start);
+        }
+    }
 
     // --- [ glVertex4fv ] ---
 
     /** Unsafe version of: {@link #glVertex4fv Vertex4fv} */
-    public static native void nglVertex4fv(long coords);
+    public static void nglVertex4fv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4fv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex4f Vertex4f}.
@@ -8079,16 +12324,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4fv(@NativeType("GLfloat const *") FloatBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            nglVertex4fv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4fv", start);
         }
-        nglVertex4fv(memAddress(coords));
     }
 
     // --- [ glVertex4sv ] ---
 
     /** Unsafe version of: {@link #glVertex4sv Vertex4sv} */
-    public static native void nglVertex4sv(long coords);
+    public static void nglVertex4sv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4sv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex4s Vertex4s}.
@@ -8098,16 +12359,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4sv(@NativeType("GLshort const *") ShortBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            nglVertex4sv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4sv", start);
         }
-        nglVertex4sv(memAddress(coords));
     }
 
     // --- [ glVertex4iv ] ---
 
     /** Unsafe version of: {@link #glVertex4iv Vertex4iv} */
-    public static native void nglVertex4iv(long coords);
+    public static void nglVertex4iv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4iv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex4i Vertex4i}.
@@ -8117,16 +12394,32 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4iv(@NativeType("GLint const *") IntBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            nglVertex4iv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4iv", start);
         }
-        nglVertex4iv(memAddress(coords));
     }
 
     // --- [ glVertex4dv ] ---
 
     /** Unsafe version of: {@link #glVertex4dv Vertex4dv} */
-    public static native void nglVertex4dv(long coords);
+    public static void nglVertex4dv(long coords) {
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4dv", start);
+        }
+    }
 
     /**
      * Pointer version of {@link #glVertex4d Vertex4d}.
@@ -8136,10 +12429,15 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4dv(@NativeType("GLdouble const *") DoubleBuffer coords) {
-        if (CHECKS) {
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            if (CHECKS) {
+                check(coords, 4);
+            }
+            nglVertex4dv(memAddress(coords));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4dv", start);
         }
-        nglVertex4dv(memAddress(coords));
     }
 
     // --- [ glVertexPointer ] ---
@@ -8241,7 +12539,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glViewport">Reference Page</a>
      */
     public static void glViewport(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int w, @NativeType("GLsizei") int h) {
-        GL11C.glViewport(x, y, w, h);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glViewport(x, y, w, h);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glViewport", start);
+        }
     }
 
     /**
@@ -8265,12 +12568,19 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glClipPlane">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glClipPlane(@NativeType("GLenum") int plane, @NativeType("GLdouble const *") double[] equation) {
-        long __functionAddress = GL.getICD().glClipPlane;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(equation, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glClipPlane;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(equation, 4);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(plane, equation, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glClipPlane", start);
         }
-        callPV(plane, equation, __functionAddress);
     }
 
     /**
@@ -8279,12 +12589,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glColor3sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3sv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8293,12 +12608,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glColor3iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3iv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8307,12 +12627,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glColor3fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3fv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8321,12 +12646,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glColor3dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3dv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8335,12 +12665,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3usv(@NativeType("GLushort const *") short[] v) {
-        long __functionAddress = GL.getICD().glColor3usv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3usv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3usv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8349,12 +12684,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor3uiv(@NativeType("GLuint const *") int[] v) {
-        long __functionAddress = GL.getICD().glColor3uiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor3uiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor3uiv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8363,12 +12703,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glColor4sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4sv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8377,12 +12722,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glColor4iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4iv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8391,12 +12741,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glColor4fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4fv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8405,12 +12760,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glColor4dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4dv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8419,12 +12779,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4usv(@NativeType("GLushort const *") short[] v) {
-        long __functionAddress = GL.getICD().glColor4usv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4usv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4usv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8433,12 +12798,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glColor">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glColor4uiv(@NativeType("GLuint const *") int[] v) {
-        long __functionAddress = GL.getICD().glColor4uiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glColor4uiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glColor4uiv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -8447,11 +12817,16 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") short[] pixels) {
-        long __functionAddress = GL.getICD().glDrawPixels;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glDrawPixels;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(width, height, format, type, pixels, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawPixels", start);
         }
-        callPV(width, height, format, type, pixels, __functionAddress);
     }
 
     /**
@@ -8460,11 +12835,16 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") int[] pixels) {
-        long __functionAddress = GL.getICD().glDrawPixels;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glDrawPixels;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(width, height, format, type, pixels, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawPixels", start);
         }
-        callPV(width, height, format, type, pixels, __functionAddress);
     }
 
     /**
@@ -8473,11 +12853,16 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glDrawPixels">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glDrawPixels(@NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") float[] pixels) {
-        long __functionAddress = GL.getICD().glDrawPixels;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glDrawPixels;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(width, height, format, type, pixels, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawPixels", start);
         }
-        callPV(width, height, format, type, pixels, __functionAddress);
     }
 
     /**
@@ -8486,12 +12871,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord1fv(@NativeType("GLfloat const *") float[] u) {
-        long __functionAddress = GL.getICD().glEvalCoord1fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(u, 1);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalCoord1fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(u, 1);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord1fv", start);
         }
-        callPV(u, __functionAddress);
     }
 
     /**
@@ -8500,12 +12890,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord1dv(@NativeType("GLdouble const *") double[] u) {
-        long __functionAddress = GL.getICD().glEvalCoord1dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(u, 1);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalCoord1dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(u, 1);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord1dv", start);
         }
-        callPV(u, __functionAddress);
     }
 
     /**
@@ -8514,12 +12909,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord2fv(@NativeType("GLfloat const *") float[] u) {
-        long __functionAddress = GL.getICD().glEvalCoord2fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(u, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalCoord2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(u, 2);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord2fv", start);
         }
-        callPV(u, __functionAddress);
     }
 
     /**
@@ -8528,12 +12928,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glEvalCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glEvalCoord2dv(@NativeType("GLdouble const *") double[] u) {
-        long __functionAddress = GL.getICD().glEvalCoord2dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(u, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glEvalCoord2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(u, 2);
+            }
+            callPV(u, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEvalCoord2dv", start);
         }
-        callPV(u, __functionAddress);
     }
 
     /**
@@ -8555,12 +12960,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glFog">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFogiv(@NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        long __functionAddress = GL.getICD().glFogiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 1);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glFogiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 1);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glFogiv", start);
         }
-        callPV(pname, params, __functionAddress);
     }
 
     /**
@@ -8569,12 +12979,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glFog">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glFogfv(@NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        long __functionAddress = GL.getICD().glFogfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 1);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glFogfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 1);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glFogfv", start);
         }
-        callPV(pname, params, __functionAddress);
     }
 
     /**
@@ -8583,7 +12998,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenTextures">Reference Page</a>
      */
     public static void glGenTextures(@NativeType("GLuint *") int[] textures) {
-        GL11C.glGenTextures(textures);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGenTextures(textures);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGenTextures", start);
+        }
     }
 
     /**
@@ -8592,7 +13012,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteTextures">Reference Page</a>
      */
     public static void glDeleteTextures(@NativeType("GLuint const *") int[] textures) {
-        GL11C.glDeleteTextures(textures);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glDeleteTextures(textures);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteTextures", start);
+        }
     }
 
     /**
@@ -8615,7 +13040,13 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetFloatv">Reference Page</a>
      */
     public static void glGetFloatv(@NativeType("GLenum") int pname, @NativeType("GLfloat *") float[] params) {
-        GL11C.glGetFloatv(pname, params);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.enabled && MatrixStacks.get(pname, params)) return;
+            GL11C.glGetFloatv(pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetFloatv", start);
+        }
     }
 
     /**
@@ -8624,7 +13055,13 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetIntegerv">Reference Page</a>
      */
     public static void glGetIntegerv(@NativeType("GLenum") int pname, @NativeType("GLint *") int[] params) {
-        GL11C.glGetIntegerv(pname, params);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.enabled && MatrixStacks.get(pname, params)) return;
+            GL11C.glGetIntegerv(pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetIntegerv", start);
+        }
     }
 
     /**
@@ -8633,7 +13070,13 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetDoublev">Reference Page</a>
      */
     public static void glGetDoublev(@NativeType("GLenum") int pname, @NativeType("GLdouble *") double[] params) {
-        GL11C.glGetDoublev(pname, params);
+        long start = GLHooks.enter();
+        try {
+            if (MatrixStacks.enabled && MatrixStacks.get(pname, params)) return;
+            GL11C.glGetDoublev(pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetDoublev", start);
+        }
     }
 
     /**
@@ -8852,7 +13295,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") short[] pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexImage", start);
+        }
     }
 
     /**
@@ -8861,7 +13309,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") int[] pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexImage", start);
+        }
     }
 
     /**
@@ -8870,7 +13323,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") float[] pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexImage", start);
+        }
     }
 
     /**
@@ -8879,7 +13337,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexImage">Reference Page</a>
      */
     public static void glGetTexImage(@NativeType("GLenum") int tex, @NativeType("GLint") int level, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") double[] pixels) {
-        GL11C.glGetTexImage(tex, level, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexImage(tex, level, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexImage", start);
+        }
     }
 
     /**
@@ -8888,7 +13351,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexLevelParameter">Reference Page</a>
      */
     public static void glGetTexLevelParameteriv(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] params) {
-        GL11C.glGetTexLevelParameteriv(target, level, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexLevelParameteriv(target, level, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexLevelParameteriv", start);
+        }
     }
 
     /**
@@ -8897,7 +13365,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexLevelParameter">Reference Page</a>
      */
     public static void glGetTexLevelParameterfv(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLenum") int pname, @NativeType("GLfloat *") float[] params) {
-        GL11C.glGetTexLevelParameterfv(target, level, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexLevelParameterfv(target, level, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexLevelParameterfv", start);
+        }
     }
 
     /**
@@ -8906,7 +13379,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexParameter">Reference Page</a>
      */
     public static void glGetTexParameteriv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] params) {
-        GL11C.glGetTexParameteriv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexParameteriv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexParameteriv", start);
+        }
     }
 
     /**
@@ -8915,7 +13393,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetTexParameter">Reference Page</a>
      */
     public static void glGetTexParameterfv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat *") float[] params) {
-        GL11C.glGetTexParameterfv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glGetTexParameterfv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetTexParameterfv", start);
+        }
     }
 
     /**
@@ -8924,12 +13407,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexiv(@NativeType("GLint const *") int[] index) {
-        long __functionAddress = GL.getICD().glIndexiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(index, 1);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(index, 1);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexiv", start);
         }
-        callPV(index, __functionAddress);
     }
 
     /**
@@ -8938,12 +13426,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexsv(@NativeType("GLshort const *") short[] index) {
-        long __functionAddress = GL.getICD().glIndexsv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(index, 1);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexsv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(index, 1);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexsv", start);
         }
-        callPV(index, __functionAddress);
     }
 
     /**
@@ -8952,12 +13445,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexfv(@NativeType("GLfloat const *") float[] index) {
-        long __functionAddress = GL.getICD().glIndexfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(index, 1);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(index, 1);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexfv", start);
         }
-        callPV(index, __functionAddress);
     }
 
     /**
@@ -8966,12 +13464,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glIndex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glIndexdv(@NativeType("GLdouble const *") double[] index) {
-        long __functionAddress = GL.getICD().glIndexdv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(index, 1);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glIndexdv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(index, 1);
+            }
+            callPV(index, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIndexdv", start);
         }
-        callPV(index, __functionAddress);
     }
 
     /**
@@ -9032,12 +13535,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glLightModel">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightModeliv(@NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        long __functionAddress = GL.getICD().glLightModeliv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLightModeliv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightModeliv", start);
         }
-        callPV(pname, params, __functionAddress);
     }
 
     /**
@@ -9046,12 +13554,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glLightModel">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightModelfv(@NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        long __functionAddress = GL.getICD().glLightModelfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLightModelfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightModelfv", start);
         }
-        callPV(pname, params, __functionAddress);
     }
 
     /**
@@ -9060,12 +13573,19 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glLight">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightiv(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        long __functionAddress = GL.getICD().glLightiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLightiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(light, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightiv", start);
         }
-        callPV(light, pname, params, __functionAddress);
     }
 
     /**
@@ -9074,12 +13594,19 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glLight">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLightfv(@NativeType("GLenum") int light, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        long __functionAddress = GL.getICD().glLightfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLightfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(light, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLightfv", start);
         }
-        callPV(light, pname, params, __functionAddress);
     }
 
     /**
@@ -9088,12 +13615,22 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glLoadMatrixf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLoadMatrixf(@NativeType("GLfloat const *") float[] m) {
-        long __functionAddress = GL.getICD().glLoadMatrixf;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(m, 16);
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glLoadMatrixf(m);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLoadMatrixf;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(m, 16);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLoadMatrixf", start);
         }
-        callPV(m, __functionAddress);
     }
 
     /**
@@ -9102,12 +13639,22 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glLoadMatrixd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glLoadMatrixd(@NativeType("GLdouble const *") double[] m) {
-        long __functionAddress = GL.getICD().glLoadMatrixd;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(m, 16);
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glLoadMatrixd(m);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glLoadMatrixd;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(m, 16);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLoadMatrixd", start);
         }
-        callPV(m, __functionAddress);
     }
 
     /**
@@ -9116,12 +13663,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap1f(@NativeType("GLenum") int target, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2, @NativeType("GLint") int stride, @NativeType("GLint") int order, @NativeType("GLfloat const *") float[] points) {
-        long __functionAddress = GL.getICD().glMap1f;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(points, order * stride);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMap1f;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(points, order * stride);
+            }
+            callPV(target, u1, u2, stride, order, points, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMap1f", start);
         }
-        callPV(target, u1, u2, stride, order, points, __functionAddress);
     }
 
     /**
@@ -9130,12 +13682,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap1d(@NativeType("GLenum") int target, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2, @NativeType("GLint") int stride, @NativeType("GLint") int order, @NativeType("GLdouble const *") double[] points) {
-        long __functionAddress = GL.getICD().glMap1d;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(points, stride * order);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMap1d;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(points, stride * order);
+            }
+            callPV(target, u1, u2, stride, order, points, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMap1d", start);
         }
-        callPV(target, u1, u2, stride, order, points, __functionAddress);
     }
 
     /**
@@ -9144,12 +13701,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap2f(@NativeType("GLenum") int target, @NativeType("GLfloat") float u1, @NativeType("GLfloat") float u2, @NativeType("GLint") int ustride, @NativeType("GLint") int uorder, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2, @NativeType("GLint") int vstride, @NativeType("GLint") int vorder, @NativeType("GLfloat const *") float[] points) {
-        long __functionAddress = GL.getICD().glMap2f;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(points, ustride * uorder * vstride * vorder);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMap2f;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(points, ustride * uorder * vstride * vorder);
+            }
+            callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMap2f", start);
         }
-        callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
     }
 
     /**
@@ -9158,12 +13720,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMap2d(@NativeType("GLenum") int target, @NativeType("GLdouble") double u1, @NativeType("GLdouble") double u2, @NativeType("GLint") int ustride, @NativeType("GLint") int uorder, @NativeType("GLdouble") double v1, @NativeType("GLdouble") double v2, @NativeType("GLint") int vstride, @NativeType("GLint") int vorder, @NativeType("GLdouble const *") double[] points) {
-        long __functionAddress = GL.getICD().glMap2d;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(points, ustride * uorder * vstride * vorder);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMap2d;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(points, ustride * uorder * vstride * vorder);
+            }
+            callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMap2d", start);
         }
-        callPV(target, u1, u2, ustride, uorder, v1, v2, vstride, vorder, points, __functionAddress);
     }
 
     /**
@@ -9172,12 +13739,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMaterialiv(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        long __functionAddress = GL.getICD().glMaterialiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMaterialiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(face, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMaterialiv", start);
         }
-        callPV(face, pname, params, __functionAddress);
     }
 
     /**
@@ -9186,12 +13758,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMaterial">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMaterialfv(@NativeType("GLenum") int face, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        long __functionAddress = GL.getICD().glMaterialfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMaterialfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(face, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMaterialfv", start);
         }
-        callPV(face, pname, params, __functionAddress);
     }
 
     /**
@@ -9200,12 +13777,22 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMultMatrixf">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMultMatrixf(@NativeType("GLfloat const *") float[] m) {
-        long __functionAddress = GL.getICD().glMultMatrixf;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(m, 16);
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glMultMatrixf(m);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMultMatrixf;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(m, 16);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMultMatrixf", start);
         }
-        callPV(m, __functionAddress);
     }
 
     /**
@@ -9214,12 +13801,22 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glMultMatrixd">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glMultMatrixd(@NativeType("GLdouble const *") double[] m) {
-        long __functionAddress = GL.getICD().glMultMatrixd;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(m, 16);
+        // Applied or compiled by MatrixStacks, outside the hooks of an application call
+        if (MatrixStacks.enabled || ImmediateMode.recording != null) {
+            MatrixStacks.glMultMatrixd(m);
+            return;
+        }
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glMultMatrixd;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(m, 16);
+            }
+            callPV(m, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMultMatrixd", start);
         }
-        callPV(m, __functionAddress);
     }
 
     /**
@@ -9228,12 +13825,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glNormal3fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3fv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9242,12 +13844,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glNormal3sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3sv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9256,12 +13863,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glNormal3iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3iv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9270,12 +13882,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glNormal">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glNormal3dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glNormal3dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glNormal3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glNormal3dv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9284,11 +13901,16 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapfv(@NativeType("GLenum") int map, @NativeType("GLfloat const *") float[] values) {
-        long __functionAddress = GL.getICD().glPixelMapfv;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPixelMapfv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, values.length, values, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelMapfv", start);
         }
-        callPV(map, values.length, values, __functionAddress);
     }
 
     /**
@@ -9297,11 +13919,16 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapusv(@NativeType("GLenum") int map, @NativeType("GLushort const *") short[] values) {
-        long __functionAddress = GL.getICD().glPixelMapusv;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPixelMapusv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, values.length, values, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelMapusv", start);
         }
-        callPV(map, values.length, values, __functionAddress);
     }
 
     /**
@@ -9310,11 +13937,16 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPixelMap">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPixelMapuiv(@NativeType("GLenum") int map, @NativeType("GLuint const *") int[] values) {
-        long __functionAddress = GL.getICD().glPixelMapuiv;
-        if (CHECKS) {
-            check(__functionAddress);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPixelMapuiv;
+            if (CHECKS) {
+                check(__functionAddress);
+            }
+            callPV(map, values.length, values, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPixelMapuiv", start);
         }
-        callPV(map, values.length, values, __functionAddress);
     }
 
     /**
@@ -9323,12 +13955,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glPrioritizeTextures">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glPrioritizeTextures(@NativeType("GLuint const *") int[] textures, @NativeType("GLfloat const *") float[] priorities) {
-        long __functionAddress = GL.getICD().glPrioritizeTextures;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(priorities, textures.length);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glPrioritizeTextures;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(priorities, textures.length);
+            }
+            callPPV(textures.length, textures, priorities, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glPrioritizeTextures", start);
         }
-        callPPV(textures.length, textures, priorities, __functionAddress);
     }
 
     /**
@@ -9337,12 +13974,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2iv(@NativeType("GLint const *") int[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos2iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos2iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2iv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9351,12 +13994,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2sv(@NativeType("GLshort const *") short[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos2sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos2sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2sv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9365,12 +14014,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2fv(@NativeType("GLfloat const *") float[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos2fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2fv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9379,12 +14034,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos2dv(@NativeType("GLdouble const *") double[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos2dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos2dv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9393,12 +14054,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3iv(@NativeType("GLint const *") int[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos3iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3iv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9407,12 +14074,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3sv(@NativeType("GLshort const *") short[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos3sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3sv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9421,12 +14094,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3fv(@NativeType("GLfloat const *") float[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos3fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3fv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9435,12 +14114,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos3dv(@NativeType("GLdouble const *") double[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos3dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos3dv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9449,12 +14134,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4iv(@NativeType("GLint const *") int[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos4iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4iv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9463,12 +14154,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4sv(@NativeType("GLshort const *") short[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos4sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4sv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9477,12 +14174,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4fv(@NativeType("GLfloat const *") float[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos4fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4fv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9491,12 +14194,18 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRasterPos">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRasterPos4dv(@NativeType("GLdouble const *") double[] coords) {
-        long __functionAddress = GL.getICD().glRasterPos4dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRasterPos4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRasterPos4dv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -9505,7 +14214,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") short[] pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glReadPixels", start);
+        }
     }
 
     /**
@@ -9514,7 +14228,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") int[] pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glReadPixels", start);
+        }
     }
 
     /**
@@ -9523,7 +14242,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glReadPixels">Reference Page</a>
      */
     public static void glReadPixels(@NativeType("GLint") int x, @NativeType("GLint") int y, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void *") float[] pixels) {
-        GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glReadPixels(x, y, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glReadPixels", start);
+        }
     }
 
     /**
@@ -9532,13 +14256,19 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectiv(@NativeType("GLint const *") int[] v1, @NativeType("GLint const *") int[] v2) {
-        long __functionAddress = GL.getICD().glRectiv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v1, 2);
-            check(v2, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRectiv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v1, 2);
+                check(v2, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectiv", start);
         }
-        callPPV(v1, v2, __functionAddress);
     }
 
     /**
@@ -9547,13 +14277,19 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectsv(@NativeType("GLshort const *") short[] v1, @NativeType("GLshort const *") short[] v2) {
-        long __functionAddress = GL.getICD().glRectsv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v1, 2);
-            check(v2, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRectsv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v1, 2);
+                check(v2, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectsv", start);
         }
-        callPPV(v1, v2, __functionAddress);
     }
 
     /**
@@ -9562,13 +14298,19 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectfv(@NativeType("GLfloat const *") float[] v1, @NativeType("GLfloat const *") float[] v2) {
-        long __functionAddress = GL.getICD().glRectfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v1, 2);
-            check(v2, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRectfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v1, 2);
+                check(v2, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectfv", start);
         }
-        callPPV(v1, v2, __functionAddress);
     }
 
     /**
@@ -9577,13 +14319,19 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glRect">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glRectdv(@NativeType("GLdouble const *") double[] v1, @NativeType("GLdouble const *") double[] v2) {
-        long __functionAddress = GL.getICD().glRectdv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v1, 2);
-            check(v2, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glRectdv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v1, 2);
+                check(v2, 2);
+            }
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPPV(v1, v2, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glRectdv", start);
         }
-        callPPV(v1, v2, __functionAddress);
     }
 
     /**
@@ -9605,12 +14353,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glTexCoord1fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 1);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord1fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 1);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1fv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9619,12 +14372,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glTexCoord1sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 1);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord1sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 1);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1sv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9633,12 +14391,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glTexCoord1iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 1);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord1iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 1);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1iv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9647,12 +14410,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord1dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glTexCoord1dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 1);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord1dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 1);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord1dv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9661,12 +14429,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glTexCoord2fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 2);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2fv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9675,12 +14448,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glTexCoord2sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord2sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 2);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2sv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9689,12 +14467,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glTexCoord2iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord2iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 2);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2iv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9703,12 +14486,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord2dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glTexCoord2dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 2);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord2dv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9717,12 +14505,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glTexCoord3fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3fv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9731,12 +14524,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glTexCoord3sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3sv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9745,12 +14543,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glTexCoord3iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3iv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9759,12 +14562,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord3dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glTexCoord3dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 3);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord3dv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9773,12 +14581,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4fv(@NativeType("GLfloat const *") float[] v) {
-        long __functionAddress = GL.getICD().glTexCoord4fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4fv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9787,12 +14600,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4sv(@NativeType("GLshort const *") short[] v) {
-        long __functionAddress = GL.getICD().glTexCoord4sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4sv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9801,12 +14619,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4iv(@NativeType("GLint const *") int[] v) {
-        long __functionAddress = GL.getICD().glTexCoord4iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4iv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9815,12 +14638,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexCoord">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexCoord4dv(@NativeType("GLdouble const *") double[] v) {
-        long __functionAddress = GL.getICD().glTexCoord4dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(v, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexCoord4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(v, 4);
+            }
+            callPV(v, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexCoord4dv", start);
         }
-        callPV(v, __functionAddress);
     }
 
     /**
@@ -9829,12 +14657,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexEnv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexEnviv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        long __functionAddress = GL.getICD().glTexEnviv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexEnviv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(target, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexEnviv", start);
         }
-        callPV(target, pname, params, __functionAddress);
     }
 
     /**
@@ -9843,12 +14676,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexEnv">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexEnvfv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        long __functionAddress = GL.getICD().glTexEnvfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexEnvfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            callPV(target, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexEnvfv", start);
         }
-        callPV(target, pname, params, __functionAddress);
     }
 
     /**
@@ -9857,12 +14695,19 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexGeniv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        long __functionAddress = GL.getICD().glTexGeniv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexGeniv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coord, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexGeniv", start);
         }
-        callPV(coord, pname, params, __functionAddress);
     }
 
     /**
@@ -9871,12 +14716,19 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexGenfv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        long __functionAddress = GL.getICD().glTexGenfv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexGenfv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coord, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexGenfv", start);
         }
-        callPV(coord, pname, params, __functionAddress);
     }
 
     /**
@@ -9885,12 +14737,19 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glTexGen">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glTexGendv(@NativeType("GLenum") int coord, @NativeType("GLenum") int pname, @NativeType("GLdouble const *") double[] params) {
-        long __functionAddress = GL.getICD().glTexGendv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(params, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glTexGendv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(params, 4);
+            }
+            // The light positions and directions and the planes are transformed by the modelview matrix
+            if (MatrixStacks.dirty) MatrixStacks.upload();
+            callPV(coord, pname, params, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexGendv", start);
         }
-        callPV(coord, pname, params, __functionAddress);
     }
 
     /**
@@ -9899,7 +14758,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") short[] pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage1D", start);
+        }
     }
 
     /**
@@ -9908,7 +14772,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") int[] pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage1D", start);
+        }
     }
 
     /**
@@ -9917,7 +14786,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") float[] pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage1D", start);
+        }
     }
 
     /**
@@ -9926,7 +14800,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage1D">Reference Page</a>
      */
     public static void glTexImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") double[] pixels) {
-        GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage1D(target, level, internalformat, width, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage1D", start);
+        }
     }
 
     /**
@@ -9935,7 +14814,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") short[] pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage2D", start);
+        }
     }
 
     /**
@@ -9944,7 +14828,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") int[] pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage2D", start);
+        }
     }
 
     /**
@@ -9953,7 +14842,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") float[] pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage2D", start);
+        }
     }
 
     /**
@@ -9962,7 +14856,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexImage2D">Reference Page</a>
      */
     public static void glTexImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int internalformat, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLint") int border, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @Nullable @NativeType("void const *") double[] pixels) {
-        GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexImage2D", start);
+        }
     }
 
     /**
@@ -9971,7 +14870,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexParameter">Reference Page</a>
      */
     public static void glTexParameteriv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint const *") int[] params) {
-        GL11C.glTexParameteriv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexParameteriv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexParameteriv", start);
+        }
     }
 
     /**
@@ -9980,7 +14884,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexParameter">Reference Page</a>
      */
     public static void glTexParameterfv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLfloat const *") float[] params) {
-        GL11C.glTexParameterfv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexParameterfv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexParameterfv", start);
+        }
     }
 
     /**
@@ -9989,7 +14898,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") short[] pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage1D", start);
+        }
     }
 
     /**
@@ -9998,7 +14912,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") int[] pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage1D", start);
+        }
     }
 
     /**
@@ -10007,7 +14926,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") float[] pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage1D", start);
+        }
     }
 
     /**
@@ -10016,7 +14940,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage1D">Reference Page</a>
      */
     public static void glTexSubImage1D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLsizei") int width, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") double[] pixels) {
-        GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage1D(target, level, xoffset, width, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage1D", start);
+        }
     }
 
     /**
@@ -10025,7 +14954,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") short[] pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage2D", start);
+        }
     }
 
     /**
@@ -10034,7 +14968,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") int[] pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage2D", start);
+        }
     }
 
     /**
@@ -10043,7 +14982,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") float[] pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage2D", start);
+        }
     }
 
     /**
@@ -10052,7 +14996,12 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glTexSubImage2D">Reference Page</a>
      */
     public static void glTexSubImage2D(@NativeType("GLenum") int target, @NativeType("GLint") int level, @NativeType("GLint") int xoffset, @NativeType("GLint") int yoffset, @NativeType("GLsizei") int width, @NativeType("GLsizei") int height, @NativeType("GLenum") int format, @NativeType("GLenum") int type, @NativeType("void const *") double[] pixels) {
-        GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        long start = GLHooks.enter();
+        try {
+            GL11C.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glTexSubImage2D", start);
+        }
     }
 
     /**
@@ -10061,12 +15010,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2fv(@NativeType("GLfloat const *") float[] coords) {
-        long __functionAddress = GL.getICD().glVertex2fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex2fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2fv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -10075,12 +15029,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2sv(@NativeType("GLshort const *") short[] coords) {
-        long __functionAddress = GL.getICD().glVertex2sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex2sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2sv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -10089,12 +15048,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2iv(@NativeType("GLint const *") int[] coords) {
-        long __functionAddress = GL.getICD().glVertex2iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex2iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2iv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -10103,12 +15067,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex2dv(@NativeType("GLdouble const *") double[] coords) {
-        long __functionAddress = GL.getICD().glVertex2dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 2);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex2dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 2);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex2dv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -10117,12 +15086,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3fv(@NativeType("GLfloat const *") float[] coords) {
-        long __functionAddress = GL.getICD().glVertex3fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex3fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3fv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -10131,12 +15105,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3sv(@NativeType("GLshort const *") short[] coords) {
-        long __functionAddress = GL.getICD().glVertex3sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex3sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3sv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -10145,12 +15124,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3iv(@NativeType("GLint const *") int[] coords) {
-        long __functionAddress = GL.getICD().glVertex3iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex3iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3iv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -10159,12 +15143,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex3dv(@NativeType("GLdouble const *") double[] coords) {
-        long __functionAddress = GL.getICD().glVertex3dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 3);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex3dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 3);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex3dv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -10173,12 +15162,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4fv(@NativeType("GLfloat const *") float[] coords) {
-        long __functionAddress = GL.getICD().glVertex4fv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex4fv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4fv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -10187,12 +15181,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4sv(@NativeType("GLshort const *") short[] coords) {
-        long __functionAddress = GL.getICD().glVertex4sv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex4sv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4sv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -10201,12 +15200,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4iv(@NativeType("GLint const *") int[] coords) {
-        long __functionAddress = GL.getICD().glVertex4iv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex4iv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4iv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
     /**
@@ -10215,12 +15219,17 @@ public class GL11 {
      * @see <a target="_blank" href="http://docs.gl/gl3/glVertex">Reference Page</a> - <em>This function is deprecated and unavailable in the Core profile</em>
      */
     public static void glVertex4dv(@NativeType("GLdouble const *") double[] coords) {
-        long __functionAddress = GL.getICD().glVertex4dv;
-        if (CHECKS) {
-            check(__functionAddress);
-            check(coords, 4);
+        long start = GLHooks.enter();
+        try {
+            long __functionAddress = GL.getICD().glVertex4dv;
+            if (CHECKS) {
+                check(__functionAddress);
+                check(coords, 4);
+            }
+            callPV(coords, __functionAddress);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertex4dv", start);
         }
-        callPV(coords, __functionAddress);
     }
 
 }
@@ -0,0 +1,92 @@
+package org.lwjgl.opengl;
+
+import static org.lwjgl.system.JNI.*;
+
+/**
+ * The compatibility functions of {@link GL11} used by {@link ImmediateMode}, {@link MatrixStacks} and
+ * {@link DisplayLists} for their own commands, called through the JNI without the {@code GL11} wrappers.
+ * <p>
+ * They don't call the {@link GLHooks}: they are not counted by the {@link GLProfiler} and, unlike the application
+ * calls to {@code GL11}, don't make the list being compiled by {@code DisplayLists} native only.
+ */
+final class GL11Direct {
+
+    private GL11Direct() {
+    }
+
+    static void glBegin(int mode) {
+        callV(mode, GL.getICD().glBegin);
+    }
+
+    static void glEnd() {
+        callV(GL.getICD().glEnd);
+    }
+
+    static void glVertex4f(float x, float y, float z, float w) {
+        callV(x, y, z, w, GL.getICD().glVertex4f);
+    }
+
+    static void glNormal3f(float nx, float ny, float nz) {
+        callV(nx, ny, nz, GL.getICD().glNormal3f);
+    }
+
+    static void glTexCoord4f(float s, float t, float r, float q) {
+        callV(s, t, r, q, GL.getICD().glTexCoord4f);
+    }
+
+    static void glColor4f(float red, float green, float blue, float alpha) {
+        callV(red, green, blue, alpha, GL.getICD().glColor4f);
+    }
+
+    static void glColor4ub(byte red, byte green, byte blue, byte alpha) {
+        callV(red, green, blue, alpha, GL.getICD().glColor4ub);
+    }
+
+    static void glCallList(int list) {
+        callV(list, GL.getICD().glCallList);
+    }
+
+    static void glMatrixMode(int mode) {
+        callV(mode, GL.getICD().glMatrixMode);
+    }
+
+    static void glPushMatrix() {
+        callV(GL.getICD().glPushMatrix);
+    }
+
+    static void glPopMatrix() {
+        callV(GL.getICD().glPopMatrix);
+    }
+
+    static void glLoadIdentity() {
+        callV(GL.getICD().glLoadIdentity);
+    }
+
+    static void nglLoadMatrixf(long m) {
+        callPV(m, GL.getICD().glLoadMatrixf);
+    }
+
+    static void nglMultMatrixf(long m) {
+        callPV(m, GL.getICD().glMultMatrixf);
+    }
+
+    static void glTranslatef(float x, float y, float z) {
+        callV(x, y, z, GL.getICD().glTranslatef);
+    }
+
+    static void glRotatef(float angle, float x, float y, float z) {
+        callV(angle, x, y, z, GL.getICD().glRotatef);
+    }
+
+    static void glScalef(float x, float y, float z) {
+        callV(x, y, z, GL.getICD().glScalef);
+    }
+
+    static void glOrtho(double l, double r, double b, double t, double n, double f) {
+        callV(l, r, b, t, n, f, GL.getICD().glOrtho);
+    }
+
+    static void glFrustum(double l, double r, double b, double t, double n, double f) {
+        callV(l, r, b, t, n, f, GL.getICD().glFrustum);
+    }
+}
@@ -2,6 +2,7 @@
  * Copyright LWJGL. All rights reserved.
  * License terms: https://www.lwjgl.org/license
  * MACHINE GENERATED FILE, DO NOT EDIT
+ * Instrumented by tools/InstrumentGL.java, see tools/gl-hooks.txt
  */
 package org.lwjgl.opengl;
 
@@ -137,7 +138,13 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBindBuffer">Reference Page</a>
      */
     public static void glBindBuffer(@NativeType("GLenum") int target, @NativeType("GLuint") int buffer) {
-        GL15C.glBindBuffer(target, buffer);
+        long start = GLHooks.enter();
+        try {
+            if (GLStateCache.enabled && !GLStateCache.bindBuffer(target, buffer)) return;
+            GL15C.glBindBuffer(target, buffer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBindBuffer", start);
+        }
     }
 
     // --- [ glDeleteBuffers ] ---
@@ -148,7 +155,17 @@ public class GL15 extends GL14 {
      * @param n the number of buffer objects to be deleted
      */
     public static void nglDeleteBuffers(int n, long buffers) {
-        GL15C.nglDeleteBuffers(n, buffers);
+        long start = GLHooks.enter();
+        try {
+            if (GLStateCache.enabled) {
+                for (int i = 0; i < n; i++) {
+                    GLStateCache.deleteBuffer(memGetInt(buffers + i * 4L));
+                }
+            }
+            GL15C.nglDeleteBuffers(n, buffers);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteBuffers", start);
+        }
     }
 
     /**
@@ -159,7 +176,17 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteBuffers">Reference Page</a>
      */
     public static void glDeleteBuffers(@NativeType("GLuint const *") IntBuffer buffers) {
-        GL15C.glDeleteBuffers(buffers);
+        long start = GLHooks.enter();
+        try {
+            if (GLStateCache.enabled) {
+                for (int i = buffers.position(); i < buffers.limit(); i++) {
+                    GLStateCache.deleteBuffer(buffers.get(i));
+                }
+            }
+            GL15C.glDeleteBuffers(buffers);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteBuffers", start);
+        }
     }
 
     /**
@@ -168,7 +195,13 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteBuffers">Reference Page</a>
      */
     public static void glDeleteBuffers(@NativeType("GLuint const *") int buffer) {
-        GL15C.glDeleteBuffers(buffer);
+        long start = GLHooks.enter();
+        try {
+            if (GLStateCache.enabled) GLStateCache.deleteBuffer(buffer);
+            GL15C.glDeleteBuffers(buffer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteBuffers", start);
+        }
     }
 
     // --- [ glGenBuffers ] ---
@@ -179,7 +212,12 @@ public class GL15 extends GL14 {
      * @param n the number of buffer object names to be generated
      */
     public static void nglGenBuffers(int n, long buffers) {
-        GL15C.nglGenBuffers(n, buffers);
+        long start = GLHooks.enter();
+        try {
+            GL15C.nglGenBuffers(n, buffers);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGenBuffers", start);
+        }
     }
 
     /**
@@ -190,7 +228,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenBuffers">Reference Page</a>
      */
     public static void glGenBuffers(@NativeType("GLuint *") IntBuffer buffers) {
-        GL15C.glGenBuffers(buffers);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGenBuffers(buffers);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGenBuffers", start);
+        }
     }
 
     /**
@@ -200,7 +243,12 @@ public class GL15 extends GL14 {
      */
     @NativeType("void")
     public static int glGenBuffers() {
-        return GL15C.glGenBuffers();
+        long start = GLHooks.enter();
+        try {
+            return GL15C.glGenBuffers();
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGenBuffers", start);
+        }
     }
 
     // --- [ glIsBuffer ] ---
@@ -214,7 +262,12 @@ public class GL15 extends GL14 {
      */
     @NativeType("GLboolean")
     public static boolean glIsBuffer(@NativeType("GLuint") int buffer) {
-        return GL15C.glIsBuffer(buffer);
+        long start = GLHooks.enter();
+        try {
+            return GL15C.glIsBuffer(buffer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIsBuffer", start);
+        }
     }
 
     // --- [ glBufferData ] ---
@@ -225,7 +278,12 @@ public class GL15 extends GL14 {
      * @param size the size in bytes of the buffer object's new data store
      */
     public static void nglBufferData(int target, long size, long data, int usage) {
-        GL15C.nglBufferData(target, size, data, usage);
+        long start = GLHooks.enter();
+        try {
+            GL15C.nglBufferData(target, size, data, usage);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferData", start);
+        }
     }
 
     /**
@@ -257,7 +315,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("GLsizeiptr") long size, @NativeType("GLenum") int usage) {
-        GL15C.glBufferData(target, size, usage);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferData(target, size, usage);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferData", start);
+        }
     }
 
     /**
@@ -289,7 +352,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") ByteBuffer data, @NativeType("GLenum") int usage) {
-        GL15C.glBufferData(target, data, usage);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferData(target, data, usage);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferData", start);
+        }
     }
 
     /**
@@ -321,7 +389,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") ShortBuffer data, @NativeType("GLenum") int usage) {
-        GL15C.glBufferData(target, data, usage);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferData(target, data, usage);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferData", start);
+        }
     }
 
     /**
@@ -353,7 +426,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") IntBuffer data, @NativeType("GLenum") int usage) {
-        GL15C.glBufferData(target, data, usage);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferData(target, data, usage);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferData", start);
+        }
     }
 
     /**
@@ -385,7 +463,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") LongBuffer data, @NativeType("GLenum") int usage) {
-        GL15C.glBufferData(target, data, usage);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferData(target, data, usage);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferData", start);
+        }
     }
 
     /**
@@ -417,7 +500,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") FloatBuffer data, @NativeType("GLenum") int usage) {
-        GL15C.glBufferData(target, data, usage);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferData(target, data, usage);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferData", start);
+        }
     }
 
     /**
@@ -449,7 +537,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") DoubleBuffer data, @NativeType("GLenum") int usage) {
-        GL15C.glBufferData(target, data, usage);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferData(target, data, usage);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferData", start);
+        }
     }
 
     // --- [ glBufferSubData ] ---
@@ -460,7 +553,12 @@ public class GL15 extends GL14 {
      * @param size the size in bytes of the data store region being replaced
      */
     public static void nglBufferSubData(int target, long offset, long size, long data) {
-        GL15C.nglBufferSubData(target, offset, size, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.nglBufferSubData(target, offset, size, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferSubData", start);
+        }
     }
 
     /**
@@ -473,7 +571,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") ByteBuffer data) {
-        GL15C.glBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferSubData", start);
+        }
     }
 
     /**
@@ -486,7 +589,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") ShortBuffer data) {
-        GL15C.glBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferSubData", start);
+        }
     }
 
     /**
@@ -499,7 +607,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") IntBuffer data) {
-        GL15C.glBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferSubData", start);
+        }
     }
 
     /**
@@ -512,7 +625,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") LongBuffer data) {
-        GL15C.glBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferSubData", start);
+        }
     }
 
     /**
@@ -525,7 +643,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") FloatBuffer data) {
-        GL15C.glBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferSubData", start);
+        }
     }
 
     /**
@@ -538,7 +661,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") DoubleBuffer data) {
-        GL15C.glBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferSubData", start);
+        }
     }
 
     // --- [ glGetBufferSubData ] ---
@@ -549,7 +677,12 @@ public class GL15 extends GL14 {
      * @param size the size in bytes of the data store region being returned
      */
     public static void nglGetBufferSubData(int target, long offset, long size, long data) {
-        GL15C.nglGetBufferSubData(target, offset, size, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.nglGetBufferSubData(target, offset, size, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferSubData", start);
+        }
     }
 
     /**
@@ -562,7 +695,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") ByteBuffer data) {
-        GL15C.glGetBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferSubData", start);
+        }
     }
 
     /**
@@ -575,7 +713,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") ShortBuffer data) {
-        GL15C.glGetBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferSubData", start);
+        }
     }
 
     /**
@@ -588,7 +731,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") IntBuffer data) {
-        GL15C.glGetBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferSubData", start);
+        }
     }
 
     /**
@@ -601,7 +749,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") LongBuffer data) {
-        GL15C.glGetBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferSubData", start);
+        }
     }
 
     /**
@@ -614,7 +767,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") FloatBuffer data) {
-        GL15C.glGetBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferSubData", start);
+        }
     }
 
     /**
@@ -627,14 +785,24 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") DoubleBuffer data) {
-        GL15C.glGetBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferSubData", start);
+        }
     }
 
     // --- [ glMapBuffer ] ---
 
     /** Unsafe version of: {@link #glMapBuffer MapBuffer} */
     public static long nglMapBuffer(int target, int access) {
-        return GL15C.nglMapBuffer(target, access);
+        long start = GLHooks.enter();
+        try {
+            return GL15C.nglMapBuffer(target, access);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMapBuffer", start);
+        }
     }
 
     /**
@@ -656,7 +824,12 @@ public class GL15 extends GL14 {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBuffer(@NativeType("GLenum") int target, @NativeType("GLenum") int access) {
-        return GL15C.glMapBuffer(target, access);
+        long start = GLHooks.enter();
+        try {
+            return GL15C.glMapBuffer(target, access);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMapBuffer", start);
+        }
     }
 
     /**
@@ -678,7 +851,12 @@ public class GL15 extends GL14 {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBuffer(@NativeType("GLenum") int target, @NativeType("GLenum") int access, @Nullable ByteBuffer old_buffer) {
-        return GL15C.glMapBuffer(target, access, old_buffer);
+        long start = GLHooks.enter();
+        try {
+            return GL15C.glMapBuffer(target, access, old_buffer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMapBuffer", start);
+        }
     }
 
     /**
@@ -700,7 +878,12 @@ public class GL15 extends GL14 {
     @Nullable
     @NativeType("void *")
     public static ByteBuffer glMapBuffer(@NativeType("GLenum") int target, @NativeType("GLenum") int access, long length, @Nullable ByteBuffer old_buffer) {
-        return GL15C.glMapBuffer(target, access, length, old_buffer);
+        long start = GLHooks.enter();
+        try {
+            return GL15C.glMapBuffer(target, access, length, old_buffer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glMapBuffer", start);
+        }
     }
 
     // --- [ glUnmapBuffer ] ---
@@ -719,14 +902,24 @@ public class GL15 extends GL14 {
      */
     @NativeType("GLboolean")
     public static boolean glUnmapBuffer(@NativeType("GLenum") int target) {
-        return GL15C.glUnmapBuffer(target);
+        long start = GLHooks.enter();
+        try {
+            return GL15C.glUnmapBuffer(target);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUnmapBuffer", start);
+        }
     }
 
     // --- [ glGetBufferParameteriv ] ---
 
     /** Unsafe version of: {@link #glGetBufferParameteriv GetBufferParameteriv} */
     public static void nglGetBufferParameteriv(int target, int pname, long params) {
-        GL15C.nglGetBufferParameteriv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.nglGetBufferParameteriv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferParameteriv", start);
+        }
     }
 
     /**
@@ -739,7 +932,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferParameter">Reference Page</a>
      */
     public static void glGetBufferParameteriv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
-        GL15C.glGetBufferParameteriv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferParameteriv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferParameteriv", start);
+        }
     }
 
     /**
@@ -752,14 +950,24 @@ public class GL15 extends GL14 {
      */
     @NativeType("void")
     public static int glGetBufferParameteri(@NativeType("GLenum") int target, @NativeType("GLenum") int pname) {
-        return GL15C.glGetBufferParameteri(target, pname);
+        long start = GLHooks.enter();
+        try {
+            return GL15C.glGetBufferParameteri(target, pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferParameteri", start);
+        }
     }
 
     // --- [ glGetBufferPointerv ] ---
 
     /** Unsafe version of: {@link #glGetBufferPointerv GetBufferPointerv} */
     public static void nglGetBufferPointerv(int target, int pname, long params) {
-        GL15C.nglGetBufferPointerv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.nglGetBufferPointerv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferPointerv", start);
+        }
     }
 
     /**
@@ -772,7 +980,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferPointerv">Reference Page</a>
      */
     public static void glGetBufferPointerv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("void **") PointerBuffer params) {
-        GL15C.glGetBufferPointerv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferPointerv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferPointerv", start);
+        }
     }
 
     /**
@@ -785,7 +998,12 @@ public class GL15 extends GL14 {
      */
     @NativeType("void")
     public static long glGetBufferPointer(@NativeType("GLenum") int target, @NativeType("GLenum") int pname) {
-        return GL15C.glGetBufferPointer(target, pname);
+        long start = GLHooks.enter();
+        try {
+            return GL15C.glGetBufferPointer(target, pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferPointer", start);
+        }
     }
 
     // --- [ glGenQueries ] ---
@@ -796,7 +1014,12 @@ public class GL15 extends GL14 {
      * @param n the number of query object names to be generated
      */
     public static void nglGenQueries(int n, long ids) {
-        GL15C.nglGenQueries(n, ids);
+        long start = GLHooks.enter();
+        try {
+            GL15C.nglGenQueries(n, ids);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGenQueries", start);
+        }
     }
 
     /**
@@ -807,7 +1030,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenQueries">Reference Page</a>
      */
     public static void glGenQueries(@NativeType("GLuint *") IntBuffer ids) {
-        GL15C.glGenQueries(ids);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGenQueries(ids);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGenQueries", start);
+        }
     }
 
     /**
@@ -817,7 +1045,12 @@ public class GL15 extends GL14 {
      */
     @NativeType("void")
     public static int glGenQueries() {
-        return GL15C.glGenQueries();
+        long start = GLHooks.enter();
+        try {
+            return GL15C.glGenQueries();
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGenQueries", start);
+        }
     }
 
     // --- [ glDeleteQueries ] ---
@@ -828,7 +1061,12 @@ public class GL15 extends GL14 {
      * @param n the number of query objects to be deleted
      */
     public static void nglDeleteQueries(int n, long ids) {
-        GL15C.nglDeleteQueries(n, ids);
+        long start = GLHooks.enter();
+        try {
+            GL15C.nglDeleteQueries(n, ids);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteQueries", start);
+        }
     }
 
     /**
@@ -839,7 +1077,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteQueries">Reference Page</a>
      */
     public static void glDeleteQueries(@NativeType("GLuint const *") IntBuffer ids) {
-        GL15C.glDeleteQueries(ids);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glDeleteQueries(ids);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteQueries", start);
+        }
     }
 
     /**
@@ -848,7 +1091,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteQueries">Reference Page</a>
      */
     public static void glDeleteQueries(@NativeType("GLuint const *") int id) {
-        GL15C.glDeleteQueries(id);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glDeleteQueries(id);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteQueries", start);
+        }
     }
 
     // --- [ glIsQuery ] ---
@@ -862,7 +1110,12 @@ public class GL15 extends GL14 {
      */
     @NativeType("GLboolean")
     public static boolean glIsQuery(@NativeType("GLuint") int id) {
-        return GL15C.glIsQuery(id);
+        long start = GLHooks.enter();
+        try {
+            return GL15C.glIsQuery(id);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIsQuery", start);
+        }
     }
 
     // --- [ glBeginQuery ] ---
@@ -876,7 +1129,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBeginQuery">Reference Page</a>
      */
     public static void glBeginQuery(@NativeType("GLenum") int target, @NativeType("GLuint") int id) {
-        GL15C.glBeginQuery(target, id);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBeginQuery(target, id);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBeginQuery", start);
+        }
     }
 
     // --- [ glEndQuery ] ---
@@ -889,14 +1147,24 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glEndQuery">Reference Page</a>
      */
     public static void glEndQuery(@NativeType("GLenum") int target) {
-        GL15C.glEndQuery(target);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glEndQuery(target);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEndQuery", start);
+        }
     }
 
     // --- [ glGetQueryiv ] ---
 
     /** Unsafe version of: {@link #glGetQueryiv GetQueryiv} */
     public static void nglGetQueryiv(int target, int pname, long params) {
-        GL15C.nglGetQueryiv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.nglGetQueryiv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetQueryiv", start);
+        }
     }
 
     /**
@@ -909,7 +1177,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetQuery">Reference Page</a>
      */
     public static void glGetQueryiv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
-        GL15C.glGetQueryiv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetQueryiv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetQueryiv", start);
+        }
     }
 
     /**
@@ -922,14 +1195,24 @@ public class GL15 extends GL14 {
      */
     @NativeType("void")
     public static int glGetQueryi(@NativeType("GLenum") int target, @NativeType("GLenum") int pname) {
-        return GL15C.glGetQueryi(target, pname);
+        long start = GLHooks.enter();
+        try {
+            return GL15C.glGetQueryi(target, pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetQueryi", start);
+        }
     }
 
     // --- [ glGetQueryObjectiv ] ---
 
     /** Unsafe version of: {@link #glGetQueryObjectiv GetQueryObjectiv} */
     public static void nglGetQueryObjectiv(int id, int pname, long params) {
-        GL15C.nglGetQueryObjectiv(id, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.nglGetQueryObjectiv(id, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetQueryObjectiv", start);
+        }
     }
 
     /**
@@ -942,7 +1225,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetQueryObject">Reference Page</a>
      */
     public static void glGetQueryObjectiv(@NativeType("GLuint") int id, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
-        GL15C.glGetQueryObjectiv(id, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetQueryObjectiv(id, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetQueryObjectiv", start);
+        }
     }
 
     /**
@@ -955,14 +1243,24 @@ public class GL15 extends GL14 {
      */
     @NativeType("void")
     public static int glGetQueryObjecti(@NativeType("GLuint") int id, @NativeType("GLenum") int pname) {
-        return GL15C.glGetQueryObjecti(id, pname);
+        long start = GLHooks.enter();
+        try {
+            return GL15C.glGetQueryObjecti(id, pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetQueryObjecti", start);
+        }
     }
 
     // --- [ glGetQueryObjectuiv ] ---
 
     /** Unsafe version of: {@link #glGetQueryObjectuiv GetQueryObjectuiv} */
     public static void nglGetQueryObjectuiv(int id, int pname, long params) {
-        GL15C.nglGetQueryObjectuiv(id, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.nglGetQueryObjectuiv(id, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetQueryObjectuiv", start);
+        }
     }
 
     /**
@@ -975,7 +1273,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetQueryObject">Reference Page</a>
      */
     public static void glGetQueryObjectuiv(@NativeType("GLuint") int id, @NativeType("GLenum") int pname, @NativeType("GLuint *") IntBuffer params) {
-        GL15C.glGetQueryObjectuiv(id, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetQueryObjectuiv(id, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetQueryObjectuiv", start);
+        }
     }
 
     /**
@@ -988,7 +1291,12 @@ public class GL15 extends GL14 {
      */
     @NativeType("void")
     public static int glGetQueryObjectui(@NativeType("GLuint") int id, @NativeType("GLenum") int pname) {
-        return GL15C.glGetQueryObjectui(id, pname);
+        long start = GLHooks.enter();
+        try {
+            return GL15C.glGetQueryObjectui(id, pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetQueryObjectui", start);
+        }
     }
 
     /**
@@ -997,7 +1305,17 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteBuffers">Reference Page</a>
      */
     public static void glDeleteBuffers(@NativeType("GLuint const *") int[] buffers) {
-        GL15C.glDeleteBuffers(buffers);
+        long start = GLHooks.enter();
+        try {
+            if (GLStateCache.enabled) {
+                for (int buffer : buffers) {
+                    GLStateCache.deleteBuffer(buffer);
+                }
+            }
+            GL15C.glDeleteBuffers(buffers);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteBuffers", start);
+        }
     }
 
     /**
@@ -1006,7 +1324,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenBuffers">Reference Page</a>
      */
     public static void glGenBuffers(@NativeType("GLuint *") int[] buffers) {
-        GL15C.glGenBuffers(buffers);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGenBuffers(buffers);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGenBuffers", start);
+        }
     }
 
     /**
@@ -1015,7 +1338,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") short[] data, @NativeType("GLenum") int usage) {
-        GL15C.glBufferData(target, data, usage);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferData(target, data, usage);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferData", start);
+        }
     }
 
     /**
@@ -1024,7 +1352,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") int[] data, @NativeType("GLenum") int usage) {
-        GL15C.glBufferData(target, data, usage);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferData(target, data, usage);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferData", start);
+        }
     }
 
     /**
@@ -1033,7 +1366,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") long[] data, @NativeType("GLenum") int usage) {
-        GL15C.glBufferData(target, data, usage);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferData(target, data, usage);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferData", start);
+        }
     }
 
     /**
@@ -1042,7 +1380,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") float[] data, @NativeType("GLenum") int usage) {
-        GL15C.glBufferData(target, data, usage);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferData(target, data, usage);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferData", start);
+        }
     }
 
     /**
@@ -1051,7 +1394,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferData">Reference Page</a>
      */
     public static void glBufferData(@NativeType("GLenum") int target, @NativeType("void const *") double[] data, @NativeType("GLenum") int usage) {
-        GL15C.glBufferData(target, data, usage);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferData(target, data, usage);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferData", start);
+        }
     }
 
     /**
@@ -1060,7 +1408,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") short[] data) {
-        GL15C.glBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferSubData", start);
+        }
     }
 
     /**
@@ -1069,7 +1422,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") int[] data) {
-        GL15C.glBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferSubData", start);
+        }
     }
 
     /**
@@ -1078,7 +1436,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") long[] data) {
-        GL15C.glBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferSubData", start);
+        }
     }
 
     /**
@@ -1087,7 +1450,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") float[] data) {
-        GL15C.glBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferSubData", start);
+        }
     }
 
     /**
@@ -1096,7 +1464,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBufferSubData">Reference Page</a>
      */
     public static void glBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void const *") double[] data) {
-        GL15C.glBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBufferSubData", start);
+        }
     }
 
     /**
@@ -1105,7 +1478,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") short[] data) {
-        GL15C.glGetBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferSubData", start);
+        }
     }
 
     /**
@@ -1114,7 +1492,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") int[] data) {
-        GL15C.glGetBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferSubData", start);
+        }
     }
 
     /**
@@ -1123,7 +1506,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") long[] data) {
-        GL15C.glGetBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferSubData", start);
+        }
     }
 
     /**
@@ -1132,7 +1520,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") float[] data) {
-        GL15C.glGetBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferSubData", start);
+        }
     }
 
     /**
@@ -1141,7 +1534,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferSubData">Reference Page</a>
      */
     public static void glGetBufferSubData(@NativeType("GLenum") int target, @NativeType("GLintptr") long offset, @NativeType("void *") double[] data) {
-        GL15C.glGetBufferSubData(target, offset, data);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferSubData(target, offset, data);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferSubData", start);
+        }
     }
 
     /**
@@ -1150,7 +1548,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetBufferParameter">Reference Page</a>
      */
     public static void glGetBufferParameteriv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] params) {
-        GL15C.glGetBufferParameteriv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetBufferParameteriv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetBufferParameteriv", start);
+        }
     }
 
     /**
@@ -1159,7 +1562,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGenQueries">Reference Page</a>
      */
     public static void glGenQueries(@NativeType("GLuint *") int[] ids) {
-        GL15C.glGenQueries(ids);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGenQueries(ids);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGenQueries", start);
+        }
     }
 
     /**
@@ -1168,7 +1576,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteQueries">Reference Page</a>
      */
     public static void glDeleteQueries(@NativeType("GLuint const *") int[] ids) {
-        GL15C.glDeleteQueries(ids);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glDeleteQueries(ids);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteQueries", start);
+        }
     }
 
     /**
@@ -1177,7 +1590,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetQuery">Reference Page</a>
      */
     public static void glGetQueryiv(@NativeType("GLenum") int target, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] params) {
-        GL15C.glGetQueryiv(target, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetQueryiv(target, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetQueryiv", start);
+        }
     }
 
     /**
@@ -1186,7 +1604,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetQueryObject">Reference Page</a>
      */
     public static void glGetQueryObjectiv(@NativeType("GLuint") int id, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] params) {
-        GL15C.glGetQueryObjectiv(id, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetQueryObjectiv(id, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetQueryObjectiv", start);
+        }
     }
 
     /**
@@ -1195,7 +1618,12 @@ public class GL15 extends GL14 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetQueryObject">Reference Page</a>
      */
     public static void glGetQueryObjectuiv(@NativeType("GLuint") int id, @NativeType("GLenum") int pname, @NativeType("GLuint *") int[] params) {
-        GL15C.glGetQueryObjectuiv(id, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL15C.glGetQueryObjectuiv(id, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetQueryObjectuiv", start);
+        }
     }
 
 }
@@ -2,6 +2,7 @@
  * Copyright LWJGL. All rights reserved.
  * License terms: https://www.lwjgl.org/license
  * MACHINE GENERATED FILE, DO NOT EDIT
+ * Instrumented by tools/InstrumentGL.java, see tools/gl-hooks.txt
  */
 package org.lwjgl.opengl;
 
@@ -205,8 +206,13 @@ public class GL20 extends GL15 {
     public static void glVertexAttribPointer(int index, int size,
                                              boolean unsigned, boolean normalized,
                                              int stride, ByteBuffer buffer) {
-        int type = unsigned ? GL11.GL_UNSIGNED_BYTE : GL11.GL_BYTE;
-        GL20.glVertexAttribPointer(index, size, type, normalized, stride, buffer);
+        long start = GLHooks.enter();
+        try {
+            int type = unsigned ? GL11.GL_UNSIGNED_BYTE : GL11.GL_BYTE;
+            GL20.glVertexAttribPointer(index, size, type, normalized, stride, buffer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttribPointer", start);
+        }
     }
 
     public static void glVertexAttribPointer(int index, int size,
@@ -223,26 +229,41 @@ public class GL20 extends GL15 {
 
     public static String glGetActiveAttrib(int program, int index, int maxLength,
                                            IntBuffer sizeType) {
-        //TODO check if correct
-        IntBuffer type = BufferUtils.createIntBuffer(1);
-        String s = GL20.glGetActiveAttrib(program, index, maxLength, sizeType, type);
-        sizeType.put(type.get(0));
-        return s;
+        long start = GLHooks.enter();
+        try {
+            //TODO check if correct
+            IntBuffer type = BufferUtils.createIntBuffer(1);
+            String s = GL20.glGetActiveAttrib(program, index, maxLength, sizeType, type);
+            sizeType.put(type.get(0));
+            return s;
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetActiveAttrib", start);
+        }
     }
 
     public static String glGetActiveUniform(int program, int index, int maxLength,
                                             IntBuffer sizeType) {
-        //TODO if correct
-        IntBuffer type = BufferUtils.createIntBuffer(1);
-        String s = GL20.glGetActiveUniform(program, index, maxLength, sizeType, type);
-        sizeType.put(type.get(0));
-        return s;
+        long start = GLHooks.enter();
+        try {
+            //TODO if correct
+            IntBuffer type = BufferUtils.createIntBuffer(1);
+            String s = GL20.glGetActiveUniform(program, index, maxLength, sizeType, type);
+            sizeType.put(type.get(0));
+            return s;
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetActiveUniform", start);
+        }
     }
 
     public static void glShaderSource(int shader, ByteBuffer string) {
-        byte[] b = new byte[string.remaining()];
-        string.get(b);
-        glShaderSource(shader, new String(b));
+        long start = GLHooks.enter();
+        try {
+            byte[] b = new byte[string.remaining()];
+            string.get(b);
+            glShaderSource(shader, new String(b));
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glShaderSource", start);
+        }
 	}
     
     // TODO port below
@@ -432,7 +453,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("GLuint")
     public static int glCreateProgram() {
-        return GL20C.glCreateProgram();
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glCreateProgram();
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCreateProgram", start);
+        }
     }
 
     // --- [ glDeleteProgram ] ---
@@ -445,7 +471,13 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteProgram">Reference Page</a>
      */
     public static void glDeleteProgram(@NativeType("GLuint") int program) {
-        GL20C.glDeleteProgram(program);
+        long start = GLHooks.enter();
+        try {
+            if (GLStateCache.enabled) GLStateCache.deleteProgram(program);
+            GL20C.glDeleteProgram(program);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteProgram", start);
+        }
     }
 
     // --- [ glIsProgram ] ---
@@ -460,7 +492,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("GLboolean")
     public static boolean glIsProgram(@NativeType("GLuint") int program) {
-        return GL20C.glIsProgram(program);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glIsProgram(program);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIsProgram", start);
+        }
     }
 
     // --- [ glCreateShader ] ---
@@ -474,7 +511,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("GLuint")
     public static int glCreateShader(@NativeType("GLenum") int type) {
-        return GL20C.glCreateShader(type);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glCreateShader(type);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCreateShader", start);
+        }
     }
 
     // --- [ glDeleteShader ] ---
@@ -487,7 +529,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDeleteShader">Reference Page</a>
      */
     public static void glDeleteShader(@NativeType("GLuint") int shader) {
-        GL20C.glDeleteShader(shader);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glDeleteShader(shader);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDeleteShader", start);
+        }
     }
 
     // --- [ glIsShader ] ---
@@ -502,7 +549,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("GLboolean")
     public static boolean glIsShader(@NativeType("GLuint") int shader) {
-        return GL20C.glIsShader(shader);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glIsShader(shader);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glIsShader", start);
+        }
     }
 
     // --- [ glAttachShader ] ---
@@ -527,7 +579,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glAttachShader">Reference Page</a>
      */
     public static void glAttachShader(@NativeType("GLuint") int program, @NativeType("GLuint") int shader) {
-        GL20C.glAttachShader(program, shader);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glAttachShader(program, shader);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glAttachShader", start);
+        }
     }
 
     // --- [ glDetachShader ] ---
@@ -541,7 +598,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDetachShader">Reference Page</a>
      */
     public static void glDetachShader(@NativeType("GLuint") int program, @NativeType("GLuint") int shader) {
-        GL20C.glDetachShader(program, shader);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glDetachShader(program, shader);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDetachShader", start);
+        }
     }
 
     // --- [ glShaderSource ] ---
@@ -552,7 +614,12 @@ public class GL20 extends GL15 {
      * @param count the number of elements in the string and length arrays
      */
     public static void nglShaderSource(int shader, int count, long strings, long length) {
-        GL20C.nglShaderSource(shader, count, strings, length);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglShaderSource(shader, count, strings, length);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glShaderSource", start);
+        }
     }
 
     /**
@@ -570,7 +637,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glShaderSource">Reference Page</a>
      */
     public static void glShaderSource(@NativeType("GLuint") int shader, @NativeType("GLchar const **") PointerBuffer strings, @Nullable @NativeType("GLint const *") IntBuffer length) {
-        GL20C.glShaderSource(shader, strings, length);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glShaderSource(shader, strings, length);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glShaderSource", start);
+        }
     }
 
     /**
@@ -587,7 +659,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glShaderSource">Reference Page</a>
      */
     public static void glShaderSource(@NativeType("GLuint") int shader, @NativeType("GLchar const **") CharSequence... strings) {
-        GL20C.glShaderSource(shader, strings);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glShaderSource(shader, strings);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glShaderSource", start);
+        }
     }
 
     /**
@@ -603,7 +680,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glShaderSource">Reference Page</a>
      */
     public static void glShaderSource(@NativeType("GLuint") int shader, @NativeType("GLchar const **") CharSequence string) {
-        GL20C.glShaderSource(shader, string);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glShaderSource(shader, string);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glShaderSource", start);
+        }
     }
 
     // --- [ glCompileShader ] ---
@@ -616,7 +698,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glCompileShader">Reference Page</a>
      */
     public static void glCompileShader(@NativeType("GLuint") int shader) {
-        GL20C.glCompileShader(shader);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glCompileShader(shader);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glCompileShader", start);
+        }
     }
 
     // --- [ glLinkProgram ] ---
@@ -629,7 +716,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glLinkProgram">Reference Page</a>
      */
     public static void glLinkProgram(@NativeType("GLuint") int program) {
-        GL20C.glLinkProgram(program);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glLinkProgram(program);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glLinkProgram", start);
+        }
     }
 
     // --- [ glUseProgram ] ---
@@ -642,7 +734,13 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUseProgram">Reference Page</a>
      */
     public static void glUseProgram(@NativeType("GLuint") int program) {
-        GL20C.glUseProgram(program);
+        long start = GLHooks.enter();
+        try {
+            if (GLStateCache.enabled && !GLStateCache.useProgram(program)) return;
+            GL20C.glUseProgram(program);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUseProgram", start);
+        }
     }
 
     // --- [ glValidateProgram ] ---
@@ -655,7 +753,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glValidateProgram">Reference Page</a>
      */
     public static void glValidateProgram(@NativeType("GLuint") int program) {
-        GL20C.glValidateProgram(program);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glValidateProgram(program);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glValidateProgram", start);
+        }
     }
 
     // --- [ glUniform1f ] ---
@@ -669,7 +772,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform1f(@NativeType("GLint") int location, @NativeType("GLfloat") float v0) {
-        GL20C.glUniform1f(location, v0);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform1f(location, v0);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1f", start);
+        }
     }
 
     // --- [ glUniform2f ] ---
@@ -684,7 +792,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform2f(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1) {
-        GL20C.glUniform2f(location, v0, v1);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform2f(location, v0, v1);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2f", start);
+        }
     }
 
     // --- [ glUniform3f ] ---
@@ -700,7 +813,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform3f(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2) {
-        GL20C.glUniform3f(location, v0, v1, v2);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform3f(location, v0, v1, v2);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3f", start);
+        }
     }
 
     // --- [ glUniform4f ] ---
@@ -717,7 +835,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform4f(@NativeType("GLint") int location, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2, @NativeType("GLfloat") float v3) {
-        GL20C.glUniform4f(location, v0, v1, v2, v3);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform4f(location, v0, v1, v2, v3);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4f", start);
+        }
     }
 
     // --- [ glUniform1i ] ---
@@ -731,7 +854,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform1i(@NativeType("GLint") int location, @NativeType("GLint") int v0) {
-        GL20C.glUniform1i(location, v0);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform1i(location, v0);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1i", start);
+        }
     }
 
     // --- [ glUniform2i ] ---
@@ -746,7 +874,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform2i(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1) {
-        GL20C.glUniform2i(location, v0, v1);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform2i(location, v0, v1);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2i", start);
+        }
     }
 
     // --- [ glUniform3i ] ---
@@ -762,7 +895,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform3i(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1, @NativeType("GLint") int v2) {
-        GL20C.glUniform3i(location, v0, v1, v2);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform3i(location, v0, v1, v2);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3i", start);
+        }
     }
 
     // --- [ glUniform4i ] ---
@@ -779,7 +917,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform4i(@NativeType("GLint") int location, @NativeType("GLint") int v0, @NativeType("GLint") int v1, @NativeType("GLint") int v2, @NativeType("GLint") int v3) {
-        GL20C.glUniform4i(location, v0, v1, v2, v3);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform4i(location, v0, v1, v2, v3);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4i", start);
+        }
     }
 
     // --- [ glUniform1fv ] ---
@@ -790,7 +933,12 @@ public class GL20 extends GL15 {
      * @param count the number of elements that are to be modified. This should be 1 if the targeted uniform variable is not an array, and 1 or more if it is an array.
      */
     public static void nglUniform1fv(int location, int count, long value) {
-        GL20C.nglUniform1fv(location, count, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglUniform1fv(location, count, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1fv", start);
+        }
     }
 
     /**
@@ -802,7 +950,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform1fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
-        GL20C.glUniform1fv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform1fv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1fv", start);
+        }
     }
 
     // --- [ glUniform2fv ] ---
@@ -813,7 +966,12 @@ public class GL20 extends GL15 {
      * @param count the number of elements that are to be modified. This should be 1 if the targeted uniform variable is not an array, and 1 or more if it is an array.
      */
     public static void nglUniform2fv(int location, int count, long value) {
-        GL20C.nglUniform2fv(location, count, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglUniform2fv(location, count, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2fv", start);
+        }
     }
 
     /**
@@ -825,7 +983,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform2fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
-        GL20C.glUniform2fv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform2fv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2fv", start);
+        }
     }
 
     // --- [ glUniform3fv ] ---
@@ -836,7 +999,12 @@ public class GL20 extends GL15 {
      * @param count the number of elements that are to be modified. This should be 1 if the targeted uniform variable is not an array, and 1 or more if it is an array.
      */
     public static void nglUniform3fv(int location, int count, long value) {
-        GL20C.nglUniform3fv(location, count, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglUniform3fv(location, count, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3fv", start);
+        }
     }
 
     /**
@@ -848,7 +1016,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform3fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
-        GL20C.glUniform3fv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform3fv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3fv", start);
+        }
     }
 
     // --- [ glUniform4fv ] ---
@@ -859,7 +1032,12 @@ public class GL20 extends GL15 {
      * @param count the number of elements that are to be modified. This should be 1 if the targeted uniform variable is not an array, and 1 or more if it is an array.
      */
     public static void nglUniform4fv(int location, int count, long value) {
-        GL20C.nglUniform4fv(location, count, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglUniform4fv(location, count, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4fv", start);
+        }
     }
 
     /**
@@ -871,7 +1049,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform4fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") FloatBuffer value) {
-        GL20C.glUniform4fv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform4fv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4fv", start);
+        }
     }
 
     // --- [ glUniform1iv ] ---
@@ -882,7 +1065,12 @@ public class GL20 extends GL15 {
      * @param count the number of elements that are to be modified. This should be 1 if the targeted uniform variable is not an array, and 1 or more if it is an array.
      */
     public static void nglUniform1iv(int location, int count, long value) {
-        GL20C.nglUniform1iv(location, count, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglUniform1iv(location, count, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1iv", start);
+        }
     }
 
     /**
@@ -894,7 +1082,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform1iv(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
-        GL20C.glUniform1iv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform1iv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1iv", start);
+        }
     }
 
     // --- [ glUniform2iv ] ---
@@ -905,7 +1098,12 @@ public class GL20 extends GL15 {
      * @param count the number of elements that are to be modified. This should be 1 if the targeted uniform variable is not an array, and 1 or more if it is an array.
      */
     public static void nglUniform2iv(int location, int count, long value) {
-        GL20C.nglUniform2iv(location, count, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglUniform2iv(location, count, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2iv", start);
+        }
     }
 
     /**
@@ -917,7 +1115,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform2iv(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
-        GL20C.glUniform2iv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform2iv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2iv", start);
+        }
     }
 
     // --- [ glUniform3iv ] ---
@@ -928,7 +1131,12 @@ public class GL20 extends GL15 {
      * @param count the number of elements that are to be modified. This should be 1 if the targeted uniform variable is not an array, and 1 or more if it is an array.
      */
     public static void nglUniform3iv(int location, int count, long value) {
-        GL20C.nglUniform3iv(location, count, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglUniform3iv(location, count, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3iv", start);
+        }
     }
 
     /**
@@ -940,7 +1148,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform3iv(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
-        GL20C.glUniform3iv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform3iv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3iv", start);
+        }
     }
 
     // --- [ glUniform4iv ] ---
@@ -951,7 +1164,12 @@ public class GL20 extends GL15 {
      * @param count the number of elements that are to be modified. This should be 1 if the targeted uniform variable is not an array, and 1 or more if it is an array.
      */
     public static void nglUniform4iv(int location, int count, long value) {
-        GL20C.nglUniform4iv(location, count, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglUniform4iv(location, count, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4iv", start);
+        }
     }
 
     /**
@@ -963,7 +1181,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform4iv(@NativeType("GLint") int location, @NativeType("GLint const *") IntBuffer value) {
-        GL20C.glUniform4iv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform4iv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4iv", start);
+        }
     }
 
     // --- [ glUniformMatrix2fv ] ---
@@ -974,7 +1197,12 @@ public class GL20 extends GL15 {
      * @param count the number of matrices that are to be modified. This should be 1 if the targeted uniform variable is not an array of matrices, and 1 or more if it is an array of matrices.
      */
     public static void nglUniformMatrix2fv(int location, int count, boolean transpose, long value) {
-        GL20C.nglUniformMatrix2fv(location, count, transpose, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglUniformMatrix2fv(location, count, transpose, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix2fv", start);
+        }
     }
 
     /**
@@ -987,7 +1215,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix2fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
-        GL20C.glUniformMatrix2fv(location, transpose, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniformMatrix2fv(location, transpose, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix2fv", start);
+        }
     }
 
     // --- [ glUniformMatrix3fv ] ---
@@ -998,7 +1231,12 @@ public class GL20 extends GL15 {
      * @param count the number of matrices that are to be modified. This should be 1 if the targeted uniform variable is not an array of matrices, and 1 or more if it is an array of matrices.
      */
     public static void nglUniformMatrix3fv(int location, int count, boolean transpose, long value) {
-        GL20C.nglUniformMatrix3fv(location, count, transpose, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglUniformMatrix3fv(location, count, transpose, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix3fv", start);
+        }
     }
 
     /**
@@ -1011,7 +1249,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix3fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
-        GL20C.glUniformMatrix3fv(location, transpose, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniformMatrix3fv(location, transpose, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix3fv", start);
+        }
     }
 
     // --- [ glUniformMatrix4fv ] ---
@@ -1022,7 +1265,12 @@ public class GL20 extends GL15 {
      * @param count the number of matrices that are to be modified. This should be 1 if the targeted uniform variable is not an array of matrices, and 1 or more if it is an array of matrices.
      */
     public static void nglUniformMatrix4fv(int location, int count, boolean transpose, long value) {
-        GL20C.nglUniformMatrix4fv(location, count, transpose, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglUniformMatrix4fv(location, count, transpose, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix4fv", start);
+        }
     }
 
     /**
@@ -1035,14 +1283,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix4fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") FloatBuffer value) {
-        GL20C.glUniformMatrix4fv(location, transpose, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniformMatrix4fv(location, transpose, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix4fv", start);
+        }
     }
 
     // --- [ glGetShaderiv ] ---
 
     /** Unsafe version of: {@link #glGetShaderiv GetShaderiv} */
     public static void nglGetShaderiv(int shader, int pname, long params) {
-        GL20C.nglGetShaderiv(shader, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetShaderiv(shader, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetShaderiv", start);
+        }
     }
 
     /**
@@ -1055,7 +1313,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetShader">Reference Page</a>
      */
     public static void glGetShaderiv(@NativeType("GLuint") int shader, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
-        GL20C.glGetShaderiv(shader, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetShaderiv(shader, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetShaderiv", start);
+        }
     }
 
     /**
@@ -1068,14 +1331,24 @@ public class GL20 extends GL15 {
      */
     @NativeType("void")
     public static int glGetShaderi(@NativeType("GLuint") int shader, @NativeType("GLenum") int pname) {
-        return GL20C.glGetShaderi(shader, pname);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetShaderi(shader, pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetShaderi", start);
+        }
     }
 
     // --- [ glGetProgramiv ] ---
 
     /** Unsafe version of: {@link #glGetProgramiv GetProgramiv} */
     public static void nglGetProgramiv(int program, int pname, long params) {
-        GL20C.nglGetProgramiv(program, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetProgramiv(program, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetProgramiv", start);
+        }
     }
 
     /**
@@ -1088,7 +1361,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetProgram">Reference Page</a>
      */
     public static void glGetProgramiv(@NativeType("GLuint") int program, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
-        GL20C.glGetProgramiv(program, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetProgramiv(program, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetProgramiv", start);
+        }
     }
 
     /**
@@ -1101,7 +1379,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("void")
     public static int glGetProgrami(@NativeType("GLuint") int program, @NativeType("GLenum") int pname) {
-        return GL20C.glGetProgrami(program, pname);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetProgrami(program, pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetProgrami", start);
+        }
     }
 
     // --- [ glGetShaderInfoLog ] ---
@@ -1112,7 +1395,12 @@ public class GL20 extends GL15 {
      * @param maxLength the size of the character buffer for storing the returned information log
      */
     public static void nglGetShaderInfoLog(int shader, int maxLength, long length, long infoLog) {
-        GL20C.nglGetShaderInfoLog(shader, maxLength, length, infoLog);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetShaderInfoLog(shader, maxLength, length, infoLog);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetShaderInfoLog", start);
+        }
     }
 
     /**
@@ -1125,7 +1413,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetShaderInfoLog">Reference Page</a>
      */
     public static void glGetShaderInfoLog(@NativeType("GLuint") int shader, @Nullable @NativeType("GLsizei *") IntBuffer length, @NativeType("GLchar *") ByteBuffer infoLog) {
-        GL20C.glGetShaderInfoLog(shader, length, infoLog);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetShaderInfoLog(shader, length, infoLog);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetShaderInfoLog", start);
+        }
     }
 
     /**
@@ -1138,7 +1431,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("void")
     public static String glGetShaderInfoLog(@NativeType("GLuint") int shader, @NativeType("GLsizei") int maxLength) {
-        return GL20C.glGetShaderInfoLog(shader, maxLength);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetShaderInfoLog(shader, maxLength);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetShaderInfoLog", start);
+        }
     }
 
     /**
@@ -1161,7 +1459,12 @@ public class GL20 extends GL15 {
      * @param maxLength the size of the character buffer for storing the returned information log
      */
     public static void nglGetProgramInfoLog(int program, int maxLength, long length, long infoLog) {
-        GL20C.nglGetProgramInfoLog(program, maxLength, length, infoLog);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetProgramInfoLog(program, maxLength, length, infoLog);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetProgramInfoLog", start);
+        }
     }
 
     /**
@@ -1174,7 +1477,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetProgramInfoLog">Reference Page</a>
      */
     public static void glGetProgramInfoLog(@NativeType("GLuint") int program, @Nullable @NativeType("GLsizei *") IntBuffer length, @NativeType("GLchar *") ByteBuffer infoLog) {
-        GL20C.glGetProgramInfoLog(program, length, infoLog);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetProgramInfoLog(program, length, infoLog);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetProgramInfoLog", start);
+        }
     }
 
     /**
@@ -1187,7 +1495,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("void")
     public static String glGetProgramInfoLog(@NativeType("GLuint") int program, @NativeType("GLsizei") int maxLength) {
-        return GL20C.glGetProgramInfoLog(program, maxLength);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetProgramInfoLog(program, maxLength);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetProgramInfoLog", start);
+        }
     }
 
     /**
@@ -1210,7 +1523,12 @@ public class GL20 extends GL15 {
      * @param maxCount the size of the array for storing the returned object names
      */
     public static void nglGetAttachedShaders(int program, int maxCount, long count, long shaders) {
-        GL20C.nglGetAttachedShaders(program, maxCount, count, shaders);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetAttachedShaders(program, maxCount, count, shaders);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetAttachedShaders", start);
+        }
     }
 
     /**
@@ -1223,14 +1541,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetAttachedShaders">Reference Page</a>
      */
     public static void glGetAttachedShaders(@NativeType("GLuint") int program, @Nullable @NativeType("GLsizei *") IntBuffer count, @NativeType("GLuint *") IntBuffer shaders) {
-        GL20C.glGetAttachedShaders(program, count, shaders);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetAttachedShaders(program, count, shaders);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetAttachedShaders", start);
+        }
     }
 
     // --- [ glGetUniformLocation ] ---
 
     /** Unsafe version of: {@link #glGetUniformLocation GetUniformLocation} */
     public static int nglGetUniformLocation(int program, long name) {
-        return GL20C.nglGetUniformLocation(program, name);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.nglGetUniformLocation(program, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetUniformLocation", start);
+        }
     }
 
     /**
@@ -1243,7 +1571,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("GLint")
     public static int glGetUniformLocation(@NativeType("GLuint") int program, @NativeType("GLchar const *") ByteBuffer name) {
-        return GL20C.glGetUniformLocation(program, name);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetUniformLocation(program, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetUniformLocation", start);
+        }
     }
 
     /**
@@ -1256,7 +1589,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("GLint")
     public static int glGetUniformLocation(@NativeType("GLuint") int program, @NativeType("GLchar const *") CharSequence name) {
-        return GL20C.glGetUniformLocation(program, name);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetUniformLocation(program, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetUniformLocation", start);
+        }
     }
 
     // --- [ glGetActiveUniform ] ---
@@ -1267,7 +1605,12 @@ public class GL20 extends GL15 {
      * @param maxLength the maximum number of characters OpenGL is allowed to write in the character buffer indicated by {@code name}
      */
     public static void nglGetActiveUniform(int program, int index, int maxLength, long length, long size, long type, long name) {
-        GL20C.nglGetActiveUniform(program, index, maxLength, length, size, type, name);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetActiveUniform(program, index, maxLength, length, size, type, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetActiveUniform", start);
+        }
     }
 
     /**
@@ -1283,7 +1626,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetActiveUniform">Reference Page</a>
      */
     public static void glGetActiveUniform(@NativeType("GLuint") int program, @NativeType("GLuint") int index, @Nullable @NativeType("GLsizei *") IntBuffer length, @NativeType("GLint *") IntBuffer size, @NativeType("GLenum *") IntBuffer type, @NativeType("GLchar *") ByteBuffer name) {
-        GL20C.glGetActiveUniform(program, index, length, size, type, name);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetActiveUniform(program, index, length, size, type, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetActiveUniform", start);
+        }
     }
 
     /**
@@ -1299,7 +1647,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("void")
     public static String glGetActiveUniform(@NativeType("GLuint") int program, @NativeType("GLuint") int index, @NativeType("GLsizei") int maxLength, @NativeType("GLint *") IntBuffer size, @NativeType("GLenum *") IntBuffer type) {
-        return GL20C.glGetActiveUniform(program, index, maxLength, size, type);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetActiveUniform(program, index, maxLength, size, type);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetActiveUniform", start);
+        }
     }
 
     /**
@@ -1321,7 +1674,12 @@ public class GL20 extends GL15 {
 
     /** Unsafe version of: {@link #glGetUniformfv GetUniformfv} */
     public static void nglGetUniformfv(int program, int location, long params) {
-        GL20C.nglGetUniformfv(program, location, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetUniformfv(program, location, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetUniformfv", start);
+        }
     }
 
     /**
@@ -1334,7 +1692,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetUniform">Reference Page</a>
      */
     public static void glGetUniformfv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat *") FloatBuffer params) {
-        GL20C.glGetUniformfv(program, location, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetUniformfv(program, location, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetUniformfv", start);
+        }
     }
 
     /**
@@ -1347,14 +1710,24 @@ public class GL20 extends GL15 {
      */
     @NativeType("void")
     public static float glGetUniformf(@NativeType("GLuint") int program, @NativeType("GLint") int location) {
-        return GL20C.glGetUniformf(program, location);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetUniformf(program, location);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetUniformf", start);
+        }
     }
 
     // --- [ glGetUniformiv ] ---
 
     /** Unsafe version of: {@link #glGetUniformiv GetUniformiv} */
     public static void nglGetUniformiv(int program, int location, long params) {
-        GL20C.nglGetUniformiv(program, location, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetUniformiv(program, location, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetUniformiv", start);
+        }
     }
 
     /**
@@ -1367,7 +1740,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetUniform">Reference Page</a>
      */
     public static void glGetUniformiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint *") IntBuffer params) {
-        GL20C.glGetUniformiv(program, location, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetUniformiv(program, location, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetUniformiv", start);
+        }
     }
 
     /**
@@ -1380,7 +1758,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("void")
     public static int glGetUniformi(@NativeType("GLuint") int program, @NativeType("GLint") int location) {
-        return GL20C.glGetUniformi(program, location);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetUniformi(program, location);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetUniformi", start);
+        }
     }
 
     // --- [ glGetShaderSource ] ---
@@ -1391,7 +1774,12 @@ public class GL20 extends GL15 {
      * @param maxLength the size of the character buffer for storing the returned source code string
      */
     public static void nglGetShaderSource(int shader, int maxLength, long length, long source) {
-        GL20C.nglGetShaderSource(shader, maxLength, length, source);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetShaderSource(shader, maxLength, length, source);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetShaderSource", start);
+        }
     }
 
     /**
@@ -1404,7 +1792,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetShaderSource">Reference Page</a>
      */
     public static void glGetShaderSource(@NativeType("GLuint") int shader, @Nullable @NativeType("GLsizei *") IntBuffer length, @NativeType("GLchar *") ByteBuffer source) {
-        GL20C.glGetShaderSource(shader, length, source);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetShaderSource(shader, length, source);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetShaderSource", start);
+        }
     }
 
     /**
@@ -1417,7 +1810,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("void")
     public static String glGetShaderSource(@NativeType("GLuint") int shader, @NativeType("GLsizei") int maxLength) {
-        return GL20C.glGetShaderSource(shader, maxLength);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetShaderSource(shader, maxLength);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetShaderSource", start);
+        }
     }
 
     /**
@@ -1443,7 +1841,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib1f(@NativeType("GLuint") int index, @NativeType("GLfloat") float v0) {
-        GL20C.glVertexAttrib1f(index, v0);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib1f(index, v0);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib1f", start);
+        }
     }
 
     // --- [ glVertexAttrib1s ] ---
@@ -1457,7 +1860,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib1s(@NativeType("GLuint") int index, @NativeType("GLshort") short v0) {
-        GL20C.glVertexAttrib1s(index, v0);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib1s(index, v0);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib1s", start);
+        }
     }
 
     // --- [ glVertexAttrib1d ] ---
@@ -1471,7 +1879,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib1d(@NativeType("GLuint") int index, @NativeType("GLdouble") double v0) {
-        GL20C.glVertexAttrib1d(index, v0);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib1d(index, v0);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib1d", start);
+        }
     }
 
     // --- [ glVertexAttrib2f ] ---
@@ -1486,7 +1899,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib2f(@NativeType("GLuint") int index, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1) {
-        GL20C.glVertexAttrib2f(index, v0, v1);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib2f(index, v0, v1);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib2f", start);
+        }
     }
 
     // --- [ glVertexAttrib2s ] ---
@@ -1501,7 +1919,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib2s(@NativeType("GLuint") int index, @NativeType("GLshort") short v0, @NativeType("GLshort") short v1) {
-        GL20C.glVertexAttrib2s(index, v0, v1);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib2s(index, v0, v1);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib2s", start);
+        }
     }
 
     // --- [ glVertexAttrib2d ] ---
@@ -1516,7 +1939,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib2d(@NativeType("GLuint") int index, @NativeType("GLdouble") double v0, @NativeType("GLdouble") double v1) {
-        GL20C.glVertexAttrib2d(index, v0, v1);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib2d(index, v0, v1);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib2d", start);
+        }
     }
 
     // --- [ glVertexAttrib3f ] ---
@@ -1532,7 +1960,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib3f(@NativeType("GLuint") int index, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2) {
-        GL20C.glVertexAttrib3f(index, v0, v1, v2);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib3f(index, v0, v1, v2);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib3f", start);
+        }
     }
 
     // --- [ glVertexAttrib3s ] ---
@@ -1548,7 +1981,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib3s(@NativeType("GLuint") int index, @NativeType("GLshort") short v0, @NativeType("GLshort") short v1, @NativeType("GLshort") short v2) {
-        GL20C.glVertexAttrib3s(index, v0, v1, v2);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib3s(index, v0, v1, v2);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib3s", start);
+        }
     }
 
     // --- [ glVertexAttrib3d ] ---
@@ -1564,7 +2002,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib3d(@NativeType("GLuint") int index, @NativeType("GLdouble") double v0, @NativeType("GLdouble") double v1, @NativeType("GLdouble") double v2) {
-        GL20C.glVertexAttrib3d(index, v0, v1, v2);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib3d(index, v0, v1, v2);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib3d", start);
+        }
     }
 
     // --- [ glVertexAttrib4f ] ---
@@ -1581,7 +2024,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4f(@NativeType("GLuint") int index, @NativeType("GLfloat") float v0, @NativeType("GLfloat") float v1, @NativeType("GLfloat") float v2, @NativeType("GLfloat") float v3) {
-        GL20C.glVertexAttrib4f(index, v0, v1, v2, v3);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4f(index, v0, v1, v2, v3);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4f", start);
+        }
     }
 
     // --- [ glVertexAttrib4s ] ---
@@ -1598,7 +2046,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4s(@NativeType("GLuint") int index, @NativeType("GLshort") short v0, @NativeType("GLshort") short v1, @NativeType("GLshort") short v2, @NativeType("GLshort") short v3) {
-        GL20C.glVertexAttrib4s(index, v0, v1, v2, v3);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4s(index, v0, v1, v2, v3);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4s", start);
+        }
     }
 
     // --- [ glVertexAttrib4d ] ---
@@ -1615,7 +2068,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4d(@NativeType("GLuint") int index, @NativeType("GLdouble") double v0, @NativeType("GLdouble") double v1, @NativeType("GLdouble") double v2, @NativeType("GLdouble") double v3) {
-        GL20C.glVertexAttrib4d(index, v0, v1, v2, v3);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4d(index, v0, v1, v2, v3);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4d", start);
+        }
     }
 
     // --- [ glVertexAttrib4Nub ] ---
@@ -1632,14 +2090,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4Nub(@NativeType("GLuint") int index, @NativeType("GLubyte") byte x, @NativeType("GLubyte") byte y, @NativeType("GLubyte") byte z, @NativeType("GLubyte") byte w) {
-        GL20C.glVertexAttrib4Nub(index, x, y, z, w);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4Nub(index, x, y, z, w);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nub", start);
+        }
     }
 
     // --- [ glVertexAttrib1fv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib1fv VertexAttrib1fv} */
     public static void nglVertexAttrib1fv(int index, long v) {
-        GL20C.nglVertexAttrib1fv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib1fv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib1fv", start);
+        }
     }
 
     /**
@@ -1651,14 +2119,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib1fv(@NativeType("GLuint") int index, @NativeType("GLfloat const *") FloatBuffer v) {
-        GL20C.glVertexAttrib1fv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib1fv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib1fv", start);
+        }
     }
 
     // --- [ glVertexAttrib1sv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib1sv VertexAttrib1sv} */
     public static void nglVertexAttrib1sv(int index, long v) {
-        GL20C.nglVertexAttrib1sv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib1sv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib1sv", start);
+        }
     }
 
     /**
@@ -1670,14 +2148,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib1sv(@NativeType("GLuint") int index, @NativeType("GLshort const *") ShortBuffer v) {
-        GL20C.glVertexAttrib1sv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib1sv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib1sv", start);
+        }
     }
 
     // --- [ glVertexAttrib1dv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib1dv VertexAttrib1dv} */
     public static void nglVertexAttrib1dv(int index, long v) {
-        GL20C.nglVertexAttrib1dv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib1dv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib1dv", start);
+        }
     }
 
     /**
@@ -1689,14 +2177,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib1dv(@NativeType("GLuint") int index, @NativeType("GLdouble const *") DoubleBuffer v) {
-        GL20C.glVertexAttrib1dv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib1dv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib1dv", start);
+        }
     }
 
     // --- [ glVertexAttrib2fv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib2fv VertexAttrib2fv} */
     public static void nglVertexAttrib2fv(int index, long v) {
-        GL20C.nglVertexAttrib2fv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib2fv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib2fv", start);
+        }
     }
 
     /**
@@ -1708,14 +2206,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib2fv(@NativeType("GLuint") int index, @NativeType("GLfloat const *") FloatBuffer v) {
-        GL20C.glVertexAttrib2fv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib2fv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib2fv", start);
+        }
     }
 
     // --- [ glVertexAttrib2sv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib2sv VertexAttrib2sv} */
     public static void nglVertexAttrib2sv(int index, long v) {
-        GL20C.nglVertexAttrib2sv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib2sv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib2sv", start);
+        }
     }
 
     /**
@@ -1727,14 +2235,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib2sv(@NativeType("GLuint") int index, @NativeType("GLshort const *") ShortBuffer v) {
-        GL20C.glVertexAttrib2sv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib2sv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib2sv", start);
+        }
     }
 
     // --- [ glVertexAttrib2dv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib2dv VertexAttrib2dv} */
     public static void nglVertexAttrib2dv(int index, long v) {
-        GL20C.nglVertexAttrib2dv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib2dv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib2dv", start);
+        }
     }
 
     /**
@@ -1746,14 +2264,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib2dv(@NativeType("GLuint") int index, @NativeType("GLdouble const *") DoubleBuffer v) {
-        GL20C.glVertexAttrib2dv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib2dv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib2dv", start);
+        }
     }
 
     // --- [ glVertexAttrib3fv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib3fv VertexAttrib3fv} */
     public static void nglVertexAttrib3fv(int index, long v) {
-        GL20C.nglVertexAttrib3fv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib3fv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib3fv", start);
+        }
     }
 
     /**
@@ -1765,14 +2293,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib3fv(@NativeType("GLuint") int index, @NativeType("GLfloat const *") FloatBuffer v) {
-        GL20C.glVertexAttrib3fv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib3fv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib3fv", start);
+        }
     }
 
     // --- [ glVertexAttrib3sv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib3sv VertexAttrib3sv} */
     public static void nglVertexAttrib3sv(int index, long v) {
-        GL20C.nglVertexAttrib3sv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib3sv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib3sv", start);
+        }
     }
 
     /**
@@ -1784,14 +2322,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib3sv(@NativeType("GLuint") int index, @NativeType("GLshort const *") ShortBuffer v) {
-        GL20C.glVertexAttrib3sv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib3sv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib3sv", start);
+        }
     }
 
     // --- [ glVertexAttrib3dv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib3dv VertexAttrib3dv} */
     public static void nglVertexAttrib3dv(int index, long v) {
-        GL20C.nglVertexAttrib3dv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib3dv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib3dv", start);
+        }
     }
 
     /**
@@ -1803,14 +2351,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib3dv(@NativeType("GLuint") int index, @NativeType("GLdouble const *") DoubleBuffer v) {
-        GL20C.glVertexAttrib3dv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib3dv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib3dv", start);
+        }
     }
 
     // --- [ glVertexAttrib4fv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4fv VertexAttrib4fv} */
     public static void nglVertexAttrib4fv(int index, long v) {
-        GL20C.nglVertexAttrib4fv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4fv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4fv", start);
+        }
     }
 
     /**
@@ -1822,14 +2380,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4fv(@NativeType("GLuint") int index, @NativeType("GLfloat const *") FloatBuffer v) {
-        GL20C.glVertexAttrib4fv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4fv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4fv", start);
+        }
     }
 
     // --- [ glVertexAttrib4sv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4sv VertexAttrib4sv} */
     public static void nglVertexAttrib4sv(int index, long v) {
-        GL20C.nglVertexAttrib4sv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4sv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4sv", start);
+        }
     }
 
     /**
@@ -1841,14 +2409,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4sv(@NativeType("GLuint") int index, @NativeType("GLshort const *") ShortBuffer v) {
-        GL20C.glVertexAttrib4sv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4sv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4sv", start);
+        }
     }
 
     // --- [ glVertexAttrib4dv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4dv VertexAttrib4dv} */
     public static void nglVertexAttrib4dv(int index, long v) {
-        GL20C.nglVertexAttrib4dv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4dv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4dv", start);
+        }
     }
 
     /**
@@ -1860,14 +2438,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4dv(@NativeType("GLuint") int index, @NativeType("GLdouble const *") DoubleBuffer v) {
-        GL20C.glVertexAttrib4dv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4dv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4dv", start);
+        }
     }
 
     // --- [ glVertexAttrib4iv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4iv VertexAttrib4iv} */
     public static void nglVertexAttrib4iv(int index, long v) {
-        GL20C.nglVertexAttrib4iv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4iv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4iv", start);
+        }
     }
 
     /**
@@ -1879,14 +2467,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4iv(@NativeType("GLuint") int index, @NativeType("GLint const *") IntBuffer v) {
-        GL20C.glVertexAttrib4iv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4iv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4iv", start);
+        }
     }
 
     // --- [ glVertexAttrib4bv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4bv VertexAttrib4bv} */
     public static void nglVertexAttrib4bv(int index, long v) {
-        GL20C.nglVertexAttrib4bv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4bv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4bv", start);
+        }
     }
 
     /**
@@ -1898,14 +2496,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4bv(@NativeType("GLuint") int index, @NativeType("GLbyte const *") ByteBuffer v) {
-        GL20C.glVertexAttrib4bv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4bv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4bv", start);
+        }
     }
 
     // --- [ glVertexAttrib4ubv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4ubv VertexAttrib4ubv} */
     public static void nglVertexAttrib4ubv(int index, long v) {
-        GL20C.nglVertexAttrib4ubv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4ubv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4ubv", start);
+        }
     }
 
     /**
@@ -1917,14 +2525,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4ubv(@NativeType("GLuint") int index, @NativeType("GLubyte const *") ByteBuffer v) {
-        GL20C.glVertexAttrib4ubv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4ubv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4ubv", start);
+        }
     }
 
     // --- [ glVertexAttrib4usv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4usv VertexAttrib4usv} */
     public static void nglVertexAttrib4usv(int index, long v) {
-        GL20C.nglVertexAttrib4usv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4usv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4usv", start);
+        }
     }
 
     /**
@@ -1936,14 +2554,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4usv(@NativeType("GLuint") int index, @NativeType("GLushort const *") ShortBuffer v) {
-        GL20C.glVertexAttrib4usv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4usv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4usv", start);
+        }
     }
 
     // --- [ glVertexAttrib4uiv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4uiv VertexAttrib4uiv} */
     public static void nglVertexAttrib4uiv(int index, long v) {
-        GL20C.nglVertexAttrib4uiv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4uiv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4uiv", start);
+        }
     }
 
     /**
@@ -1955,14 +2583,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4uiv(@NativeType("GLuint") int index, @NativeType("GLuint const *") IntBuffer v) {
-        GL20C.glVertexAttrib4uiv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4uiv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4uiv", start);
+        }
     }
 
     // --- [ glVertexAttrib4Nbv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4Nbv VertexAttrib4Nbv} */
     public static void nglVertexAttrib4Nbv(int index, long v) {
-        GL20C.nglVertexAttrib4Nbv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4Nbv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nbv", start);
+        }
     }
 
     /**
@@ -1974,14 +2612,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4Nbv(@NativeType("GLuint") int index, @NativeType("GLbyte const *") ByteBuffer v) {
-        GL20C.glVertexAttrib4Nbv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4Nbv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nbv", start);
+        }
     }
 
     // --- [ glVertexAttrib4Nsv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4Nsv VertexAttrib4Nsv} */
     public static void nglVertexAttrib4Nsv(int index, long v) {
-        GL20C.nglVertexAttrib4Nsv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4Nsv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nsv", start);
+        }
     }
 
     /**
@@ -1993,14 +2641,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4Nsv(@NativeType("GLuint") int index, @NativeType("GLshort const *") ShortBuffer v) {
-        GL20C.glVertexAttrib4Nsv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4Nsv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nsv", start);
+        }
     }
 
     // --- [ glVertexAttrib4Niv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4Niv VertexAttrib4Niv} */
     public static void nglVertexAttrib4Niv(int index, long v) {
-        GL20C.nglVertexAttrib4Niv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4Niv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Niv", start);
+        }
     }
 
     /**
@@ -2012,14 +2670,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4Niv(@NativeType("GLuint") int index, @NativeType("GLint const *") IntBuffer v) {
-        GL20C.glVertexAttrib4Niv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4Niv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Niv", start);
+        }
     }
 
     // --- [ glVertexAttrib4Nubv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4Nubv VertexAttrib4Nubv} */
     public static void nglVertexAttrib4Nubv(int index, long v) {
-        GL20C.nglVertexAttrib4Nubv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4Nubv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nubv", start);
+        }
     }
 
     /**
@@ -2031,14 +2699,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4Nubv(@NativeType("GLuint") int index, @NativeType("GLubyte const *") ByteBuffer v) {
-        GL20C.glVertexAttrib4Nubv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4Nubv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nubv", start);
+        }
     }
 
     // --- [ glVertexAttrib4Nusv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4Nusv VertexAttrib4Nusv} */
     public static void nglVertexAttrib4Nusv(int index, long v) {
-        GL20C.nglVertexAttrib4Nusv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4Nusv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nusv", start);
+        }
     }
 
     /**
@@ -2050,14 +2728,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4Nusv(@NativeType("GLuint") int index, @NativeType("GLushort const *") ShortBuffer v) {
-        GL20C.glVertexAttrib4Nusv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4Nusv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nusv", start);
+        }
     }
 
     // --- [ glVertexAttrib4Nuiv ] ---
 
     /** Unsafe version of: {@link #glVertexAttrib4Nuiv VertexAttrib4Nuiv} */
     public static void nglVertexAttrib4Nuiv(int index, long v) {
-        GL20C.nglVertexAttrib4Nuiv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttrib4Nuiv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nuiv", start);
+        }
     }
 
     /**
@@ -2069,14 +2757,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4Nuiv(@NativeType("GLuint") int index, @NativeType("GLuint const *") IntBuffer v) {
-        GL20C.glVertexAttrib4Nuiv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4Nuiv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nuiv", start);
+        }
     }
 
     // --- [ glVertexAttribPointer ] ---
 
     /** Unsafe version of: {@link #glVertexAttribPointer VertexAttribPointer} */
     public static void nglVertexAttribPointer(int index, int size, int type, boolean normalized, int stride, long pointer) {
-        GL20C.nglVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttribPointer", start);
+        }
     }
 
     /**
@@ -2094,7 +2792,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribPointer">Reference Page</a>
      */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") ByteBuffer pointer) {
-        GL20C.glVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttribPointer", start);
+        }
     }
 
     /**
@@ -2112,7 +2815,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribPointer">Reference Page</a>
      */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") long pointer) {
-        GL20C.glVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttribPointer", start);
+        }
     }
 
     /**
@@ -2130,7 +2838,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribPointer">Reference Page</a>
      */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") ShortBuffer pointer) {
-        GL20C.glVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttribPointer", start);
+        }
     }
 
     /**
@@ -2148,7 +2861,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribPointer">Reference Page</a>
      */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") IntBuffer pointer) {
-        GL20C.glVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttribPointer", start);
+        }
     }
 
     /**
@@ -2166,7 +2884,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttribPointer">Reference Page</a>
      */
     public static void glVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLint") int size, @NativeType("GLenum") int type, @NativeType("GLboolean") boolean normalized, @NativeType("GLsizei") int stride, @NativeType("void const *") FloatBuffer pointer) {
-        GL20C.glVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttribPointer(index, size, type, normalized, stride, pointer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttribPointer", start);
+        }
     }
 
     // --- [ glEnableVertexAttribArray ] ---
@@ -2179,7 +2902,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glEnableVertexAttribArray">Reference Page</a>
      */
     public static void glEnableVertexAttribArray(@NativeType("GLuint") int index) {
-        GL20C.glEnableVertexAttribArray(index);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glEnableVertexAttribArray(index);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glEnableVertexAttribArray", start);
+        }
     }
 
     // --- [ glDisableVertexAttribArray ] ---
@@ -2192,14 +2920,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDisableVertexAttribArray">Reference Page</a>
      */
     public static void glDisableVertexAttribArray(@NativeType("GLuint") int index) {
-        GL20C.glDisableVertexAttribArray(index);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glDisableVertexAttribArray(index);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDisableVertexAttribArray", start);
+        }
     }
 
     // --- [ glBindAttribLocation ] ---
 
     /** Unsafe version of: {@link #glBindAttribLocation BindAttribLocation} */
     public static void nglBindAttribLocation(int program, int index, long name) {
-        GL20C.nglBindAttribLocation(program, index, name);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglBindAttribLocation(program, index, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBindAttribLocation", start);
+        }
     }
 
     /**
@@ -2212,7 +2950,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBindAttribLocation">Reference Page</a>
      */
     public static void glBindAttribLocation(@NativeType("GLuint") int program, @NativeType("GLuint") int index, @NativeType("GLchar const *") ByteBuffer name) {
-        GL20C.glBindAttribLocation(program, index, name);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glBindAttribLocation(program, index, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBindAttribLocation", start);
+        }
     }
 
     /**
@@ -2225,7 +2968,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBindAttribLocation">Reference Page</a>
      */
     public static void glBindAttribLocation(@NativeType("GLuint") int program, @NativeType("GLuint") int index, @NativeType("GLchar const *") CharSequence name) {
-        GL20C.glBindAttribLocation(program, index, name);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glBindAttribLocation(program, index, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBindAttribLocation", start);
+        }
     }
 
     // --- [ glGetActiveAttrib ] ---
@@ -2236,7 +2984,12 @@ public class GL20 extends GL15 {
      * @param maxLength the maximum number of characters OpenGL is allowed to write in the character buffer indicated by {@code name}
      */
     public static void nglGetActiveAttrib(int program, int index, int maxLength, long length, long size, long type, long name) {
-        GL20C.nglGetActiveAttrib(program, index, maxLength, length, size, type, name);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetActiveAttrib(program, index, maxLength, length, size, type, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetActiveAttrib", start);
+        }
     }
 
     /**
@@ -2253,7 +3006,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetActiveAttrib">Reference Page</a>
      */
     public static void glGetActiveAttrib(@NativeType("GLuint") int program, @NativeType("GLuint") int index, @Nullable @NativeType("GLsizei *") IntBuffer length, @NativeType("GLint *") IntBuffer size, @NativeType("GLenum *") IntBuffer type, @NativeType("GLchar *") ByteBuffer name) {
-        GL20C.glGetActiveAttrib(program, index, length, size, type, name);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetActiveAttrib(program, index, length, size, type, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetActiveAttrib", start);
+        }
     }
 
     /**
@@ -2269,7 +3027,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("void")
     public static String glGetActiveAttrib(@NativeType("GLuint") int program, @NativeType("GLuint") int index, @NativeType("GLsizei") int maxLength, @NativeType("GLint *") IntBuffer size, @NativeType("GLenum *") IntBuffer type) {
-        return GL20C.glGetActiveAttrib(program, index, maxLength, size, type);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetActiveAttrib(program, index, maxLength, size, type);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetActiveAttrib", start);
+        }
     }
 
     /**
@@ -2291,7 +3054,12 @@ public class GL20 extends GL15 {
 
     /** Unsafe version of: {@link #glGetAttribLocation GetAttribLocation} */
     public static int nglGetAttribLocation(int program, long name) {
-        return GL20C.nglGetAttribLocation(program, name);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.nglGetAttribLocation(program, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetAttribLocation", start);
+        }
     }
 
     /**
@@ -2304,7 +3072,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("GLint")
     public static int glGetAttribLocation(@NativeType("GLuint") int program, @NativeType("GLchar const *") ByteBuffer name) {
-        return GL20C.glGetAttribLocation(program, name);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetAttribLocation(program, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetAttribLocation", start);
+        }
     }
 
     /**
@@ -2317,14 +3090,24 @@ public class GL20 extends GL15 {
      */
     @NativeType("GLint")
     public static int glGetAttribLocation(@NativeType("GLuint") int program, @NativeType("GLchar const *") CharSequence name) {
-        return GL20C.glGetAttribLocation(program, name);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetAttribLocation(program, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetAttribLocation", start);
+        }
     }
 
     // --- [ glGetVertexAttribiv ] ---
 
     /** Unsafe version of: {@link #glGetVertexAttribiv GetVertexAttribiv} */
     public static void nglGetVertexAttribiv(int index, int pname, long params) {
-        GL20C.nglGetVertexAttribiv(index, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetVertexAttribiv(index, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetVertexAttribiv", start);
+        }
     }
 
     /**
@@ -2337,7 +3120,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetVertexAttrib">Reference Page</a>
      */
     public static void glGetVertexAttribiv(@NativeType("GLuint") int index, @NativeType("GLenum") int pname, @NativeType("GLint *") IntBuffer params) {
-        GL20C.glGetVertexAttribiv(index, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetVertexAttribiv(index, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetVertexAttribiv", start);
+        }
     }
 
     /**
@@ -2350,14 +3138,24 @@ public class GL20 extends GL15 {
      */
     @NativeType("void")
     public static int glGetVertexAttribi(@NativeType("GLuint") int index, @NativeType("GLenum") int pname) {
-        return GL20C.glGetVertexAttribi(index, pname);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetVertexAttribi(index, pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetVertexAttribi", start);
+        }
     }
 
     // --- [ glGetVertexAttribfv ] ---
 
     /** Unsafe version of: {@link #glGetVertexAttribfv GetVertexAttribfv} */
     public static void nglGetVertexAttribfv(int index, int pname, long params) {
-        GL20C.nglGetVertexAttribfv(index, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetVertexAttribfv(index, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetVertexAttribfv", start);
+        }
     }
 
     /**
@@ -2370,14 +3168,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetVertexAttrib">Reference Page</a>
      */
     public static void glGetVertexAttribfv(@NativeType("GLuint") int index, @NativeType("GLenum") int pname, @NativeType("GLfloat *") FloatBuffer params) {
-        GL20C.glGetVertexAttribfv(index, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetVertexAttribfv(index, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetVertexAttribfv", start);
+        }
     }
 
     // --- [ glGetVertexAttribdv ] ---
 
     /** Unsafe version of: {@link #glGetVertexAttribdv GetVertexAttribdv} */
     public static void nglGetVertexAttribdv(int index, int pname, long params) {
-        GL20C.nglGetVertexAttribdv(index, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetVertexAttribdv(index, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetVertexAttribdv", start);
+        }
     }
 
     /**
@@ -2390,14 +3198,24 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetVertexAttrib">Reference Page</a>
      */
     public static void glGetVertexAttribdv(@NativeType("GLuint") int index, @NativeType("GLenum") int pname, @NativeType("GLdouble *") DoubleBuffer params) {
-        GL20C.glGetVertexAttribdv(index, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetVertexAttribdv(index, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetVertexAttribdv", start);
+        }
     }
 
     // --- [ glGetVertexAttribPointerv ] ---
 
     /** Unsafe version of: {@link #glGetVertexAttribPointerv GetVertexAttribPointerv} */
     public static void nglGetVertexAttribPointerv(int index, int pname, long pointer) {
-        GL20C.nglGetVertexAttribPointerv(index, pname, pointer);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglGetVertexAttribPointerv(index, pname, pointer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetVertexAttribPointerv", start);
+        }
     }
 
     /**
@@ -2410,7 +3228,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetVertexAttribPointerv">Reference Page</a>
      */
     public static void glGetVertexAttribPointerv(@NativeType("GLuint") int index, @NativeType("GLenum") int pname, @NativeType("void **") PointerBuffer pointer) {
-        GL20C.glGetVertexAttribPointerv(index, pname, pointer);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetVertexAttribPointerv(index, pname, pointer);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetVertexAttribPointerv", start);
+        }
     }
 
     /**
@@ -2423,7 +3246,12 @@ public class GL20 extends GL15 {
      */
     @NativeType("void")
     public static long glGetVertexAttribPointer(@NativeType("GLuint") int index, @NativeType("GLenum") int pname) {
-        return GL20C.glGetVertexAttribPointer(index, pname);
+        long start = GLHooks.enter();
+        try {
+            return GL20C.glGetVertexAttribPointer(index, pname);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetVertexAttribPointer", start);
+        }
     }
 
     // --- [ glDrawBuffers ] ---
@@ -2434,7 +3262,12 @@ public class GL20 extends GL15 {
      * @param n the number of buffers in {@code bufs}
      */
     public static void nglDrawBuffers(int n, long bufs) {
-        GL20C.nglDrawBuffers(n, bufs);
+        long start = GLHooks.enter();
+        try {
+            GL20C.nglDrawBuffers(n, bufs);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawBuffers", start);
+        }
     }
 
     /**
@@ -2445,7 +3278,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawBuffers">Reference Page</a>
      */
     public static void glDrawBuffers(@NativeType("GLenum const *") IntBuffer bufs) {
-        GL20C.glDrawBuffers(bufs);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glDrawBuffers(bufs);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawBuffers", start);
+        }
     }
 
     /**
@@ -2454,7 +3292,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawBuffers">Reference Page</a>
      */
     public static void glDrawBuffers(@NativeType("GLenum const *") int buf) {
-        GL20C.glDrawBuffers(buf);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glDrawBuffers(buf);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawBuffers", start);
+        }
     }
 
     // --- [ glBlendEquationSeparate ] ---
@@ -2468,7 +3311,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glBlendEquationSeparate">Reference Page</a>
      */
     public static void glBlendEquationSeparate(@NativeType("GLenum") int modeRGB, @NativeType("GLenum") int modeAlpha) {
-        GL20C.glBlendEquationSeparate(modeRGB, modeAlpha);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glBlendEquationSeparate(modeRGB, modeAlpha);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glBlendEquationSeparate", start);
+        }
     }
 
     // --- [ glStencilOpSeparate ] ---
@@ -2485,7 +3333,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glStencilOpSeparate">Reference Page</a>
      */
     public static void glStencilOpSeparate(@NativeType("GLenum") int face, @NativeType("GLenum") int sfail, @NativeType("GLenum") int dpfail, @NativeType("GLenum") int dppass) {
-        GL20C.glStencilOpSeparate(face, sfail, dpfail, dppass);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glStencilOpSeparate(face, sfail, dpfail, dppass);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glStencilOpSeparate", start);
+        }
     }
 
     // --- [ glStencilFuncSeparate ] ---
@@ -2502,7 +3355,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glStencilFuncSeparate">Reference Page</a>
      */
     public static void glStencilFuncSeparate(@NativeType("GLenum") int face, @NativeType("GLenum") int func, @NativeType("GLint") int ref, @NativeType("GLuint") int mask) {
-        GL20C.glStencilFuncSeparate(face, func, ref, mask);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glStencilFuncSeparate(face, func, ref, mask);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glStencilFuncSeparate", start);
+        }
     }
 
     // --- [ glStencilMaskSeparate ] ---
@@ -2516,7 +3374,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glStencilMaskSeparate">Reference Page</a>
      */
     public static void glStencilMaskSeparate(@NativeType("GLenum") int face, @NativeType("GLuint") int mask) {
-        GL20C.glStencilMaskSeparate(face, mask);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glStencilMaskSeparate(face, mask);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glStencilMaskSeparate", start);
+        }
     }
 
     /**
@@ -2525,7 +3388,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glShaderSource">Reference Page</a>
      */
     public static void glShaderSource(@NativeType("GLuint") int shader, @NativeType("GLchar const **") PointerBuffer strings, @Nullable @NativeType("GLint const *") int[] length) {
-        GL20C.glShaderSource(shader, strings, length);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glShaderSource(shader, strings, length);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glShaderSource", start);
+        }
     }
 
     /**
@@ -2534,7 +3402,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform1fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
-        GL20C.glUniform1fv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform1fv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1fv", start);
+        }
     }
 
     /**
@@ -2543,7 +3416,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform2fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
-        GL20C.glUniform2fv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform2fv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2fv", start);
+        }
     }
 
     /**
@@ -2552,7 +3430,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform3fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
-        GL20C.glUniform3fv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform3fv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3fv", start);
+        }
     }
 
     /**
@@ -2561,7 +3444,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform4fv(@NativeType("GLint") int location, @NativeType("GLfloat const *") float[] value) {
-        GL20C.glUniform4fv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform4fv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4fv", start);
+        }
     }
 
     /**
@@ -2570,7 +3458,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform1iv(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
-        GL20C.glUniform1iv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform1iv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform1iv", start);
+        }
     }
 
     /**
@@ -2579,7 +3472,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform2iv(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
-        GL20C.glUniform2iv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform2iv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform2iv", start);
+        }
     }
 
     /**
@@ -2588,7 +3486,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform3iv(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
-        GL20C.glUniform3iv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform3iv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform3iv", start);
+        }
     }
 
     /**
@@ -2597,7 +3500,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniform4iv(@NativeType("GLint") int location, @NativeType("GLint const *") int[] value) {
-        GL20C.glUniform4iv(location, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniform4iv(location, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniform4iv", start);
+        }
     }
 
     /**
@@ -2606,7 +3514,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix2fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") float[] value) {
-        GL20C.glUniformMatrix2fv(location, transpose, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniformMatrix2fv(location, transpose, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix2fv", start);
+        }
     }
 
     /**
@@ -2615,7 +3528,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix3fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") float[] value) {
-        GL20C.glUniformMatrix3fv(location, transpose, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniformMatrix3fv(location, transpose, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix3fv", start);
+        }
     }
 
     /**
@@ -2624,7 +3542,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glUniform">Reference Page</a>
      */
     public static void glUniformMatrix4fv(@NativeType("GLint") int location, @NativeType("GLboolean") boolean transpose, @NativeType("GLfloat const *") float[] value) {
-        GL20C.glUniformMatrix4fv(location, transpose, value);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glUniformMatrix4fv(location, transpose, value);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glUniformMatrix4fv", start);
+        }
     }
 
     /**
@@ -2633,7 +3556,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetShader">Reference Page</a>
      */
     public static void glGetShaderiv(@NativeType("GLuint") int shader, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] params) {
-        GL20C.glGetShaderiv(shader, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetShaderiv(shader, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetShaderiv", start);
+        }
     }
 
     /**
@@ -2642,7 +3570,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetProgram">Reference Page</a>
      */
     public static void glGetProgramiv(@NativeType("GLuint") int program, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] params) {
-        GL20C.glGetProgramiv(program, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetProgramiv(program, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetProgramiv", start);
+        }
     }
 
     /**
@@ -2651,7 +3584,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetShaderInfoLog">Reference Page</a>
      */
     public static void glGetShaderInfoLog(@NativeType("GLuint") int shader, @Nullable @NativeType("GLsizei *") int[] length, @NativeType("GLchar *") ByteBuffer infoLog) {
-        GL20C.glGetShaderInfoLog(shader, length, infoLog);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetShaderInfoLog(shader, length, infoLog);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetShaderInfoLog", start);
+        }
     }
 
     /**
@@ -2660,7 +3598,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetProgramInfoLog">Reference Page</a>
      */
     public static void glGetProgramInfoLog(@NativeType("GLuint") int program, @Nullable @NativeType("GLsizei *") int[] length, @NativeType("GLchar *") ByteBuffer infoLog) {
-        GL20C.glGetProgramInfoLog(program, length, infoLog);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetProgramInfoLog(program, length, infoLog);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetProgramInfoLog", start);
+        }
     }
 
     /**
@@ -2669,7 +3612,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetAttachedShaders">Reference Page</a>
      */
     public static void glGetAttachedShaders(@NativeType("GLuint") int program, @Nullable @NativeType("GLsizei *") int[] count, @NativeType("GLuint *") int[] shaders) {
-        GL20C.glGetAttachedShaders(program, count, shaders);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetAttachedShaders(program, count, shaders);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetAttachedShaders", start);
+        }
     }
 
     /**
@@ -2678,7 +3626,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetActiveUniform">Reference Page</a>
      */
     public static void glGetActiveUniform(@NativeType("GLuint") int program, @NativeType("GLuint") int index, @Nullable @NativeType("GLsizei *") int[] length, @NativeType("GLint *") int[] size, @NativeType("GLenum *") int[] type, @NativeType("GLchar *") ByteBuffer name) {
-        GL20C.glGetActiveUniform(program, index, length, size, type, name);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetActiveUniform(program, index, length, size, type, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetActiveUniform", start);
+        }
     }
 
     /**
@@ -2687,7 +3640,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetUniform">Reference Page</a>
      */
     public static void glGetUniformfv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLfloat *") float[] params) {
-        GL20C.glGetUniformfv(program, location, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetUniformfv(program, location, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetUniformfv", start);
+        }
     }
 
     /**
@@ -2696,7 +3654,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetUniform">Reference Page</a>
      */
     public static void glGetUniformiv(@NativeType("GLuint") int program, @NativeType("GLint") int location, @NativeType("GLint *") int[] params) {
-        GL20C.glGetUniformiv(program, location, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetUniformiv(program, location, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetUniformiv", start);
+        }
     }
 
     /**
@@ -2705,7 +3668,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetShaderSource">Reference Page</a>
      */
     public static void glGetShaderSource(@NativeType("GLuint") int shader, @Nullable @NativeType("GLsizei *") int[] length, @NativeType("GLchar *") ByteBuffer source) {
-        GL20C.glGetShaderSource(shader, length, source);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetShaderSource(shader, length, source);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetShaderSource", start);
+        }
     }
 
     /**
@@ -2714,7 +3682,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib1fv(@NativeType("GLuint") int index, @NativeType("GLfloat const *") float[] v) {
-        GL20C.glVertexAttrib1fv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib1fv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib1fv", start);
+        }
     }
 
     /**
@@ -2723,7 +3696,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib1sv(@NativeType("GLuint") int index, @NativeType("GLshort const *") short[] v) {
-        GL20C.glVertexAttrib1sv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib1sv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib1sv", start);
+        }
     }
 
     /**
@@ -2732,7 +3710,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib1dv(@NativeType("GLuint") int index, @NativeType("GLdouble const *") double[] v) {
-        GL20C.glVertexAttrib1dv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib1dv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib1dv", start);
+        }
     }
 
     /**
@@ -2741,7 +3724,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib2fv(@NativeType("GLuint") int index, @NativeType("GLfloat const *") float[] v) {
-        GL20C.glVertexAttrib2fv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib2fv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib2fv", start);
+        }
     }
 
     /**
@@ -2750,7 +3738,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib2sv(@NativeType("GLuint") int index, @NativeType("GLshort const *") short[] v) {
-        GL20C.glVertexAttrib2sv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib2sv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib2sv", start);
+        }
     }
 
     /**
@@ -2759,7 +3752,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib2dv(@NativeType("GLuint") int index, @NativeType("GLdouble const *") double[] v) {
-        GL20C.glVertexAttrib2dv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib2dv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib2dv", start);
+        }
     }
 
     /**
@@ -2768,7 +3766,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib3fv(@NativeType("GLuint") int index, @NativeType("GLfloat const *") float[] v) {
-        GL20C.glVertexAttrib3fv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib3fv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib3fv", start);
+        }
     }
 
     /**
@@ -2777,7 +3780,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib3sv(@NativeType("GLuint") int index, @NativeType("GLshort const *") short[] v) {
-        GL20C.glVertexAttrib3sv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib3sv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib3sv", start);
+        }
     }
 
     /**
@@ -2786,7 +3794,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib3dv(@NativeType("GLuint") int index, @NativeType("GLdouble const *") double[] v) {
-        GL20C.glVertexAttrib3dv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib3dv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib3dv", start);
+        }
     }
 
     /**
@@ -2795,7 +3808,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4fv(@NativeType("GLuint") int index, @NativeType("GLfloat const *") float[] v) {
-        GL20C.glVertexAttrib4fv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4fv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4fv", start);
+        }
     }
 
     /**
@@ -2804,7 +3822,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4sv(@NativeType("GLuint") int index, @NativeType("GLshort const *") short[] v) {
-        GL20C.glVertexAttrib4sv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4sv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4sv", start);
+        }
     }
 
     /**
@@ -2813,7 +3836,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4dv(@NativeType("GLuint") int index, @NativeType("GLdouble const *") double[] v) {
-        GL20C.glVertexAttrib4dv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4dv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4dv", start);
+        }
     }
 
     /**
@@ -2822,7 +3850,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4iv(@NativeType("GLuint") int index, @NativeType("GLint const *") int[] v) {
-        GL20C.glVertexAttrib4iv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4iv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4iv", start);
+        }
     }
 
     /**
@@ -2831,7 +3864,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4usv(@NativeType("GLuint") int index, @NativeType("GLushort const *") short[] v) {
-        GL20C.glVertexAttrib4usv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4usv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4usv", start);
+        }
     }
 
     /**
@@ -2840,7 +3878,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4uiv(@NativeType("GLuint") int index, @NativeType("GLuint const *") int[] v) {
-        GL20C.glVertexAttrib4uiv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4uiv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4uiv", start);
+        }
     }
 
     /**
@@ -2849,7 +3892,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4Nsv(@NativeType("GLuint") int index, @NativeType("GLshort const *") short[] v) {
-        GL20C.glVertexAttrib4Nsv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4Nsv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nsv", start);
+        }
     }
 
     /**
@@ -2858,7 +3906,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4Niv(@NativeType("GLuint") int index, @NativeType("GLint const *") int[] v) {
-        GL20C.glVertexAttrib4Niv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4Niv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Niv", start);
+        }
     }
 
     /**
@@ -2867,7 +3920,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4Nusv(@NativeType("GLuint") int index, @NativeType("GLushort const *") short[] v) {
-        GL20C.glVertexAttrib4Nusv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4Nusv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nusv", start);
+        }
     }
 
     /**
@@ -2876,7 +3934,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glVertexAttrib">Reference Page</a>
      */
     public static void glVertexAttrib4Nuiv(@NativeType("GLuint") int index, @NativeType("GLuint const *") int[] v) {
-        GL20C.glVertexAttrib4Nuiv(index, v);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glVertexAttrib4Nuiv(index, v);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glVertexAttrib4Nuiv", start);
+        }
     }
 
     /**
@@ -2885,7 +3948,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetActiveAttrib">Reference Page</a>
      */
     public static void glGetActiveAttrib(@NativeType("GLuint") int program, @NativeType("GLuint") int index, @Nullable @NativeType("GLsizei *") int[] length, @NativeType("GLint *") int[] size, @NativeType("GLenum *") int[] type, @NativeType("GLchar *") ByteBuffer name) {
-        GL20C.glGetActiveAttrib(program, index, length, size, type, name);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetActiveAttrib(program, index, length, size, type, name);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetActiveAttrib", start);
+        }
     }
 
     /**
@@ -2894,7 +3962,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetVertexAttrib">Reference Page</a>
      */
     public static void glGetVertexAttribiv(@NativeType("GLuint") int index, @NativeType("GLenum") int pname, @NativeType("GLint *") int[] params) {
-        GL20C.glGetVertexAttribiv(index, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetVertexAttribiv(index, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetVertexAttribiv", start);
+        }
     }
 
     /**
@@ -2903,7 +3976,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetVertexAttrib">Reference Page</a>
      */
     public static void glGetVertexAttribfv(@NativeType("GLuint") int index, @NativeType("GLenum") int pname, @NativeType("GLfloat *") float[] params) {
-        GL20C.glGetVertexAttribfv(index, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetVertexAttribfv(index, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetVertexAttribfv", start);
+        }
     }
 
     /**
@@ -2912,7 +3990,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glGetVertexAttrib">Reference Page</a>
      */
     public static void glGetVertexAttribdv(@NativeType("GLuint") int index, @NativeType("GLenum") int pname, @NativeType("GLdouble *") double[] params) {
-        GL20C.glGetVertexAttribdv(index, pname, params);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glGetVertexAttribdv(index, pname, params);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glGetVertexAttribdv", start);
+        }
     }
 
     /**
@@ -2921,7 +4004,12 @@ public class GL20 extends GL15 {
      * @see <a target="_blank" href="http://docs.gl/gl4/glDrawBuffers">Reference Page</a>
      */
     public static void glDrawBuffers(@NativeType("GLenum const *") int[] bufs) {
-        GL20C.glDrawBuffers(bufs);
+        long start = GLHooks.enter();
+        try {
+            GL20C.glDrawBuffers(bufs);
+        } finally {
+            if (start != GLHooks.DISABLED) GLHooks.exit("glDrawBuffers", start);
+        }
     }
 
 }
@@ -5,10 +5,23 @@ import org.lwjgl.LWJGLException;
 import javax.annotation.Nullable;
 
 public final class GLContext {
-	private static final ContextCapabilities contextCapabilities = new ContextCapabilities();
-	
+	@Nullable
+	private static volatile ContextCapabilities contextCapabilities;
+
+	/**
+	 * @return the capabilities of the Display context, discovered on the first call
+	 */
 	public static ContextCapabilities getCapabilities() {
-		return contextCapabilities;
+		ContextCapabilities capabilities = contextCapabilities;
+		if (capabilities == null) {
+			synchronized (GLContext.class) {
+				capabilities = contextCapabilities;
+				if (capabilities == null) {
+					contextCapabilities = capabilities = new ContextCapabilities();
+				}
+			}
+		}
+		return capabilities;
 	}
 
     public static synchronized void useContext(
@@ -0,0 +1,64 @@
+package org.lwjgl.opengl;
+
+import javax.annotation.Nullable;
+
+/**
+ * The hooks called around the wrappers of {@link GL11}, {@link GL15}, {@link GL20} and {@link ARBShaderObjects},
+ * inserted by {@code tools/InstrumentGL.java}.
+ * <p>
+ * Before a GL call, {@link ImmediateMode} draws the primitives it batched and gives the open primitive to GL, and
+ * {@link DisplayLists} keeps the native list when the application compiles a command it can't emulate. These hooks only run on the thread that batched the
+ * primitives or started the list. The call is then counted by the {@link GLProfiler}.
+ * <p>
+ * When none of them is in use, the only cost of a call is a static boolean check.
+ */
+final class GLHooks {
+    /** Returned by {@link #enter()} when the call is not counted */
+    static final long DISABLED = GLProfiler.DISABLED;
+
+    /** Whether {@link #enter()} has anything to do */
+    private static boolean active = GLProfiler.enabled;
+    /** The thread using {@link ImmediateMode} and {@link DisplayLists} */
+    @Nullable
+    private static Thread thread;
+
+    private GLHooks() {
+    }
+
+    /**
+     * Called at the start of a wrapper
+     *
+     * @return the start time to pass to {@link #exit(String, long)}, or {@link #DISABLED}
+     */
+    static long enter() {
+        if (!active) return DISABLED;
+        if (Thread.currentThread() == thread) {
+            if (ImmediateMode.isPending()) ImmediateMode.flush();
+            if (DisplayLists.compiling != null) DisplayLists.compileNatively();
+        }
+        return GLProfiler.start();
+    }
+
+    /**
+     * Called at the end of a wrapper, unless {@link #enter()} returned {@link #DISABLED}
+     */
+    static void exit(String function, long start) {
+        GLProfiler.record(function, start);
+    }
+
+    /**
+     * Called when {@link ImmediateMode} starts or stops holding primitives, and when
+     * {@link DisplayLists} starts or stops compiling a list, by the thread using them
+     */
+    static void update() {
+        thread = Thread.currentThread();
+        updateProfiler();
+    }
+
+    /**
+     * Called when the {@link GLProfiler} is enabled or disabled
+     */
+    static void updateProfiler() {
+        active = GLProfiler.enabled || ImmediateMode.isPending() || DisplayLists.compiling != null;
+    }
+}
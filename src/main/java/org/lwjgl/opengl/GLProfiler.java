@@ -0,0 +1,341 @@
+package org.lwjgl.opengl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+import org.lwjgl.LWJGLUtil;
+import org.lwjgl.Sys;
+import org.lwjgl.system.LWJGLXHelper;
+
+/**
+ * Per-frame call counts and wall time of the {@link GL11}, {@link GL15}, {@link GL20} and
+ * {@link ARBShaderObjects} entry points.
+ * <p>
+ * Each wrapper reports its name and start time to {@link GLHooks} when it returns, the counters are kept in primitive
+ * arrays indexed by an id assigned to the name on its first call. A frame goes from one
+ * {@link Display#update()} to the next, the counters of the last complete frame and the sum of all
+ * frames are kept for {@link #getFrameReport()} and {@link #getTotalReport()}.
+ * When disabled, the only cost is a static boolean check per call.
+ * <p>
+ * The unsafe {@code n} versions are counted under the name of the function, and a wrapper called by another
+ * wrapper is only counted as part of the outer one. Only the calls of the thread running {@code Display.update()}
+ * are counted, the others are ignored: a frame is started when the profiler is enabled, or by the first
+ * {@code Display.update()} of another thread. The counters are written without synchronization by that thread,
+ * the reports can be read from any thread.
+ * <p>
+ * The queries and the client array functions of {@link GL11} and {@link ARBShaderObjects} keep their native
+ * binding and are not counted, see {@code tools/gl-hooks.txt}.
+ */
+public class GLProfiler {
+    /** Returned by {@link #start()} when disabled */
+    static final long DISABLED = Long.MIN_VALUE;
+
+    static boolean enabled = LWJGLXHelper.glProfiler;
+    /** The thread whose calls are counted, null until the first frame */
+    @Nullable
+    private static volatile Thread thread;
+    /** Number of wrappers in progress, only the outermost one is counted */
+    private static int depth;
+
+    /** Open addressing table from a function name to its id */
+    private static String[] keys = new String[512];
+    private static int[] ids = new int[512];
+
+    private static String[] names = new String[256];
+    private static int functionCount;
+
+    /** The counters of the frame in progress */
+    private static int[] calls = new int[256];
+    private static long[] times = new long[256];
+    private static int[] frameCalls = new int[256];
+    private static long[] frameTimes = new long[256];
+    private static long[] totalCalls = new long[256];
+    private static long[] totalTimes = new long[256];
+    private static long frameCount;
+
+    private GLProfiler() {
+    }
+
+    /**
+     * Enabling starts a frame on the calling thread
+     */
+    public static synchronized void setEnabled(boolean enabled) {
+        GLProfiler.enabled = enabled;
+        thread = Thread.currentThread();
+        depth = 0;
+        GLHooks.updateProfiler();
+        reset();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Clear the counters of all frames
+     */
+    public static synchronized void reset() {
+        Arrays.fill(calls, 0);
+        Arrays.fill(times, 0);
+        Arrays.fill(frameCalls, 0);
+        Arrays.fill(frameTimes, 0);
+        Arrays.fill(totalCalls, 0);
+        Arrays.fill(totalTimes, 0);
+        frameCount = 0;
+    }
+
+    /**
+     * @return the number of frames counted since the start or the last {@link #reset()}
+     */
+    public static long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * @return the start time to pass to {@link #record(String, long)}, or {@link #DISABLED}
+     */
+    static long start() {
+        if (!enabled || Thread.currentThread() != thread) return DISABLED;
+        return depth++ == 0 ? Sys.getNanoTime() : 0;
+    }
+
+    /**
+     * Count a call to {@code function} and add the time elapsed since {@code start} to the frame in progress,
+     * unless it was called by another wrapper
+     */
+    static void record(String function, long start) {
+        // The frame moved to another thread since the start
+        if (Thread.currentThread() != thread) return;
+        if (--depth != 0) return;
+        long time = Sys.getNanoTime() - start;
+        int id = idOf(function);
+        calls[id]++;
+        times[id] += time;
+    }
+
+    /**
+     * Close the frame in progress, called at the start of {@code Display.update()}
+     */
+    static synchronized void endFrame() {
+        Thread current = Thread.currentThread();
+        if (current != thread) {
+            // The calls of the previous thread were not a frame of this one
+            thread = current;
+            depth = 0;
+            Arrays.fill(calls, 0);
+            Arrays.fill(times, 0);
+            return;
+        }
+        for (int i = 0; i < functionCount; i++) {
+            frameCalls[i] = calls[i];
+            frameTimes[i] = times[i];
+            totalCalls[i] += calls[i];
+            totalTimes[i] += times[i];
+            calls[i] = 0;
+            times[i] = 0;
+        }
+        frameCount++;
+    }
+
+    static int idOf(String function) {
+        int mask = keys.length - 1;
+        int slot = function.hashCode() & mask;
+        for (String key; (key = keys[slot]) != null; slot = (slot + 1) & mask) {
+            // The names are literals, the equals is only reached on a collision
+            if (key == function || key.equals(function)) return ids[slot];
+        }
+        return register(function, slot);
+    }
+
+    private static synchronized int register(String function, int slot) {
+        int id = functionCount++;
+        if (id == names.length) {
+            int size = id * 2;
+            names = Arrays.copyOf(names, size);
+            calls = Arrays.copyOf(calls, size);
+            times = Arrays.copyOf(times, size);
+            frameCalls = Arrays.copyOf(frameCalls, size);
+            frameTimes = Arrays.copyOf(frameTimes, size);
+            totalCalls = Arrays.copyOf(totalCalls, size);
+            totalTimes = Arrays.copyOf(totalTimes, size);
+        }
+        names[id] = function;
+        if (functionCount * 2 > keys.length) {
+            String[] oldKeys = keys;
+            int[] oldIds = ids;
+            keys = new String[oldKeys.length * 2];
+            ids = new int[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) insert(oldKeys[i], oldIds[i]);
+            }
+            insert(function, id);
+        } else {
+            keys[slot] = function;
+            ids[slot] = id;
+        }
+        return id;
+    }
+
+    private static void insert(String function, int id) {
+        int mask = keys.length - 1;
+        int slot = function.hashCode() & mask;
+        while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = function;
+        ids[slot] = id;
+    }
+
+    /**
+     * @return the counters of the last complete frame
+     */
+    public static synchronized Report getFrameReport() {
+        long[] calls = new long[functionCount];
+        for (int i = 0; i < functionCount; i++) {
+            calls[i] = frameCalls[i];
+        }
+        return new Report(names, calls, Arrays.copyOf(frameTimes, functionCount), frameCount == 0 ? 0 : 1);
+    }
+
+    /**
+     * @return the sum of the counters of all complete frames
+     */
+    public static synchronized Report getTotalReport() {
+        return new Report(names, Arrays.copyOf(totalCalls, functionCount),
+                Arrays.copyOf(totalTimes, functionCount), frameCount);
+    }
+
+    /**
+     * Write the total and last frame reports to {@code file}, replacing its content.
+     */
+    public static void dump(File file, int top) throws IOException {
+        try (PrintWriter writer = new PrintWriter(file, "UTF-8")) {
+            writer.println("Total");
+            writer.print(getTotalReport().toString(top));
+            writer.println();
+            writer.println("Last frame");
+            writer.print(getFrameReport().toString(top));
+        }
+    }
+
+    /**
+     * Called from {@code Display.destroy()}, dump the reports to the file set by {@code LWJGLX_GL_PROFILER_DUMP}
+     */
+    static void destroy() {
+        if (LWJGLXHelper.glProfilerDump == null || frameCount == 0) return;
+        try {
+            dump(new File(LWJGLXHelper.glProfilerDump), Integer.MAX_VALUE);
+        } catch (IOException e) {
+            LWJGLUtil.log("Failed to dump GL profiler: " + e);
+        }
+    }
+
+    /**
+     * The counters of the functions called over some frames, sorted by decreasing time.
+     */
+    public static class Report {
+        private final String[] names;
+        private final long[] calls;
+        private final long[] times;
+        private final long frames;
+
+        Report(String[] names, long[] calls, long[] times, long frames) {
+            int count = 0;
+            for (long c : calls) {
+                if (c != 0) count++;
+            }
+            Integer[] order = new Integer[count];
+            for (int i = 0, j = 0; i < calls.length; i++) {
+                if (calls[i] != 0) order[j++] = i;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(times[b], times[a]));
+
+            this.names = new String[count];
+            this.calls = new long[count];
+            this.times = new long[count];
+            for (int i = 0; i < count; i++) {
+                this.names[i] = names[order[i]];
+                this.calls[i] = calls[order[i]];
+                this.times[i] = times[order[i]];
+            }
+            this.frames = frames;
+        }
+
+        public long getFrameCount() {
+            return frames;
+        }
+
+        /**
+         * @return the number of functions called at least once
+         */
+        public int getFunctionCount() {
+            return names.length;
+        }
+
+        /**
+         * @param index of the function, 0 being the one with the highest time
+         */
+        public String getName(int index) {
+            return names[index];
+        }
+
+        public long getCalls(int index) {
+            return calls[index];
+        }
+
+        /**
+         * @return the wall time spent in the function, in nanoseconds
+         */
+        public long getTime(int index) {
+            return times[index];
+        }
+
+        public double getCallsPerFrame(int index) {
+            return frames == 0 ? 0 : (double) calls[index] / frames;
+        }
+
+        public long getTotalCalls() {
+            long total = 0;
+            for (long c : calls) {
+                total += c;
+            }
+            return total;
+        }
+
+        public long getTotalTime() {
+            long total = 0;
+            for (long t : times) {
+                total += t;
+            }
+            return total;
+        }
+
+        /**
+         * Format the {@code top} functions with the highest time, one per line
+         */
+        public String toString(int top) {
+            StringBuilder builder = new StringBuilder();
+            builder.append(String.format(Locale.ROOT, "%-40s %12s %14s %12s %12s%n",
+                    "Function", "Calls", "Calls/frame", "Time (ms)", "ms/frame"));
+            int count = Math.min(top, names.length);
+            for (int i = 0; i < count; i++) {
+                builder.append(String.format(Locale.ROOT, "%-40s %12d %14.1f %12.3f %12.4f%n",
+                        names[i], calls[i], getCallsPerFrame(i), times[i] / 1e6,
+                        frames == 0 ? 0 : times[i] / 1e6 / frames));
+            }
+            builder.append(String.format(Locale.ROOT, "%d frames, %d calls, %.3f ms%n",
+                    frames, getTotalCalls(), getTotalTime() / 1e6));
+            return builder.toString();
+        }
+
+        @Override
+        public String toString() {
+            return toString(Integer.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package org.lwjgl.opengl;
+
+import java.util.Arrays;
+
+import org.lwjgl.system.LWJGLXHelper;
+
+/**
+ * Opt-in shadow of the GL state set through the {@link GL11}, {@link GL15} and {@link GL20} wrappers,
+ * used to skip calls that would not change it.
+ * <p>
+ * Tracked are {@code glEnable}/{@code glDisable} of the capabilities that are not per texture unit,
+ * {@code glDepthMask}, {@code glUseProgram} and {@code glBindBuffer} of the targets that are neither
+ * vertex array state nor indexed bindings. Texture bindings and blend functions are not tracked, as
+ * the texture unit and separate blend functions are set through classes this layer doesn't wrap.
+ * <p>
+ * The shadow state is kept per thread and forgotten whenever a context is made current or released,
+ * as well as after {@code glPopAttrib}, {@code glCallList} and {@code glCallLists}. The calls compiled
+ * into a display list are passed to GL without being tracked, as GL doesn't execute them before the
+ * list is called. Code changing tracked state through other entry points, such
+ * as {@code glEnablei} or {@code glUseProgramObjectARB}, must call {@link #invalidate()} afterwards.
+ * The counters are not synchronized, they are approximate when several threads render.
+ */
+public final class GLStateCache {
+    private static final byte UNKNOWN = 0;
+    private static final byte DISABLED = 1;
+    private static final byte ENABLED = 2;
+
+    private static final int[] BUFFER_TARGETS = {
+            GL15.GL_ARRAY_BUFFER, GL21.GL_PIXEL_PACK_BUFFER, GL21.GL_PIXEL_UNPACK_BUFFER,
+            GL31.GL_COPY_READ_BUFFER, GL31.GL_COPY_WRITE_BUFFER,
+    };
+
+    static boolean enabled = LWJGLXHelper.glStateCache;
+
+    private static final ThreadLocal<State> states = ThreadLocal.withInitial(State::new);
+    /** Bumped by setEnabled, so the state tracked by every thread before is forgotten */
+    private static volatile int generation;
+
+    private static long issuedCount;
+    private static long elidedCount;
+
+    private GLStateCache() {
+    }
+
+    public static void setEnabled(boolean enabled) {
+        GLStateCache.enabled = enabled;
+        generation++;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Forget the state tracked for the context current on this thread
+     */
+    public static void invalidate() {
+        if (enabled) state().clear();
+    }
+
+    /**
+     * @return the number of tracked calls passed to GL
+     */
+    public static long getIssuedCount() {
+        return issuedCount;
+    }
+
+    /**
+     * @return the number of tracked calls skipped as they would not have changed the state
+     */
+    public static long getElidedCount() {
+        return elidedCount;
+    }
+
+    public static void resetCounters() {
+        issuedCount = 0;
+        elidedCount = 0;
+    }
+
+    /**
+     * @return false if {@code cap} is known to already be in that state and the call can be skipped
+     */
+    static boolean setCapability(int cap, boolean enable) {
+        if (isPerTextureUnit(cap) || (cap & ~0xFFFF) != 0) return issue();
+        State state = state();
+        if (state.listMode != 0) return issue();
+        byte[] capabilities = state.capabilities;
+        byte value = enable ? ENABLED : DISABLED;
+        if (capabilities[cap] == value) return elide();
+        capabilities[cap] = value;
+        return issue();
+    }
+
+    static boolean setDepthMask(boolean flag) {
+        State state = state();
+        if (state.listMode != 0) return issue();
+        byte value = flag ? ENABLED : DISABLED;
+        if (state.depthMask == value) return elide();
+        state.depthMask = value;
+        return issue();
+    }
+
+    static boolean useProgram(int program) {
+        State state = state();
+        if (state.listMode != 0) return issue();
+        if (state.programKnown && state.program == program) return elide();
+        state.program = program;
+        state.programKnown = true;
+        return issue();
+    }
+
+    /**
+     * Called by glNewList, stop tracking the calls compiled into the list
+     */
+    static void newList(int mode) {
+        state().listMode = mode;
+    }
+
+    /**
+     * Called by glEndList, the calls of a {@code GL_COMPILE_AND_EXECUTE} list were also executed
+     */
+    static void endList() {
+        State state = state();
+        if (state.listMode == GL11.GL_COMPILE_AND_EXECUTE) state.clear();
+        state.listMode = 0;
+    }
+
+    /**
+     * glDeleteProgram of the program in use keeps it in use, but its name can be reused
+     */
+    static void deleteProgram(int program) {
+        State state = state();
+        if (state.program == program) {
+            state.programKnown = false;
+        }
+    }
+
+    static boolean bindBuffer(int target, int buffer) {
+        int index = bufferIndex(target);
+        if (index < 0) return issue();
+        State state = state();
+        if (state.buffers[index] == buffer + 1) return elide();
+        state.buffers[index] = buffer + 1;
+        return issue();
+    }
+
+    /**
+     * Deleting a bound buffer reverts the binding to 0
+     */
+    static void deleteBuffer(int buffer) {
+        int[] buffers = state().buffers;
+        for (int i = 0; i < buffers.length; i++) {
+            if (buffers[i] == buffer + 1) {
+                buffers[i] = 1;
+            }
+        }
+    }
+
+    private static State state() {
+        State state = states.get();
+        int current = generation;
+        if (state.generation != current) {
+            state.clear();
+            state.generation = current;
+        }
+        return state;
+    }
+
+    private static boolean issue() {
+        issuedCount++;
+        return true;
+    }
+
+    private static boolean elide() {
+        elidedCount++;
+        return false;
+    }
+
+    private static boolean isPerTextureUnit(int cap) {
+        switch (cap) {
+            case GL11.GL_TEXTURE_1D:
+            case GL11.GL_TEXTURE_2D:
+            case GL12.GL_TEXTURE_3D:
+            case GL13.GL_TEXTURE_CUBE_MAP:
+            case GL31.GL_TEXTURE_RECTANGLE:
+            case GL11.GL_TEXTURE_GEN_S:
+            case GL11.GL_TEXTURE_GEN_T:
+            case GL11.GL_TEXTURE_GEN_R:
+            case GL11.GL_TEXTURE_GEN_Q:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static int bufferIndex(int target) {
+        for (int i = 0; i < BUFFER_TARGETS.length; i++) {
+            if (BUFFER_TARGETS[i] == target) return i;
+        }
+        return -1;
+    }
+
+    private static final class State {
+        /** Indexed by capability */
+        final byte[] capabilities = new byte[0x10000];
+        byte depthMask;
+        int program;
+        boolean programKnown;
+        /** The bound buffer + 1 for each of BUFFER_TARGETS, 0 if unknown */
+        final int[] buffers = new int[BUFFER_TARGETS.length];
+        /** The mode of the display list being compiled, 0 if none */
+        int listMode;
+        int generation;
+
+        void clear() {
+            Arrays.fill(capabilities, UNKNOWN);
+            depthMask = UNKNOWN;
+            programKnown = false;
+            Arrays.fill(buffers, 0);
+        }
+    }
+}
@@ -0,0 +1,773 @@
+package org.lwjgl.opengl;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+import java.nio.FloatBuffer;
+
+import javax.annotation.Nullable;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.system.LWJGLXHelper;
+
+/**
+ * Batching of the {@link GL11} immediate mode primitives: while enabled, {@code GL11.glBegin}, {@code glEnd} and the
+ * scalar {@code glVertex}, {@code glNormal3}, {@code glTexCoord} and {@code glColor} functions record the vertices
+ * into an off-heap stream drawn with a single {@code glDrawArrays} from a streaming vertex buffer object, instead of
+ * one JNI call per attribute per vertex.
+ * <p>
+ * Only the primitives between {@link #beginBatch()} and {@link #endBatch()} are batched, the others go to GL as they
+ * are, as drawing a single small primitive from a buffer takes more calls than immediate mode. Primitives are
+ * converted to independent points, lines or triangles, keeping their winding and provoking vertex. Consecutive
+ * primitives of the same kind are merged and drawn at the end of the batch, or before the next call of another
+ * {@link GL11}, {@link GL15}, {@link GL20} or {@link ARBShaderObjects} wrapper or change of the {@link MatrixStacks}.
+ * State changed through other classes inside a batch must be preceded by {@link #flush()}. A call of another wrapper
+ * inside {@code glBegin}/{@code glEnd}, like {@code glMaterialf} or the vector forms of the attribute functions,
+ * gives the primitive to GL to go on with it. The current normal, texture coordinates and color are left as the
+ * last ones given, like immediate mode does. The attribute functions called while enabled and with nothing to draw
+ * go to GL without being counted by the {@link GLProfiler}.
+ * <p>
+ * On a core profile, every primitive is batched and drawn with the generic vertex attributes at
+ * {@link #POSITION_LOCATION}, {@link #NORMAL_LOCATION}, {@link #TEXCOORD_LOCATION} and {@link #COLOR_LOCATION}. The
+ * program in use draws them, or a built-in one when there is none: it transforms the positions by the projection and
+ * modelview matrices of the {@code MatrixStacks}, which must be enabled, and multiplies the colors by the texture
+ * bound to the unit 0 when texture coordinates were given. A primitive can't go on in GL there, other wrappers must
+ * not be called inside {@code glBegin}/{@code glEnd}.
+ * <p>
+ * While {@link DisplayLists} compiles a list, the primitives are recorded into it, whether enabled or not.
+ * Not thread-safe, use it from the thread rendering with the Display context.
+ */
+public final class ImmediateMode {
+    /** The generic vertex attribute locations used on a core profile */
+    public static final int POSITION_LOCATION = 0;
+    public static final int NORMAL_LOCATION = 1;
+    public static final int TEXCOORD_LOCATION = 2;
+    public static final int COLOR_LOCATION = 3;
+
+    static final int NORMAL = 1;
+    static final int TEXCOORD = 2;
+    static final int COLOR = 4;
+
+    // Vertex layout: position xyzw, normal xyz, texture coordinates strq, color rgba
+    static final int POSITION_OFFSET = 0;
+    static final int NORMAL_OFFSET = 16;
+    static final int TEXCOORD_OFFSET = 28;
+    static final int COLOR_OFFSET = 44;
+    static final int VERTEX_SIZE = 48;
+
+    private static final int UNKNOWN = 0;
+    private static final int COMPATIBILITY = 1;
+    private static final int CORE = 2;
+
+    private static final String VERTEX_SHADER = "#version 140\n"
+            + "uniform mat4 matrix;\n"
+            + "in vec4 position;\n"
+            + "in vec4 texCoord;\n"
+            + "in vec4 color;\n"
+            + "out vec4 vertexTexCoord;\n"
+            + "out vec4 vertexColor;\n"
+            + "void main() {\n"
+            + "    gl_Position = matrix * position;\n"
+            + "    vertexTexCoord = texCoord;\n"
+            + "    vertexColor = color;\n"
+            + "}\n";
+    private static final String FRAGMENT_SHADER = "#version 140\n"
+            + "uniform sampler2D sampler;\n"
+            + "uniform bool textured;\n"
+            + "in vec4 vertexTexCoord;\n"
+            + "in vec4 vertexColor;\n"
+            + "out vec4 fragColor;\n"
+            + "void main() {\n"
+            + "    fragColor = textured ? vertexColor * texture(sampler, vertexTexCoord.st / vertexTexCoord.q) : vertexColor;\n"
+            + "}\n";
+
+    static boolean enabled = LWJGLXHelper.immediateModeBatching;
+
+    /** The mode given to {@code glBegin}, -1 outside glBegin/glEnd */
+    static int primitiveMode = -1;
+    private static int batchDepth;
+
+    // Current attributes
+    private static float normalX, normalY, normalZ = 1;
+    private static float texS, texT, texR, texQ = 1;
+    private static float colorR = 1, colorG = 1, colorB = 1, colorA = 1;
+    private static int color = 0xFFFFFFFF;
+
+    /** Vertices of the primitive being recorded */
+    private static long primitive;
+    private static int primitiveCapacity;
+    private static int primitiveCount;
+
+    /** Independent points, lines or triangles waiting to be drawn */
+    private static long stream;
+    private static int streamCapacity;
+    static int streamCount;
+    private static int streamMode = -1;
+    /** The attributes given in the stream, the others are taken from the GL current values */
+    private static int streamAttributes;
+
+    private static int[] indices = new int[64];
+    private static int vbo;
+
+    /** UNKNOWN, COMPATIBILITY or CORE, the profile of the context */
+    private static int profile;
+    // The vertex array object and the built-in program of a core profile
+    private static int vao;
+    private static int program;
+    private static int matrixLocation;
+    private static int texturedLocation;
+    private static final FloatBuffer matrix = BufferUtils.createFloatBuffer(16);
+
+    /** The display list compiled by {@link DisplayLists}, primitives go to it instead of being drawn */
+    @Nullable
+    static DisplayLists.Recording recording;
+
+    private ImmediateMode() {
+    }
+
+    public static void setEnabled(boolean enabled) {
+        flush();
+        ImmediateMode.enabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Start merging the primitives until {@link #endBatch()}, calls can be nested. Use a
+     * {@code try}/{@code finally}, the primitives are only drawn by the outermost {@code endBatch()}.
+     */
+    public static void beginBatch() {
+        batchDepth++;
+    }
+
+    public static void endBatch() {
+        if (batchDepth == 0) throw new IllegalStateException("endBatch without beginBatch");
+        if (--batchDepth == 0) flush();
+    }
+
+    /**
+     * Called by {@code GL11.glBegin}
+     *
+     * @return whether the primitive is recorded by {@link #begin(int)} rather than given to GL
+     */
+    static boolean capturesBegin() {
+        return recording != null || enabled && (batchDepth != 0 || isCore());
+    }
+
+    static void begin(int mode) {
+        if (primitiveMode != -1) throw new IllegalStateException("glBegin inside glBegin");
+        primitiveMode = mode;
+        primitiveCount = 0;
+        if (recording != null) {
+            GL11Direct.glBegin(mode);
+        } else {
+            // The next call of another wrapper gives the primitive to GL
+            GLHooks.update();
+        }
+    }
+
+    static void end() {
+        if (recording != null) GL11Direct.glEnd();
+        int mode = primitiveMode;
+        primitiveMode = -1;
+
+        int count = expand(mode, primitiveCount, indices);
+        if (count < 0) {
+            ensureIndices(-count);
+            count = expand(mode, primitiveCount, indices);
+        }
+        int kind = kindOf(mode);
+        if (recording != null) {
+            recording.addPrimitive(kind, primitive, indices, count);
+            primitiveCount = 0;
+            return;
+        }
+        if (streamMode != kind && streamCount > 0) {
+            // The attributes given in this primitive were also filled in the stream drawn
+            int attributes = streamAttributes;
+            flush();
+            streamAttributes = attributes;
+        }
+        streamMode = kind;
+        ensureStream(streamCount + count);
+        for (int i = 0; i < count; i++) {
+            memCopy(primitive + (long) indices[i] * VERTEX_SIZE, stream + (long) (streamCount + i) * VERTEX_SIZE, VERTEX_SIZE);
+        }
+        streamCount += count;
+        primitiveCount = 0;
+        if (batchDepth == 0) {
+            // Not batched on a core profile
+            flush();
+        } else {
+            // The next call of another wrapper draws them
+            GLHooks.update();
+        }
+    }
+
+    static void vertex(float x, float y, float z, float w) {
+        if (recording != null) GL11Direct.glVertex4f(x, y, z, w);
+        if (primitiveCount == primitiveCapacity) {
+            primitiveCapacity = Math.max(64, primitiveCapacity * 2);
+            primitive = nmemRealloc(primitive, (long) primitiveCapacity * VERTEX_SIZE);
+            if (primitive == NULL) throw new OutOfMemoryError();
+        }
+        long address = primitive + (long) primitiveCount++ * VERTEX_SIZE;
+        memPutFloat(address, x);
+        memPutFloat(address + 4, y);
+        memPutFloat(address + 8, z);
+        memPutFloat(address + 12, w);
+        memPutFloat(address + NORMAL_OFFSET, normalX);
+        memPutFloat(address + NORMAL_OFFSET + 4, normalY);
+        memPutFloat(address + NORMAL_OFFSET + 8, normalZ);
+        memPutFloat(address + TEXCOORD_OFFSET, texS);
+        memPutFloat(address + TEXCOORD_OFFSET + 4, texT);
+        memPutFloat(address + TEXCOORD_OFFSET + 8, texR);
+        memPutFloat(address + TEXCOORD_OFFSET + 12, texQ);
+        memPutInt(address + COLOR_OFFSET, color);
+    }
+
+    static void vertex(double x, double y, double z, double w) {
+        vertex((float) x, (float) y, (float) z, (float) w);
+    }
+
+    static void normal(float nx, float ny, float nz) {
+        if (!isBuffering()) {
+            if (!isCore()) GL11Direct.glNormal3f(nx, ny, nz);
+        } else {
+            if (recording != null) GL11Direct.glNormal3f(nx, ny, nz);
+            use(NORMAL);
+        }
+        normalX = nx;
+        normalY = ny;
+        normalZ = nz;
+    }
+
+    static void normal(double nx, double ny, double nz) {
+        normal((float) nx, (float) ny, (float) nz);
+    }
+
+    static void texCoord(float s, float t, float r, float q) {
+        if (!isBuffering()) {
+            if (!isCore()) GL11Direct.glTexCoord4f(s, t, r, q);
+        } else {
+            if (recording != null) GL11Direct.glTexCoord4f(s, t, r, q);
+            use(TEXCOORD);
+        }
+        texS = s;
+        texT = t;
+        texR = r;
+        texQ = q;
+    }
+
+    static void texCoord(double s, double t, double r, double q) {
+        texCoord((float) s, (float) t, (float) r, (float) q);
+    }
+
+    static void color(float red, float green, float blue, float alpha) {
+        if (!isBuffering()) {
+            if (!isCore()) GL11Direct.glColor4f(red, green, blue, alpha);
+        } else {
+            if (recording != null) GL11Direct.glColor4f(red, green, blue, alpha);
+            use(COLOR);
+        }
+        colorR = red;
+        colorG = green;
+        colorB = blue;
+        colorA = alpha;
+        color = pack(red, green, blue, alpha);
+    }
+
+    static void color(double red, double green, double blue, double alpha) {
+        color((float) red, (float) green, (float) blue, (float) alpha);
+    }
+
+    // The conversions of the integer colors and normals to floats, like GL does them
+
+    static float signed(byte value) {
+        return (2 * value + 1) / 255f;
+    }
+
+    static float signed(short value) {
+        return (2 * value + 1) / 65535f;
+    }
+
+    static float signed(int value) {
+        return (float) ((2.0 * value + 1) / 4294967295.0);
+    }
+
+    static float unsigned(byte value) {
+        return (value & 0xFF) / 255f;
+    }
+
+    static float unsigned(short value) {
+        return (value & 0xFFFF) / 65535f;
+    }
+
+    static float unsigned(int value) {
+        return (float) ((value & 0xFFFFFFFFL) / 4294967295.0);
+    }
+
+    /**
+     * Draw the primitives recorded so far. Inside {@code glBegin}/{@code glEnd}, the vertices of the primitive are
+     * given to GL too, the rest of the primitive goes to GL directly.
+     */
+    public static void flush() {
+        int count = streamCount;
+        int attributes = streamAttributes;
+        int open = recording == null ? primitiveMode : -1;
+        streamCount = 0;
+        streamAttributes = 0;
+        if (count == 0 && open == -1) {
+            streamMode = -1;
+            return;
+        }
+        if (open != -1) primitiveMode = -1;
+        // The calls below don't draw the stream again
+        GLHooks.update();
+        boolean core = isCore();
+        if (count != 0) {
+            if (core) {
+                drawCore(count, attributes);
+            } else {
+                drawFixedFunction(count, attributes);
+            }
+        }
+        streamMode = -1;
+        if (open != -1) {
+            if (core) throw new IllegalStateException("GL call inside glBegin/glEnd on a core profile");
+            replay(open, attributes);
+        }
+        if (core) return;
+
+        // The current values of the attributes drawn from arrays are undefined after the draw
+        if ((attributes & NORMAL) != 0) GL11Direct.glNormal3f(normalX, normalY, normalZ);
+        if ((attributes & TEXCOORD) != 0) GL11Direct.glTexCoord4f(texS, texT, texR, texQ);
+        if ((attributes & COLOR) != 0) GL11Direct.glColor4f(colorR, colorG, colorB, colorA);
+    }
+
+    private static void drawFixedFunction(int count, int attributes) {
+        if (vbo == 0) {
+            vbo = GL15C.glGenBuffers();
+        }
+        // Bypass the GLStateCache, the client attributes are restored behind it
+        GL11.glPushClientAttrib(GL11.GL_CLIENT_VERTEX_ARRAY_BIT);
+        GL15C.glBindBuffer(GL15.GL_ARRAY_BUFFER, vbo);
+        // Orphan the previous contents rather than wait for the draws using them
+        GL15C.nglBufferData(GL15.GL_ARRAY_BUFFER, (long) count * VERTEX_SIZE, stream, GL15.GL_STREAM_DRAW);
+        GL11.glEnableClientState(GL11.GL_VERTEX_ARRAY);
+        GL11.glVertexPointer(4, GL11.GL_FLOAT, VERTEX_SIZE, POSITION_OFFSET);
+        if ((attributes & NORMAL) != 0) {
+            GL11.glEnableClientState(GL11.GL_NORMAL_ARRAY);
+            GL11.glNormalPointer(GL11.GL_FLOAT, VERTEX_SIZE, NORMAL_OFFSET);
+        }
+        if ((attributes & TEXCOORD) != 0) {
+            GL11.glEnableClientState(GL11.GL_TEXTURE_COORD_ARRAY);
+            GL11.glTexCoordPointer(4, GL11.GL_FLOAT, VERTEX_SIZE, TEXCOORD_OFFSET);
+        }
+        if ((attributes & COLOR) != 0) {
+            GL11.glEnableClientState(GL11.GL_COLOR_ARRAY);
+            GL11.glColorPointer(4, GL11.GL_UNSIGNED_BYTE, VERTEX_SIZE, COLOR_OFFSET);
+        }
+        GL11.glDrawArrays(streamMode, 0, count);
+        GL11.glPopClientAttrib();
+    }
+
+    private static void drawCore(int count, int attributes) {
+        // Bypass the GLStateCache, the bindings are restored behind it
+        int currentProgram = GL11C.glGetInteger(GL20C.GL_CURRENT_PROGRAM);
+        int currentVertexArray = GL11C.glGetInteger(GL30C.GL_VERTEX_ARRAY_BINDING);
+        int currentBuffer = GL11C.glGetInteger(GL15C.GL_ARRAY_BUFFER_BINDING);
+        if (vao == 0) {
+            createVertexArray();
+        } else {
+            GL30C.glBindVertexArray(vao);
+            GL15C.glBindBuffer(GL15C.GL_ARRAY_BUFFER, vbo);
+        }
+        // Orphan the previous contents rather than wait for the draws using them
+        GL15C.nglBufferData(GL15C.GL_ARRAY_BUFFER, (long) count * VERTEX_SIZE, stream, GL15C.GL_STREAM_DRAW);
+        if (currentProgram == 0) {
+            if (program == 0) createProgram();
+            GL20C.glUseProgram(program);
+            MatrixStacks.getProjectionModelview(matrix);
+            GL20C.glUniformMatrix4fv(matrixLocation, false, matrix);
+            GL20C.glUniform1i(texturedLocation, (attributes & TEXCOORD) != 0 ? 1 : 0);
+        }
+        GL11C.glDrawArrays(streamMode, 0, count);
+        if (currentProgram == 0) GL20C.glUseProgram(0);
+        GL30C.glBindVertexArray(currentVertexArray);
+        GL15C.glBindBuffer(GL15C.GL_ARRAY_BUFFER, currentBuffer);
+    }
+
+    /**
+     * Create the vertex array object of a core profile, the attributes the vertices don't give are the current ones
+     */
+    private static void createVertexArray() {
+        vao = GL30C.glGenVertexArrays();
+        if (vbo == 0) {
+            vbo = GL15C.glGenBuffers();
+        }
+        GL30C.glBindVertexArray(vao);
+        GL15C.glBindBuffer(GL15C.GL_ARRAY_BUFFER, vbo);
+        GL20C.glVertexAttribPointer(POSITION_LOCATION, 4, GL11.GL_FLOAT, false, VERTEX_SIZE, POSITION_OFFSET);
+        GL20C.glVertexAttribPointer(NORMAL_LOCATION, 3, GL11.GL_FLOAT, false, VERTEX_SIZE, NORMAL_OFFSET);
+        GL20C.glVertexAttribPointer(TEXCOORD_LOCATION, 4, GL11.GL_FLOAT, false, VERTEX_SIZE, TEXCOORD_OFFSET);
+        GL20C.glVertexAttribPointer(COLOR_LOCATION, 4, GL11.GL_UNSIGNED_BYTE, true, VERTEX_SIZE, COLOR_OFFSET);
+        GL20C.glEnableVertexAttribArray(POSITION_LOCATION);
+        GL20C.glEnableVertexAttribArray(NORMAL_LOCATION);
+        GL20C.glEnableVertexAttribArray(TEXCOORD_LOCATION);
+        GL20C.glEnableVertexAttribArray(COLOR_LOCATION);
+    }
+
+    /**
+     * Create the program drawing the primitives on a core profile when the application has none in use
+     */
+    private static void createProgram() {
+        int vertexShader = compileShader(GL20C.GL_VERTEX_SHADER, VERTEX_SHADER);
+        int fragmentShader = compileShader(GL20C.GL_FRAGMENT_SHADER, FRAGMENT_SHADER);
+        program = GL20C.glCreateProgram();
+        GL20C.glAttachShader(program, vertexShader);
+        GL20C.glAttachShader(program, fragmentShader);
+        GL20C.glBindAttribLocation(program, POSITION_LOCATION, "position");
+        GL20C.glBindAttribLocation(program, TEXCOORD_LOCATION, "texCoord");
+        GL20C.glBindAttribLocation(program, COLOR_LOCATION, "color");
+        GL20C.glLinkProgram(program);
+        // Deleted with the program
+        GL20C.glDeleteShader(vertexShader);
+        GL20C.glDeleteShader(fragmentShader);
+        if (GL20C.glGetProgrami(program, GL20C.GL_LINK_STATUS) == GL11.GL_FALSE) {
+            String log = GL20C.glGetProgramInfoLog(program);
+            GL20C.glDeleteProgram(program);
+            program = 0;
+            throw new OpenGLException("Failed to link the ImmediateMode program: " + log);
+        }
+        matrixLocation = GL20C.glGetUniformLocation(program, "matrix");
+        texturedLocation = GL20C.glGetUniformLocation(program, "textured");
+    }
+
+    private static int compileShader(int type, String source) {
+        int shader = GL20C.glCreateShader(type);
+        GL20C.glShaderSource(shader, source);
+        GL20C.glCompileShader(shader);
+        if (GL20C.glGetShaderi(shader, GL20C.GL_COMPILE_STATUS) == GL11.GL_FALSE) {
+            String log = GL20C.glGetShaderInfoLog(shader);
+            GL20C.glDeleteShader(shader);
+            throw new OpenGLException("Failed to compile the ImmediateMode shader: " + log);
+        }
+        return shader;
+    }
+
+    /**
+     * Give the vertices of the open primitive to GL, with the attributes given in the stream
+     */
+    private static void replay(int mode, int attributes) {
+        if (MatrixStacks.dirty) MatrixStacks.upload();
+        GL11Direct.glBegin(mode);
+        for (int i = 0; i < primitiveCount; i++) {
+            long address = primitive + (long) i * VERTEX_SIZE;
+            if ((attributes & NORMAL) != 0) {
+                GL11Direct.glNormal3f(memGetFloat(address + NORMAL_OFFSET), memGetFloat(address + NORMAL_OFFSET + 4),
+                        memGetFloat(address + NORMAL_OFFSET + 8));
+            }
+            if ((attributes & TEXCOORD) != 0) {
+                GL11Direct.glTexCoord4f(memGetFloat(address + TEXCOORD_OFFSET), memGetFloat(address + TEXCOORD_OFFSET + 4),
+                        memGetFloat(address + TEXCOORD_OFFSET + 8), memGetFloat(address + TEXCOORD_OFFSET + 12));
+            }
+            if ((attributes & COLOR) != 0) {
+                GL11Direct.glColor4ub(memGetByte(address + COLOR_OFFSET), memGetByte(address + COLOR_OFFSET + 1),
+                        memGetByte(address + COLOR_OFFSET + 2), memGetByte(address + COLOR_OFFSET + 3));
+            }
+            GL11Direct.glVertex4f(memGetFloat(address), memGetFloat(address + 4), memGetFloat(address + 8),
+                    memGetFloat(address + 12));
+        }
+        primitiveCount = 0;
+    }
+
+    /**
+     * Delete the GL objects while the Display context is still current and free the recorded vertices
+     */
+    static void destroy() {
+        if (vbo != 0) {
+            GL15C.glDeleteBuffers(vbo);
+        }
+        if (vao != 0) {
+            GL30C.glDeleteVertexArrays(vao);
+        }
+        if (program != 0) {
+            GL20C.glDeleteProgram(program);
+        }
+        contextLost();
+        nmemFree(primitive);
+        nmemFree(stream);
+        primitive = NULL;
+        stream = NULL;
+        primitiveCapacity = 0;
+        primitiveCount = 0;
+        streamCapacity = 0;
+    }
+
+    /**
+     * Forget the GL objects of a destroyed context
+     */
+    static void contextLost() {
+        vbo = 0;
+        vao = 0;
+        program = 0;
+        profile = UNKNOWN;
+        primitiveMode = -1;
+        batchDepth = 0;
+        streamCount = 0;
+        streamMode = -1;
+        streamAttributes = 0;
+        GLHooks.update();
+    }
+
+    /**
+     * @return whether primitives wait to be drawn, or a primitive outside a list waits for the next vertices
+     */
+    static boolean isPending() {
+        return streamCount != 0 || primitiveMode != -1 && recording == null;
+    }
+
+    /**
+     * @return whether the current context has a core profile, without the immediate mode and fixed function
+     */
+    static boolean isCore() {
+        if (profile == UNKNOWN) {
+            GLCapabilities caps = GL.getCapabilities();
+            boolean core = caps.forwardCompatible || caps.OpenGL32
+                    && (GL11C.glGetInteger(GL32C.GL_CONTEXT_PROFILE_MASK) & GL32C.GL_CONTEXT_CORE_PROFILE_BIT) != 0;
+            profile = core ? CORE : COMPATIBILITY;
+        }
+        return profile == CORE;
+    }
+
+    /**
+     * Write the current normal, texture coordinates and color, in that order
+     */
+    static void getCurrent(float[] values) {
+        values[0] = normalX;
+        values[1] = normalY;
+        values[2] = normalZ;
+        values[3] = texS;
+        values[4] = texT;
+        values[5] = texR;
+        values[6] = texQ;
+        values[7] = colorR;
+        values[8] = colorG;
+        values[9] = colorB;
+        values[10] = colorA;
+    }
+
+    /**
+     * @return false if an attribute can go to GL directly, as nothing is waiting to be drawn
+     */
+    private static boolean isBuffering() {
+        return recording != null || primitiveMode != -1 || streamCount != 0;
+    }
+
+    /**
+     * Add an attribute to the stream. The vertices recorded without it get the GL current value,
+     * which is what immediate mode would have used for them. On a core profile, every vertex has all
+     * the attributes.
+     */
+    private static void use(int attribute) {
+        if (recording != null) {
+            recording.use(attribute, primitiveCount > 0);
+            return;
+        }
+        if ((streamAttributes & attribute) != 0) return;
+        streamAttributes |= attribute;
+        if (streamCount == 0 && primitiveCount == 0 || isCore()) return;
+
+        float[] value = new float[4];
+        int offset;
+        switch (attribute) {
+            case NORMAL:
+                GL11C.glGetFloatv(GL11.GL_CURRENT_NORMAL, value);
+                offset = NORMAL_OFFSET;
+                break;
+            case TEXCOORD:
+                GL11C.glGetFloatv(GL11.GL_CURRENT_TEXTURE_COORDS, value);
+                offset = TEXCOORD_OFFSET;
+                break;
+            default:
+                GL11C.glGetFloatv(GL11.GL_CURRENT_COLOR, value);
+                offset = COLOR_OFFSET;
+                break;
+        }
+        fill(stream, streamCount, attribute, offset, value);
+        fill(primitive, primitiveCount, attribute, offset, value);
+    }
+
+    private static void fill(long vertices, int count, int attribute, int offset, float[] value) {
+        for (int i = 0; i < count; i++) {
+            long address = vertices + (long) i * VERTEX_SIZE + offset;
+            if (attribute == COLOR) {
+                memPutInt(address, pack(value[0], value[1], value[2], value[3]));
+            } else {
+                for (int c = 0; c < (attribute == NORMAL ? 3 : 4); c++) {
+                    memPutFloat(address + c * 4L, value[c]);
+                }
+            }
+        }
+    }
+
+    private static void ensureStream(int count) {
+        if (count <= streamCapacity) return;
+        streamCapacity = Math.max(count, Math.max(1024, streamCapacity * 2));
+        stream = nmemRealloc(stream, (long) streamCapacity * VERTEX_SIZE);
+        if (stream == NULL) throw new OutOfMemoryError();
+    }
+
+    private static void ensureIndices(int count) {
+        indices = new int[Math.max(count, indices.length * 2)];
+    }
+
+    /**
+     * @return the bytes of a color in memory, as GL_UNSIGNED_BYTE components
+     */
+    private static int pack(float red, float green, float blue, float alpha) {
+        int r = toByte(red), g = toByte(green), b = toByte(blue), a = toByte(alpha);
+        return java.nio.ByteOrder.nativeOrder() == java.nio.ByteOrder.LITTLE_ENDIAN
+                ? a << 24 | b << 16 | g << 8 | r
+                : r << 24 | g << 16 | b << 8 | a;
+    }
+
+    private static int toByte(float value) {
+        return (int) (Math.min(Math.max(value, 0), 1) * 255 + 0.5f);
+    }
+
+    /**
+     * @return GL_POINTS, GL_LINES or GL_TRIANGLES, what {@code mode} is drawn as
+     */
+    static int kindOf(int mode) {
+        switch (mode) {
+            case GL11.GL_POINTS:
+                return GL11.GL_POINTS;
+            case GL11.GL_LINES:
+            case GL11.GL_LINE_STRIP:
+            case GL11.GL_LINE_LOOP:
+                return GL11.GL_LINES;
+            case GL11.GL_TRIANGLES:
+            case GL11.GL_TRIANGLE_STRIP:
+            case GL11.GL_TRIANGLE_FAN:
+            case GL11.GL_QUADS:
+            case GL11.GL_QUAD_STRIP:
+            case GL11.GL_POLYGON:
+                return GL11.GL_TRIANGLES;
+            default:
+                throw new IllegalArgumentException("Invalid primitive mode: " + mode);
+        }
+    }
+
+    /**
+     * Convert a primitive to independent points, lines or triangles, keeping the winding and the
+     * provoking vertex used by flat shading
+     *
+     * @param count   the number of vertices of the primitive
+     * @param indices receives the vertices of the independent primitives
+     * @return the number of indices, or minus the size needed if {@code indices} is too small
+     */
+    static int expand(int mode, int count, int[] indices) {
+        int size;
+        switch (mode) {
+            case GL11.GL_POINTS:
+                size = count;
+                break;
+            case GL11.GL_LINES:
+                size = count & ~1;
+                break;
+            case GL11.GL_LINE_STRIP:
+                size = count < 2 ? 0 : (count - 1) * 2;
+                break;
+            case GL11.GL_LINE_LOOP:
+                size = count < 2 ? 0 : count * 2;
+                break;
+            case GL11.GL_TRIANGLES:
+                size = count - count % 3;
+                break;
+            case GL11.GL_TRIANGLE_STRIP:
+            case GL11.GL_TRIANGLE_FAN:
+            case GL11.GL_POLYGON:
+                size = count < 3 ? 0 : (count - 2) * 3;
+                break;
+            case GL11.GL_QUADS:
+                size = count / 4 * 6;
+                break;
+            case GL11.GL_QUAD_STRIP:
+                size = count < 4 ? 0 : (count / 2 - 1) * 6;
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid primitive mode: " + mode);
+        }
+        if (size > indices.length) return -size;
+
+        int n = 0;
+        switch (mode) {
+            case GL11.GL_POINTS:
+            case GL11.GL_LINES:
+            case GL11.GL_TRIANGLES:
+                for (int i = 0; i < size; i++) {
+                    indices[n++] = i;
+                }
+                break;
+            case GL11.GL_LINE_STRIP:
+            case GL11.GL_LINE_LOOP:
+                for (int i = 0; i + 1 < count; i++) {
+                    indices[n++] = i;
+                    indices[n++] = i + 1;
+                }
+                if (mode == GL11.GL_LINE_LOOP && count >= 2) {
+                    indices[n++] = count - 1;
+                    indices[n++] = 0;
+                }
+                break;
+            case GL11.GL_TRIANGLE_STRIP:
+                for (int i = 0; i + 2 < count; i++) {
+                    indices[n++] = (i & 1) == 0 ? i : i + 1;
+                    indices[n++] = (i & 1) == 0 ? i + 1 : i;
+                    indices[n++] = i + 2;
+                }
+                break;
+            case GL11.GL_TRIANGLE_FAN:
+                for (int i = 1; i + 1 < count; i++) {
+                    indices[n++] = 0;
+                    indices[n++] = i;
+                    indices[n++] = i + 1;
+                }
+                break;
+            case GL11.GL_POLYGON:
+                // The provoking vertex of a polygon is its first one
+                for (int i = 1; i + 1 < count; i++) {
+                    indices[n++] = i;
+                    indices[n++] = i + 1;
+                    indices[n++] = 0;
+                }
+                break;
+            case GL11.GL_QUADS:
+                // The provoking vertex of a quad is its last one
+                for (int i = 0; i + 3 < count; i += 4) {
+                    indices[n++] = i;
+                    indices[n++] = i + 1;
+                    indices[n++] = i + 3;
+                    indices[n++] = i + 1;
+                    indices[n++] = i + 2;
+                    indices[n++] = i + 3;
+                }
+                break;
+            case GL11.GL_QUAD_STRIP:
+                // Quad i is 2i, 2i + 1, 2i + 3, 2i + 2 and provoked by 2i + 3
+                for (int i = 0; i + 3 < count; i += 2) {
+                    indices[n++] = i;
+                    indices[n++] = i + 1;
+                    indices[n++] = i + 3;
+                    indices[n++] = i + 2;
+                    indices[n++] = i;
+                    indices[n++] = i + 3;
+                }
+                break;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,724 @@
+package org.lwjgl.opengl;
+
+import static org.lwjgl.system.MemoryUtil.*;
+
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+import org.lwjgl.BufferUtils;
+import org.lwjgl.system.LWJGLXHelper;
+import org.lwjgl.util.vector.Matrix4f;
+import org.lwjgl.util.vector.Vector3f;
+
+/**
+ * Drop-in replacements of the {@link GL11} matrix stack entry points that keep the modelview, projection
+ * and texture stacks in Java and load the matrices changed into GL before the next draw, instead of one
+ * JNI call per command.
+ * <p>
+ * While enabled, the {@code GL11} matrix functions go to the stacks too, the matrix queries of {@code GL11.glGet*}
+ * are answered from them, and the draws of {@code GL11}, {@link ImmediateMode} and {@link DisplayLists} load the
+ * changed matrices, like the {@code GL11} light, clip plane and texture coordinate generation functions transforming
+ * their arguments by the modelview matrix. Other draws must be preceded by {@link #upload()}. The matrix mode is
+ * saved and restored by {@code GL11.glPushAttrib} and {@code GL11.glPopAttrib}. The unsafe {@code GL11.ngl*Matrix*}
+ * functions still go to GL and must not be used while enabled, and the texture unit must be selected with
+ * {@link #glActiveTexture(int)}.
+ * <p>
+ * Inside a list compiled by {@link DisplayLists}, the matrix commands are compiled and replayed through the
+ * stacks. The Java stacks don't see the matrix commands of the lists executed by GL, these lists must
+ * restore the matrices they change. On a core profile, the matrices are not loaded into GL, only the primitives of
+ * {@code ImmediateMode} are transformed by them. Not thread-safe, use it from the thread rendering with the Display
+ * context.
+ */
+public final class MatrixStacks {
+    /** GL requires at least 32 modelview and 2 projection and texture matrices, all are 32 here */
+    private static final int MAX_DEPTH = 32;
+    private static final int MAX_TEXTURE_UNITS = 32;
+
+    static boolean enabled = LWJGLXHelper.matrixStackEmulation;
+    /** Set when a matrix changed since it was loaded into GL */
+    static boolean dirty;
+
+    private static final Stack modelview = new Stack();
+    private static final Stack projection = new Stack();
+    private static final Stack[] textures = new Stack[MAX_TEXTURE_UNITS];
+    private static int mode = GL11.GL_MODELVIEW;
+    /** The matrix mode of GL, only changed by upload() while enabled */
+    private static int glMode = GL11.GL_MODELVIEW;
+    private static int activeTexture;
+    private static Stack current = modelview;
+    /** The modes saved by glPushAttrib, mode and glMode for each level, -1 when GL_TRANSFORM_BIT was not pushed */
+    private static int[] attribModes = new int[32];
+    private static int attribDepth;
+
+    private static final Matrix4f operand = new Matrix4f();
+    private static final Vector3f vector = new Vector3f();
+    private static final float[] values = new float[16];
+    private static final float[] replayed = new float[16];
+    private static final float[] converted = new float[16];
+    private static final FloatBuffer matrix = BufferUtils.createFloatBuffer(16);
+
+    private MatrixStacks() {
+    }
+
+    /**
+     * Enabling reads the current matrices of GL, so the matrices under them on the GL stacks can't be
+     * popped after. Disabling loads the Java matrices into GL. Both need a current context.
+     */
+    public static void setEnabled(boolean enabled) {
+        if (enabled == MatrixStacks.enabled) return;
+        if (enabled) {
+            reload();
+        } else {
+            upload();
+            if (glMode != mode && !ImmediateMode.isCore()) GL11Direct.glMatrixMode(mode);
+            glMode = mode;
+        }
+        MatrixStacks.enabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Load the matrices changed into GL, the draws of {@code GL11}, {@link ImmediateMode} and
+     * {@link DisplayLists} do it on their own
+     */
+    public static void upload() {
+        // Loading a matrix while a list compiles would compile it
+        if (!dirty || ImmediateMode.recording != null) return;
+        dirty = false;
+        // Only ImmediateMode uses the matrices on a core profile
+        if (ImmediateMode.isCore()) return;
+
+        int loadedMode = glMode;
+        if (modelview.dirty) loadedMode = load(modelview, GL11.GL_MODELVIEW, loadedMode);
+        if (projection.dirty) loadedMode = load(projection, GL11.GL_PROJECTION, loadedMode);
+        int loadedTexture = activeTexture;
+        for (int unit = 0; unit < MAX_TEXTURE_UNITS; unit++) {
+            Stack texture = textures[unit];
+            if (texture == null || !texture.dirty) continue;
+            if (unit != loadedTexture) {
+                GL13.glActiveTexture(GL13.GL_TEXTURE0 + unit);
+                loadedTexture = unit;
+            }
+            loadedMode = load(texture, GL11.GL_TEXTURE, loadedMode);
+        }
+        if (loadedTexture != activeTexture) GL13.glActiveTexture(GL13.GL_TEXTURE0 + activeTexture);
+        glMode = loadedMode;
+    }
+
+    public static void glMatrixMode(int mode) {
+        if (ImmediateMode.recording != null) {
+            GL11Direct.glMatrixMode(mode);
+            if (ImmediateMode.recording.execute) glMode = mode;
+            if (!record(DisplayLists.MATRIX_MODE, mode)) return;
+        } else if (!enabled) {
+            GL11.glMatrixMode(mode);
+            glMode = mode;
+            return;
+        }
+        Stack stack = stack(mode, activeTexture);
+        // Like GL, an invalid mode is ignored
+        if (stack == null) return;
+        MatrixStacks.mode = mode;
+        current = stack;
+    }
+
+    /**
+     * Select the texture unit, always given to GL
+     */
+    public static void glActiveTexture(int texture) {
+        GL13.glActiveTexture(texture);
+        DisplayLists.Recording recording = ImmediateMode.recording;
+        if (recording != null) {
+            recording.addCommand(DisplayLists.ACTIVE_TEXTURE, texture);
+            if (!recording.execute) return;
+        }
+        int unit = texture - GL13.GL_TEXTURE0;
+        if (unit < 0 || unit >= MAX_TEXTURE_UNITS) return;
+        activeTexture = unit;
+        if (mode == GL11.GL_TEXTURE) {
+            current = stack(GL11.GL_TEXTURE, unit);
+        }
+    }
+
+    public static void glPushMatrix() {
+        if (ImmediateMode.recording != null) {
+            GL11Direct.glPushMatrix();
+            if (!record(DisplayLists.PUSH_MATRIX)) return;
+        } else if (!enabled) {
+            GL11.glPushMatrix();
+            return;
+        }
+        current.push();
+    }
+
+    public static void glPopMatrix() {
+        if (ImmediateMode.recording != null) {
+            GL11Direct.glPopMatrix();
+            if (!record(DisplayLists.POP_MATRIX)) return;
+        } else if (!enabled) {
+            GL11.glPopMatrix();
+            return;
+        }
+        if (ImmediateMode.isPending()) ImmediateMode.flush();
+        if (current.pop()) changed();
+    }
+
+    public static void glLoadIdentity() {
+        if (ImmediateMode.recording != null) {
+            GL11Direct.glLoadIdentity();
+            if (!record(DisplayLists.LOAD_IDENTITY)) return;
+        } else if (!enabled) {
+            GL11.glLoadIdentity();
+            return;
+        }
+        top().setIdentity();
+        changed();
+    }
+
+    public static void glLoadMatrixf(FloatBuffer m) {
+        if (ImmediateMode.recording != null) {
+            GL11Direct.nglLoadMatrixf(memAddress(m));
+            if (!record(DisplayLists.LOAD_MATRIX, load(operand, m))) return;
+        } else if (!enabled) {
+            GL11.nglLoadMatrixf(memAddress(m));
+            return;
+        }
+        load(top(), m);
+        changed();
+    }
+
+    public static void glLoadMatrixf(float[] m) {
+        if (ImmediateMode.recording != null) {
+            matrix.put(m, 0, 16).rewind();
+            GL11Direct.nglLoadMatrixf(memAddress(matrix));
+            if (!record(DisplayLists.LOAD_MATRIX, load(operand, matrix))) return;
+        } else if (!enabled) {
+            matrix.put(m, 0, 16).rewind();
+            GL11.nglLoadMatrixf(memAddress(matrix));
+            return;
+        }
+        load(top(), m);
+        changed();
+    }
+
+    public static void glMultMatrixf(FloatBuffer m) {
+        if (ImmediateMode.recording != null) {
+            GL11Direct.nglMultMatrixf(memAddress(m));
+            if (!record(DisplayLists.MULT_MATRIX, load(operand, m))) return;
+        } else if (!enabled) {
+            GL11.nglMultMatrixf(memAddress(m));
+            return;
+        }
+        multiply(load(operand, m));
+    }
+
+    public static void glMultMatrixf(float[] m) {
+        if (ImmediateMode.recording != null) {
+            matrix.put(m, 0, 16).rewind();
+            GL11Direct.nglMultMatrixf(memAddress(matrix));
+            if (!record(DisplayLists.MULT_MATRIX, load(operand, matrix))) return;
+        } else if (!enabled) {
+            matrix.put(m, 0, 16).rewind();
+            GL11.nglMultMatrixf(memAddress(matrix));
+            return;
+        }
+        multiply(load(operand, m));
+    }
+
+    public static void glLoadMatrixd(DoubleBuffer m) {
+        glLoadMatrixf(convert(m));
+    }
+
+    public static void glLoadMatrixd(double[] m) {
+        glLoadMatrixf(convert(m));
+    }
+
+    public static void glMultMatrixd(DoubleBuffer m) {
+        glMultMatrixf(convert(m));
+    }
+
+    public static void glMultMatrixd(double[] m) {
+        glMultMatrixf(convert(m));
+    }
+
+    public static void glTranslatef(float x, float y, float z) {
+        if (ImmediateMode.recording != null) {
+            GL11Direct.glTranslatef(x, y, z);
+            if (!record(DisplayLists.MULT_MATRIX, translation(x, y, z))) return;
+        } else if (!enabled) {
+            GL11.glTranslatef(x, y, z);
+            return;
+        }
+        vector.set(x, y, z);
+        top().translate(vector);
+        changed();
+    }
+
+    public static void glRotatef(float angle, float x, float y, float z) {
+        if (ImmediateMode.recording != null) {
+            GL11Direct.glRotatef(angle, x, y, z);
+            if (!record(DisplayLists.MULT_MATRIX, rotation(angle, x, y, z))) return;
+        } else if (!enabled) {
+            GL11.glRotatef(angle, x, y, z);
+            return;
+        }
+        float length = (float) Math.sqrt(x * x + y * y + z * z);
+        if (length == 0) return;
+        vector.set(x / length, y / length, z / length);
+        top().rotate((float) Math.toRadians(angle), vector);
+        changed();
+    }
+
+    public static void glScalef(float x, float y, float z) {
+        if (ImmediateMode.recording != null) {
+            GL11Direct.glScalef(x, y, z);
+            if (!record(DisplayLists.MULT_MATRIX, scaling(x, y, z))) return;
+        } else if (!enabled) {
+            GL11.glScalef(x, y, z);
+            return;
+        }
+        vector.set(x, y, z);
+        top().scale(vector);
+        changed();
+    }
+
+    public static void glOrtho(double l, double r, double b, double t, double n, double f) {
+        if (ImmediateMode.recording != null) {
+            GL11Direct.glOrtho(l, r, b, t, n, f);
+            if (!record(DisplayLists.MULT_MATRIX, ortho(l, r, b, t, n, f))) return;
+        } else if (!enabled) {
+            GL11.glOrtho(l, r, b, t, n, f);
+            return;
+        }
+        multiply(ortho(l, r, b, t, n, f));
+    }
+
+    public static void glFrustum(double l, double r, double b, double t, double n, double f) {
+        if (ImmediateMode.recording != null) {
+            GL11Direct.glFrustum(l, r, b, t, n, f);
+            if (!record(DisplayLists.MULT_MATRIX, frustum(l, r, b, t, n, f))) return;
+        } else if (!enabled) {
+            GL11.glFrustum(l, r, b, t, n, f);
+            return;
+        }
+        multiply(frustum(l, r, b, t, n, f));
+    }
+
+    /**
+     * Replay a matrix of a display list
+     */
+    static void replay(int[] bits, int offset, boolean multiply) {
+        for (int i = 0; i < 16; i++) {
+            replayed[i] = Float.intBitsToFloat(bits[offset + i]);
+        }
+        if (multiply) {
+            glMultMatrixf(replayed);
+        } else {
+            glLoadMatrixf(replayed);
+        }
+    }
+
+    /**
+     * @return false if {@code pname} is not answered from the stacks
+     */
+    static boolean get(int pname, FloatBuffer params) {
+        int count = query(pname);
+        for (int i = 0; i < count; i++) {
+            params.put(params.position() + i, values[i]);
+        }
+        return count != 0;
+    }
+
+    static boolean get(int pname, float[] params) {
+        int count = query(pname);
+        System.arraycopy(values, 0, params, 0, count);
+        return count != 0;
+    }
+
+    static boolean get(int pname, IntBuffer params) {
+        int count = query(pname);
+        for (int i = 0; i < count; i++) {
+            params.put(params.position() + i, Math.round(values[i]));
+        }
+        return count != 0;
+    }
+
+    static boolean get(int pname, int[] params) {
+        int count = query(pname);
+        for (int i = 0; i < count; i++) {
+            params[i] = Math.round(values[i]);
+        }
+        return count != 0;
+    }
+
+    static boolean get(int pname, DoubleBuffer params) {
+        int count = query(pname);
+        for (int i = 0; i < count; i++) {
+            params.put(params.position() + i, values[i]);
+        }
+        return count != 0;
+    }
+
+    static boolean get(int pname, double[] params) {
+        int count = query(pname);
+        for (int i = 0; i < count; i++) {
+            params[i] = values[i];
+        }
+        return count != 0;
+    }
+
+    /**
+     * @return whether {@code pname} is answered from the stacks, its first value is in {@link #values}
+     */
+    static boolean get(int pname) {
+        return query(pname) != 0;
+    }
+
+    static float getValue() {
+        return values[0];
+    }
+
+    /**
+     * Write the projection matrix multiplied by the modelview matrix, the identity while disabled
+     */
+    static void getProjectionModelview(FloatBuffer dest) {
+        if (enabled) {
+            Matrix4f.mul(projection.top(), modelview.top(), operand).store(dest);
+        } else {
+            operand.setIdentity();
+            operand.store(dest);
+        }
+        dest.rewind();
+    }
+
+    /**
+     * Called by {@code GL11.glPushAttrib} while enabled, {@code GL_TRANSFORM_BIT} saves the matrix mode of GL
+     */
+    static void pushAttrib(int mask) {
+        DisplayLists.Recording recording = ImmediateMode.recording;
+        if (recording != null && !recording.execute) return;
+        if (attribDepth * 2 == attribModes.length) attribModes = Arrays.copyOf(attribModes, attribModes.length * 2);
+        boolean transform = (mask & GL11.GL_TRANSFORM_BIT) != 0;
+        attribModes[attribDepth * 2] = transform ? mode : -1;
+        attribModes[attribDepth * 2 + 1] = transform ? glMode : -1;
+        attribDepth++;
+    }
+
+    /**
+     * Called by {@code GL11.glPopAttrib} while enabled, after GL restored its matrix mode
+     */
+    static void popAttrib() {
+        DisplayLists.Recording recording = ImmediateMode.recording;
+        if (recording != null && !recording.execute) return;
+        if (attribDepth == 0) {
+            // Pushed before the stacks were enabled, GL knows the mode restored
+            mode = GL11C.glGetInteger(GL11.GL_MATRIX_MODE);
+            glMode = mode;
+        } else {
+            attribDepth--;
+            if (attribModes[attribDepth * 2] == -1) return;
+            mode = attribModes[attribDepth * 2];
+            glMode = attribModes[attribDepth * 2 + 1];
+        }
+        Stack stack = stack(mode, activeTexture);
+        current = stack != null ? stack : modelview;
+    }
+
+    /**
+     * Forget the matrices of a destroyed context
+     */
+    static void contextLost() {
+        modelview.reset();
+        projection.reset();
+        for (int i = 0; i < MAX_TEXTURE_UNITS; i++) {
+            textures[i] = null;
+        }
+        mode = GL11.GL_MODELVIEW;
+        glMode = GL11.GL_MODELVIEW;
+        activeTexture = 0;
+        current = modelview;
+        attribDepth = 0;
+        dirty = false;
+    }
+
+    /**
+     * @return the number of values of {@code pname} written to {@link #values}, 0 if it is not tracked
+     */
+    private static int query(int pname) {
+        switch (pname) {
+            case GL11.GL_MODELVIEW_MATRIX:
+                return store(modelview.top());
+            case GL11.GL_PROJECTION_MATRIX:
+                return store(projection.top());
+            case GL11.GL_TEXTURE_MATRIX:
+                return store(stack(GL11.GL_TEXTURE, activeTexture).top());
+            case GL11.GL_MATRIX_MODE:
+                values[0] = mode;
+                return 1;
+            case GL11.GL_MODELVIEW_STACK_DEPTH:
+                values[0] = modelview.depth + 1;
+                return 1;
+            case GL11.GL_PROJECTION_STACK_DEPTH:
+                values[0] = projection.depth + 1;
+                return 1;
+            case GL11.GL_TEXTURE_STACK_DEPTH:
+                values[0] = stack(GL11.GL_TEXTURE, activeTexture).depth + 1;
+                return 1;
+            case GL11.GL_MAX_MODELVIEW_STACK_DEPTH:
+            case GL11.GL_MAX_PROJECTION_STACK_DEPTH:
+            case GL11.GL_MAX_TEXTURE_STACK_DEPTH:
+                values[0] = MAX_DEPTH;
+                return 1;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Read the current matrices from GL, the other texture units start with the identity, and all of them on a
+     * core profile
+     */
+    private static void reload() {
+        contextLost();
+        if (ImmediateMode.isCore()) return;
+        activeTexture = GL11C.glGetInteger(GL13.GL_ACTIVE_TEXTURE) - GL13.GL_TEXTURE0;
+        GL11C.glGetFloatv(GL11.GL_MODELVIEW_MATRIX, values);
+        load(modelview.top(), values);
+        GL11C.glGetFloatv(GL11.GL_PROJECTION_MATRIX, values);
+        load(projection.top(), values);
+        GL11C.glGetFloatv(GL11.GL_TEXTURE_MATRIX, values);
+        load(stack(GL11.GL_TEXTURE, activeTexture).top(), values);
+        mode = GL11C.glGetInteger(GL11.GL_MATRIX_MODE);
+        glMode = mode;
+        Stack stack = stack(mode, activeTexture);
+        current = stack != null ? stack : modelview;
+    }
+
+    private static Stack stack(int mode, int unit) {
+        switch (mode) {
+            case GL11.GL_MODELVIEW:
+                return modelview;
+            case GL11.GL_PROJECTION:
+                return projection;
+            case GL11.GL_TEXTURE:
+                if (textures[unit] == null) textures[unit] = new Stack();
+                return textures[unit];
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return the matrix mode left in GL
+     */
+    private static int load(Stack stack, int mode, int loadedMode) {
+        if (mode != loadedMode) GL11Direct.glMatrixMode(mode);
+        stack.top().store(matrix);
+        matrix.rewind();
+        GL11Direct.nglLoadMatrixf(memAddress(matrix));
+        stack.dirty = false;
+        return mode;
+    }
+
+    /**
+     * Record the command in the display list compiled
+     *
+     * @return true if the command is also executed, so applied to the Java stacks
+     */
+    private static boolean record(int command, int... arguments) {
+        DisplayLists.Recording recording = ImmediateMode.recording;
+        if (recording == null) return false;
+        recording.addCommand(command, arguments);
+        return enabled && recording.execute;
+    }
+
+    private static boolean record(int command, Matrix4f m) {
+        store(m);
+        int[] bits = new int[16];
+        for (int i = 0; i < 16; i++) {
+            bits[i] = Float.floatToRawIntBits(values[i]);
+        }
+        return record(command, bits);
+    }
+
+    /**
+     * @return the matrix to change, after drawing the primitives batched by {@link ImmediateMode} with it
+     */
+    private static Matrix4f top() {
+        if (ImmediateMode.isPending()) ImmediateMode.flush();
+        return current.top();
+    }
+
+    private static void changed() {
+        current.dirty = true;
+        dirty = true;
+    }
+
+    private static void multiply(Matrix4f m) {
+        Matrix4f top = top();
+        Matrix4f.mul(top, m, top);
+        changed();
+    }
+
+    private static Matrix4f translation(float x, float y, float z) {
+        operand.setIdentity();
+        operand.m30 = x;
+        operand.m31 = y;
+        operand.m32 = z;
+        return operand;
+    }
+
+    private static Matrix4f rotation(float angle, float x, float y, float z) {
+        operand.setIdentity();
+        float length = (float) Math.sqrt(x * x + y * y + z * z);
+        if (length != 0) {
+            vector.set(x / length, y / length, z / length);
+            operand.rotate((float) Math.toRadians(angle), vector);
+        }
+        return operand;
+    }
+
+    private static Matrix4f scaling(float x, float y, float z) {
+        operand.setIdentity();
+        operand.m00 = x;
+        operand.m11 = y;
+        operand.m22 = z;
+        return operand;
+    }
+
+    private static Matrix4f ortho(double l, double r, double b, double t, double n, double f) {
+        operand.setZero();
+        operand.m00 = (float) (2 / (r - l));
+        operand.m11 = (float) (2 / (t - b));
+        operand.m22 = (float) (-2 / (f - n));
+        operand.m30 = (float) (-(r + l) / (r - l));
+        operand.m31 = (float) (-(t + b) / (t - b));
+        operand.m32 = (float) (-(f + n) / (f - n));
+        operand.m33 = 1;
+        return operand;
+    }
+
+    private static Matrix4f frustum(double l, double r, double b, double t, double n, double f) {
+        operand.setZero();
+        operand.m00 = (float) (2 * n / (r - l));
+        operand.m11 = (float) (2 * n / (t - b));
+        operand.m20 = (float) ((r + l) / (r - l));
+        operand.m21 = (float) ((t + b) / (t - b));
+        operand.m22 = (float) (-(f + n) / (f - n));
+        operand.m23 = -1;
+        operand.m32 = (float) (-2 * f * n / (f - n));
+        return operand;
+    }
+
+    private static float[] convert(DoubleBuffer m) {
+        for (int i = 0; i < 16; i++) {
+            converted[i] = (float) m.get(m.position() + i);
+        }
+        return converted;
+    }
+
+    private static float[] convert(double[] m) {
+        for (int i = 0; i < 16; i++) {
+            converted[i] = (float) m[i];
+        }
+        return converted;
+    }
+
+    /**
+     * Read a column-major matrix without moving the buffer position
+     */
+    private static Matrix4f load(Matrix4f dest, FloatBuffer m) {
+        for (int i = 0; i < 16; i++) {
+            values[i] = m.get(m.position() + i);
+        }
+        return load(dest, values);
+    }
+
+    private static Matrix4f load(Matrix4f dest, float[] m) {
+        dest.m00 = m[0];
+        dest.m01 = m[1];
+        dest.m02 = m[2];
+        dest.m03 = m[3];
+        dest.m10 = m[4];
+        dest.m11 = m[5];
+        dest.m12 = m[6];
+        dest.m13 = m[7];
+        dest.m20 = m[8];
+        dest.m21 = m[9];
+        dest.m22 = m[10];
+        dest.m23 = m[11];
+        dest.m30 = m[12];
+        dest.m31 = m[13];
+        dest.m32 = m[14];
+        dest.m33 = m[15];
+        return dest;
+    }
+
+    /**
+     * @return 16, the column-major matrix written to {@link #values}
+     */
+    private static int store(Matrix4f m) {
+        values[0] = m.m00;
+        values[1] = m.m01;
+        values[2] = m.m02;
+        values[3] = m.m03;
+        values[4] = m.m10;
+        values[5] = m.m11;
+        values[6] = m.m12;
+        values[7] = m.m13;
+        values[8] = m.m20;
+        values[9] = m.m21;
+        values[10] = m.m22;
+        values[11] = m.m23;
+        values[12] = m.m30;
+        values[13] = m.m31;
+        values[14] = m.m32;
+        values[15] = m.m33;
+        return 16;
+    }
+
+    private static final class Stack {
+        final Matrix4f[] matrices = new Matrix4f[MAX_DEPTH];
+        int depth;
+        /** Set when the top changed since it was loaded into GL */
+        boolean dirty;
+
+        Stack() {
+            matrices[0] = new Matrix4f();
+        }
+
+        Matrix4f top() {
+            return matrices[depth];
+        }
+
+        /**
+         * Like GL, an overflow is ignored
+         */
+        void push() {
+            if (depth + 1 == MAX_DEPTH) return;
+            if (matrices[depth + 1] == null) matrices[depth + 1] = new Matrix4f();
+            matrices[depth + 1].load(matrices[depth]);
+            depth++;
+        }
+
+        /**
+         * @return false on underflow, ignored like GL
+         */
+        boolean pop() {
+            if (depth == 0) return false;
+            depth--;
+            return true;
+        }
+
+        void reset() {
+            depth = 0;
+            matrices[0].setIdentity();
+            dirty = false;
+        }
+    }
+}
@@ -41,6 +41,11 @@ import org.lwjgl.Sys;
  * <p/>
  * Pbuffer encapsulates an OpenGL pbuffer.
  * <p/>
+ * LWJGLX: Pbuffers are emulated with framebuffer objects, each in a context of its own that shares
+ * its objects with the Display context. Render-to-texture binds the texture the Pbuffer renders to,
+ * without copying any pixel. Pbuffers can only be created on the thread that created the Display,
+ * once it is created, but can be made current on any thread.
+ * <p/>
  *
  * This class is thread-safe.
  *
@@ -52,7 +57,7 @@ public final class Pbuffer extends DrawableGL {
 	/**
 	 * Indicates that Pbuffers can be created.
 	 */
-	public static final int PBUFFER_SUPPORTED = 0;// mark as not supported 1 << 0;
+	public static final int PBUFFER_SUPPORTED = 1 << 0;
 
 	/**
 	 * Indicates that Pbuffers can be used as render-textures.
@@ -222,7 +227,7 @@ public final class Pbuffer extends DrawableGL {
 			shared_drawable = Display.getDrawable(); // May be null
 		if (shared_drawable != null)
 			shared_context = ((DrawableLWJGL)shared_drawable).getContext();
-		//this.context = new ContextGL(peer_info, attribs, (ContextGL)shared_context);
+		this.context = ContextGL.createShared(peer_info, attribs, (ContextGL)shared_context);
 	}
 
 	private static PeerInfo createPbuffer(int width, int height, PixelFormat pixel_format, ContextAttribs attribs, RenderTexture renderTexture) throws LWJGLException {
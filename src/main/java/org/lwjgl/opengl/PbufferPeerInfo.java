@@ -0,0 +1,352 @@
+package org.lwjgl.opengl;
+
+import static org.lwjgl.opengl.GL11.*;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import javax.annotation.Nullable;
+
+import org.lwjgl.LWJGLException;
+import org.lwjgl.LWJGLUtil;
+
+/**
+ * A Pbuffer emulated with a framebuffer object, in a GL context of its own.
+ * <p>
+ * The Pbuffer context is a {@link ContextGL#createShared shared context} of the Display, which keeps the
+ * framebuffer bound: the Pbuffer has its own GL state, and shares its textures with the Display.
+ * Render-to-texture binds the texture the framebuffer renders to, so rendering to it and sampling it
+ * never copies pixels.
+ * <p>
+ * The textures are only shared with the Display window the Pbuffer was created with: they are lost
+ * when the Display window is recreated, which {@link #isBufferLost()} reports.
+ */
+final class PbufferPeerInfo extends PeerInfo {
+	private final int width;
+	private final int height;
+	/** The GL texture target rendered to, or 0 if this isn't a render texture */
+	private final int target;
+	/** The GL texture target of the Pbuffer, the cube map face for cube maps */
+	private int faceTarget;
+	private int level;
+	/** The Display window the textures are shared with */
+	private final long window;
+
+	private final int colorFormat;
+	private final boolean colorTexture;
+	private final boolean depthTexture;
+	/** Whether the Pbuffer has a depth buffer, texture or renderbuffer */
+	private final boolean hasDepth;
+	private final boolean stencil;
+	private final boolean mipmaps;
+	private final int depthAttachment;
+
+	/** The Pbuffer context, which has the framebuffer bound, null until {@link #create(ContextGL)} */
+	@Nullable
+	private ContextGL context;
+	private int framebuffer;
+	/** The color texture if the Pbuffer is an RGB(A) render texture, a renderbuffer otherwise */
+	private int color;
+	/** The depth texture if the Pbuffer is a depth render texture, a renderbuffer otherwise, 0 if none */
+	private int depth;
+
+	/** The texture bound before bindTexImage, for the color and depth buffers */
+	private int previousColorBinding = -1;
+	private int previousDepthBinding = -1;
+
+	PbufferPeerInfo(int width, int height, PixelFormat pixel_format, IntBuffer pBufferAttribs) throws LWJGLException {
+		super(null);
+		if (getCapabilities() == 0)
+			throw new LWJGLException("Pbuffers require OpenGL 3.0 or ARB_framebuffer_object");
+		this.width = width;
+		this.height = height;
+		this.window = Display.Window.handle;
+
+		int textureFormat = 0, target = 0;
+		boolean depthTexture = false, mipmaps = false;
+		for (int i = pBufferAttribs.position(); i + 1 < pBufferAttribs.limit(); i += 2) {
+			int value = pBufferAttribs.get(i + 1);
+			switch (pBufferAttribs.get(i)) {
+				case RenderTexture.WGL_TEXTURE_FORMAT_ARB:
+					textureFormat = value == RenderTexture.WGL_TEXTURE_RGBA_ARB ? GL_RGBA : GL_RGB;
+					break;
+				case RenderTexture.WGL_DEPTH_TEXTURE_FORMAT_NV:
+					depthTexture = true;
+					break;
+				case RenderTexture.WGL_TEXTURE_TARGET_ARB:
+					target = toTextureTarget(value);
+					break;
+				case RenderTexture.WGL_MIPMAP_TEXTURE_ARB:
+					mipmaps = value != 0;
+					break;
+			}
+		}
+		if (textureFormat == 0 && !depthTexture)
+			target = 0;
+		this.target = target;
+		this.faceTarget = target == GL13.GL_TEXTURE_CUBE_MAP ? GL13.GL_TEXTURE_CUBE_MAP_POSITIVE_X : target;
+		this.colorTexture = textureFormat != 0;
+		this.depthTexture = depthTexture;
+		this.mipmaps = mipmaps;
+
+		this.stencil = pixel_format.getStencilBits() > 0;
+		this.hasDepth = depthTexture || stencil || pixel_format.getDepthBits() > 0;
+		this.depthAttachment = stencil ? GL30.GL_DEPTH_STENCIL_ATTACHMENT : GL30.GL_DEPTH_ATTACHMENT;
+		this.colorFormat = colorTexture ? textureFormat : pixel_format.getAlphaBits() > 0 ? GL_RGBA : GL_RGB;
+	}
+
+	/**
+	 * Create the framebuffer in {@code context}, the Pbuffer context, and leave it bound there.
+	 * Framebuffers are not shared between contexts, the context is made current for this.
+	 */
+	void create(ContextGL context) throws LWJGLException {
+		this.context = context;
+		int depthFormat = stencil ? GL30.GL_DEPTH24_STENCIL8 : GL14.GL_DEPTH_COMPONENT24;
+		ContextGL previous = makeContextCurrent();
+		try {
+			if (colorTexture) {
+				color = createTexture(target, colorFormat, colorFormat, GL_UNSIGNED_BYTE, mipmaps);
+			} else {
+				color = createRenderbuffer(colorFormat == GL_RGBA ? GL_RGBA8 : GL_RGB8);
+			}
+			if (depthTexture) {
+				depth = stencil
+						? createTexture(target, depthFormat, GL30.GL_DEPTH_STENCIL, GL30.GL_UNSIGNED_INT_24_8, false)
+						: createTexture(target, depthFormat, GL_DEPTH_COMPONENT, GL_UNSIGNED_INT, false);
+			} else if (hasDepth) {
+				depth = createRenderbuffer(depthFormat);
+			}
+
+			framebuffer = GL30.glGenFramebuffers();
+			GL30.glBindFramebuffer(GL30.GL_FRAMEBUFFER, framebuffer);
+			attach();
+			if (depth != 0 && !depthTexture) {
+				GL30.glFramebufferRenderbuffer(GL30.GL_FRAMEBUFFER, depthAttachment, GL30.GL_RENDERBUFFER, depth);
+			}
+			int status = GL30.glCheckFramebufferStatus(GL30.GL_FRAMEBUFFER);
+			if (status != GL30.GL_FRAMEBUFFER_COMPLETE) {
+				deleteObjects();
+				throw new LWJGLException("Could not create Pbuffer, framebuffer status: 0x" + Integer.toHexString(status));
+			}
+			GL30.glBindRenderbuffer(GL30.GL_RENDERBUFFER, 0);
+			if (target != 0)
+				glBindTexture(target, 0);
+			// The hidden window of the context is 1x1
+			glViewport(0, 0, width, height);
+			glScissor(0, 0, width, height);
+		} finally {
+			restoreContext(previous);
+		}
+	}
+
+	/**
+	 * Make the Pbuffer context current on this thread
+	 *
+	 * @return the context to give to {@link #restoreContext(ContextGL)}
+	 */
+	@Nullable
+	private ContextGL makeContextCurrent() throws LWJGLException {
+		ContextGL previous = ContextGL.getCurrentContext();
+		if (previous != context)
+			context.makeCurrent();
+		return previous;
+	}
+
+	/**
+	 * Make {@code previous} current again, the context that was current before {@link #makeContextCurrent()}
+	 */
+	private void restoreContext(@Nullable ContextGL previous) throws LWJGLException {
+		if (previous == context)
+			return;
+		if (previous != null) {
+			previous.makeCurrent();
+		} else {
+			context.releaseCurrent();
+		}
+	}
+
+	/**
+	 * @return the Pbuffer capabilities of the current Display context
+	 */
+	static int getCapabilities() {
+		ContextCapabilities caps = GLContext.getCapabilities();
+		if (!caps.OpenGL30 && !caps.GL_ARB_framebuffer_object)
+			return 0;
+		int capabilities = Pbuffer.PBUFFER_SUPPORTED | Pbuffer.RENDER_TEXTURE_SUPPORTED | Pbuffer.RENDER_DEPTH_TEXTURE_SUPPORTED;
+		if (caps.OpenGL31 || caps.GL_ARB_texture_rectangle || caps.GL_EXT_texture_rectangle)
+			capabilities |= Pbuffer.RENDER_TEXTURE_RECTANGLE_SUPPORTED;
+		return capabilities;
+	}
+
+	private static int toTextureTarget(int renderTextureTarget) throws LWJGLException {
+		switch (renderTextureTarget) {
+			case RenderTexture.RENDER_TEXTURE_2D:
+				return GL_TEXTURE_2D;
+			case RenderTexture.RENDER_TEXTURE_RECTANGLE:
+				return GL31.GL_TEXTURE_RECTANGLE;
+			case RenderTexture.RENDER_TEXTURE_CUBE_MAP:
+				return GL13.GL_TEXTURE_CUBE_MAP;
+			default:
+				throw new LWJGLException("Unsupported render texture target: 0x" + Integer.toHexString(renderTextureTarget));
+		}
+	}
+
+	private static int getBindingQuery(int target) {
+		switch (target) {
+			case GL31.GL_TEXTURE_RECTANGLE:
+				return GL31.GL_TEXTURE_BINDING_RECTANGLE;
+			case GL13.GL_TEXTURE_CUBE_MAP:
+				return GL13.GL_TEXTURE_BINDING_CUBE_MAP;
+			default:
+				return GL_TEXTURE_BINDING_2D;
+		}
+	}
+
+	private int createTexture(int target, int internalFormat, int format, int type, boolean mipmaps) {
+		int texture = glGenTextures();
+		glBindTexture(target, texture);
+		int levels = 1;
+		if (mipmaps && target != GL31.GL_TEXTURE_RECTANGLE) {
+			levels = 32 - Integer.numberOfLeadingZeros(Math.max(width, height));
+		}
+		for (int level = 0; level < levels; level++) {
+			int w = Math.max(1, width >> level), h = Math.max(1, height >> level);
+			if (target == GL13.GL_TEXTURE_CUBE_MAP) {
+				for (int face = 0; face < 6; face++) {
+					glTexImage2D(GL13.GL_TEXTURE_CUBE_MAP_POSITIVE_X + face, level, internalFormat, w, h, 0, format, type, (ByteBuffer) null);
+				}
+			} else {
+				glTexImage2D(target, level, internalFormat, w, h, 0, format, type, (ByteBuffer) null);
+			}
+		}
+		// The default filter requires mipmaps, the texture would be incomplete without them
+		glTexParameteri(target, GL_TEXTURE_MIN_FILTER, levels > 1 ? GL_LINEAR_MIPMAP_LINEAR : GL_LINEAR);
+		glTexParameteri(target, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+		glTexParameteri(target, GL12.GL_TEXTURE_MAX_LEVEL, levels - 1);
+		return texture;
+	}
+
+	private int createRenderbuffer(int internalFormat) {
+		int renderbuffer = GL30.glGenRenderbuffers();
+		GL30.glBindRenderbuffer(GL30.GL_RENDERBUFFER, renderbuffer);
+		GL30.glRenderbufferStorage(GL30.GL_RENDERBUFFER, internalFormat, width, height);
+		return renderbuffer;
+	}
+
+	/**
+	 * Attach the textures to the framebuffer, at the current face and mipmap level
+	 */
+	private void attach() {
+		if (colorTexture) {
+			GL30.glFramebufferTexture2D(GL30.GL_FRAMEBUFFER, GL30.GL_COLOR_ATTACHMENT0, faceTarget, color, level);
+		} else {
+			GL30.glFramebufferRenderbuffer(GL30.GL_FRAMEBUFFER, GL30.GL_COLOR_ATTACHMENT0, GL30.GL_RENDERBUFFER, color);
+		}
+		if (depthTexture) {
+			GL30.glFramebufferTexture2D(GL30.GL_FRAMEBUFFER, depthAttachment, faceTarget, depth, colorTexture ? level : 0);
+		}
+	}
+
+	boolean isBufferLost() {
+		return Display.Window.handle != window;
+	}
+
+	void setAttrib(int attrib, int value) {
+		if (target == 0)
+			return;
+		if (attrib == RenderTexture.WGL_CUBE_MAP_FACE_ARB && target == GL13.GL_TEXTURE_CUBE_MAP) {
+			faceTarget = GL13.GL_TEXTURE_CUBE_MAP_POSITIVE_X + value - RenderTexture.WGL_TEXTURE_CUBE_MAP_POSITIVE_X_ARB;
+		} else if (attrib == RenderTexture.WGL_MIPMAP_LEVEL_ARB) {
+			level = value;
+		} else {
+			return;
+		}
+		if (context == null || isBufferLost())
+			return;
+		// The framebuffer is bound in the Pbuffer context only
+		try {
+			ContextGL previous = makeContextCurrent();
+			try {
+				attach();
+			} finally {
+				restoreContext(previous);
+			}
+		} catch (LWJGLException e) {
+			LWJGLUtil.log("Failed to set the Pbuffer attribute: " + e);
+		}
+	}
+
+	/**
+	 * Bind the texture of {@code buffer} to the active texture unit, in place of the texture bound there.
+	 */
+	void bindTexImage(int buffer) {
+		boolean depthBuffer = buffer == RenderTexture.WGL_DEPTH_COMPONENT_NV;
+		if (depthBuffer ? !depthTexture : !colorTexture)
+			return;
+		int previous = glGetInteger(getBindingQuery(target));
+		if (depthBuffer) {
+			previousDepthBinding = previous;
+		} else {
+			previousColorBinding = previous;
+		}
+		glBindTexture(target, depthBuffer ? depth : color);
+	}
+
+	/**
+	 * Restore the texture that was bound before {@link #bindTexImage(int)}
+	 */
+	void releaseTexImage(int buffer) {
+		boolean depthBuffer = buffer == RenderTexture.WGL_DEPTH_COMPONENT_NV;
+		int previous = depthBuffer ? previousDepthBinding : previousColorBinding;
+		if (previous == -1)
+			return;
+		if (glGetInteger(getBindingQuery(target)) == (depthBuffer ? depth : color))
+			glBindTexture(target, previous);
+		if (depthBuffer) {
+			previousDepthBinding = -1;
+		} else {
+			previousColorBinding = -1;
+		}
+	}
+
+	protected void doLockAndInitHandle() throws LWJGLException {
+	}
+
+	protected void doUnlock() throws LWJGLException {
+	}
+
+	private void deleteObjects() {
+		if (framebuffer != 0)
+			GL30.glDeleteFramebuffers(framebuffer);
+		if (colorTexture) {
+			glDeleteTextures(color);
+		} else {
+			GL30.glDeleteRenderbuffers(color);
+		}
+		if (depthTexture) {
+			glDeleteTextures(depth);
+		} else if (depth != 0) {
+			GL30.glDeleteRenderbuffers(depth);
+		}
+	}
+
+	/**
+	 * Delete the objects in the Pbuffer context, called before the context is destroyed with its hidden window.
+	 * The textures and renderbuffers are shared with the Display, they would outlive the hidden window.
+	 */
+	public void destroy() {
+		if (context == null)
+			return;
+		try {
+			ContextGL previous = makeContextCurrent();
+			try {
+				deleteObjects();
+			} finally {
+				restoreContext(previous);
+			}
+		} catch (LWJGLException e) {
+			LWJGLUtil.log("Failed to delete the Pbuffer objects: " + e);
+		}
+		context = null;
+	}
+}
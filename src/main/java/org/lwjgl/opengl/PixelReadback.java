@@ -0,0 +1,224 @@
+package org.lwjgl.opengl;
+
+import static org.lwjgl.system.MemoryUtil.NULL;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Asynchronous readback of the framebuffer through a ring of pixel buffer objects.
+ * <p>
+ * {@link #read(int, int, int, int, int, int)} starts a {@code glReadPixels} into the next buffer object and
+ * returns without waiting for the GPU. The pixels of the oldest read are mapped by {@link #map()}
+ * once a fence tells the GPU wrote them, so reading back a frame never stalls the pipeline as long
+ * as the ring is large enough to cover the frames in flight. Reads complete in order.
+ * <p>
+ * Every method must be called with the context of the reads current. The read framebuffer and buffer,
+ * the pixel pack buffer binding and the pack parameters of the application are restored afterwards.
+ * Requires OpenGL 2.1, fences are used when OpenGL 3.2 or ARB_sync is available, otherwise mapping
+ * blocks until the read is done.
+ */
+final class PixelReadback {
+    /** The pack parameters that change what {@code glReadPixels} writes, and the values the reads need */
+    private static final int[] PACK_PARAMETERS = {
+            GL11.GL_PACK_ROW_LENGTH, GL11.GL_PACK_SKIP_ROWS, GL11.GL_PACK_SKIP_PIXELS, GL11.GL_PACK_ALIGNMENT,
+            GL11.GL_PACK_SWAP_BYTES,
+    };
+    private static final int[] PACK_DEFAULTS = { 0, 0, 0, 4, GL11.GL_FALSE };
+
+    private final int format;
+    private final int type;
+    private final int bytesPerPixel;
+    private final boolean fenced;
+    private final boolean framebuffers;
+    private final int[] packValues = new int[PACK_PARAMETERS.length];
+
+    private final int[] buffers;
+    private final int[] sizes;
+    private final int[] widths;
+    private final int[] heights;
+    private final long[] fences;
+    private final ByteBuffer[] mappings;
+
+    /** The slot of the oldest read and the number of reads in flight */
+    private int head;
+    private int count;
+    private boolean mapped;
+
+    /**
+     * @param size          number of reads that can be in flight
+     * @param format        pixel format of {@code glReadPixels}
+     * @param type          pixel type of {@code glReadPixels}
+     * @param bytesPerPixel size of a pixel in {@code format} and {@code type}
+     */
+    PixelReadback(int size, int format, int type, int bytesPerPixel) {
+        this.format = format;
+        this.type = type;
+        this.bytesPerPixel = bytesPerPixel;
+        GLCapabilities caps = GL.getCapabilities();
+        this.fenced = caps.OpenGL32 || caps.GL_ARB_sync;
+        this.framebuffers = caps.OpenGL30 || caps.GL_ARB_framebuffer_object;
+        this.buffers = new int[size];
+        this.sizes = new int[size];
+        this.widths = new int[size];
+        this.heights = new int[size];
+        this.fences = new long[size];
+        this.mappings = new ByteBuffer[size];
+    }
+
+    /**
+     * @return the number of reads not unmapped yet
+     */
+    int getPending() {
+        return count;
+    }
+
+    boolean isFull() {
+        return count == buffers.length;
+    }
+
+    /**
+     * Start reading a rectangle of a color buffer, without waiting for it.
+     *
+     * @param framebuffer the framebuffer object to read, 0 for the default framebuffer
+     * @param buffer      the color buffer of {@code framebuffer}, such as {@code GL_BACK}
+     * @return false if the ring is full, the oldest read must be unmapped or skipped first
+     */
+    boolean read(int framebuffer, int buffer, int x, int y, int width, int height) {
+        if (isFull()) return false;
+        int slot = (head + count) % buffers.length;
+        if (buffers[slot] == 0) {
+            buffers[slot] = GL15.glGenBuffers();
+        }
+        int bytes = width * height * bytesPerPixel;
+        int framebufferBinding = framebuffers ? GL11.glGetInteger(GL30.GL_READ_FRAMEBUFFER_BINDING) : 0;
+        if (framebufferBinding != framebuffer) {
+            GL30.glBindFramebuffer(GL30.GL_READ_FRAMEBUFFER, framebuffer);
+        }
+        int readBuffer = GL11.glGetInteger(GL11.GL_READ_BUFFER);
+        if (readBuffer != buffer) {
+            GL11.glReadBuffer(buffer);
+        }
+        for (int i = 0; i < PACK_PARAMETERS.length; i++) {
+            packValues[i] = GL11.glGetInteger(PACK_PARAMETERS[i]);
+            if (packValues[i] != PACK_DEFAULTS[i]) {
+                GL11.glPixelStorei(PACK_PARAMETERS[i], PACK_DEFAULTS[i]);
+            }
+        }
+        int packBinding = bindPackBuffer(buffers[slot]);
+        if (sizes[slot] != bytes) {
+            GL15.glBufferData(GL21.GL_PIXEL_PACK_BUFFER, bytes, GL15.GL_STREAM_READ);
+            sizes[slot] = bytes;
+            mappings[slot] = null;
+        }
+        GL11.glReadPixels(x, y, width, height, format, type, 0L);
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, packBinding);
+        for (int i = 0; i < PACK_PARAMETERS.length; i++) {
+            if (packValues[i] != PACK_DEFAULTS[i]) {
+                GL11.glPixelStorei(PACK_PARAMETERS[i], packValues[i]);
+            }
+        }
+        if (readBuffer != buffer) {
+            GL11.glReadBuffer(readBuffer);
+        }
+        if (framebufferBinding != framebuffer) {
+            GL30.glBindFramebuffer(GL30.GL_READ_FRAMEBUFFER, framebufferBinding);
+        }
+        if (fenced) {
+            fences[slot] = GL32.glFenceSync(GL32.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        }
+        widths[slot] = width;
+        heights[slot] = height;
+        count++;
+        return true;
+    }
+
+    /**
+     * @param timeout nanoseconds to wait for the oldest read, 0 to only poll it
+     * @return true if the oldest read is complete and can be mapped without blocking
+     */
+    boolean isComplete(long timeout) {
+        if (count == 0) return false;
+        long fence = fences[head];
+        if (fence == NULL) return true;
+        int result = GL32.glClientWaitSync(fence, GL32.GL_SYNC_FLUSH_COMMANDS_BIT, timeout);
+        return result == GL32.GL_ALREADY_SIGNALED || result == GL32.GL_CONDITION_SATISFIED;
+    }
+
+    /**
+     * @return the width of the oldest read
+     */
+    int getWidth() {
+        return widths[head];
+    }
+
+    /**
+     * @return the height of the oldest read
+     */
+    int getHeight() {
+        return heights[head];
+    }
+
+    /**
+     * Map the pixels of the oldest read, blocking if it isn't complete. Rows go from the bottom to the top.
+     *
+     * @return the pixels, valid until {@link #unmap()}
+     */
+    ByteBuffer map() {
+        if (count == 0) throw new IllegalStateException("No pending read");
+        if (mapped) throw new IllegalStateException("Already mapped");
+        int packBinding = bindPackBuffer(buffers[head]);
+        ByteBuffer pixels = GL15.glMapBuffer(GL21.GL_PIXEL_PACK_BUFFER, GL15.GL_READ_ONLY, sizes[head], mappings[head]);
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, packBinding);
+        mappings[head] = pixels;
+        mapped = true;
+        return pixels;
+    }
+
+    /**
+     * Unmap the oldest read and free its slot for another read
+     */
+    void unmap() {
+        if (!mapped) throw new IllegalStateException("Not mapped");
+        int packBinding = bindPackBuffer(buffers[head]);
+        GL15.glUnmapBuffer(GL21.GL_PIXEL_PACK_BUFFER);
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, packBinding);
+        mapped = false;
+        skip();
+    }
+
+    /**
+     * Drop the oldest read without mapping it
+     */
+    void skip() {
+        if (count == 0) return;
+        if (mapped) throw new IllegalStateException("Mapped, unmap instead");
+        if (fences[head] != NULL) {
+            GL32.glDeleteSync(fences[head]);
+            fences[head] = NULL;
+        }
+        head = (head + 1) % buffers.length;
+        count--;
+    }
+
+    /**
+     * @return the pixel pack buffer bound before
+     */
+    private static int bindPackBuffer(int buffer) {
+        int binding = GL11.glGetInteger(GL21.GL_PIXEL_PACK_BUFFER_BINDING);
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, buffer);
+        return binding;
+    }
+
+    void destroy() {
+        if (mapped) unmap();
+        while (count > 0) skip();
+        for (int i = 0; i < buffers.length; i++) {
+            if (buffers[i] != 0) {
+                GL15.glDeleteBuffers(buffers[i]);
+                buffers[i] = 0;
+            }
+            sizes[i] = 0;
+            mappings[i] = null;
+        }
+    }
+}
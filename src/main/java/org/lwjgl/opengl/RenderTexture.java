@@ -56,9 +56,9 @@ public final class RenderTexture {
 	Accepted by the <piAttribList> parameter of wglCreatePbufferARB and
 	by the <iAttribute> parameter of wglQueryPbufferARB:
 	*/
-	private static final int WGL_TEXTURE_FORMAT_ARB = 0x2072;
-	private static final int WGL_TEXTURE_TARGET_ARB = 0x2073;
-	private static final int WGL_MIPMAP_TEXTURE_ARB = 0x2074;
+	static final int WGL_TEXTURE_FORMAT_ARB = 0x2072;
+	static final int WGL_TEXTURE_TARGET_ARB = 0x2073;
+	static final int WGL_MIPMAP_TEXTURE_ARB = 0x2074;
 
 	/*
 	Accepted as a value in the <piAttribList> parameter of
@@ -66,7 +66,7 @@ public final class RenderTexture {
 	wglQueryPbufferARB when <iAttribute> is WGL_TEXTURE_FORMAT_ARB:
 	*/
 	private static final int WGL_TEXTURE_RGB_ARB = 0x2075;
-	private static final int WGL_TEXTURE_RGBA_ARB = 0x2076;
+	static final int WGL_TEXTURE_RGBA_ARB = 0x2076;
 
 	/*
 	Accepted as a value in the <piAttribList> parameter of
@@ -154,7 +154,7 @@ public final class RenderTexture {
 	Accepted by the <piAttribList> parameter of wglCreatePbufferARB and
 	by the <iAttribute> parameter of wglQueryPbufferARB:
 	*/
-	private static final int WGL_DEPTH_TEXTURE_FORMAT_NV = 0x20A5;
+	static final int WGL_DEPTH_TEXTURE_FORMAT_NV = 0x20A5;
 
 	/*
 	Accepted as a value in the <piAttribList> parameter of wglCreatePbufferARB
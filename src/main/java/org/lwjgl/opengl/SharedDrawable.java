@@ -43,25 +43,63 @@ import javax.annotation.Nullable;
  * A Drawable implementation that shares its context with another Drawable. This is useful
  * for background loading of resources. See org.lwjgl.test.opengl.multithread.BackgroundLoad
  * for an example.
+ * <p>
+ * LWJGLX: the context lives in a hidden GLFW window sharing its objects with the Display, so it
+ * can be current on a loader thread while the Display renders. It must be created from the Display
+ * thread. Objects uploaded by the loader are complete for the renderer once a fence inserted with
+ * {@link #lwjglxFenceSync()} after the uploads is signaled, see {@link #lwjglxWaitSync(GLSync)}.
  *
  * @author Spasi
  */
 public final class SharedDrawable extends DrawableGL {
     public SharedDrawable(@Nullable final Drawable drawable) throws LWJGLException {
-        if (drawable != null) {
-            this.context = (ContextGL)((DrawableLWJGL)drawable).createSharedContext();
+        Drawable shared = drawable != null ? drawable : Display.getDrawable();
+        if (shared != null) {
+            this.context = (ContextGL)((DrawableLWJGL)shared).createSharedContext();
         } else {
-            this.context = (ContextGL)((DrawableLWJGL)Display.getDrawable()).createSharedContext();
+            // Display created without a drawable, share with its window directly
+            this.context = ContextGL.createShared(null, null);
         }
     }
 
-    public ContextGL createSharedContext() {
-        return context;
-        // throw new UnsupportedOperationException();
+    /**
+     * Insert a fence after the commands issued so far in the current context and flush them,
+     * so another context can wait for them.
+     *
+     * @return the fence, to delete with {@link #lwjglxDeleteSync(GLSync)} once waited for
+     */
+    public static GLSync lwjglxFenceSync() {
+        GLSync sync = new GLSync(GL32.glFenceSync(GL32.GL_SYNC_GPU_COMMANDS_COMPLETE, 0));
+        GL11.glFlush();
+        return sync;
     }
 
-    @Override
-    public void makeCurrent() throws LWJGLException {
-        //stub
+    /**
+     * Make the GPU wait for {@code sync} before executing the commands issued next in the current
+     * context. The calling thread doesn't block.
+     */
+    public static void lwjglxWaitSync(GLSync sync) {
+        GL32.glWaitSync(sync.getPointer(), 0, GL32.GL_TIMEOUT_IGNORED);
+    }
+
+    /**
+     * Block the calling thread until {@code sync} is signaled or {@code timeout} nanoseconds elapsed.
+     *
+     * @return true if the fence was signaled
+     */
+    public static boolean lwjglxClientWaitSync(GLSync sync, long timeout) {
+        int result = GL32.glClientWaitSync(sync.getPointer(), GL32.GL_SYNC_FLUSH_COMMANDS_BIT, timeout);
+        return result == GL32.GL_ALREADY_SIGNALED || result == GL32.GL_CONDITION_SATISFIED;
+    }
+
+    /**
+     * @return true if {@code sync} is signaled, without blocking
+     */
+    public static boolean lwjglxIsSignaled(GLSync sync) {
+        return lwjglxClientWaitSync(sync, 0);
+    }
+
+    public static void lwjglxDeleteSync(GLSync sync) {
+        GL32.glDeleteSync(sync.getPointer());
     }
 }
@@ -31,11 +31,19 @@
  */
 package org.lwjgl.opengl;
 
+import java.util.concurrent.locks.LockSupport;
+
 import org.lwjgl.Sys;
+import org.lwjgl.util.LatencyHistogram;
 
 /**
  * A highly accurate sync method that continually adapts to the system it runs
  * on to provide reliable results.
+ * <p>
+ * The thread is parked until shortly before the next frame, then spins for the
+ * remaining time. The spin duration is calibrated from the measured park overshoot
+ * (its mean plus four times its mean deviation), so the CPU is only kept busy for
+ * as long as the scheduler is actually late.
  *
  * @author Riven
  * @author kappaOne
@@ -45,21 +53,28 @@ class Sync {
 	/** number of nano seconds in a second */
 	private static final long NANOS_IN_SECOND = 1000L * 1000L * 1000L;
 
-	/** The time to sleep/yield until the next frame */
-	private static long nextFrame = 0;
+	/** bounds of the spin duration, the upper one covers coarse schedulers */
+	private static final long MIN_SPIN = 50 * 1000L;
+	private static final long MAX_SPIN = 4 * 1000L * 1000L;
 
-	/** The time since last frame **/
-	private static long lastFrameTime = 0;
-	private static long lastDelay = 0;
+	/** The time to park/spin until the next frame */
+	private static long nextFrame = 0;
+	/** The fraction of nanosecond carried over, for fractional frame rates */
+	private static double nextFrameFraction = 0;
 
 	/** whether the initialisation code has run */
 	private static boolean initialised = false;
 
-	/**
-	 * for calculating the averages the previous sleep/yield times are stored
-	 */
-	private static RunningAvg sleepDurations = new RunningAvg(10);
-	private static RunningAvg yieldDurations = new RunningAvg(10);
+	/** average park overshoot and its mean deviation, in nanoseconds */
+	private static double parkOvershoot;
+	private static double parkOvershootDeviation;
+
+	/** frame time statistics */
+	private static final LatencyHistogram frameTimes = new LatencyHistogram();
+	private static long lastFrame;
+	private static long frameCount;
+	private static double frameTimeMean;
+	private static double frameTimeM2;
 
 	/**
 	 * An accurate sync method that will attempt to run at a constant frame
@@ -69,133 +84,124 @@ class Sync {
 	 *            - the desired frame rate, in frames per second
 	 */
 	public static void sync(int fps) {
-		if (fps <= 0)
-			return;
-
-		preciseSync(fps);
+		sync((double) fps);
 	}
 
-	/** Fast, more cpu friendly way of syncing, although can be off the mark at times */
-	private static void fastSync(int fps){
-		if (!initialised){
-			initialised = true;
-			lastFrameTime = getTime();
-		}
+	/**
+	 * Same as {@link #sync(int)}, with a fractional frame rate such as 143.9
+	 */
+	public static void sync(double fps) {
+		if (!(fps > 0))
+			return;
+		if (!initialised)
+			initialise();
 
-		// Dumbass implementation I guess
-		long currentFrameTime = getTime();
-		long deltaMs = (currentFrameTime - lastFrameTime)/1000000;
-		long deltaFrame = 1000/fps;
-		if(deltaMs < deltaFrame){  // skip the Thread sleep if the opportunity is available
-			try {
-				Thread.sleep(Math.min((deltaFrame - deltaMs) + lastDelay, deltaFrame));
-			} catch (InterruptedException e) {
-				e.printStackTrace();
-			}
-			lastDelay = 0;
-		}else{
-			// Store how late the device is I guess
-			lastDelay = deltaMs - deltaFrame;
+		long spin = getSpinDuration();
+		long now = Sys.getNanoTime();
+		// park until the spin window, each park is measured to calibrate the spin
+		while (nextFrame - now > spin) {
+			long requested = nextFrame - now - spin;
+			LockSupport.parkNanos(requested);
+			long woke = Sys.getNanoTime();
+			calibrate(woke - now - requested);
+			now = woke;
+			spin = getSpinDuration();
 		}
+		// spin for the rest, the scheduler can't be trusted that close to the deadline
+		while (nextFrame - now > 0) {
+			now = Sys.getNanoTime();
+		}
+
+		recordFrame(now);
 
-		lastFrameTime = getTime();
+		// schedule next frame, drop frame(s) if already too late for next frame
+		double period = NANOS_IN_SECOND / fps + nextFrameFraction;
+		long wholePeriod = (long) period;
+		nextFrameFraction = period - wholePeriod;
+		nextFrame += wholePeriod;
+		if (nextFrame - now < 0) {
+			nextFrame = now;
+			nextFrameFraction = 0;
+		}
 	}
 
-	/** Precise, more cpu intensive way of syncing */
-	private static void preciseSync(int fps){
-		if (!initialised)
-			initialise();
+	private static void calibrate(long overshoot) {
+		if (overshoot < 0)
+			overshoot = 0;
+		double error = overshoot - parkOvershoot;
+		parkOvershoot += error / 8;
+		parkOvershootDeviation += (Math.abs(error) - parkOvershootDeviation) / 4;
+	}
 
-		try {
-			// sleep until the average sleep time is greater than the time
-			// remaining till nextFrame
-			for (long t0 = getTime(), t1; (nextFrame - t0) > sleepDurations.avg(); t0 = t1) {
-				Thread.sleep(1);
-				sleepDurations.add((t1 = getTime()) - t0); // update average
-				// sleep time
-			}
-
-			// slowly dampen sleep average if too high to avoid yielding too
-			// much
-			sleepDurations.dampenForLowResTicker();
-
-			// yield until the average yield time is greater than the time
-			// remaining till nextFrame
-			for (long t0 = getTime(), t1; (nextFrame - t0) > yieldDurations.avg(); t0 = t1) {
-				Thread.yield();
-				yieldDurations.add((t1 = getTime()) - t0); // update average
-				// yield time
-			}
-		} catch (InterruptedException e) {
+	private static long getSpinDuration() {
+		long spin = (long) (parkOvershoot + 4 * parkOvershootDeviation);
+		return Math.min(Math.max(spin, MIN_SPIN), MAX_SPIN);
+	}
 
+	private static void recordFrame(long now) {
+		if (lastFrame != 0) {
+			long frameTime = now - lastFrame;
+			frameTimes.record(frameTime);
+			// Welford's online variance
+			frameCount++;
+			double delta = frameTime - frameTimeMean;
+			frameTimeMean += delta / frameCount;
+			frameTimeM2 += delta * (frameTime - frameTimeMean);
 		}
-
-		// schedule next frame, drop frame(s) if already too late for next frame
-		nextFrame = Math.max(nextFrame + NANOS_IN_SECOND / fps, getTime());
+		lastFrame = now;
 	}
 
 	/**
 	 * This method will initialise the sync method by setting initial values for
-	 * sleepDurations/yieldDurations and nextFrame.
-	 *
-	 * If running on windows it will start the sleep timer fix.
+	 * the park calibration and nextFrame.
 	 */
 	private static void initialise() {
 		initialised = true;
 
-		sleepDurations.init(1000 * 1000);
-		yieldDurations.init((int) (-(getTime() - getTime()) * 1.333));
+		if (parkOvershoot == 0 && parkOvershootDeviation == 0) {
+			// assume a 1ms scheduler until the first parks are measured
+			parkOvershoot = 250 * 1000;
+			parkOvershootDeviation = 250 * 1000;
+		}
 
-		nextFrame = getTime();
+		nextFrame = Sys.getNanoTime();
+		nextFrameFraction = 0;
 	}
 
 	/**
-	 * Get the system time in nano seconds
-	 *
-	 * @return will return the current time in nano's
+	 * Forget the frame schedule, e.g. after a pause, keeping the calibration
 	 */
-	private static long getTime() {
-		return (Sys.getTime() * NANOS_IN_SECOND) / Sys.getTimerResolution();
+	static void reset() {
+		initialised = false;
+		lastFrame = 0;
+		resetStatistics();
 	}
 
-	private static class RunningAvg {
-		private final long[] slots;
-		private int offset;
-
-		private static final long DAMPEN_THRESHOLD = 10 * 1000L * 1000L; // 10ms
-		private static final float DAMPEN_FACTOR = 0.9f; // don't change: 0.9f
-		// is exactly right!
-
-		public RunningAvg(int slotCount) {
-			this.slots = new long[slotCount];
-			this.offset = 0;
-		}
-
-		public void init(long value) {
-			while (this.offset < this.slots.length) {
-				this.slots[this.offset++] = value;
-			}
-		}
+	static void resetStatistics() {
+		frameTimes.reset();
+		frameCount = 0;
+		frameTimeMean = 0;
+		frameTimeM2 = 0;
+	}
 
-		public void add(long value) {
-			this.slots[this.offset++ % this.slots.length] = value;
-			this.offset %= this.slots.length;
-		}
+	/**
+	 * @return the histogram of the time between the ends of two consecutive syncs
+	 */
+	static LatencyHistogram getFrameTimes() {
+		return frameTimes;
+	}
 
-		public long avg() {
-			long sum = 0;
-			for (int i = 0; i < this.slots.length; i++) {
-				sum += this.slots[i];
-			}
-			return sum / this.slots.length;
-		}
+	/**
+	 * @return the mean frame time in nanoseconds
+	 */
+	static double getFrameTimeMean() {
+		return frameTimeMean;
+	}
 
-		public void dampenForLowResTicker() {
-			if (this.avg() > DAMPEN_THRESHOLD) {
-				for (int i = 0; i < this.slots.length; i++) {
-					this.slots[i] *= DAMPEN_FACTOR;
-				}
-			}
-		}
+	/**
+	 * @return the standard deviation of the frame time in nanoseconds
+	 */
+	static double getFrameTimeJitter() {
+		return frameCount < 2 ? 0 : Math.sqrt(frameTimeM2 / (frameCount - 1));
 	}
 }
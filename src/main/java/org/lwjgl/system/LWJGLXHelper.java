@@ -11,11 +11,31 @@ public class LWJGLXHelper {
     public static boolean excludeGlExtensions = loadParam("exclude-gl-extensions", true); // LWJGLX_EXCLUDE_GL_EXTENSIONS
     public static boolean attrRecreateDisplay = loadParam("attr-recreate-display", true); // LWJGLX_ATTR_RECREATE_DISPLAY
     public static boolean resizeRecreateDisplay = loadParam("resize-recreate-display", false); // LWJGLX_RESIZE_RECREATE_DISPLAY
+    public static boolean fullscreenRecreateDisplay = loadParam("fullscreen-recreate-display", false); // LWJGLX_FULLSCREEN_RECREATE_DISPLAY
     public static boolean awtCanvasNoCreate = loadParam("awt-canvas-no-create", false); // LWJGLX_AWT_CANVAS_NO_CREATE
+    public static boolean awtCanvasOffscreen = loadParam("awt-canvas-offscreen", false); // LWJGLX_AWT_CANVAS_OFFSCREEN
     public static boolean earlyDisplayCreate = loadParam("early-display-create", false); // LWJGLX_EARLY_DISPLAY_CREATE
     public static boolean earlyDisplayResizable = loadParam("early-display-resizable", false); // LWJGLX_EARLY_DISPLAY_RESIZEABLE
     public static boolean translateKeyNames = loadParam("translate-key-names", true); // LWJGLX_TRANSLATE_KEY_NAMES
     public static boolean disableWindowIcon = loadParam("disable-window-icon", false); // LWJGLX_DISABLE_WINDOW_ICON
+    public static int inputQueueSize = loadParam("input-queue-size", 32); // LWJGLX_INPUT_QUEUE_SIZE
+    public static int inputQueueMaxSize = loadParam("input-queue-max-size", 4096); // LWJGLX_INPUT_QUEUE_MAX_SIZE
+    public static boolean inputQueueGrow = loadParam("input-queue-grow", true); // LWJGLX_INPUT_QUEUE_GROW
+    public static boolean cachedKeyState = loadParam("cached-key-state", true); // LWJGLX_CACHED_KEY_STATE
+    public static boolean cachedButtonState = loadParam("cached-button-state", true); // LWJGLX_CACHED_BUTTON_STATE
+    public static boolean coalesceMouseMoves = loadParam("coalesce-mouse-moves", false); // LWJGLX_COALESCE_MOUSE_MOVES
+    public static String inputJournal = getParam("input-journal"); // LWJGLX_INPUT_JOURNAL
+    public static String controllerBackend = loadParam("controller-backend", "jinput"); // LWJGLX_CONTROLLER_BACKEND
+    public static boolean inputLatency = loadParam("input-latency", false); // LWJGLX_INPUT_LATENCY
+    public static boolean frameTimings = loadParam("frame-timings", false); // LWJGLX_FRAME_TIMINGS
+    public static boolean headless = loadParam("headless", false); // LWJGLX_HEADLESS
+    public static String headlessDisplayMode = loadParam("headless-display-mode", "1280x720x24@60"); // LWJGLX_HEADLESS_DISPLAY_MODE
+    public static boolean glStateCache = loadParam("gl-state-cache", false); // LWJGLX_GL_STATE_CACHE
+    public static boolean immediateModeBatching = loadParam("immediate-mode-batching", false); // LWJGLX_IMMEDIATE_MODE_BATCHING
+    public static boolean displayListEmulation = loadParam("display-list-emulation", false); // LWJGLX_DISPLAY_LIST_EMULATION
+    public static boolean matrixStackEmulation = loadParam("matrix-stack-emulation", false); // LWJGLX_MATRIX_STACK_EMULATION
+    public static boolean glProfiler = loadParam("gl-profiler", false); // LWJGLX_GL_PROFILER
+    public static String glProfilerDump = getParam("gl-profiler-dump"); // LWJGLX_GL_PROFILER_DUMP
 
     static {
         try {
@@ -25,15 +45,36 @@ public class LWJGLXHelper {
         }
     }
 
-    private static boolean loadParam(String key, boolean def) {
+    private static String getParam(String key) {
         String property = System.getProperty("org.lwjglx." + key);
         if (property == null || property.isEmpty())
             property = System.getenv("LWJGLX_" + key
                     .toUpperCase(Locale.ROOT).replace('-', '_'));
-        return property == null || property.isEmpty() ? def :
+        return property == null || property.isEmpty() ? null : property;
+    }
+
+    private static boolean loadParam(String key, boolean def) {
+        String property = getParam(key);
+        return property == null ? def :
                 parseProperty(property.toLowerCase(Locale.ROOT));
     }
 
+    private static int loadParam(String key, int def) {
+        String property = getParam(key);
+        if (property == null) return def;
+        try {
+            return Integer.parseInt(property.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("LWJGLX: Invalid value for " + key + ": " + property);
+            return def;
+        }
+    }
+
+    private static String loadParam(String key, String def) {
+        String property = getParam(key);
+        return property == null ? def : property.trim();
+    }
+
     private static boolean parseProperty(String property) {
         return "1".equals(property) || Boolean.parseBoolean(
                 property.toLowerCase(Locale.ROOT));
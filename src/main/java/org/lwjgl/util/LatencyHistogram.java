@@ -0,0 +1,115 @@
+package org.lwjgl.util;
+
+import java.util.Arrays;
+
+/**
+ * A fixed size histogram of durations in nanoseconds, in the spirit of HdrHistogram:
+ * buckets are linear inside each power of two, so every recorded value is kept with
+ * a relative precision of 1% whatever its magnitude. Recording never allocates.
+ * <p>
+ * Values above {@link #MAX_TRACKABLE_VALUE} are counted in the last bucket, the exact
+ * minimum and maximum are always kept. The histogram isn't synchronized, reading it
+ * while another thread records gives approximate results.
+ */
+public class LatencyHistogram {
+	/** Largest value tracked with full precision, about 68 seconds */
+	public static final long MAX_TRACKABLE_VALUE = (1L << 36) - 1;
+
+	// 2^7 sub-buckets per power of two, for a precision of 1/128
+	private static final int SUB_BUCKET_BITS = 7;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_VALUE) + 1;
+
+	private final long[] counts = new long[BUCKET_COUNT];
+	private long count;
+	private long total;
+	private long min = Long.MAX_VALUE;
+	private long max;
+
+	private static int indexOf(long value) {
+		int exponent = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+		return (exponent << SUB_BUCKET_BITS) + (int) (value >>> exponent);
+	}
+
+	/**
+	 * @return the highest value that would be counted in the bucket at {@code index}
+	 */
+	private static long highestValueAt(int index) {
+		int exponent = Math.max(0, (index >> SUB_BUCKET_BITS) - 1);
+		long subBucket = index - ((long) exponent << SUB_BUCKET_BITS);
+		return ((subBucket + 1) << exponent) - 1;
+	}
+
+	/**
+	 * Record a duration, negative durations are recorded as 0.
+	 */
+	public void record(long nanos) {
+		if (nanos < 0) nanos = 0;
+		counts[indexOf(Math.min(nanos, MAX_TRACKABLE_VALUE))]++;
+		count++;
+		total += nanos;
+		if (nanos < min) min = nanos;
+		if (nanos > max) max = nanos;
+	}
+
+	public void reset() {
+		Arrays.fill(counts, 0);
+		count = 0;
+		total = 0;
+		min = Long.MAX_VALUE;
+		max = 0;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the smallest recorded value, or 0 if nothing was recorded
+	 */
+	public long getMin() {
+		return count == 0 ? 0 : min;
+	}
+
+	public long getMax() {
+		return max;
+	}
+
+	public double getMean() {
+		return count == 0 ? 0 : (double) total / count;
+	}
+
+	/**
+	 * @param percentile between 0 and 100
+	 * @return the value that {@code percentile} percent of the recorded values are lower or equal to,
+	 * within the histogram precision, or 0 if nothing was recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (count == 0) return 0;
+		long rank = (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * count);
+		if (rank < 1) rank = 1;
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				// The last bucket also counts the values above MAX_TRACKABLE_VALUE
+				if (i == counts.length - 1) return max;
+				return Math.max(min, Math.min(max, highestValueAt(i)));
+			}
+		}
+		return max;
+	}
+
+	public long getP50() {
+		return getValueAtPercentile(50);
+	}
+
+	public long getP99() {
+		return getValueAtPercentile(99);
+	}
+
+	public String toString() {
+		return String.format("count=%d p50=%.1fus p99=%.1fus max=%.1fus", count,
+				getP50() / 1000.0, getP99() / 1000.0, getMax() / 1000.0);
+	}
+}
@@ -32,6 +32,8 @@
 package org.lwjgl.util.glu;
 
 import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.ImmediateMode.beginBatch;
+import static org.lwjgl.opengl.ImmediateMode.endBatch;
 import static org.lwjgl.util.glu.GLU.*;
 
 /**
@@ -76,6 +78,15 @@ public class Cylinder extends Quadric {
 	 * @param stacks      Specifies the number of subdivisions along the z axis.
 	 */
 	public void draw(float baseRadius, float topRadius, float height, int slices, int stacks) {
+		beginBatch();
+		try {
+			drawCylinder(baseRadius, topRadius, height, slices, stacks);
+		} finally {
+			endBatch();
+		}
+	}
+
+	private void drawCylinder(float baseRadius, float topRadius, float height, int slices, int stacks) {
 
 		float da, r, dr, dz;
 		float x, y, z, nz, nsign;
@@ -32,6 +32,8 @@
 package org.lwjgl.util.glu;
 
 import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.ImmediateMode.beginBatch;
+import static org.lwjgl.opengl.ImmediateMode.endBatch;
 import static org.lwjgl.util.glu.GLU.*;
 
 /**
@@ -69,6 +71,16 @@ public class Disk extends Quadric {
      * (0, -r, 0) it is (0.5, 0).
      */
 	public void draw(float innerRadius, float outerRadius, int slices, int loops)
+	{
+		beginBatch();
+		try {
+			drawDisk(innerRadius, outerRadius, slices, loops);
+		} finally {
+			endBatch();
+		}
+	}
+
+	private void drawDisk(float innerRadius, float outerRadius, int slices, int loops)
 	{
 	   float da, dr;
 
@@ -32,6 +32,8 @@
 package org.lwjgl.util.glu;
 
 import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.ImmediateMode.beginBatch;
+import static org.lwjgl.opengl.ImmediateMode.endBatch;
 import static org.lwjgl.util.glu.GLU.*;
 
 /**
@@ -83,6 +85,21 @@ public class PartialDisk extends Quadric {
 		int loops,
 		float startAngle,
 		float sweepAngle) {
+		beginBatch();
+		try {
+			drawPartialDisk(innerRadius, outerRadius, slices, loops, startAngle, sweepAngle);
+		} finally {
+			endBatch();
+		}
+	}
+
+	private void drawPartialDisk(
+		float innerRadius,
+		float outerRadius,
+		int slices,
+		int loops,
+		float startAngle,
+		float sweepAngle) {
 
 		int i, j;
 		float[] sinCache = new float[CACHE_SIZE];
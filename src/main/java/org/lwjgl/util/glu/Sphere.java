@@ -32,6 +32,8 @@
 package org.lwjgl.util.glu;
 
 import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.ImmediateMode.beginBatch;
+import static org.lwjgl.opengl.ImmediateMode.endBatch;
 import static org.lwjgl.util.glu.GLU.*;
 
 /**
@@ -66,6 +68,15 @@ public class Sphere extends Quadric {
 	 * at the -x axis, and back to 1.0 at the +y axis.
 	 */
 	public void draw(float radius, int slices, int stacks) {
+		beginBatch();
+		try {
+			drawSphere(radius, slices, stacks);
+		} finally {
+			endBatch();
+		}
+	}
+
+	private void drawSphere(float radius, int slices, int stacks) {
 		// TODO
 
 		float rho, drho, theta, dtheta;
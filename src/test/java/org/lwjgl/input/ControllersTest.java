@@ -0,0 +1,68 @@
+package org.lwjgl.input;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+public class ControllersTest {
+    private static final int EVENTS_PER_POLL = 12;
+    private static final int POLLS = 100000;
+
+    private static void pollAndDrain(long frame) {
+        for (int i = 0; i < EVENTS_PER_POLL; i++) {
+            Controllers.addEvent(null, frame, ControllerEvent.AXIS, i, false,
+                    i == 0, i == 1, i * 0.1F, frame);
+        }
+        while (Controllers.next()) {
+            if (Controllers.getEventNanoseconds() != frame) {
+                throw new AssertionError("Unexpected event " + Controllers.getEventNanoseconds());
+            }
+        }
+    }
+
+    @Test
+    public void testEventOrderAcrossGrowth() {
+        Controllers.clearEvents();
+        int count = Controllers.lwjglxGetEventQueueCapacity() * 4;
+        for (int i = 0; i < count; i++) {
+            Controllers.addEvent(null, i, ControllerEvent.BUTTON, i, (i & 1) == 0,
+                    false, false, 0, 0);
+        }
+        for (int i = 0; i < count; i++) {
+            Assertions.assertTrue(Controllers.next());
+            Assertions.assertEquals(i, Controllers.getEventNanoseconds());
+            Assertions.assertEquals(i, Controllers.getEventControlIndex());
+            Assertions.assertTrue(Controllers.isEventButton());
+            Assertions.assertEquals((i & 1) == 0, Controllers.getEventButtonState());
+        }
+        Assertions.assertFalse(Controllers.next());
+    }
+
+    @Test
+    public void testSteadyStatePollingDoesNotAllocate() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        Controllers.clearEvents();
+        // Let the queue reach its steady state size and the JIT compile the loop
+        for (int frame = 0; frame < POLLS; frame++) {
+            pollAndDrain(frame);
+        }
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int frame = 0; frame < POLLS; frame++) {
+            pollAndDrain(frame);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        // Only leave room for the bookkeeping of the measurement itself
+        Assertions.assertTrue(allocated < 1024, "Allocated " + allocated + " bytes for " +
+                (long) POLLS * EVENTS_PER_POLL + " controller events");
+    }
+}
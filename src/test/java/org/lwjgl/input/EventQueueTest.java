@@ -0,0 +1,114 @@
+package org.lwjgl.input;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EventQueueTest {
+    private static final int EVENTS = 200000;
+
+    private static int[] values;
+
+    private static EventQueue createQueue(int maxEvents, int maxCapacity) {
+        values = new int[maxEvents];
+        return new EventQueue(maxEvents, maxCapacity, true, (q, newMaxEvents) -> values = q.resize(values, newMaxEvents));
+    }
+
+    private static boolean add(EventQueue queue, int value) {
+        if (!queue.reserve())
+            return false;
+        values[queue.getNextPos()] = value;
+        queue.add();
+        return true;
+    }
+
+    private static void assertNext(EventQueue queue, int value) {
+        Assertions.assertTrue(queue.next());
+        Assertions.assertEquals(value, values[queue.getCurrentPos()]);
+    }
+
+    @Test
+    public void testGrowAfterWrapAround() {
+        EventQueue queue = createQueue(4, 64);
+        // Move head and tail past the end of the ring a few times
+        int value = 0;
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertTrue(add(queue, value));
+            Assertions.assertTrue(add(queue, value + 1));
+            assertNext(queue, value);
+            assertNext(queue, value + 1);
+            value += 2;
+        }
+        Assertions.assertEquals(4, queue.getMaxEvents());
+        int current = value - 1;
+
+        for (int i = 0; i < 40; i++) {
+            Assertions.assertTrue(add(queue, value + i));
+        }
+        Assertions.assertEquals(64, queue.getMaxEvents());
+        Assertions.assertEquals(0, queue.getDroppedEventCount());
+        // The current event survives the growth too
+        Assertions.assertEquals(current, values[queue.getCurrentPos()]);
+        for (int i = 0; i < 40; i++) {
+            assertNext(queue, value + i);
+        }
+        Assertions.assertFalse(queue.next());
+    }
+
+    @Test
+    public void testDropsAtMaxCapacity() {
+        EventQueue queue = createQueue(4, 8);
+        // One slot stays reserved for the current event
+        for (int i = 0; i < 7; i++) {
+            Assertions.assertTrue(add(queue, i));
+        }
+        for (int i = 7; i < 10; i++) {
+            Assertions.assertFalse(add(queue, i));
+        }
+        Assertions.assertEquals(8, queue.getMaxEvents());
+        Assertions.assertEquals(3, queue.getDroppedEventCount());
+
+        for (int i = 0; i < 7; i++) {
+            assertNext(queue, i);
+        }
+        Assertions.assertFalse(queue.next());
+        // Space freed by the consumer is used again
+        Assertions.assertTrue(add(queue, 10));
+        assertNext(queue, 10);
+        Assertions.assertEquals(3, queue.getDroppedEventCount());
+        queue.resetDroppedEventCount();
+        Assertions.assertEquals(0, queue.getDroppedEventCount());
+    }
+
+    @Test
+    public void testConcurrentProducerAndConsumer() throws InterruptedException {
+        values = new int[16];
+        EventQueue queue = new EventQueue(16, 256, true, (q, newMaxEvents) -> values = q.resize(values, newMaxEvents));
+        queue.setConcurrent(true);
+        Assertions.assertEquals(256, queue.getMaxEvents());
+        Assertions.assertEquals(256, values.length);
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < EVENTS; i++) {
+                while (!queue.reserve()) {
+                    Thread.yield();
+                }
+                values[queue.getNextPos()] = i;
+                queue.add();
+            }
+        });
+        producer.start();
+
+        int expected = 0;
+        while (expected < EVENTS) {
+            if (queue.next()) {
+                Assertions.assertEquals(expected, values[queue.getCurrentPos()]);
+                expected++;
+            } else {
+                Thread.yield();
+            }
+        }
+        producer.join();
+        Assertions.assertFalse(queue.next());
+        Assertions.assertEquals(256, queue.getMaxEvents());
+    }
+}
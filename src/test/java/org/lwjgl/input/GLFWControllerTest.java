@@ -0,0 +1,135 @@
+package org.lwjgl.input;
+
+import static org.lwjgl.glfw.GLFW.*;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GLFWControllerTest {
+    private static final int GAMEPAD_BUTTONS = GLFW_GAMEPAD_BUTTON_LAST + 1;
+    private static final int GAMEPAD_AXES = GLFW_GAMEPAD_AXIS_LAST + 1;
+
+    private static GLFWController createGamepad() {
+        return new GLFWController(3, GLFW_JOYSTICK_2, true, "Pad", GAMEPAD_BUTTONS, GAMEPAD_AXES);
+    }
+
+    private static void assertButtonEvent(Controller source, int button, boolean pressed, long nanos) {
+        Assertions.assertTrue(Controllers.next());
+        Assertions.assertSame(source, Controllers.getEventSource());
+        Assertions.assertTrue(Controllers.isEventButton());
+        Assertions.assertEquals(button, Controllers.getEventControlIndex());
+        Assertions.assertEquals(pressed, Controllers.getEventButtonState());
+        Assertions.assertEquals(nanos, Controllers.getEventNanoseconds());
+    }
+
+    private static void assertAxisEvent(Controller source, int axis, long nanos) {
+        Assertions.assertTrue(Controllers.next());
+        Assertions.assertSame(source, Controllers.getEventSource());
+        Assertions.assertTrue(Controllers.isEventAxis());
+        Assertions.assertEquals(axis, Controllers.getEventControlIndex());
+        Assertions.assertEquals(nanos, Controllers.getEventNanoseconds());
+    }
+
+    @BeforeEach
+    public void clearEvents() {
+        Controllers.clearEvents();
+    }
+
+    @Test
+    public void testGamepadMapping() {
+        GLFWController controller = createGamepad();
+        Assertions.assertEquals("Pad", controller.getName());
+        Assertions.assertEquals(3, controller.getIndex());
+        Assertions.assertEquals(GAMEPAD_BUTTONS, controller.getButtonCount());
+        Assertions.assertEquals(GAMEPAD_AXES, controller.getAxisCount());
+        Assertions.assertEquals("A", controller.getButtonName(GLFW_GAMEPAD_BUTTON_A));
+        Assertions.assertEquals("Left Trigger", controller.getAxisName(GLFW_GAMEPAD_AXIS_LEFT_TRIGGER));
+
+        boolean[] buttons = new boolean[GAMEPAD_BUTTONS];
+        float[] axes = new float[GAMEPAD_AXES];
+        buttons[GLFW_GAMEPAD_BUTTON_A] = true;
+        buttons[GLFW_GAMEPAD_BUTTON_DPAD_LEFT] = true;
+        axes[GLFW_GAMEPAD_AXIS_LEFT_X] = 0.5f;
+        axes[GLFW_GAMEPAD_AXIS_LEFT_Y] = 0.01f;
+        axes[GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER] = 1;
+        controller.update(100, buttons, axes, GLFW_HAT_CENTERED);
+
+        assertButtonEvent(controller, GLFW_GAMEPAD_BUTTON_A, true, 100);
+        assertButtonEvent(controller, GLFW_GAMEPAD_BUTTON_DPAD_LEFT, true, 100);
+        assertAxisEvent(controller, GLFW_GAMEPAD_AXIS_LEFT_X, 100);
+        Assertions.assertTrue(Controllers.isEventXAxis());
+        Assertions.assertEquals(0.5f, Controllers.getEventXAxisValue());
+        assertAxisEvent(controller, GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER, 100);
+        Assertions.assertTrue(Controllers.next());
+        Assertions.assertTrue(Controllers.isEventPovX());
+        Assertions.assertFalse(Controllers.next());
+
+        Assertions.assertTrue(controller.isButtonPressed(GLFW_GAMEPAD_BUTTON_A));
+        Assertions.assertEquals(0.5f, controller.getXAxisValue());
+        // Inside the dead zone
+        Assertions.assertEquals(0, controller.getYAxisValue());
+        Assertions.assertEquals(1, controller.getRZAxisValue());
+        Assertions.assertEquals(-1, controller.getPovX());
+        Assertions.assertEquals(0, controller.getPovY());
+    }
+
+    @Test
+    public void testJoystickMapping() {
+        GLFWController controller = new GLFWController(0, GLFW_JOYSTICK_1, false, "Stick", 2, 3);
+        Assertions.assertEquals("Button 1", controller.getButtonName(1));
+        Assertions.assertEquals("Axis 2", controller.getAxisName(2));
+
+        controller.update(200, new boolean[2], new float[] {0, -0.75f, 0.25f}, GLFW_HAT_RIGHT_UP);
+        assertAxisEvent(controller, 1, 200);
+        Assertions.assertTrue(Controllers.isEventYAxis());
+        assertAxisEvent(controller, 2, 200);
+        Assertions.assertTrue(Controllers.next());
+        Assertions.assertTrue(Controllers.isEventPovX());
+        Assertions.assertTrue(Controllers.next());
+        Assertions.assertTrue(Controllers.isEventPovY());
+        Assertions.assertFalse(Controllers.next());
+
+        Assertions.assertEquals(-0.75f, controller.getYAxisValue());
+        Assertions.assertEquals(0.25f, controller.getZAxisValue());
+        // The joystick has no RX axis
+        Assertions.assertEquals(0, controller.getRXAxisValue());
+        Assertions.assertEquals(0, controller.getRXAxisDeadZone());
+        Assertions.assertEquals(1, controller.getPovX());
+        Assertions.assertEquals(-1, controller.getPovY());
+    }
+
+    @Test
+    public void testReconnectWithAnotherDevice() {
+        GLFWController controller = createGamepad();
+        boolean[] buttons = new boolean[GAMEPAD_BUTTONS];
+        float[] axes = new float[GAMEPAD_AXES];
+        buttons[GLFW_GAMEPAD_BUTTON_B] = true;
+        axes[GLFW_GAMEPAD_AXIS_RIGHT_X] = -1;
+        controller.update(100, buttons, axes, GLFW_HAT_CENTERED);
+        Controllers.clearEvents();
+
+        // GLFW gave the joystick id of the pad to a raw joystick
+        controller.configure(false, "Stick", 2, 5, 300);
+        assertButtonEvent(controller, GLFW_GAMEPAD_BUTTON_B, false, 300);
+        assertAxisEvent(controller, GLFW_GAMEPAD_AXIS_RIGHT_X, 300);
+        Assertions.assertFalse(Controllers.next());
+
+        Assertions.assertEquals(3, controller.getIndex());
+        Assertions.assertTrue(controller.isConnected());
+        Assertions.assertEquals("Stick", controller.getName());
+        Assertions.assertEquals(2, controller.getButtonCount());
+        Assertions.assertEquals(5, controller.getAxisCount());
+        Assertions.assertEquals("Button 0", controller.getButtonName(0));
+        Assertions.assertEquals("Axis 4", controller.getAxisName(4));
+        Assertions.assertFalse(controller.isButtonPressed(1));
+
+        // The state of the new device uses the raw layout
+        controller.update(400, new boolean[] {false, true}, new float[] {0, 0, 0, 0.5f, 0}, GLFW_HAT_CENTERED);
+        assertButtonEvent(controller, 1, true, 400);
+        assertAxisEvent(controller, 3, 400);
+        Assertions.assertFalse(Controllers.next());
+        Assertions.assertEquals(0.5f, controller.getRXAxisValue());
+        Assertions.assertEquals(0, controller.getRZAxisValue());
+    }
+}
@@ -0,0 +1,86 @@
+package org.lwjgl.input;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.lwjgl.glfw.GLFW;
+
+public class InputJournalTest {
+    private static final long BASE = 1000000L;
+
+    @TempDir
+    File directory;
+
+    private static void assertKeyEvent(int key, boolean pressed, long nanos) {
+        Assertions.assertTrue(Keyboard.next());
+        Assertions.assertEquals(key, Keyboard.getEventKey());
+        Assertions.assertEquals(pressed, Keyboard.getEventKeyState());
+        Assertions.assertEquals(nanos, Keyboard.getEventNanoseconds());
+    }
+
+    private static void assertMouseEvent(int button, boolean pressed, int x, int y, long nanos) {
+        Assertions.assertTrue(Mouse.next());
+        Assertions.assertEquals(button, Mouse.getEventButton());
+        Assertions.assertEquals(pressed, Mouse.getEventButtonState());
+        Assertions.assertEquals(x, Mouse.getEventX());
+        Assertions.assertEquals(y, Mouse.getEventY());
+        Assertions.assertEquals(nanos, Mouse.getEventNanoseconds());
+    }
+
+    @Test
+    public void testReplayMatchesRecording() throws IOException {
+        File journal = new File(directory, "input.journal");
+        // Drop the events left by other tests
+        while (Keyboard.next()) {
+        }
+        while (Mouse.next()) {
+        }
+
+        InputJournal.startRecording(journal);
+        try {
+            // Recorded the way the GLFW callbacks do, without injecting the events
+            InputJournal.recordKeyEvent(GLFW.GLFW_KEY_A, GLFW.GLFW_PRESS, 100);
+            InputJournal.recordMoveEvent(10.5, 20.25, 480, 200);
+            InputJournal.recordButtonEvent(0, true, 300);
+            InputJournal.recordFrame(640, 480);
+            InputJournal.recordMoveEvent(30, 40, 480, 400);
+            InputJournal.recordKeyEvent(GLFW.GLFW_KEY_A, GLFW.GLFW_RELEASE, 500);
+            InputJournal.recordButtonEvent(0, false, 600);
+            InputJournal.recordFrame(640, 480);
+        } finally {
+            InputJournal.stopRecording();
+        }
+        Assertions.assertFalse(Keyboard.next());
+        Assertions.assertFalse(Mouse.next());
+
+        try (InputJournal.Player player = new InputJournal.Player(journal, BASE)) {
+            Assertions.assertTrue(player.nextFrame());
+            Assertions.assertTrue(Keyboard.next());
+            Assertions.assertEquals(Keyboard.KEY_A, Keyboard.getEventKey());
+            Assertions.assertTrue(Keyboard.getEventKeyState());
+            // Timestamps are recorded relative to the start of the recording, only their spacing is kept
+            long start = Keyboard.getEventNanoseconds() - 100;
+            Assertions.assertFalse(Keyboard.next());
+            assertMouseEvent(-1, false, 10, 460, start + 200);
+            assertMouseEvent(0, true, 10, 460, start + 300);
+            Assertions.assertFalse(Mouse.next());
+            Assertions.assertEquals(10, Mouse.getX());
+            Assertions.assertEquals(460, Mouse.getY());
+            Assertions.assertEquals(1, player.getFrame());
+
+            Assertions.assertTrue(player.nextFrame());
+            assertKeyEvent(Keyboard.KEY_A, false, start + 500);
+            Assertions.assertFalse(Keyboard.next());
+            assertMouseEvent(-1, false, 30, 440, start + 400);
+            assertMouseEvent(0, false, 30, 440, start + 600);
+            Assertions.assertFalse(Mouse.next());
+            Assertions.assertEquals(2, player.getFrame());
+
+            Assertions.assertFalse(player.nextFrame());
+            Assertions.assertFalse(player.hasRemaining());
+        }
+    }
+}
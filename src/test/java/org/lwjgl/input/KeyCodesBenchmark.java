@@ -0,0 +1,85 @@
+package org.lwjgl.input;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compare the {@link KeyCodes} lookup tables against the switch mappings they are built from.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyCodesBenchmark {
+    private int[] glfwKeys;
+    private int[] lwjglKeys;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(KeyCodesBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void setup() {
+        // Every mapped key, so the switch can't be predicted by a single branch
+        glfwKeys = new int[Keyboard.KEYBOARD_SIZE];
+        lwjglKeys = new int[Keyboard.KEYBOARD_SIZE];
+        int count = 0;
+        for (int key = 0; key < Keyboard.KEYBOARD_SIZE; key++) {
+            int glfwKey = KeyCodes.toGlfwKeySwitch(key);
+            if (glfwKey >= 0) {
+                glfwKeys[count] = glfwKey;
+                lwjglKeys[count] = key;
+                count++;
+            }
+        }
+        glfwKeys = Arrays.copyOf(glfwKeys, count);
+        lwjglKeys = Arrays.copyOf(lwjglKeys, count);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(128)
+    public int toLwjglKeyTable() {
+        int sum = 0;
+        for (int i = 0; i < 128; i++) {
+            sum += KeyCodes.toLwjglKey(glfwKeys[i % glfwKeys.length]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(128)
+    public int toLwjglKeySwitch() {
+        int sum = 0;
+        for (int i = 0; i < 128; i++) {
+            sum += KeyCodes.toLwjglKeySwitch(glfwKeys[i % glfwKeys.length]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(128)
+    public int toGlfwKeyTable() {
+        int sum = 0;
+        for (int i = 0; i < 128; i++) {
+            sum += KeyCodes.toGlfwKey(lwjglKeys[i % lwjglKeys.length]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(128)
+    public int toGlfwKeySwitch() {
+        int sum = 0;
+        for (int i = 0; i < 128; i++) {
+            sum += KeyCodes.toGlfwKeySwitch(lwjglKeys[i % lwjglKeys.length]);
+        }
+        return sum;
+    }
+}
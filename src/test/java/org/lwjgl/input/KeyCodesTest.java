@@ -0,0 +1,28 @@
+package org.lwjgl.input;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class KeyCodesTest {
+    private static final int RANGE = 4096;
+
+    @Test
+    public void testToLwjglKeyMatchesSwitch() {
+        for (int glfwKeyCode = -RANGE; glfwKeyCode < RANGE; glfwKeyCode++) {
+            Assertions.assertEquals(KeyCodes.toLwjglKeySwitch(glfwKeyCode),
+                    KeyCodes.toLwjglKey(glfwKeyCode), "GLFW key " + glfwKeyCode);
+        }
+        Assertions.assertEquals(Keyboard.KEY_NONE, KeyCodes.toLwjglKey(Integer.MIN_VALUE));
+        Assertions.assertEquals(Keyboard.KEY_NONE, KeyCodes.toLwjglKey(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testToGlfwKeyMatchesSwitch() {
+        for (int lwjglKeyCode = -RANGE; lwjglKeyCode < RANGE; lwjglKeyCode++) {
+            Assertions.assertEquals(KeyCodes.toGlfwKeySwitch(lwjglKeyCode),
+                    KeyCodes.toGlfwKey(lwjglKeyCode), "LWJGL key " + lwjglKeyCode);
+        }
+        Assertions.assertEquals(KeyCodes.toGlfwKeySwitch(Integer.MIN_VALUE), KeyCodes.toGlfwKey(Integer.MIN_VALUE));
+        Assertions.assertEquals(KeyCodes.toGlfwKeySwitch(Integer.MAX_VALUE), KeyCodes.toGlfwKey(Integer.MAX_VALUE));
+    }
+}
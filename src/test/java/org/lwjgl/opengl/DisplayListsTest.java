@@ -0,0 +1,68 @@
+package org.lwjgl.opengl;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DisplayListsTest {
+
+    @Test
+    public void testMergesConsecutiveDraws() {
+        DisplayLists.Recording recording = new DisplayLists.Recording(1, GL11.GL_COMPILE);
+        recording.addDraw(GL11.GL_TRIANGLES, 6);
+        recording.addDraw(GL11.GL_TRIANGLES, 3);
+        recording.use(ImmediateMode.COLOR, false);
+        recording.addDraw(GL11.GL_TRIANGLES, 3);
+        recording.addCommand(DisplayLists.ENABLE, GL11.GL_BLEND);
+        recording.addDraw(GL11.GL_TRIANGLES, 3);
+        recording.addDraw(GL11.GL_LINES, 2);
+
+        int[] expected = {
+            DisplayLists.DRAW, GL11.GL_TRIANGLES, 0, 9, 0,
+            DisplayLists.DRAW, GL11.GL_TRIANGLES, 9, 3, ImmediateMode.COLOR,
+            DisplayLists.ENABLE, GL11.GL_BLEND,
+            DisplayLists.DRAW, GL11.GL_TRIANGLES, 12, 3, ImmediateMode.COLOR,
+            DisplayLists.DRAW, GL11.GL_LINES, 15, 2, ImmediateMode.COLOR,
+        };
+        Assertions.assertArrayEquals(expected, Arrays.copyOf(recording.commands, recording.commandCount));
+        Assertions.assertFalse(recording.unsupported);
+    }
+
+    @Test
+    public void testAttributeStartingInsidePrimitiveIsUnsupported() {
+        DisplayLists.Recording recording = new DisplayLists.Recording(1, GL11.GL_COMPILE);
+        recording.use(ImmediateMode.NORMAL, false);
+        recording.use(ImmediateMode.COLOR, true);
+        Assertions.assertTrue(recording.unsupported);
+    }
+
+    @Test
+    public void testListTable() {
+        DisplayLists.CompiledList list = new DisplayLists.CompiledList(new int[0], 0, new float[11], 0, 0);
+        try {
+            // Multiples of 64 collide in the smaller tables
+            for (int i = 1; i <= 100; i++) {
+                DisplayLists.put(i * 64, list);
+            }
+            for (int i = 1; i <= 100; i += 2) {
+                Assertions.assertSame(list, DisplayLists.remove(i * 64));
+            }
+            for (int i = 1; i <= 100; i++) {
+                Assertions.assertEquals(i % 2 == 0, DisplayLists.isEmulated(i * 64));
+            }
+            Assertions.assertNull(DisplayLists.remove(64));
+
+            DisplayLists.deleteLists(128, 64 * 10);
+            Assertions.assertFalse(DisplayLists.isEmulated(128));
+            Assertions.assertFalse(DisplayLists.isEmulated(640));
+            Assertions.assertTrue(DisplayLists.isEmulated(768));
+            DisplayLists.deleteLists(1, Integer.MAX_VALUE);
+            for (int i = 1; i <= 100; i++) {
+                Assertions.assertFalse(DisplayLists.isEmulated(i * 64));
+            }
+        } finally {
+            DisplayLists.contextLost();
+        }
+    }
+}
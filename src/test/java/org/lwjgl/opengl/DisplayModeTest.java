@@ -0,0 +1,25 @@
+package org.lwjgl.opengl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DisplayModeTest {
+
+    @Test
+    public void testParse() {
+        Assertions.assertEquals(new DisplayMode(1280, 720, 24, 60), DisplayMode.lwjglxParse("1280x720x24@60"));
+        Assertions.assertEquals(new DisplayMode(800, 600, 24, 60), DisplayMode.lwjglxParse("800x600"));
+        Assertions.assertEquals(new DisplayMode(640, 480, 16, 75), DisplayMode.lwjglxParse("640X480x16@75hz"));
+        Assertions.assertTrue(DisplayMode.lwjglxParse("800x600").isFullscreenCapable());
+
+        DisplayMode mode = new DisplayMode(1920, 1080, 32, 144);
+        Assertions.assertEquals(mode, DisplayMode.lwjglxParse(mode.toString()));
+    }
+
+    @Test
+    public void testParseInvalid() {
+        for (String mode : new String[] {"", "1280", "1280x", "0x720", "1280x720x24x1", "1280x720@", "widexhigh"}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> DisplayMode.lwjglxParse(mode), mode);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.lwjgl.opengl;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FrameCaptureTest {
+
+    @Test
+    public void testToImageFlipsRows() {
+        // 2x2, bottom row red and green, top row blue and white
+        byte[] rgba = {
+            (byte) 255, 0, 0, (byte) 255, 0, (byte) 255, 0, (byte) 255,
+            0, 0, (byte) 255, (byte) 255, (byte) 255, (byte) 255, (byte) 255, (byte) 255,
+        };
+        BufferedImage image = FrameCapture.toImage(rgba, 2, 2);
+        Assertions.assertEquals(0x0000FF, image.getRGB(0, 0) & 0xFFFFFF);
+        Assertions.assertEquals(0xFFFFFF, image.getRGB(1, 0) & 0xFFFFFF);
+        Assertions.assertEquals(0xFF0000, image.getRGB(0, 1) & 0xFFFFFF);
+        Assertions.assertEquals(0x00FF00, image.getRGB(1, 1) & 0xFFFFFF);
+    }
+}
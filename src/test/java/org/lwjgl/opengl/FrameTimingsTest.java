@@ -0,0 +1,38 @@
+package org.lwjgl.opengl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FrameTimingsTest {
+
+    @Test
+    public void testSnapshotAfterWrapAround() {
+        FrameTimings.setEnabled(true);
+        long start = FrameTimings.getFrameCount();
+        int frames = FrameTimings.CAPACITY + 100;
+        long now = 1000;
+        FrameTimings.beginFrame(now);
+        for (int i = 1; i <= frames; i++) {
+            now += i;
+            FrameTimings.beginFrame(now);
+        }
+        FrameTimings.setEnabled(false);
+
+        Assertions.assertEquals(start + frames, FrameTimings.getFrameCount());
+        FrameTimings.Snapshot snapshot = FrameTimings.snapshot();
+        Assertions.assertEquals(FrameTimings.CAPACITY, snapshot.getFrameCount());
+        // Oldest first, frame i lasted i nanoseconds
+        for (int i = 0; i < snapshot.getFrameCount(); i++) {
+            Assertions.assertEquals(frames - FrameTimings.CAPACITY + 1 + i, snapshot.getSample(i, FrameTimings.FRAME));
+            Assertions.assertEquals(0, snapshot.getSample(i, FrameTimings.SWAP_BUFFERS));
+        }
+        Assertions.assertEquals(frames, snapshot.getMax(FrameTimings.FRAME));
+        Assertions.assertEquals(frames - FrameTimings.CAPACITY + FrameTimings.CAPACITY / 2,
+                snapshot.getPercentile(FrameTimings.FRAME, 50));
+
+        FrameTimings.Snapshot last = FrameTimings.snapshot(10);
+        Assertions.assertEquals(10, last.getFrameCount());
+        Assertions.assertEquals(frames, last.getSample(9, FrameTimings.FRAME));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> last.getSample(10, FrameTimings.FRAME));
+    }
+}
@@ -0,0 +1,94 @@
+package org.lwjgl.opengl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GLProfilerTest {
+
+    @BeforeEach
+    public void setup() {
+        GLProfiler.setEnabled(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        GLProfiler.setEnabled(false);
+    }
+
+    private static void call(String function, long time) {
+        long start = GLProfiler.start();
+        GLProfiler.record(function, start - time);
+    }
+
+    @Test
+    public void testFrameReport() {
+        // Synthetic times of milliseconds, far above the real time of the calls
+        call("glClear", 1000000L);
+        call("glDrawArrays", 10000000L);
+        call("glDrawArrays", 10000000L);
+        GLProfiler.endFrame();
+        call("glClear", 1000000L);
+        GLProfiler.endFrame();
+
+        GLProfiler.Report frame = GLProfiler.getFrameReport();
+        Assertions.assertEquals(1, frame.getFunctionCount());
+        Assertions.assertEquals("glClear", frame.getName(0));
+        Assertions.assertEquals(1, frame.getCalls(0));
+
+        GLProfiler.Report total = GLProfiler.getTotalReport();
+        Assertions.assertEquals(2, total.getFrameCount());
+        Assertions.assertEquals("glDrawArrays", total.getName(0));
+        Assertions.assertEquals(1.0, total.getCallsPerFrame(0));
+        Assertions.assertTrue(total.getTime(0) >= 20000000L);
+        Assertions.assertEquals("glClear", total.getName(1));
+        Assertions.assertEquals(4, total.getTotalCalls());
+    }
+
+    @Test
+    public void testNestedCallsCountOnce() {
+        long outer = GLProfiler.start();
+        call("glGetFloatv", 0);
+        GLProfiler.record("glGetFloat", outer);
+        GLProfiler.endFrame();
+
+        GLProfiler.Report frame = GLProfiler.getFrameReport();
+        Assertions.assertEquals(1, frame.getFunctionCount());
+        Assertions.assertEquals("glGetFloat", frame.getName(0));
+    }
+
+    @Test
+    public void testOtherThreadsAreIgnored() throws InterruptedException {
+        Thread other = new Thread(() -> call("glClear", 100));
+        other.start();
+        other.join();
+        call("glDrawArrays", 1000);
+        GLProfiler.endFrame();
+
+        GLProfiler.Report frame = GLProfiler.getFrameReport();
+        Assertions.assertEquals(1, frame.getFunctionCount());
+        Assertions.assertEquals("glDrawArrays", frame.getName(0));
+    }
+
+    @Test
+    public void testDisabled() {
+        GLProfiler.setEnabled(false);
+        Assertions.assertEquals(GLProfiler.DISABLED, GLProfiler.start());
+    }
+
+    @Test
+    public void testManyFunctions() {
+        // Synthetic times far apart, so the real time of the calls can't change the order
+        for (int i = 0; i < 1000; i++) {
+            call("glFunction" + i, i * 1000000L);
+        }
+        call("glFunction999", 0);
+        GLProfiler.endFrame();
+
+        GLProfiler.Report frame = GLProfiler.getFrameReport();
+        Assertions.assertEquals(1000, frame.getFunctionCount());
+        Assertions.assertEquals("glFunction999", frame.getName(0));
+        Assertions.assertEquals(2, frame.getCalls(0));
+    }
+}
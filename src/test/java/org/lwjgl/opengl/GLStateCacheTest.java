@@ -0,0 +1,83 @@
+package org.lwjgl.opengl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GLStateCacheTest {
+
+    @BeforeEach
+    public void setup() {
+        GLStateCache.setEnabled(true);
+        GLStateCache.resetCounters();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        GLStateCache.setEnabled(false);
+    }
+
+    @Test
+    public void testElidesRepeatedState() {
+        Assertions.assertTrue(GLStateCache.setCapability(GL11.GL_BLEND, true));
+        Assertions.assertFalse(GLStateCache.setCapability(GL11.GL_BLEND, true));
+        Assertions.assertTrue(GLStateCache.setCapability(GL11.GL_BLEND, false));
+        Assertions.assertTrue(GLStateCache.setDepthMask(false));
+        Assertions.assertFalse(GLStateCache.setDepthMask(false));
+        Assertions.assertTrue(GLStateCache.useProgram(3));
+        Assertions.assertFalse(GLStateCache.useProgram(3));
+        Assertions.assertTrue(GLStateCache.bindBuffer(GL15.GL_ARRAY_BUFFER, 0));
+        Assertions.assertFalse(GLStateCache.bindBuffer(GL15.GL_ARRAY_BUFFER, 0));
+        Assertions.assertEquals(5, GLStateCache.getIssuedCount());
+        Assertions.assertEquals(4, GLStateCache.getElidedCount());
+    }
+
+    @Test
+    public void testUntrackedStateIsIssued() {
+        // Per texture unit and vertex array state can change behind the wrappers
+        Assertions.assertTrue(GLStateCache.setCapability(GL11.GL_TEXTURE_2D, true));
+        Assertions.assertTrue(GLStateCache.setCapability(GL11.GL_TEXTURE_2D, true));
+        Assertions.assertTrue(GLStateCache.bindBuffer(GL15.GL_ELEMENT_ARRAY_BUFFER, 1));
+        Assertions.assertTrue(GLStateCache.bindBuffer(GL15.GL_ELEMENT_ARRAY_BUFFER, 1));
+        Assertions.assertEquals(0, GLStateCache.getElidedCount());
+    }
+
+    @Test
+    public void testInvalidate() {
+        GLStateCache.setCapability(GL11.GL_DEPTH_TEST, true);
+        GLStateCache.useProgram(3);
+        GLStateCache.invalidate();
+        Assertions.assertTrue(GLStateCache.setCapability(GL11.GL_DEPTH_TEST, true));
+        Assertions.assertTrue(GLStateCache.useProgram(3));
+
+        GLStateCache.deleteProgram(3);
+        Assertions.assertTrue(GLStateCache.useProgram(3));
+
+        GLStateCache.bindBuffer(GL15.GL_ARRAY_BUFFER, 7);
+        GLStateCache.deleteBuffer(7);
+        Assertions.assertFalse(GLStateCache.bindBuffer(GL15.GL_ARRAY_BUFFER, 0));
+    }
+
+    @Test
+    public void testDisplayListsAreNotTracked() {
+        GLStateCache.setCapability(GL11.GL_BLEND, true);
+        GLStateCache.newList(GL11.GL_COMPILE);
+        // Compiled into the list, GL doesn't execute them
+        Assertions.assertTrue(GLStateCache.setCapability(GL11.GL_BLEND, false));
+        Assertions.assertTrue(GLStateCache.setCapability(GL11.GL_BLEND, false));
+        Assertions.assertTrue(GLStateCache.setDepthMask(false));
+        Assertions.assertTrue(GLStateCache.useProgram(3));
+        GLStateCache.endList();
+        Assertions.assertFalse(GLStateCache.setCapability(GL11.GL_BLEND, true));
+
+        // What glCallList does after running the list
+        GLStateCache.invalidate();
+        Assertions.assertTrue(GLStateCache.setCapability(GL11.GL_BLEND, true));
+
+        GLStateCache.newList(GL11.GL_COMPILE_AND_EXECUTE);
+        Assertions.assertTrue(GLStateCache.setCapability(GL11.GL_BLEND, false));
+        GLStateCache.endList();
+        Assertions.assertTrue(GLStateCache.setCapability(GL11.GL_BLEND, true));
+    }
+}
@@ -0,0 +1,40 @@
+package org.lwjgl.opengl;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.system.LWJGLXHelper;
+
+public class HeadlessDisplayTest {
+
+    @Test
+    public void testCreateUpdateDestroy() throws LWJGLException {
+        // Needs OSMesa, run with LWJGLX_HEADLESS=true
+        Assumptions.assumeTrue(LWJGLXHelper.headless, "Headless mode disabled");
+
+        Display.setDisplayMode(new DisplayMode(64, 48));
+        Display.create();
+        try {
+            Assertions.assertTrue(Display.isCreated());
+            Assertions.assertEquals(64, Display.getWidth());
+            Assertions.assertEquals(48, Display.getHeight());
+
+            GL11.glClearColor(1, 0, 0, 1);
+            GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+            ByteBuffer pixel = BufferUtils.createByteBuffer(4);
+            GL11.glReadPixels(0, 0, 1, 1, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, pixel);
+            Assertions.assertEquals((byte) 255, pixel.get(0));
+            Assertions.assertEquals(0, pixel.get(1));
+
+            Display.update();
+            Assertions.assertFalse(Display.isCloseRequested());
+        } finally {
+            Display.destroy();
+        }
+        Assertions.assertFalse(Display.isCreated());
+    }
+}
@@ -0,0 +1,47 @@
+package org.lwjgl.opengl;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ImmediateModeTest {
+
+    private static int[] expand(int mode, int count) {
+        int[] indices = new int[64];
+        int n = ImmediateMode.expand(mode, count, indices);
+        return Arrays.copyOf(indices, n);
+    }
+
+    @Test
+    public void testExpandKeepsProvokingVertex() {
+        // The last vertex of each quad, the first of a polygon, the last of each strip triangle
+        Assertions.assertArrayEquals(new int[] { 0, 1, 3, 1, 2, 3 }, expand(GL11.GL_QUADS, 4));
+        Assertions.assertArrayEquals(new int[] { 0, 1, 3, 2, 0, 3, 2, 3, 5, 4, 2, 5 }, expand(GL11.GL_QUAD_STRIP, 6));
+        Assertions.assertArrayEquals(new int[] { 1, 2, 0, 2, 3, 0 }, expand(GL11.GL_POLYGON, 4));
+        Assertions.assertArrayEquals(new int[] { 0, 1, 2, 2, 1, 3 }, expand(GL11.GL_TRIANGLE_STRIP, 4));
+        Assertions.assertArrayEquals(new int[] { 0, 1, 2, 0, 2, 3 }, expand(GL11.GL_TRIANGLE_FAN, 4));
+        Assertions.assertArrayEquals(new int[] { 0, 1, 1, 2, 2, 0 }, expand(GL11.GL_LINE_LOOP, 3));
+    }
+
+    @Test
+    public void testExpandIncompletePrimitives() {
+        Assertions.assertEquals(0, expand(GL11.GL_TRIANGLES, 2).length);
+        Assertions.assertEquals(6, expand(GL11.GL_QUADS, 7).length);
+        Assertions.assertEquals(0, expand(GL11.GL_LINE_STRIP, 1).length);
+        Assertions.assertEquals(-300, ImmediateMode.expand(GL11.GL_TRIANGLE_FAN, 102, new int[64]));
+    }
+
+    @Test
+    public void testIntegerComponents() {
+        // Signed components map the whole range to [-1, 1], unsigned ones to [0, 1]
+        Assertions.assertEquals(1f, ImmediateMode.signed((byte) 127));
+        Assertions.assertEquals(-1f, ImmediateMode.signed((byte) -128));
+        Assertions.assertEquals(1f, ImmediateMode.signed(Short.MAX_VALUE));
+        Assertions.assertEquals(-1f, ImmediateMode.signed(Integer.MIN_VALUE));
+        Assertions.assertEquals(1f, ImmediateMode.unsigned((byte) 255));
+        Assertions.assertEquals(0f, ImmediateMode.unsigned((short) 0));
+        Assertions.assertEquals(1f, ImmediateMode.unsigned(-1));
+        Assertions.assertEquals(0.5f, ImmediateMode.unsigned((byte) 0x80), 0.01f);
+    }
+}
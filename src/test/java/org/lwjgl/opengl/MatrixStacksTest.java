@@ -0,0 +1,132 @@
+package org.lwjgl.opengl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.system.LWJGLXHelper;
+
+public class MatrixStacksTest {
+
+    private static final float[] IDENTITY = { 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1 };
+
+    @BeforeEach
+    public void setup() {
+        // Without a context, only the Java stacks are used
+        MatrixStacks.contextLost();
+        MatrixStacks.enabled = true;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        MatrixStacks.enabled = false;
+        MatrixStacks.contextLost();
+    }
+
+    private static float[] get(int pname) {
+        float[] m = new float[16];
+        Assertions.assertTrue(MatrixStacks.get(pname, m));
+        return m;
+    }
+
+    @Test
+    public void testTransformsMultiplyLikeGL() {
+        MatrixStacks.glTranslatef(1, 2, 3);
+        MatrixStacks.glRotatef(90, 0, 0, 2);
+        MatrixStacks.glScalef(2, 2, 2);
+        // Columns of T(1, 2, 3) * Rz(90) * S(2)
+        float[] expected = { 0, 2, 0, 0, -2, 0, 0, 0, 0, 0, 2, 0, 1, 2, 3, 1 };
+        Assertions.assertArrayEquals(expected, get(GL11.GL_MODELVIEW_MATRIX), 1e-6f);
+        Assertions.assertTrue(MatrixStacks.dirty);
+    }
+
+    @Test
+    public void testPushPop() {
+        MatrixStacks.glMatrixMode(GL11.GL_PROJECTION);
+        MatrixStacks.glPushMatrix();
+        MatrixStacks.glOrtho(0, 2, 0, 2, -1, 1);
+        float[] expected = { 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, -1, 0, -1, -1, 0, 1 };
+        Assertions.assertArrayEquals(expected, get(GL11.GL_PROJECTION_MATRIX), 1e-6f);
+        Assertions.assertEquals(2, get(GL11.GL_PROJECTION_STACK_DEPTH)[0]);
+
+        MatrixStacks.glPopMatrix();
+        Assertions.assertArrayEquals(IDENTITY, get(GL11.GL_PROJECTION_MATRIX));
+        Assertions.assertEquals(GL11.GL_PROJECTION, (int) get(GL11.GL_MATRIX_MODE)[0]);
+        // Like GL, an underflow is ignored
+        MatrixStacks.glPopMatrix();
+        Assertions.assertEquals(1, get(GL11.GL_PROJECTION_STACK_DEPTH)[0]);
+        Assertions.assertArrayEquals(IDENTITY, get(GL11.GL_MODELVIEW_MATRIX));
+    }
+
+    @Test
+    public void testDoubleMatrices() {
+        double[] translation = { 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 1, 2, 3, 1 };
+        MatrixStacks.glLoadMatrixd(translation);
+        MatrixStacks.glMultMatrixd(translation);
+        float[] expected = { 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 2, 4, 6, 1 };
+        Assertions.assertArrayEquals(expected, get(GL11.GL_MODELVIEW_MATRIX));
+    }
+
+    @Test
+    public void testPopAttribRestoresMatrixMode() {
+        MatrixStacks.glMatrixMode(GL11.GL_PROJECTION);
+        MatrixStacks.pushAttrib(GL11.GL_TRANSFORM_BIT);
+        MatrixStacks.glMatrixMode(GL11.GL_TEXTURE);
+        MatrixStacks.pushAttrib(GL11.GL_CURRENT_BIT);
+        MatrixStacks.glMatrixMode(GL11.GL_MODELVIEW);
+
+        // Without GL_TRANSFORM_BIT the mode is kept
+        MatrixStacks.popAttrib();
+        Assertions.assertEquals(GL11.GL_MODELVIEW, (int) get(GL11.GL_MATRIX_MODE)[0]);
+        MatrixStacks.popAttrib();
+        Assertions.assertEquals(GL11.GL_PROJECTION, (int) get(GL11.GL_MATRIX_MODE)[0]);
+        MatrixStacks.glTranslatef(1, 2, 3);
+        Assertions.assertEquals(1, get(GL11.GL_PROJECTION_MATRIX)[12]);
+        Assertions.assertArrayEquals(IDENTITY, get(GL11.GL_MODELVIEW_MATRIX));
+    }
+
+    @Test
+    public void testEyeSpaceArguments() throws LWJGLException {
+        // Needs OSMesa, run with LWJGLX_HEADLESS=true
+        Assumptions.assumeTrue(LWJGLXHelper.headless, "Headless mode disabled");
+        MatrixStacks.enabled = false;
+
+        Display.setDisplayMode(new DisplayMode(16, 16));
+        Display.create();
+        try {
+            MatrixStacks.setEnabled(true);
+            GL11.glPushAttrib(GL11.GL_TRANSFORM_BIT);
+            GL11.glMatrixMode(GL11.GL_PROJECTION);
+            GL11.glLoadIdentity();
+            GL11.glMatrixMode(GL11.GL_MODELVIEW);
+            GL11.glTranslatef(1, 2, 3);
+            // Given to GL in eye coordinates, with the translation loaded first
+            GL11.glLightfv(GL11.GL_LIGHT0, GL11.GL_POSITION, new float[] { 0, 0, 0, 1 });
+            GL11.glClipPlane(GL11.GL_CLIP_PLANE0, new double[] { 1, 0, 0, 0 });
+
+            float[] position = new float[4];
+            GL11.glGetLightfv(GL11.GL_LIGHT0, GL11.GL_POSITION, position);
+            Assertions.assertArrayEquals(new float[] { 1, 2, 3, 1 }, position, 1e-6f);
+            double[] plane = new double[4];
+            GL11.glGetClipPlane(GL11.GL_CLIP_PLANE0, plane);
+            Assertions.assertArrayEquals(new double[] { 1, 0, 0, -1 }, plane, 1e-6);
+
+            // GL restores the mode it had when pushed
+            GL11.glMatrixMode(GL11.GL_PROJECTION);
+            GL11.glPopAttrib();
+            Assertions.assertEquals(GL11.GL_MODELVIEW, GL11.glGetInteger(GL11.GL_MATRIX_MODE));
+            MatrixStacks.setEnabled(false);
+            Assertions.assertEquals(GL11.GL_MODELVIEW, GL11C.glGetInteger(GL11.GL_MATRIX_MODE));
+        } finally {
+            MatrixStacks.enabled = false;
+            Display.destroy();
+        }
+    }
+
+    @Test
+    public void testUntrackedQuery() {
+        Assertions.assertFalse(MatrixStacks.get(GL11.GL_VIEWPORT, new float[4]));
+    }
+}
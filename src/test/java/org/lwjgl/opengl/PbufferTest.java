@@ -0,0 +1,100 @@
+package org.lwjgl.opengl;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.LWJGLException;
+import org.lwjgl.system.LWJGLXHelper;
+
+public class PbufferTest {
+
+    @BeforeEach
+    public void setup() throws LWJGLException {
+        // Needs OSMesa, run with LWJGLX_HEADLESS=true
+        Assumptions.assumeTrue(LWJGLXHelper.headless, "Headless mode disabled");
+
+        Display.setDisplayMode(new DisplayMode(64, 48));
+        Display.create();
+        Assumptions.assumeTrue((Pbuffer.getCapabilities() & Pbuffer.PBUFFER_SUPPORTED) != 0, "Pbuffers unsupported");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Display.destroy();
+    }
+
+    private static ByteBuffer readPixel() {
+        ByteBuffer pixel = BufferUtils.createByteBuffer(4);
+        GL11.glReadPixels(0, 0, 1, 1, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, pixel);
+        return pixel;
+    }
+
+    @Test
+    public void testOwnState() throws LWJGLException {
+        GL11.glClearColor(1, 0, 0, 1);
+        GL11.glEnable(GL11.GL_BLEND);
+
+        Pbuffer pbuffer = new Pbuffer(16, 8, new PixelFormat(), null);
+        try {
+            pbuffer.makeCurrent();
+            Assertions.assertFalse(Display.isCurrent());
+            Assertions.assertFalse(GL11.glIsEnabled(GL11.GL_BLEND));
+            Assertions.assertEquals(0, GL11.glGetFloat(GL11.GL_COLOR_CLEAR_VALUE));
+            IntBuffer viewport = BufferUtils.createIntBuffer(16);
+            GL11.glGetInteger(GL11.GL_VIEWPORT, viewport);
+            Assertions.assertEquals(16, viewport.get(2));
+            Assertions.assertEquals(8, viewport.get(3));
+
+            GL11.glClearColor(0, 1, 0, 1);
+            GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+            Assertions.assertEquals((byte) 255, readPixel().get(1));
+
+            Display.makeCurrent();
+            Assertions.assertTrue(GL11.glIsEnabled(GL11.GL_BLEND));
+            GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+            ByteBuffer pixel = readPixel();
+            Assertions.assertEquals((byte) 255, pixel.get(0));
+            Assertions.assertEquals(0, pixel.get(1));
+        } finally {
+            pbuffer.destroy();
+        }
+        Assertions.assertTrue(Display.isCurrent());
+    }
+
+    @Test
+    public void testRenderTexture() throws LWJGLException {
+        Assumptions.assumeTrue((Pbuffer.getCapabilities() & Pbuffer.RENDER_TEXTURE_SUPPORTED) != 0, "Render-to-texture unsupported");
+        RenderTexture renderTexture = new RenderTexture(false, true, false, false, RenderTexture.RENDER_TEXTURE_2D, 0);
+        Pbuffer pbuffer = new Pbuffer(16, 16, new PixelFormat(), renderTexture, null);
+        try {
+            pbuffer.makeCurrent();
+            GL11.glClearColor(0, 0, 1, 1);
+            GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+
+            // The texture is shared with the Display context, and sampled from it
+            Display.makeCurrent();
+            int texture = GL11.glGenTextures();
+            GL11.glBindTexture(GL11.GL_TEXTURE_2D, texture);
+            pbuffer.bindTexImage(Pbuffer.FRONT_LEFT_BUFFER);
+            Assertions.assertNotEquals(texture, GL11.glGetInteger(GL11.GL_TEXTURE_BINDING_2D));
+            ByteBuffer pixels = BufferUtils.createByteBuffer(16 * 16 * 4);
+            GL11.glGetTexImage(GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, pixels);
+            Assertions.assertEquals(0, pixels.get(0));
+            Assertions.assertEquals((byte) 255, pixels.get(2));
+            Assertions.assertEquals((byte) 255, pixels.get(pixels.capacity() - 2));
+
+            pbuffer.releaseTexImage(Pbuffer.FRONT_LEFT_BUFFER);
+            Assertions.assertEquals(texture, GL11.glGetInteger(GL11.GL_TEXTURE_BINDING_2D));
+            GL11.glDeleteTextures(texture);
+            Assertions.assertFalse(pbuffer.isBufferLost());
+        } finally {
+            pbuffer.destroy();
+        }
+    }
+}
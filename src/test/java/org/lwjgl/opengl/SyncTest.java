@@ -0,0 +1,64 @@
+package org.lwjgl.opengl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.util.LatencyHistogram;
+
+/**
+ * Headless pacing test, {@link Sync} doesn't need a window or a context.
+ * <p>
+ * Measures wall clock time, so it is only run with {@code gradle test -PtimingTests}.
+ */
+@Tag("timing")
+public class SyncTest {
+
+    private static void testPacing(double fps, int frames) {
+        double target = 1e9 / fps;
+        Sync.reset();
+        // Let the park calibration settle
+        for (int i = 0; i < 20; i++) {
+            Sync.sync(fps);
+        }
+        Sync.resetStatistics();
+
+        LatencyHistogram pacingError = new LatencyHistogram();
+        long last = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            Sync.sync(fps);
+            long now = System.nanoTime();
+            pacingError.record(Math.abs(now - last - (long) target));
+            last = now;
+        }
+
+        Assertions.assertEquals(frames, Sync.getFrameTimes().getCount());
+        Assertions.assertEquals(target, Sync.getFrameTimeMean(), target * 0.05, "Pacing error " + pacingError);
+        // Generous bound, shared CI machines can be preempted at any time
+        Assertions.assertTrue(pacingError.getP50() < 500 * 1000, "Median pacing error " + pacingError.getP50() + "ns");
+    }
+
+    @Test
+    public void testIntegerRate() {
+        testPacing(60, 120);
+    }
+
+    @Test
+    public void testFractionalRate() {
+        testPacing(143.9, 288);
+    }
+
+    @Test
+    public void testFractionalRateHasNoDrift() {
+        Sync.reset();
+        double fps = 143.9;
+        int frames = 432;
+        Sync.sync(fps);
+        long start = System.nanoTime();
+        for (int i = 0; i < frames; i++) {
+            Sync.sync(fps);
+        }
+        double elapsed = System.nanoTime() - start;
+        // Rounding the period to whole nanoseconds or milliseconds would drift a lot more
+        Assertions.assertEquals(frames * 1e9 / fps, elapsed, 1e9 / fps);
+    }
+}
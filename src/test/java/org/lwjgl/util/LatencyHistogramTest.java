@@ -0,0 +1,55 @@
+package org.lwjgl.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testSmallValuesAreExact() {
+        for (long value = 0; value < 4096; value++) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(value);
+            Assertions.assertEquals(value, histogram.getP50());
+        }
+    }
+
+    @Test
+    public void testPercentilesWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(42);
+        long[] values = new long[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextGaussian() * 2 + 12);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double percentile : new double[] {1, 50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long value = histogram.getValueAtPercentile(percentile);
+            Assertions.assertEquals(exact, value, exact / 100.0, "p" + percentile);
+        }
+        Assertions.assertEquals(values[0], histogram.getMin());
+        Assertions.assertEquals(values[values.length - 1], histogram.getMax());
+        Assertions.assertEquals(values[values.length - 1], histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        Assertions.assertEquals(2, histogram.getCount());
+        Assertions.assertEquals(0, histogram.getMin());
+        Assertions.assertEquals(Long.MAX_VALUE, histogram.getP99());
+
+        histogram.reset();
+        Assertions.assertEquals(0, histogram.getCount());
+        Assertions.assertEquals(0, histogram.getP99());
+        Assertions.assertEquals(0, histogram.getMax());
+    }
+}
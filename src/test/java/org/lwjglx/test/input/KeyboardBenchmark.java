@@ -0,0 +1,64 @@
+package org.lwjglx.test.input;
+
+import java.util.concurrent.TimeUnit;
+
+import org.lwjgl.LWJGLException;
+import org.lwjgl.input.Keyboard;
+import org.lwjgl.opengl.Display;
+import org.lwjgl.opengl.DisplayMode;
+import org.lwjgl.system.LWJGLXHelper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compare {@link Keyboard#isKeyDown(int)} answered from the key state tracked
+ * from GLFW key events against the live {@code glfwGetKey} query.
+ * <p>
+ * Needs a display server, as a window must be created to query keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyboardBenchmark {
+	private static final int[] KEYS = {
+			Keyboard.KEY_W, Keyboard.KEY_A, Keyboard.KEY_S, Keyboard.KEY_D,
+			Keyboard.KEY_SPACE, Keyboard.KEY_LSHIFT, Keyboard.KEY_LCONTROL, Keyboard.KEY_E,
+			Keyboard.KEY_Q, Keyboard.KEY_F3, Keyboard.KEY_ESCAPE, Keyboard.KEY_TAB,
+			Keyboard.KEY_1, Keyboard.KEY_2, Keyboard.KEY_3, Keyboard.KEY_4,
+	};
+
+	@Param({"true", "false"})
+	public boolean cachedKeyState;
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(KeyboardBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	@Setup
+	public void setup() throws LWJGLException {
+		Display.setDisplayMode(new DisplayMode(64, 64));
+		Display.create();
+		LWJGLXHelper.cachedKeyState = cachedKeyState;
+	}
+
+	@TearDown
+	public void tearDown() {
+		Display.destroy();
+	}
+
+	@Benchmark
+	public int isKeyDown() {
+		int down = 0;
+		for (int key : KEYS) {
+			if (Keyboard.isKeyDown(key)) {
+				down++;
+			}
+		}
+		return down;
+	}
+}
@@ -0,0 +1,71 @@
+package org.lwjglx.test.opengl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.Display;
+import org.lwjgl.opengl.DisplayLists;
+import org.lwjgl.opengl.DisplayMode;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.util.glu.Sphere;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measure a frame replaying thousands of small display lists, compiled by GL or emulated by
+ * {@link DisplayLists}.
+ * <p>
+ * Each list is a GLU sphere, the frame ends with {@code glFinish} so the GPU time is included.
+ * Needs a display server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DisplayListBenchmark {
+
+	private static final int LISTS = 4096;
+
+	@Param({ "false", "true" })
+	public boolean emulated;
+
+	private int base;
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(DisplayListBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	@Setup
+	public void setup() throws LWJGLException {
+		Display.setDisplayMode(new DisplayMode(256, 256));
+		Display.create();
+		DisplayLists.setEnabled(emulated);
+
+		Sphere sphere = new Sphere();
+		base = GL11.glGenLists(LISTS);
+		for (int i = 0; i < LISTS; i++) {
+			GL11.glNewList(base + i, GL11.GL_COMPILE);
+			sphere.draw(0.01f + i * 0.0002f, 8, 6);
+			GL11.glEndList();
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		GL11.glDeleteLists(base, LISTS);
+		Display.destroy();
+	}
+
+	@Benchmark
+	public void frame() {
+		GL11.glClear(GL11.GL_COLOR_BUFFER_BIT | GL11.GL_DEPTH_BUFFER_BIT);
+		for (int i = 0; i < LISTS; i++) {
+			GL11.glCallList(base + i);
+		}
+		GL11.glFinish();
+	}
+}
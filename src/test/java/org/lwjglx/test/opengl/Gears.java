@@ -72,8 +72,19 @@ public class Gears {
 
 	private float	angle;
 
+	/** Number of frames to render before exiting, or 0 to run until the window is closed */
+	private final long	frames;
+
+	public Gears(long frames) {
+		this.frames = frames;
+	}
+
+	/**
+	 * @param args optional number of frames to render, to run headless, e.g. with
+	 *             {@code -Dorg.lwjglx.headless=true}, where the window can't be closed
+	 */
 	public static void main(String[] args) {
-		new Gears().execute();
+		new Gears(args.length > 0 ? Long.parseLong(args[0]) : 0).execute();
 		System.exit(0);
 	}
 
@@ -107,8 +118,9 @@ public class Gears {
 	private void loop() {
 		long startTime = System.currentTimeMillis() + 5000;
 		long fps = 0;
+		long frame = 0;
 
-		while (!Display.isCloseRequested()) {
+		while (!Display.isCloseRequested() && (frames == 0 || frame++ < frames)) {
 			angle += 2.0f;
 
 			glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT);
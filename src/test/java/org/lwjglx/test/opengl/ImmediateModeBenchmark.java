@@ -0,0 +1,75 @@
+package org.lwjglx.test.opengl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.Display;
+import org.lwjgl.opengl.DisplayMode;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.ImmediateMode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measure a frame of thousands of small colored quads drawn with {@link GL11} immediate mode, without
+ * {@link ImmediateMode}, and with it enabled outside and inside a batch.
+ * <p>
+ * Outside a batch, {@code ImmediateMode} must stay as fast as plain immediate mode: the calls go to GL. Only
+ * the {@code batched} case merges the quads into a single draw. The frame ends with {@code glFinish}
+ * so the GPU time is included. Needs a display server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ImmediateModeBenchmark {
+
+	private static final int QUADS = 4096;
+
+	@Param({ "gl11", "unbatched", "batched" })
+	public String mode;
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ImmediateModeBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	@Setup
+	public void setup() throws LWJGLException {
+		Display.setDisplayMode(new DisplayMode(256, 256));
+		Display.create();
+		ImmediateMode.setEnabled(!"gl11".equals(mode));
+	}
+
+	@TearDown
+	public void tearDown() {
+		ImmediateMode.setEnabled(false);
+		Display.destroy();
+	}
+
+	@Benchmark
+	public void frame() {
+		GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+		boolean batched = "batched".equals(mode);
+		if (batched) ImmediateMode.beginBatch();
+		try {
+			for (int i = 0; i < QUADS; i++) {
+				float x = (i % 64) / 32f - 1;
+				float y = (i / 64) / 32f - 1;
+				GL11.glBegin(GL11.GL_QUADS);
+				GL11.glColor3f(x, y, 1);
+				GL11.glVertex2f(x, y);
+				GL11.glVertex2f(x + 0.03f, y);
+				GL11.glVertex2f(x + 0.03f, y + 0.03f);
+				GL11.glVertex2f(x, y + 0.03f);
+				GL11.glEnd();
+			}
+		} finally {
+			if (batched) ImmediateMode.endBatch();
+		}
+		GL11.glFinish();
+	}
+}
@@ -0,0 +1,46 @@
+package org.lwjglx.test.opengl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.lwjgl.LWJGLException;
+import org.lwjgl.opengl.Display;
+import org.lwjgl.opengl.DisplayMode;
+import org.lwjgl.opengl.GL11;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measure the startup cost of {@link Display}, from the class load to the first presented frame.
+ * <p>
+ * Every measurement runs in a fresh JVM, as class initialization only happens once.
+ * {@code classLoad} is the cost paid by tools that never open a window,
+ * {@code firstFrame} needs a display server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(StartupBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	@Benchmark
+	public Class<?> classLoad() throws ClassNotFoundException {
+		return Class.forName("org.lwjgl.opengl.Display");
+	}
+
+	@Benchmark
+	public void firstFrame() throws LWJGLException {
+		Display.setDisplayMode(new DisplayMode(64, 64));
+		Display.create();
+		GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+		Display.update();
+		Display.destroy();
+	}
+}
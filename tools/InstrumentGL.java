@@ -0,0 +1,400 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inserts the LWJGLX hooks into the OpenGL classes generated by LWJGL: GL11, GL15, GL20 and ARBShaderObjects.
+ * <p>
+ * Every wrapper calls {@code GLHooks.enter()} before its body and {@code GLHooks.exit()} after it, except the ones
+ * only forwarding to another wrapper. The natives get a Java body calling the same function through
+ * {@code org.lwjgl.system.JNI}, except the ones the hook table keeps native. The code of the hook table,
+ * {@code tools/gl-hooks.txt}, is inserted into the wrappers of the functions it names.
+ * <p>
+ * Run it from the root of the repository with JDK 11 or later:
+ * <pre>
+ * java tools/InstrumentGL.java          instrument the classes, again if they already are
+ * java tools/InstrumentGL.java --strip  restore the classes as LWJGL generated them
+ * </pre>
+ * The instrumentation is found with the hook table, so strip the classes before changing the table, and
+ * don't edit the classes by hand.
+ */
+public class InstrumentGL {
+    private static final String DIRECTORY = "src/main/java/org/lwjgl/opengl/";
+    private static final String[] CLASSES = { "GL11", "GL15", "GL20", "ARBShaderObjects" };
+    private static final String TABLE = "tools/gl-hooks.txt";
+
+    private static final String GENERATED = " * MACHINE GENERATED FILE, DO NOT EDIT";
+    private static final String INSTRUMENTED = " * Instrumented by tools/InstrumentGL.java, see tools/gl-hooks.txt";
+
+    private static final String INDENT = "    ";
+    private static final String ENTER = "        long start = GLHooks.enter();";
+    private static final String TRY = "        try {";
+    private static final String FINALLY = "        } finally {";
+    private static final String EXIT = "            if (start != GLHooks.DISABLED) GLHooks.exit(\"%s\", start);";
+    private static final String CLOSE = "        }";
+
+    private static final Pattern METHOD = Pattern.compile("^    public static (native )?(?!final)[^=]*?(\\w+)\\(");
+    private static final Pattern DECLARATION = Pattern.compile("^    public static (?:native )?(\\w+) (\\w+)\\((.*)\\)(?: \\{|;)$");
+    private static final Pattern ANNOTATION = Pattern.compile("@\\w+(\\(\"[^\"]*\"\\))?\\s*");
+    private static final Pattern DELEGATE = Pattern.compile("^(?:return )?(?:(?:GL11|GL15|GL20|ARBShaderObjects)\\.)?(\\w+)\\(.*\\);$");
+    private static final Pattern STATEMENT = Pattern.compile("^        [^ }]");
+
+    /** A function of the generated class, with its body if it is not native */
+    private static final class Method {
+        final List<String> header;
+        final String name;
+        final List<String> types = new ArrayList<>();
+        final List<String> arguments = new ArrayList<>();
+        boolean isNative;
+        List<String> body;
+        /** The closing line, the generated code closes with 4 spaces, the LWJGL 2 bridge with a tab */
+        String close = "    }";
+
+        Method(List<String> header, String name, boolean isNative) {
+            this.header = header;
+            this.name = name;
+            this.isNative = isNative;
+            String declaration = String.join(" ", header);
+            String parameters = declaration.substring(declaration.indexOf('(') + 1, declaration.lastIndexOf(')'));
+            for (String parameter : ANNOTATION.matcher(parameters).replaceAll("").split(",")) {
+                if (parameter.trim().isEmpty()) continue;
+                String[] words = parameter.trim().split("\\s+");
+                String type = words[words.length - 2];
+                types.add(type.substring(type.lastIndexOf('.') + 1));
+                arguments.add(words[words.length - 1]);
+            }
+        }
+
+        /** The GL function, without the n of the unsafe versions */
+        String function() {
+            return name.matches("ngl[A-Z].*") ? name.substring(1) : name;
+        }
+
+        /** Switch the declaration between native and Java, the natives get the body calling them through the JNI */
+        void setNative(boolean isNative) {
+            Matcher declaration = DECLARATION.matcher(header.get(0));
+            if (header.size() != 1 || !declaration.matches()) throw new IllegalStateException("Unexpected declaration of " + name);
+            header.set(0, INDENT + "public static " + (isNative ? "native " : "") + declaration.group(1) + " " + name
+                    + "(" + declaration.group(3) + ")" + (isNative ? ";" : " {"));
+            this.isNative = isNative;
+            body = isNative ? null : new ArrayList<>(nativeBody());
+            if (body != null && body.isEmpty()) throw new IllegalStateException("Unsupported return type of " + name);
+        }
+
+        /** The body calling the native through the JNI, empty if the declaration can't be native */
+        List<String> nativeBody() {
+            Matcher declaration = DECLARATION.matcher(header.get(0));
+            if (header.size() != 1 || !declaration.matches()) return Collections.emptyList();
+            String returnType = declaration.group(1);
+            StringBuilder call = new StringBuilder("call");
+            for (String type : types) {
+                if (type.equals("long")) call.append('P');
+            }
+            switch (returnType) {
+                case "void": call.append('V'); break;
+                case "int": call.append('I'); break;
+                case "boolean": call.append('Z'); break;
+                default: return Collections.emptyList();
+            }
+            List<String> args = new ArrayList<>(arguments);
+            args.add("__functionAddress");
+            return Arrays.asList(
+                    "        long __functionAddress = GL.getICD()." + function() + ";",
+                    "        if (CHECKS) {",
+                    "            check(__functionAddress);",
+                    "        }",
+                    "        " + (returnType.equals("void") ? "" : "return ") + call + "(" + String.join(", ", args) + ");");
+        }
+    }
+
+    /** A rule of the hook table */
+    private static final class Rule {
+        final String className;
+        final List<String> functions;
+        final String position;
+        final List<String> code = new ArrayList<>();
+
+        Rule(String className, List<String> functions, String position) {
+            this.className = className;
+            this.functions = functions;
+            this.position = position;
+        }
+
+        boolean matches(String className, Method method) {
+            if (!this.className.equals(className)) return false;
+            for (String function : functions) {
+                int paren = function.indexOf('(');
+                if (paren != -1) {
+                    String types = function.substring(paren + 1, function.length() - 1);
+                    List<String> expected = types.isEmpty() ? Collections.<String>emptyList() : Arrays.asList(types.split(","));
+                    if (function.substring(0, paren).equals(method.name) && expected.equals(method.types)) return true;
+                } else if (function.endsWith("*")) {
+                    if (method.name.startsWith(function.substring(0, function.length() - 1))) return true;
+                } else if (function.equals(method.name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** The code indented for the wrapper body, with {@code $name} and {@code $args} replaced */
+        List<String> render(Method method) {
+            List<String> lines = new ArrayList<>();
+            for (String line : code) {
+                lines.add(INDENT + INDENT + line.replace("$name", method.name).replace("$args", String.join(", ", method.arguments)));
+            }
+            return lines;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        boolean strip = args.length == 1 && args[0].equals("--strip");
+        if (args.length != 0 && !strip) {
+            System.err.println("Usage: java tools/InstrumentGL.java [--strip]");
+            System.exit(1);
+        }
+        List<Rule> rules = readTable(Paths.get(TABLE));
+
+        List<List<Object>> files = new ArrayList<>();
+        for (String className : CLASSES) {
+            List<Object> file = parse(Files.readAllLines(path(className), StandardCharsets.UTF_8));
+            for (Object item : file) {
+                if (item instanceof Method) strip(className, (Method) item, rules);
+            }
+            files.add(file);
+        }
+
+        if (!strip) {
+            // Which functions forward to another wrapper, over all the classes as they call each other
+            Set<String> javaNames = new HashSet<>();
+            Set<String> nativeNames = new HashSet<>();
+            for (List<Object> file : files) {
+                for (Object item : file) {
+                    if (!(item instanceof Method)) continue;
+                    Method method = (Method) item;
+                    (method.isNative ? nativeNames : javaNames).add(method.name);
+                }
+            }
+            for (int i = 0; i < CLASSES.length; i++) {
+                for (Object item : files.get(i)) {
+                    if (item instanceof Method) instrument(CLASSES[i], (Method) item, rules, javaNames, nativeNames);
+                }
+            }
+        }
+
+        for (int i = 0; i < CLASSES.length; i++) {
+            List<String> lines = new ArrayList<>();
+            for (Object item : files.get(i)) {
+                if (item instanceof Method) {
+                    Method method = (Method) item;
+                    lines.addAll(method.header);
+                    if (!method.isNative) {
+                        lines.addAll(method.body);
+                        lines.add(method.close);
+                    }
+                } else if (!item.equals(INSTRUMENTED)) {
+                    lines.add((String) item);
+                    if (!strip && item.equals(GENERATED)) lines.add(INSTRUMENTED);
+                }
+            }
+            Files.write(path(CLASSES[i]), lines, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Path path(String className) {
+        return Paths.get(DIRECTORY + className + ".java");
+    }
+
+    private static List<Rule> readTable(Path table) throws IOException {
+        List<Rule> rules = new ArrayList<>();
+        Rule rule = null;
+        for (String line : Files.readAllLines(table, StandardCharsets.UTF_8)) {
+            if (line.startsWith(INDENT)) {
+                if (rule == null) throw new IllegalStateException("Code outside of a rule: " + line);
+                rule.code.add(line.substring(INDENT.length()));
+                continue;
+            }
+            rule = null;
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] words = line.split("\\s+");
+            if (words.length != 3) throw new IllegalStateException("Invalid rule: " + line);
+            rule = new Rule(words[0], splitFunctions(words[1]), words[2]);
+            switch (rule.position) {
+                case "native":
+                case "forward":
+                case "before":
+                case "after":
+                    break;
+                default:
+                    throw new IllegalStateException("Invalid position: " + line);
+            }
+            rules.add(rule);
+        }
+        return rules;
+    }
+
+    /** Split at the commas outside of the parameter lists */
+    private static List<String> splitFunctions(String functions) {
+        List<String> result = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < functions.length(); i++) {
+            char c = functions.charAt(i);
+            if (c == '(') depth++;
+            if (c == ')') depth--;
+            if (c == ',' && depth == 0) {
+                result.add(functions.substring(start, i));
+                start = i + 1;
+            }
+        }
+        result.add(functions.substring(start));
+        return result;
+    }
+
+    /**
+     * @return the lines of the class, with a {@link Method} in place of each function
+     */
+    private static List<Object> parse(List<String> lines) {
+        List<Object> items = new ArrayList<>();
+        boolean comment = false;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (comment || line.trim().startsWith("/*")) {
+                comment = !line.contains("*/");
+                items.add(line);
+                continue;
+            }
+            Matcher start = METHOD.matcher(line);
+            if (!start.find()) {
+                items.add(line);
+                continue;
+            }
+            List<String> header = new ArrayList<>();
+            header.add(line);
+            while (!line.endsWith("{") && !line.endsWith(";")) {
+                line = lines.get(++i);
+                header.add(line);
+            }
+            Method method = new Method(header, start.group(2), start.group(1) != null);
+            if (!method.isNative) {
+                method.body = new ArrayList<>();
+                while (!lines.get(++i).equals("    }") && !lines.get(i).equals("\t}")) {
+                    method.body.add(lines.get(i));
+                }
+                method.close = lines.get(i);
+            }
+            items.add(method);
+        }
+        return items;
+    }
+
+    private static List<String> code(String className, Method method, List<Rule> rules, String position) {
+        List<String> code = new ArrayList<>();
+        for (Rule rule : rules) {
+            if (rule.position.equals(position) && rule.matches(className, method)) code.addAll(rule.render(method));
+        }
+        return code;
+    }
+
+    /**
+     * @return the index of the first line of the last statement of the body
+     */
+    private static int lastStatement(Method method) {
+        for (int i = method.body.size() - 1; i >= 0; i--) {
+            if (STATEMENT.matcher(method.body.get(i)).find()) return i;
+        }
+        throw new IllegalStateException("No statement in " + method.name);
+    }
+
+    private static void strip(String className, Method method, List<Rule> rules) {
+        if (method.isNative) return;
+        List<String> body = method.body;
+
+        List<String> forward = code(className, method, rules, "forward");
+        if (!forward.isEmpty() && body.size() > forward.size() && body.subList(0, forward.size()).equals(forward)) {
+            body.subList(0, forward.size()).clear();
+        }
+
+        if (!body.isEmpty() && body.get(0).equals(ENTER)) {
+            int last = body.size() - 1;
+            if (!body.get(1).equals(TRY) || !body.get(last).equals(CLOSE) || !body.get(last - 1).equals(String.format(EXIT, method.function()))
+                    || !body.get(last - 2).equals(FINALLY)) {
+                throw new IllegalStateException("Unexpected instrumentation of " + className + "." + method.name);
+            }
+            List<String> inner = new ArrayList<>();
+            for (String line : body.subList(2, last - 2)) {
+                inner.add(line.startsWith(INDENT) ? line.substring(INDENT.length()) : line);
+            }
+            body = inner;
+            method.body = body;
+        }
+
+        List<String> after = code(className, method, rules, "after");
+        if (!after.isEmpty() && body.size() > after.size() && body.subList(body.size() - after.size(), body.size()).equals(after)) {
+            body.subList(body.size() - after.size(), body.size()).clear();
+        }
+        List<String> before = code(className, method, rules, "before");
+        int statement = lastStatement(method);
+        if (!before.isEmpty() && statement >= before.size() && body.subList(statement - before.size(), statement).equals(before)) {
+            body.subList(statement - before.size(), statement).clear();
+        }
+
+        if (body.equals(method.nativeBody())) method.setNative(true);
+    }
+
+    private static void instrument(String className, Method method, List<Rule> rules, Set<String> javaNames, Set<String> nativeNames) {
+        List<String> forward = code(className, method, rules, "forward");
+        List<String> before = code(className, method, rules, "before");
+        List<String> after = code(className, method, rules, "after");
+        boolean hooked = !forward.isEmpty() || !before.isEmpty() || !after.isEmpty();
+
+        for (Rule rule : rules) {
+            if (rule.position.equals("native") && rule.matches(className, method)) {
+                if (hooked) throw new IllegalStateException(className + "." + method.name + " is kept native but has hooks");
+                return;
+            }
+        }
+
+        if (method.isNative) method.setNative(false);
+        List<String> body = method.body;
+
+        int statement = lastStatement(method);
+        if (!after.isEmpty() && body.get(statement).startsWith("        return ")) {
+            throw new IllegalStateException("Code after the return of " + className + "." + method.name);
+        }
+        body.addAll(after);
+        body.addAll(statement, before);
+
+        // The wrappers only forwarding to another wrapper are counted once, by the other one
+        List<String> statements = new ArrayList<>();
+        for (String line : body) {
+            if (!line.trim().isEmpty()) statements.add(line.trim());
+        }
+        Matcher delegate = statements.size() == 1 ? DELEGATE.matcher(statements.get(0)) : null;
+        if (delegate != null && delegate.matches() && javaNames.contains(delegate.group(1)) && !nativeNames.contains(delegate.group(1))) {
+            if (!forward.isEmpty()) body.addAll(0, forward);
+            return;
+        }
+
+        List<String> wrapped = new ArrayList<>(forward);
+        wrapped.add(ENTER);
+        wrapped.add(TRY);
+        for (String line : body) {
+            wrapped.add(line.trim().isEmpty() ? line : INDENT + line);
+        }
+        wrapped.add(FINALLY);
+        wrapped.add(String.format(EXIT, method.function()));
+        wrapped.add(CLOSE);
+        method.body = wrapped;
+    }
+}